@@ -19,6 +19,7 @@ import org.gradle.internal.os.OperatingSystem
 import org.jetbrains.changelog.Changelog
 import org.jetbrains.changelog.markdownToHTML
 import org.jetbrains.intellij.platform.gradle.IntelliJPlatformType
+import org.jetbrains.intellij.platform.gradle.TestFrameworkType
 import org.jetbrains.intellij.platform.gradle.models.ProductRelease
 import org.jetbrains.intellij.platform.gradle.tasks.RunIdeTask
 
@@ -216,7 +217,10 @@ dependencies {
     implementation(libs.maven.model)
     implementation(project(":jps-plugin"))
     testImplementation(kotlin("test"))
+    testImplementation(platform(libs.junit.bom))
     testRuntimeOnly("junit:junit:4.13.2")
+    // platform fixtures are JUnit 4 based
+    testRuntimeOnly(libs.junit.vintage.engine)
 
     intellijPlatform {
         // https://plugins.jetbrains.com/docs/intellij/tools-intellij-platform-gradle-plugin.html#dependenciesLocalPlatform
@@ -226,6 +230,7 @@ dependencies {
         }
 
         pluginVerifier()
+        testFramework(TestFrameworkType.Platform)
 
         rootProject.childProjects.keys
             .filter { it != "jps-plugin" }
@@ -24,6 +24,7 @@ import com.intellij.openapi.vfs.VfsUtil
 import com.intellij.platform.workspace.jps.entities.ModuleTypeId
 import sap.commerce.toolset.angular.descriptor.AngularModuleDescriptor
 import sap.commerce.toolset.project.configurator.ModuleImportConfigurator
+import sap.commerce.toolset.project.configurator.ModuleImportPlan
 import sap.commerce.toolset.project.descriptor.HybrisProjectDescriptor
 import sap.commerce.toolset.project.descriptor.ModuleDescriptor
 
@@ -37,6 +38,7 @@ class AngularModuleImportConfigurator : ModuleImportConfigurator {
     override fun configure(
         hybrisProjectDescriptor: HybrisProjectDescriptor,
         moduleDescriptor: ModuleDescriptor,
+        plan: ModuleImportPlan,
         modifiableModelsProvider: IdeModifiableModelsProvider,
         rootProjectModifiableModel: ModifiableModuleModel
     ): Module {
@@ -67,6 +67,8 @@ class BSMetaModelAccess(private val project: Project) {
 
     fun findMetaEnumByName(name: String?) = findMetaByName<BSGlobalMetaEnum>(BSMetaType.META_ENUM, name)
 
+    fun getGeneration() = BSMetaModelStateService.getInstance(project).generation()
+
     private fun <T : BSGlobalMetaClassifier<*>> findMetaByName(metaType: BSMetaType, name: String?): T? = BSMetaModelStateService.state(project)
         .getMetaType<T>(metaType)[name]
 
@@ -0,0 +1,239 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.beanSystem.meta
+
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.util.xml.DomAnchor
+import com.intellij.util.xml.DomElement
+import sap.commerce.toolset.CaseInsensitiveMap.CaseInsensitiveConcurrentHashMap
+import sap.commerce.toolset.beanSystem.meta.model.*
+import sap.commerce.toolset.beanSystem.meta.model.impl.*
+import sap.commerce.toolset.beanSystem.model.*
+import sap.commerce.toolset.beanSystem.model.Enum
+import sap.commerce.toolset.meta.MetaModelExternalizer
+import java.io.DataInput
+import java.io.DataOutput
+
+class BSMetaModelExternalizer(project: Project) : MetaModelExternalizer<BSMetaModel>(project) {
+
+    override val version = 1
+
+    override fun write(output: DataOutput, metaModel: BSMetaModel) {
+        output.writeUTF(metaModel.extensionName)
+        output.writeUTF(metaModel.fileName)
+        output.writeBoolean(metaModel.custom)
+
+        writeCollection(output, metaModel.getMetaType<BSMetaEnum>(BSMetaType.META_ENUM).values()) { writeEnum(output, it) }
+        BEAN_TYPES.forEach { metaType ->
+            writeCollection(output, metaModel.getMetaType<BSMetaBean>(metaType).values()) { writeBean(output, it) }
+        }
+    }
+
+    override fun read(input: DataInput, virtualFile: VirtualFile) = BSMetaModel(input.readUTF(), input.readUTF(), input.readBoolean()).also { metaModel ->
+        readList(input) { readEnum(input, virtualFile) }.forEach { metaModel.addMetaModel(it, BSMetaType.META_ENUM) }
+        BEAN_TYPES.forEach { metaType ->
+            readList(input) { readBean(input, virtualFile) }.forEach { metaModel.addMetaModel(it, metaType) }
+        }
+    }
+
+    private fun writeEnum(output: DataOutput, meta: BSMetaEnum) {
+        writeMeta(output, meta)
+        writeNullableString(output, meta.name)
+        writeCollection(output, meta.values.values) { writeEnumValue(output, it) }
+        writeNullableString(output, meta.description)
+        writeNullableString(output, meta.template)
+        writeNullableString(output, meta.deprecatedSince)
+        output.writeBoolean(meta.isDeprecated)
+    }
+
+    private fun readEnum(input: DataInput, virtualFile: VirtualFile): BSMetaEnum {
+        val meta = readMeta(input, virtualFile, Enum::class.java)
+
+        return BSMetaEnumImpl(
+            meta.moduleName, meta.extensionName, readNullableString(input), meta.isCustom,
+            values = readList(input) { readEnumValue(input, virtualFile) }.toNameMap(),
+            description = readNullableString(input),
+            template = readNullableString(input),
+            deprecatedSince = readNullableString(input),
+            isDeprecated = input.readBoolean(),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeEnumValue(output: DataOutput, meta: BSMetaEnum.BSMetaEnumValue) {
+        writeMeta(output, meta)
+        writeNullableString(output, meta.name)
+    }
+
+    private fun readEnumValue(input: DataInput, virtualFile: VirtualFile): BSMetaEnum.BSMetaEnumValue {
+        val meta = readMeta(input, virtualFile, EnumValue::class.java)
+
+        return BSMetaEnumImpl.BSMetaEnumValueImpl(meta.moduleName, meta.extensionName, meta.isCustom, readNullableString(input), meta.domAnchor)
+    }
+
+    private fun writeBean(output: DataOutput, meta: BSMetaBean) {
+        writeMeta(output, meta)
+        output.writeUTF(meta.name!!)
+        writeCollection(output, meta.imports) { writeImport(output, it) }
+        writeCollection(output, meta.annotations) { writeAnnotations(output, it) }
+        writeCollection(output, meta.properties.values) { writeProperty(output, it) }
+        writeCollection(output, meta.hints.values) { writeHint(output, it) }
+        writeNullableString(output, meta.description)
+        writeNullableString(output, meta.template)
+        writeNullableString(output, meta.genericName)
+        writeNullableString(output, meta.extends)
+        writeNullableString(output, meta.extendsGenericName)
+        output.writeUTF(meta.type.name)
+        writeNullableString(output, meta.deprecatedSince)
+        output.writeBoolean(meta.isDeprecated)
+        output.writeBoolean(meta.isAbstract)
+        output.writeBoolean(meta.isSuperEquals)
+    }
+
+    private fun readBean(input: DataInput, virtualFile: VirtualFile): BSMetaBean {
+        val meta = readMeta(input, virtualFile, Bean::class.java)
+
+        return BSMetaBeanImpl(
+            meta.moduleName, meta.extensionName, input.readUTF(), meta.isCustom,
+            imports = readList(input) { readImport(input, virtualFile) },
+            annotations = readList(input) { readAnnotations(input, virtualFile) },
+            properties = readList(input) { readProperty(input, virtualFile) }.toNameMap(),
+            hints = readList(input) { readHint(input, virtualFile) }.toNameMap(),
+            description = readNullableString(input),
+            template = readNullableString(input),
+            genericName = readNullableString(input),
+            extends = readNullableString(input),
+            extendsGenericName = readNullableString(input),
+            type = BeanType.valueOf(input.readUTF()),
+            deprecatedSince = readNullableString(input),
+            isDeprecated = input.readBoolean(),
+            isAbstract = input.readBoolean(),
+            isSuperEquals = input.readBoolean(),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeImport(output: DataOutput, meta: BSMetaImport) {
+        writeMeta(output, meta)
+        writeNullableString(output, meta.name)
+        writeNullableString(output, meta.type)
+        output.writeBoolean(meta.isStatic)
+    }
+
+    private fun readImport(input: DataInput, virtualFile: VirtualFile): BSMetaImport {
+        val meta = readMeta(input, virtualFile, Import::class.java)
+
+        return BSMetaImportImpl(
+            meta.moduleName, meta.extensionName, meta.isCustom, readNullableString(input),
+            type = readNullableString(input),
+            isStatic = input.readBoolean(),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeAnnotations(output: DataOutput, meta: BSMetaAnnotations) {
+        writeMeta(output, meta)
+        writeNullableString(output, meta.name)
+        writeNullableString(output, meta.value)
+        output.writeUTF(meta.scope.name)
+    }
+
+    private fun readAnnotations(input: DataInput, virtualFile: VirtualFile): BSMetaAnnotations {
+        val meta = readMeta(input, virtualFile, Annotations::class.java)
+
+        return BSMetaAnnotationsImpl(
+            meta.moduleName, meta.extensionName, meta.isCustom, readNullableString(input),
+            value = readNullableString(input),
+            scope = Scope.valueOf(input.readUTF()),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeProperty(output: DataOutput, meta: BSMetaProperty) {
+        writeMeta(output, meta)
+        writeNullableString(output, meta.name)
+        writeCollection(output, meta.annotations) { writeAnnotations(output, it) }
+        writeCollection(output, meta.hints.values) { writeHint(output, it) }
+        writeNullableString(output, meta.type)
+        writeNullableString(output, meta.description)
+        output.writeBoolean(meta.isEquals)
+        output.writeBoolean(meta.isDeprecated)
+    }
+
+    private fun readProperty(input: DataInput, virtualFile: VirtualFile): BSMetaProperty {
+        val meta = readMeta(input, virtualFile, Property::class.java)
+
+        return BSMetaPropertyImpl(
+            meta.moduleName, meta.extensionName, meta.isCustom, readNullableString(input),
+            annotations = readList(input) { readAnnotations(input, virtualFile) },
+            hints = readList(input) { readHint(input, virtualFile) }.toNameMap(),
+            type = readNullableString(input),
+            description = readNullableString(input),
+            isEquals = input.readBoolean(),
+            isDeprecated = input.readBoolean(),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeHint(output: DataOutput, meta: BSMetaHint) {
+        writeMeta(output, meta)
+        writeNullableString(output, meta.name)
+        writeNullableString(output, meta.value)
+    }
+
+    private fun readHint(input: DataInput, virtualFile: VirtualFile): BSMetaHint {
+        val meta = readMeta(input, virtualFile, Hint::class.java)
+
+        return BSMetaHintImpl(
+            meta.moduleName, meta.extensionName, meta.isCustom, readNullableString(input),
+            value = readNullableString(input),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeMeta(output: DataOutput, meta: BSMetaClassifier<*>) {
+        output.writeUTF(meta.moduleName)
+        output.writeUTF(meta.extensionName)
+        output.writeBoolean(meta.isCustom)
+        writeAnchor(output, meta.domAnchor)
+    }
+
+    private fun <T : DomElement> readMeta(input: DataInput, virtualFile: VirtualFile, domClass: Class<T>) = MetaHeader(
+        input.readUTF(),
+        input.readUTF(),
+        input.readBoolean(),
+        readAnchor(input, virtualFile, domClass)
+    )
+
+    private fun <T : BSMetaClassifier<*>> List<T>.toNameMap(): Map<String, T> = associateByTo(CaseInsensitiveConcurrentHashMap()) { meta ->
+        meta.name!!.trim { it <= ' ' }
+    }
+
+    private class MetaHeader<T : DomElement>(
+        val moduleName: String,
+        val extensionName: String,
+        val isCustom: Boolean,
+        val domAnchor: DomAnchor<T>,
+    )
+
+    companion object {
+        private val BEAN_TYPES = listOf(BSMetaType.META_WS_BEAN, BSMetaType.META_BEAN, BSMetaType.META_EVENT)
+    }
+}
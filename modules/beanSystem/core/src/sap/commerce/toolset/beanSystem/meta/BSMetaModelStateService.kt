@@ -25,16 +25,20 @@ import com.intellij.openapi.project.Project
 import kotlinx.coroutines.CoroutineScope
 import sap.commerce.toolset.beanSystem.meta.event.BSMetaModelChangeListener
 import sap.commerce.toolset.beanSystem.model.Beans
+import sap.commerce.toolset.meta.MetaModelCache
 import sap.commerce.toolset.meta.MetaModelStateService
 
 @Service(Service.Level.PROJECT)
 class BSMetaModelStateService(project: Project, coroutineScope: CoroutineScope) : MetaModelStateService<BSGlobalMetaModel, BSMetaModel, Beans>(
     project, coroutineScope, "Bean",
     BSMetaCollector.getInstance(project),
-    BSMetaModelProcessor.getInstance(project)
+    BSMetaModelProcessor.getInstance(project),
+    MetaModelCache(project, "beanSystem", BSMetaModelExternalizer(project))
 ) {
 
     override fun onCompletion(newState: BSGlobalMetaModel) {
+        // cached references resolved against the stale state have to be re-resolved
+        BSModificationTracker.getInstance(project).incModificationCount()
         project.messageBus.syncPublisher(BSMetaModelChangeListener.TOPIC).onChanged(newState)
     }
 
@@ -43,7 +47,7 @@ class BSMetaModelStateService(project: Project, coroutineScope: CoroutineScope)
     }
 
     companion object {
-        fun state(project: Project) = getInstance(project).get()
+        fun state(project: Project, strict: Boolean = false) = getInstance(project).get(strict)
         fun getInstance(project: Project): BSMetaModelStateService = project.service()
     }
 
@@ -25,16 +25,21 @@ import sap.commerce.toolset.beanSystem.model.Annotations
 import sap.commerce.toolset.beanSystem.model.Scope
 
 internal class BSMetaAnnotationsImpl(
-    dom: Annotations,
     override val moduleName: String,
     override val extensionName: String,
     override val isCustom: Boolean,
     override val name: String?,
+    override val value: String?,
+    override val scope: Scope,
+    override val domAnchor: DomAnchor<Annotations>,
 ) : BSMetaAnnotations {
 
-    override val domAnchor: DomAnchor<Annotations> = DomService.getInstance().createAnchor(dom)
-    override val value = dom.value
-    override val scope = dom.scope.value ?: Scope.ALL
+    constructor(dom: Annotations, moduleName: String, extensionName: String, isCustom: Boolean, name: String?) : this(
+        moduleName, extensionName, isCustom, name,
+        value = dom.value,
+        scope = dom.scope.value ?: Scope.ALL,
+        domAnchor = DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = "Annotations(module=$extensionName, name=$name, isCustom=$isCustom)"
 }
\ No newline at end of file
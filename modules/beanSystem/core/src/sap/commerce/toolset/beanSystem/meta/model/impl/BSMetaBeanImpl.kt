@@ -28,7 +28,6 @@ import sap.commerce.toolset.beanSystem.model.BeanType
 import sap.commerce.toolset.xml.toBoolean
 
 internal class BSMetaBeanImpl(
-    dom: Bean,
     override val moduleName: String,
     override val extensionName: String,
     override val name: String,
@@ -37,23 +36,48 @@ internal class BSMetaBeanImpl(
     override val annotations: List<BSMetaAnnotations>,
     override val properties: Map<String, BSMetaProperty>,
     override val hints: Map<String, BSMetaHint>,
+    override val description: String?,
+    override val template: String?,
+    override val genericName: String?,
+    override val extends: String?,
+    override val extendsGenericName: String?,
+    override val type: BeanType,
+    override val deprecatedSince: String?,
+    override val isDeprecated: Boolean,
+    override val isAbstract: Boolean,
+    override val isSuperEquals: Boolean,
+    override val domAnchor: DomAnchor<Bean>,
 ) : BSMetaBean {
 
-    override val domAnchor: DomAnchor<Bean> = DomService.getInstance().createAnchor(dom)
-    override val description = dom.description.stringValue
-    override val template = dom.template.stringValue
-    override val genericName = BSMetaHelper.getGenericName(dom.clazz.stringValue)
-    override val extends = dom.extends.stringValue
-        ?.let { BSMetaHelper.getBeanName(it) }
-    override val extendsGenericName = BSMetaHelper.getGenericName(dom.extends.stringValue)
-    override val type = dom.type.value ?: BeanType.BEAN
+    constructor(
+        dom: Bean,
+        moduleName: String,
+        extensionName: String,
+        name: String,
+        isCustom: Boolean,
+        imports: List<BSMetaImport>,
+        annotations: List<BSMetaAnnotations>,
+        properties: Map<String, BSMetaProperty>,
+        hints: Map<String, BSMetaHint>,
+    ) : this(
+        moduleName, extensionName, name, isCustom, imports, annotations, properties, hints,
+        description = dom.description.stringValue,
+        template = dom.template.stringValue,
+        genericName = BSMetaHelper.getGenericName(dom.clazz.stringValue),
+        extends = dom.extends.stringValue
+            ?.let { BSMetaHelper.getBeanName(it) },
+        extendsGenericName = BSMetaHelper.getGenericName(dom.extends.stringValue),
+        type = dom.type.value ?: BeanType.BEAN,
+        deprecatedSince = dom.deprecatedSince.stringValue,
+        isDeprecated = dom.deprecated.toBoolean(),
+        isAbstract = dom.abstract.toBoolean(),
+        isSuperEquals = dom.superEquals.toBoolean(),
+        domAnchor = DomService.getInstance().createAnchor(dom)
+    )
+
     override val shortName = BSMetaHelper.getShortName(name)
     override val fullName = BSMetaHelper.getNameWithGeneric(name, genericName)
     override val fullExtends = BSMetaHelper.getNameWithGeneric(extends, extendsGenericName)
-    override val deprecatedSince = dom.deprecatedSince.stringValue
-    override val isDeprecated = dom.deprecated.toBoolean()
-    override val isAbstract = dom.abstract.toBoolean()
-    override val isSuperEquals = dom.superEquals.toBoolean()
 
     override fun toString() = "Bean(module=$extensionName, name=$name, isDeprecated=$isDeprecated, isCustom=$isCustom)"
 
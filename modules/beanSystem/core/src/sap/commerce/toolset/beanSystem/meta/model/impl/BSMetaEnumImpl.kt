@@ -28,32 +28,50 @@ import sap.commerce.toolset.beanSystem.model.EnumValue
 import sap.commerce.toolset.xml.toBoolean
 
 internal class BSMetaEnumImpl(
-    dom: Enum,
     override val moduleName: String,
     override val extensionName: String,
     override val name: String?,
     override val isCustom: Boolean,
-    override val values: Map<String, BSMetaEnum.BSMetaEnumValue>
+    override val values: Map<String, BSMetaEnum.BSMetaEnumValue>,
+    override val description: String?,
+    override val template: String?,
+    override val deprecatedSince: String?,
+    override val isDeprecated: Boolean,
+    override val domAnchor: DomAnchor<Enum>,
 ) : BSMetaEnum {
 
-    override val domAnchor: DomAnchor<Enum> = DomService.getInstance().createAnchor(dom)
-    override val description = dom.description.stringValue
-    override val template = dom.template.stringValue
-    override val deprecatedSince = dom.deprecatedSince.stringValue
+    constructor(
+        dom: Enum,
+        moduleName: String,
+        extensionName: String,
+        name: String?,
+        isCustom: Boolean,
+        values: Map<String, BSMetaEnum.BSMetaEnumValue>
+    ) : this(
+        moduleName, extensionName, name, isCustom, values,
+        description = dom.description.stringValue,
+        template = dom.template.stringValue,
+        deprecatedSince = dom.deprecatedSince.stringValue,
+        isDeprecated = dom.deprecated.toBoolean(),
+        domAnchor = DomService.getInstance().createAnchor(dom)
+    )
+
     override val shortName = sap.commerce.toolset.beanSystem.meta.BSMetaHelper.getShortName(name)
-    override val isDeprecated = dom.deprecated.toBoolean()
 
     override fun toString() = "Enum(module=$extensionName, name=$name, isDeprecated=$isDeprecated, isCustom=$isCustom)"
 
     internal class BSMetaEnumValueImpl(
-        dom: EnumValue,
         override val moduleName: String,
         override val extensionName: String,
         override val isCustom: Boolean,
-        override val name: String?
+        override val name: String?,
+        override val domAnchor: DomAnchor<EnumValue>,
     ) : BSMetaEnum.BSMetaEnumValue {
 
-        override val domAnchor: DomAnchor<EnumValue> = DomService.getInstance().createAnchor(dom)
+        constructor(dom: EnumValue, moduleName: String, extensionName: String, isCustom: Boolean, name: String?) : this(
+            moduleName, extensionName, isCustom, name,
+            DomService.getInstance().createAnchor(dom)
+        )
 
         override fun toString() = "EnumValue(module=$extensionName, name=$name, isCustom=$isCustom)"
     }
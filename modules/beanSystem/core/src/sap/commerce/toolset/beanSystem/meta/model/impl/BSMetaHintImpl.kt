@@ -24,15 +24,19 @@ import sap.commerce.toolset.beanSystem.meta.model.BSMetaHint
 import sap.commerce.toolset.beanSystem.model.Hint
 
 internal class BSMetaHintImpl(
-    dom: Hint,
     override val moduleName: String,
     override val extensionName: String,
     override val isCustom: Boolean,
     override val name: String?,
+    override val value: String?,
+    override val domAnchor: DomAnchor<Hint>,
 ) : BSMetaHint {
 
-    override val domAnchor: DomAnchor<Hint> = DomService.getInstance().createAnchor(dom)
-    override val value = dom.stringValue
+    constructor(dom: Hint, moduleName: String, extensionName: String, isCustom: Boolean, name: String?) : this(
+        moduleName, extensionName, isCustom, name,
+        value = dom.stringValue,
+        domAnchor = DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = "Hint(module=$extensionName, name=$name, isCustom=$isCustom)"
 }
\ No newline at end of file
@@ -25,16 +25,21 @@ import sap.commerce.toolset.beanSystem.model.Import
 import sap.commerce.toolset.xml.toBoolean
 
 internal class BSMetaImportImpl(
-    dom: Import,
     override val moduleName: String,
     override val extensionName: String,
     override val isCustom: Boolean,
-    override val name: String? = dom.type.stringValue,
+    override val name: String?,
+    override val type: String?,
+    override val isStatic: Boolean,
+    override val domAnchor: DomAnchor<Import>,
 ) : BSMetaImport {
 
-    override val domAnchor: DomAnchor<Import> = DomService.getInstance().createAnchor(dom)
-    override val type = dom.type.stringValue
-    override val isStatic = dom.static.toBoolean()
+    constructor(dom: Import, moduleName: String, extensionName: String, isCustom: Boolean, name: String? = dom.type.stringValue) : this(
+        moduleName, extensionName, isCustom, name,
+        type = dom.type.stringValue,
+        isStatic = dom.static.toBoolean(),
+        domAnchor = DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = "Import(module=$extensionName, name=$name, isCustom=$isCustom)"
 }
\ No newline at end of file
@@ -28,20 +28,36 @@ import sap.commerce.toolset.beanSystem.model.Property
 import sap.commerce.toolset.xml.toBoolean
 
 internal class BSMetaPropertyImpl(
-    dom: Property,
     override val moduleName: String,
     override val extensionName: String,
     override val isCustom: Boolean,
     override val name: String?,
     override val annotations: List<BSMetaAnnotations>,
     override val hints: Map<String, BSMetaHint>,
+    override val type: String?,
+    override val description: String?,
+    override val isEquals: Boolean,
+    override val isDeprecated: Boolean,
+    override val domAnchor: DomAnchor<Property>,
 ) : BSMetaProperty {
 
-    override val domAnchor: DomAnchor<Property> = DomService.getInstance().createAnchor(dom)
-    override val type = dom.type.stringValue
-    override val description = dom.description.stringValue
-    override val isEquals = dom.equals.toBoolean()
-    override val isDeprecated = dom.deprecated.toBoolean()
+    constructor(
+        dom: Property,
+        moduleName: String,
+        extensionName: String,
+        isCustom: Boolean,
+        name: String?,
+        annotations: List<BSMetaAnnotations>,
+        hints: Map<String, BSMetaHint>,
+    ) : this(
+        moduleName, extensionName, isCustom, name, annotations, hints,
+        type = dom.type.stringValue,
+        description = dom.description.stringValue,
+        isEquals = dom.equals.toBoolean(),
+        isDeprecated = dom.deprecated.toBoolean(),
+        domAnchor = DomService.getInstance().createAnchor(dom)
+    )
+
     override var flattenType: String? = BSMetaHelper.flattenType(this)
     override var referencedType: String? = BSMetaHelper.referencedType(this)
 
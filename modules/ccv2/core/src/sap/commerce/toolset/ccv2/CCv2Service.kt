@@ -23,7 +23,6 @@ import com.intellij.notification.NotificationType
 import com.intellij.openapi.Disposable
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
-import com.intellij.openapi.progress.checkCanceled
 import com.intellij.openapi.project.Project
 import com.intellij.openapi.util.Key
 import com.intellij.openapi.util.UserDataHolderBase
@@ -34,6 +33,7 @@ import com.intellij.openapi.vfs.VirtualFile
 import com.intellij.platform.ide.progress.withBackgroundProgress
 import com.intellij.platform.util.progress.ProgressReporter
 import com.intellij.platform.util.progress.reportProgressScope
+import com.intellij.platform.util.progress.reportRawProgress
 import com.intellij.util.io.ZipUtil
 import kotlinx.coroutines.*
 import sap.commerce.toolset.HybrisConstants
@@ -57,7 +57,6 @@ import java.util.*
 import kotlin.io.path.deleteIfExists
 import kotlin.io.path.listDirectoryEntries
 import kotlin.io.path.pathString
-import kotlin.time.Duration.Companion.seconds
 
 @Service(Service.Level.PROJECT)
 class CCv2Service(private val project: Project, private val coroutineScope: CoroutineScope) : UserDataHolderBase(), Disposable {
@@ -632,48 +631,23 @@ class CCv2Service(private val project: Project, private val coroutineScope: Coro
 
         coroutineScope.launch {
             withBackgroundProgress(project, "Tracking Progress of the Build - $buildCode..", true) {
-                var buildStatus = CCv2BuildStatus.UNKNOWN
-                var totalProgress = 0
-                val ccv2Token = getCCv2Token(subscription)
-
-                reportProgressScope { progressReporter ->
-                    try {
-                        while (buildStatus == CCv2BuildStatus.UNKNOWN || buildStatus == CCv2BuildStatus.SCHEDULED) {
-                            checkCanceled()
-
-                            progressReporter.indeterminateStep("Build $buildCode scheduled, warming-up...") {
-                                val progress = CCv2Api.getInstance().fetchBuildProgress(subscription, buildCode, ccv2Token!!, progressReporter)
-                                buildStatus = progress.buildStatus
-                                delay(15.seconds)
-                            }
-                        }
-
-                        while (buildStatus == CCv2BuildStatus.BUILDING) {
-                            checkCanceled()
-
-                            val progress = CCv2Api.getInstance().fetchBuildProgress(subscription, buildCode, ccv2Token!!, progressReporter)
-                            val reportProgress = progress.percentage - totalProgress
-                            totalProgress = progress.percentage
-                            buildStatus = progress.buildStatus
-
-                            progressReporter.sizedStep(
-                                reportProgress,
-                                "Build $buildCode progress ${progress.percentage}% | ${progress.startedTasks.size} of ${progress.numberOfTasks} tasks"
-                            ) {
-                                if (totalProgress < 100) {
-                                    delay(15.seconds)
-                                }
-                            }
+                val progress = reportRawProgress { progressReporter ->
+                    CCv2StatusPoller.getInstance(project).awaitBuild(subscription, buildCode) { progress ->
+                        if (progress.buildStatus == CCv2BuildStatus.BUILDING) {
+                            progressReporter.fraction(progress.percentage / 100.0)
+                            progressReporter.text("Build $buildCode progress ${progress.percentage}% | ${progress.startedTasks.size} of ${progress.numberOfTasks} tasks")
+                        } else {
+                            progressReporter.fraction(null)
+                            progressReporter.text("Build $buildCode scheduled, warming-up...")
                         }
-                    } catch (e: SocketTimeoutException) {
-                        notifyOnTimeout(subscription)
-                    } catch (e: RuntimeException) {
-                        notifyOnException(subscription, e)
                     }
                 }
+                val buildStatus = progress?.buildStatus ?: CCv2BuildStatus.UNKNOWN
 
-                if (buildStatus == CCv2BuildStatus.FAIL) {
-                    Notifications
+                when (buildStatus) {
+                    CCv2BuildStatus.UNKNOWN, CCv2BuildStatus.SCHEDULED, CCv2BuildStatus.BUILDING -> Unit
+
+                    CCv2BuildStatus.FAIL -> Notifications
                         .create(
                             NotificationType.INFORMATION,
                             "CCv2: Build Failed",
@@ -684,24 +658,26 @@ class CCv2Service(private val project: Project, private val coroutineScope: Coro
                         )
                         .system(true)
                         .notify(project)
-                } else {
-                    Notifications
-                        .create(
-                            NotificationType.INFORMATION,
-                            "CCv2: Build Completed",
-                            """
-                                Subscription: ${subscription.presentableName}<br>
-                                Build $buildCode has been completed with ${buildStatus.title}.
-                            """.trimIndent()
-                        )
-                        .system(true)
-                        .notify(project)
 
-                    project.messageBus.syncPublisher(CCv2BuildsListener.TOPIC).onBuildCompleted(
-                        subscription,
-                        buildCode,
-                        buildRequest.deploymentRequests
-                    )
+                    else -> {
+                        Notifications
+                            .create(
+                                NotificationType.INFORMATION,
+                                "CCv2: Build Completed",
+                                """
+                                    Subscription: ${subscription.presentableName}<br>
+                                    Build $buildCode has been completed with ${buildStatus.title}.
+                                """.trimIndent()
+                            )
+                            .system(true)
+                            .notify(project)
+
+                        project.messageBus.syncPublisher(CCv2BuildsListener.TOPIC).onBuildCompleted(
+                            subscription,
+                            buildCode,
+                            buildRequest.deploymentRequests
+                        )
+                    }
                 }
             }
         }
@@ -710,36 +686,14 @@ class CCv2Service(private val project: Project, private val coroutineScope: Coro
     fun trackDeployment(project: Project, subscription: CCv2Subscription, deploymentCode: String, buildCode: String) {
         coroutineScope.launch {
             withBackgroundProgress(project, "Tracking Progress of the Deployment - $buildCode..", true) {
-                var totalProgress = 0
-                val ccv2Token = getCCv2Token(subscription)
-
-                reportProgressScope { progressReporter ->
-                    while (totalProgress < 100) {
-                        checkCanceled()
-
-                        try {
-                            val progress = CCv2Api.getInstance().fetchDeploymentProgress(subscription, deploymentCode, ccv2Token!!, progressReporter)
-                            val reportProgress = progress.percentage - totalProgress
-                            totalProgress = progress.percentage
-
-                            if (progress.deploymentStatus == CCv2DeploymentStatusEnum.FAIL) {
-                                cancel(CancellationException("Deployment failed"))
-                            }
-
-                            progressReporter.sizedStep(reportProgress, "Deployment $buildCode progress ${progress.percentage}%") {
-                                if (totalProgress < 100) {
-                                    delay(15.seconds)
-                                }
-                            }
-                        } catch (e: SocketTimeoutException) {
-                            notifyOnTimeout(subscription)
-                        } catch (e: RuntimeException) {
-                            notifyOnException(subscription, e)
-                        }
+                val progress = reportRawProgress { progressReporter ->
+                    CCv2StatusPoller.getInstance(project).awaitDeployment(subscription, deploymentCode) { progress ->
+                        progressReporter.fraction(progress.percentage / 100.0)
+                        progressReporter.text("Deployment $buildCode progress ${progress.percentage}%")
                     }
                 }
 
-                if (totalProgress == 100) {
+                if (progress != null && progress.percentage >= 100 && progress.deploymentStatus != CCv2DeploymentStatusEnum.FAIL) {
                     Notifications
                         .create(
                             NotificationType.INFORMATION,
@@ -756,7 +710,7 @@ class CCv2Service(private val project: Project, private val coroutineScope: Coro
         }
     }
 
-    private fun getCCv2Token(subscription: CCv2Subscription): String? {
+    internal fun getCCv2Token(subscription: CCv2Subscription): String? {
         val appSettings = CCv2ProjectSettings.getInstance()
         val ccv2Token = appSettings.getCCv2Token(subscription.uuid)
             ?: appSettings.getCCv2Token()
@@ -777,7 +731,7 @@ class CCv2Service(private val project: Project, private val coroutineScope: Coro
         return null
     }
 
-    private fun notifyOnTimeout(subscription: CCv2Subscription) {
+    internal fun notifyOnTimeout(subscription: CCv2Subscription) {
         Notifications
             .create(
                 NotificationType.WARNING,
@@ -793,7 +747,7 @@ class CCv2Service(private val project: Project, private val coroutineScope: Coro
             .notify(project)
     }
 
-    private fun notifyOnException(subscription: CCv2Subscription, e: RuntimeException) {
+    internal fun notifyOnException(subscription: CCv2Subscription, e: Exception) {
         Notifications
             .create(
                 NotificationType.WARNING,
@@ -0,0 +1,280 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.ccv2
+
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.components.service
+import com.intellij.openapi.diagnostic.thisLogger
+import com.intellij.openapi.project.Project
+import com.intellij.platform.util.progress.ProgressReporter
+import com.intellij.platform.util.progress.reportProgressScope
+import kotlinx.coroutines.*
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.filterNotNull
+import sap.commerce.toolset.ccv2.api.CCv2Api
+import sap.commerce.toolset.ccv2.dto.*
+import sap.commerce.toolset.ccv2.event.CCv2BuildsListener
+import sap.commerce.toolset.ccv2.event.CCv2DeploymentsListener
+import sap.commerce.toolset.ccv2.settings.state.CCv2Subscription
+import java.net.SocketTimeoutException
+import java.util.concurrent.ConcurrentHashMap
+import kotlin.random.Random
+import kotlin.time.Duration
+import kotlin.time.Duration.Companion.milliseconds
+import kotlin.time.Duration.Companion.minutes
+import kotlin.time.Duration.Companion.seconds
+import kotlin.time.TimeMark
+import kotlin.time.TimeSource
+
+/**
+ * Single poller for all tracked CCv2 builds and deployments of the project.
+ *
+ * Tracking of the same build or deployment is de-duplicated, all due items of a subscription are polled within one batch
+ * with a single token lookup, and the poll interval of each item adapts to its state: it is short while progress moves,
+ * grows while nothing changes and backs off exponentially on errors.
+ * Every observed change is published via [CCv2BuildsListener.onBuildProgress] and [CCv2DeploymentsListener.onDeploymentProgress].
+ */
+@Service(Service.Level.PROJECT)
+class CCv2StatusPoller(private val project: Project, private val coroutineScope: CoroutineScope) {
+
+    private val tracked = ConcurrentHashMap<TrackedKey, Tracked<*>>()
+    private val wakeUp = Channel<Unit>(Channel.CONFLATED)
+    private var pollingJob: Job? = null
+
+    /**
+     * Suspends until the build reaches a final state or tracking is abandoned due to repeated errors.
+     * Returns the last known progress, if any.
+     */
+    suspend fun awaitBuild(
+        subscription: CCv2Subscription,
+        buildCode: String,
+        onProgress: suspend (CCv2BuildProgressDto) -> Unit
+    ): CCv2BuildProgressDto? = await(TrackedKey(subscription.uuid, TrackedKind.BUILD, buildCode), onProgress) {
+        Tracked(
+            subscription, buildCode,
+            fetch = { token, reporter -> CCv2Api.getInstance().fetchBuildProgress(subscription, buildCode, token, reporter) },
+            publish = { project.messageBus.syncPublisher(CCv2BuildsListener.TOPIC).onBuildProgress(subscription, it) },
+            isFinal = { it.buildStatus in BUILD_FINAL_STATUSES }
+        )
+    }
+
+    /**
+     * Suspends until the deployment is completed or failed, or tracking is abandoned due to repeated errors.
+     * Returns the last known progress, if any.
+     */
+    suspend fun awaitDeployment(
+        subscription: CCv2Subscription,
+        deploymentCode: String,
+        onProgress: suspend (CCv2DeploymentProgressDto) -> Unit
+    ): CCv2DeploymentProgressDto? = await(TrackedKey(subscription.uuid, TrackedKind.DEPLOYMENT, deploymentCode), onProgress) {
+        Tracked(
+            subscription, deploymentCode,
+            fetch = { token, reporter -> CCv2Api.getInstance().fetchDeploymentProgress(subscription, deploymentCode, token, reporter) },
+            publish = { project.messageBus.syncPublisher(CCv2DeploymentsListener.TOPIC).onDeploymentProgress(subscription, it) },
+            isFinal = { it.percentage >= 100 || it.deploymentStatus == CCv2DeploymentStatusEnum.FAIL }
+        )
+    }
+
+    private suspend fun <P : CCv2Dto> await(
+        key: TrackedKey,
+        onProgress: suspend (P) -> Unit,
+        create: () -> Tracked<P>
+    ): P? {
+        @Suppress("UNCHECKED_CAST")
+        val item = tracked.compute(key) { _, existing ->
+            (existing ?: create()).also { it.subscribers++ }
+        } as Tracked<P>
+
+        ensurePolling()
+
+        try {
+            return coroutineScope {
+                val collector = launch { item.progress.filterNotNull().collect { onProgress(it) } }
+                item.completion.await()
+                    .also { collector.cancel() }
+            }
+        } finally {
+            tracked.computeIfPresent(key) { _, existing ->
+                existing.subscribers--
+                existing.takeIf { it.subscribers > 0 }
+            }
+        }
+    }
+
+    private fun ensurePolling() {
+        synchronized(this) {
+            if (pollingJob?.isActive == true) wakeUp.trySend(Unit)
+            else pollingJob = coroutineScope.launch {
+                try {
+                    poll()
+                } catch (e: CancellationException) {
+                    throw e
+                } catch (e: Throwable) {
+                    thisLogger().warn("Stopped tracking of CCv2 builds and deployments due to unexpected error", e)
+                    tracked.values.toList().forEach { it.fail(e) }
+                }
+            }
+        }
+    }
+
+    private suspend fun poll() {
+        while (true) {
+            synchronized(this) {
+                if (tracked.isEmpty()) {
+                    pollingJob = null
+                    return
+                }
+            }
+
+            coroutineScope {
+                tracked.values
+                    .filter { it.nextPollAt.hasPassedNow() }
+                    .groupBy { it.subscription }
+                    .forEach { (subscription, items) -> launch { pollSubscription(subscription, items) } }
+            }
+
+            val nextPollIn = tracked.values
+                .minOfOrNull { -it.nextPollAt.elapsedNow() }
+                ?.coerceAtLeast(MIN_POLL_INTERVAL)
+                ?: continue
+
+            withTimeoutOrNull(nextPollIn) { wakeUp.receive() }
+        }
+    }
+
+    private suspend fun pollSubscription(subscription: CCv2Subscription, items: Collection<Tracked<*>>) {
+        val ccv2Token = try {
+            CCv2Service.getInstance(project).getCCv2Token(subscription)
+        } catch (e: CancellationException) {
+            throw e
+        } catch (e: Exception) {
+            thisLogger().debug(e)
+            var notify = false
+            items.forEach { it.onError { notify = true } }
+            if (notify) CCv2Service.getInstance(project).notifyOnException(subscription, e)
+            return
+        }
+
+        if (ccv2Token == null) {
+            items.forEach { it.abandon() }
+            return
+        }
+
+        items.forEach { item ->
+            try {
+                item.poll(ccv2Token)
+            } catch (e: CancellationException) {
+                throw e
+            } catch (e: SocketTimeoutException) {
+                item.onError { CCv2Service.getInstance(project).notifyOnTimeout(subscription) }
+            } catch (e: Exception) {
+                thisLogger().debug(e)
+                item.onError { CCv2Service.getInstance(project).notifyOnException(subscription, e) }
+            }
+        }
+    }
+
+    private enum class TrackedKind { BUILD, DEPLOYMENT }
+
+    private data class TrackedKey(val subscriptionUUID: String, val kind: TrackedKind, val code: String)
+
+    private inner class Tracked<P : CCv2Dto>(
+        val subscription: CCv2Subscription,
+        val code: String,
+        private val fetch: suspend (String, ProgressReporter) -> P,
+        private val publish: (P) -> Unit,
+        private val isFinal: (P) -> Boolean,
+    ) {
+        val progress = MutableStateFlow<P?>(null)
+        val completion = CompletableDeferred<P?>()
+
+        @Volatile
+        var subscribers = 0
+
+        @Volatile
+        var nextPollAt: TimeMark = TimeSource.Monotonic.markNow()
+        private var interval = MIN_POLL_INTERVAL
+        private var failures = 0
+
+        suspend fun poll(ccv2Token: String) {
+            if (completion.isCompleted) return
+
+            val previous = progress.value
+            val current = reportProgressScope { fetch(ccv2Token, it) }
+            failures = 0
+
+            if (current != previous) publish(current)
+
+            if (isFinal(current)) {
+                progress.value = current
+                complete(current)
+                return
+            }
+
+            interval = if (current != previous) MIN_POLL_INTERVAL
+            else (interval * IDLE_MULTIPLIER).coerceAtMost(MAX_POLL_INTERVAL)
+            progress.value = current
+            schedule(interval)
+        }
+
+        fun onError(notify: () -> Unit) {
+            failures++
+
+            if (failures == 1) notify()
+            if (failures >= MAX_FAILURES) {
+                thisLogger().info("Stopped tracking of $code for ${subscription.presentableName} after $failures failed attempts")
+                abandon()
+                return
+            }
+
+            schedule((ERROR_BACKOFF * (1 shl (failures - 1))).coerceAtMost(MAX_ERROR_BACKOFF))
+        }
+
+        fun abandon() = complete(progress.value)
+
+        fun fail(e: Throwable) {
+            completion.completeExceptionally(e)
+            tracked.values.remove(this)
+        }
+
+        private fun complete(value: P?) {
+            completion.complete(value)
+            tracked.values.remove(this)
+        }
+
+        private fun schedule(delay: Duration) {
+            nextPollAt = TimeSource.Monotonic.markNow() + delay + Random.nextLong(JITTER_MS).milliseconds
+        }
+    }
+
+    companion object {
+        private val MIN_POLL_INTERVAL = 10.seconds
+        private val MAX_POLL_INTERVAL = 1.minutes
+        private val ERROR_BACKOFF = 15.seconds
+        private val MAX_ERROR_BACKOFF = 5.minutes
+        private const val IDLE_MULTIPLIER = 1.5
+        private const val MAX_FAILURES = 6
+        private const val JITTER_MS = 1000L
+
+        private val BUILD_FINAL_STATUSES = setOf(CCv2BuildStatus.SUCCESS, CCv2BuildStatus.FAIL, CCv2BuildStatus.DELETED)
+
+        fun getInstance(project: Project): CCv2StatusPoller = project.service()
+    }
+}
@@ -25,6 +25,7 @@ import com.intellij.platform.workspace.jps.entities.ModuleTypeId
 import sap.commerce.toolset.HybrisConstants
 import sap.commerce.toolset.ccv2.descriptor.CCv2ModuleDescriptor
 import sap.commerce.toolset.project.configurator.ModuleImportConfigurator
+import sap.commerce.toolset.project.configurator.ModuleImportPlan
 import sap.commerce.toolset.project.descriptor.HybrisProjectDescriptor
 import sap.commerce.toolset.project.descriptor.ModuleDescriptor
 
@@ -38,6 +39,7 @@ class CCv2ModuleImportConfigurator : ModuleImportConfigurator {
     override fun configure(
         hybrisProjectDescriptor: HybrisProjectDescriptor,
         moduleDescriptor: ModuleDescriptor,
+        plan: ModuleImportPlan,
         modifiableModelsProvider: IdeModifiableModelsProvider,
         rootProjectModifiableModel: ModifiableModuleModel
     ): Module {
@@ -20,11 +20,13 @@ package sap.commerce.toolset.ccv2.event
 
 import com.intellij.util.messages.Topic
 import sap.commerce.toolset.ccv2.dto.CCv2BuildDto
+import sap.commerce.toolset.ccv2.dto.CCv2BuildProgressDto
 import sap.commerce.toolset.ccv2.dto.CCv2DeploymentRequest
 import sap.commerce.toolset.ccv2.settings.state.CCv2Subscription
 
 interface CCv2BuildsListener : CCv2Listener<CCv2BuildDto> {
     fun onBuildStarted() = Unit
+    fun onBuildProgress(subscription: CCv2Subscription, progress: CCv2BuildProgressDto) = Unit
     fun onBuildCompleted(subscription: CCv2Subscription, buildCode: String, deploymentRequests: Collection<CCv2DeploymentRequest>) = Unit
     fun onBuildRemovalStarted(subscription: CCv2Subscription, build: CCv2BuildDto) = Unit
     fun onBuildRemovalRequested(subscription: CCv2Subscription, build: CCv2BuildDto) = Unit
@@ -20,8 +20,12 @@ package sap.commerce.toolset.ccv2.event
 
 import com.intellij.util.messages.Topic
 import sap.commerce.toolset.ccv2.dto.CCv2DeploymentDto
+import sap.commerce.toolset.ccv2.dto.CCv2DeploymentProgressDto
+import sap.commerce.toolset.ccv2.settings.state.CCv2Subscription
 
 interface CCv2DeploymentsListener : CCv2Listener<CCv2DeploymentDto> {
+    fun onDeploymentProgress(subscription: CCv2Subscription, progress: CCv2DeploymentProgressDto) = Unit
+
     companion object {
         val TOPIC = Topic(CCv2DeploymentsListener::class.java)
     }
@@ -0,0 +1,245 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.cockpitNG.meta
+
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.util.xml.DomElement
+import sap.commerce.toolset.CaseInsensitiveMap.CaseInsensitiveConcurrentHashMap
+import sap.commerce.toolset.cockpitNG.meta.model.*
+import sap.commerce.toolset.cockpitNG.model.config.Config
+import sap.commerce.toolset.cockpitNG.model.config.Context
+import sap.commerce.toolset.cockpitNG.model.core.*
+import sap.commerce.toolset.meta.MetaModelExternalizer
+import java.io.DataInput
+import java.io.DataOutput
+
+class CngMetaModelExternalizer(project: Project) : MetaModelExternalizer<CngMeta<DomElement>>(project) {
+
+    override val version = 1
+
+    override fun write(output: DataOutput, metaModel: CngMeta<DomElement>) {
+        when (val meta: CngMeta<*> = metaModel) {
+            is CngMetaConfig -> {
+                output.writeByte(CONFIG)
+                writeConfig(output, meta)
+            }
+
+            is CngMetaWidgets -> {
+                output.writeByte(WIDGETS)
+                writeWidgets(output, meta)
+            }
+
+            is CngMetaActionDefinition -> {
+                output.writeByte(ACTION_DEFINITION)
+                writeActionDefinition(output, meta)
+            }
+
+            is CngMetaWidgetDefinition -> {
+                output.writeByte(WIDGET_DEFINITION)
+                writeWidgetDefinition(output, meta)
+            }
+
+            is CngMetaEditorDefinition -> {
+                output.writeByte(EDITOR_DEFINITION)
+                writeEditorDefinition(output, meta)
+            }
+
+            else -> error("Unknown meta type - ${meta::class.java.simpleName}")
+        }
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    override fun read(input: DataInput, virtualFile: VirtualFile): CngMeta<DomElement> = when (val type = input.readByte().toInt()) {
+        CONFIG -> readConfig(input, virtualFile)
+        WIDGETS -> readWidgets(input, virtualFile)
+        ACTION_DEFINITION -> readActionDefinition(input, virtualFile)
+        WIDGET_DEFINITION -> readWidgetDefinition(input, virtualFile)
+        EDITOR_DEFINITION -> readEditorDefinition(input, virtualFile)
+        else -> error("Unknown meta type - $type")
+    } as CngMeta<DomElement>
+
+    private fun writeConfig(output: DataOutput, meta: CngMetaConfig) {
+        writeMeta(output, meta)
+        writeCollection(output, meta.contexts) { context ->
+            writeMeta(output, context)
+            output.writeUTF(context.name)
+            writeCollection(output, context.attributes.entries) {
+                output.writeUTF(it.key)
+                output.writeUTF(it.value)
+            }
+        }
+    }
+
+    private fun readConfig(input: DataInput, virtualFile: VirtualFile): CngMetaConfig {
+        val fileName = input.readUTF()
+        val custom = input.readBoolean()
+        val domAnchor = readAnchor(input, virtualFile, Config::class.java)
+        val contexts = readList(input) {
+            val contextFileName = input.readUTF()
+            val contextCustom = input.readBoolean()
+            val contextDomAnchor = readAnchor(input, virtualFile, Context::class.java)
+            val name = input.readUTF()
+            val attributes = readList(input) { input.readUTF() to input.readUTF() }.toMap()
+
+            CngMetaContext(contextFileName, name, contextCustom, attributes, contextDomAnchor)
+        }
+
+        return CngMetaConfig(fileName, custom, contexts, domAnchor)
+    }
+
+    private fun writeWidgets(output: DataOutput, meta: CngMetaWidgets) {
+        writeMeta(output, meta)
+        writeCollection(output, meta.widgets) { writeWidget(output, it) }
+        writeCollection(output, meta.widgetExtensions) { extension ->
+            writeMeta(output, extension)
+            output.writeUTF(extension.id)
+            writeCollection(output, extension.widgets) { writeWidget(output, it) }
+        }
+    }
+
+    private fun readWidgets(input: DataInput, virtualFile: VirtualFile): CngMetaWidgets {
+        val fileName = input.readUTF()
+        val custom = input.readBoolean()
+        val domAnchor = readAnchor(input, virtualFile, Widgets::class.java)
+        val widgets = readList(input) { readWidget(input, virtualFile) }
+        val widgetExtensions = readList(input) {
+            val extensionFileName = input.readUTF()
+            val extensionCustom = input.readBoolean()
+            val extensionDomAnchor = readAnchor(input, virtualFile, WidgetExtension::class.java)
+            val id = input.readUTF()
+            val extensionWidgets = readList(input) { readWidget(input, virtualFile) }
+
+            CngMetaWidgetExtension(extensionFileName, extensionCustom, id, extensionWidgets, extensionDomAnchor)
+        }
+
+        return CngMetaWidgets(fileName, custom, widgets, widgetExtensions, domAnchor)
+    }
+
+    private fun writeWidget(output: DataOutput, meta: CngMetaWidget) {
+        writeMeta(output, meta)
+        output.writeUTF(meta.id)
+        writeNullableString(output, meta.name)
+        writeNullableString(output, meta.slotId)
+        writeNullableString(output, meta.widgetDefinitionId)
+        writeNullableString(output, meta.access)
+        writeNullableString(output, meta.lastFocusedChildIndex)
+        writeNullableString(output, meta.lastFocusedTemplateInstanceId)
+        output.writeBoolean(meta.template)
+        writeCollection(output, meta.widgets) { writeWidget(output, it) }
+    }
+
+    private fun readWidget(input: DataInput, virtualFile: VirtualFile): CngMetaWidget {
+        val fileName = input.readUTF()
+        val custom = input.readBoolean()
+        val domAnchor = readAnchor(input, virtualFile, Widget::class.java)
+        val id = input.readUTF()
+        val name = readNullableString(input)
+        val slotId = readNullableString(input)
+        val widgetDefinitionId = readNullableString(input)
+        val access = readNullableString(input)
+        val lastFocusedChildIndex = readNullableString(input)
+        val lastFocusedTemplateInstanceId = readNullableString(input)
+        val template = input.readBoolean()
+        val widgets = readList(input) { readWidget(input, virtualFile) }
+
+        return CngMetaWidget(
+            fileName, id, custom, widgets,
+            name, slotId, widgetDefinitionId, access, lastFocusedChildIndex, lastFocusedTemplateInstanceId, template,
+            domAnchor
+        )
+    }
+
+    private fun writeActionDefinition(output: DataOutput, meta: CngMetaActionDefinition) {
+        writeMeta(output, meta)
+        output.writeUTF(meta.id)
+        writeNullableString(output, meta.name)
+        writeNullableString(output, meta.description)
+    }
+
+    private fun readActionDefinition(input: DataInput, virtualFile: VirtualFile): CngMetaActionDefinition {
+        val fileName = input.readUTF()
+        val custom = input.readBoolean()
+        val domAnchor = readAnchor(input, virtualFile, ActionDefinition::class.java)
+
+        return CngMetaActionDefinition(fileName, input.readUTF(), custom, readNullableString(input), readNullableString(input), domAnchor)
+    }
+
+    private fun writeEditorDefinition(output: DataOutput, meta: CngMetaEditorDefinition) {
+        writeMeta(output, meta)
+        output.writeUTF(meta.id)
+        writeNullableString(output, meta.name)
+        writeNullableString(output, meta.description)
+    }
+
+    private fun readEditorDefinition(input: DataInput, virtualFile: VirtualFile): CngMetaEditorDefinition {
+        val fileName = input.readUTF()
+        val custom = input.readBoolean()
+        val domAnchor = readAnchor(input, virtualFile, EditorDefinition::class.java)
+
+        return CngMetaEditorDefinition(fileName, input.readUTF(), custom, readNullableString(input), readNullableString(input), domAnchor)
+    }
+
+    private fun writeWidgetDefinition(output: DataOutput, meta: CngMetaWidgetDefinition) {
+        writeMeta(output, meta)
+        output.writeUTF(meta.id)
+        writeNullableString(output, meta.name)
+        writeNullableString(output, meta.description)
+        writeCollection(output, meta.settings.values) { setting ->
+            writeMeta(output, setting)
+            output.writeUTF(setting.id)
+            writeNullableString(output, setting.type)
+            writeNullableString(output, setting.defaultValue)
+        }
+    }
+
+    private fun readWidgetDefinition(input: DataInput, virtualFile: VirtualFile): CngMetaWidgetDefinition {
+        val fileName = input.readUTF()
+        val custom = input.readBoolean()
+        val domAnchor = readAnchor(input, virtualFile, WidgetDefinition::class.java)
+        val id = input.readUTF()
+        val name = readNullableString(input)
+        val description = readNullableString(input)
+        val settings = CaseInsensitiveConcurrentHashMap<String, CngMetaWidgetSetting>()
+        readList(input) {
+            val settingFileName = input.readUTF()
+            val settingCustom = input.readBoolean()
+            val settingDomAnchor = readAnchor(input, virtualFile, Setting::class.java)
+
+            CngMetaWidgetSetting(settingFileName, settingCustom, input.readUTF(), readNullableString(input), readNullableString(input), settingDomAnchor)
+        }
+            .forEach { settings[it.id] = it }
+
+        return CngMetaWidgetDefinition(fileName, id, custom, settings, name, description, domAnchor)
+    }
+
+    private fun writeMeta(output: DataOutput, meta: CngMeta<*>) {
+        output.writeUTF(meta.fileName)
+        output.writeBoolean(meta.custom)
+        writeAnchor(output, meta.domAnchor)
+    }
+
+    companion object {
+        private const val CONFIG = 1
+        private const val WIDGETS = 2
+        private const val ACTION_DEFINITION = 3
+        private const val WIDGET_DEFINITION = 4
+        private const val EDITOR_DEFINITION = 5
+    }
+}
@@ -26,16 +26,20 @@ import com.intellij.util.xml.DomElement
 import kotlinx.coroutines.CoroutineScope
 import sap.commerce.toolset.cockpitNG.meta.event.CngMetaModelChangeListener
 import sap.commerce.toolset.cockpitNG.meta.model.CngMeta
+import sap.commerce.toolset.meta.MetaModelCache
 import sap.commerce.toolset.meta.MetaModelStateService
 
 @Service(Service.Level.PROJECT)
 class CngMetaModelStateService(project: Project, coroutineScope: CoroutineScope) : MetaModelStateService<CngGlobalMetaModel, CngMeta<DomElement>, DomElement>(
     project, coroutineScope, "Cockpit NG",
     CngMetaCollector.getInstance(project),
-    CngMetaModelAggregatedProcessor.getInstance(project)
+    CngMetaModelAggregatedProcessor.getInstance(project),
+    MetaModelCache(project, "cockpitNG", CngMetaModelExternalizer(project))
 ) {
 
     override fun onCompletion(newState: CngGlobalMetaModel) {
+        // cached references resolved against the stale state have to be re-resolved
+        CngModificationTracker.getInstance(project).incModificationCount()
         project.messageBus.syncPublisher(CngMetaModelChangeListener.TOPIC).onChanged(newState)
     }
 
@@ -44,7 +48,7 @@ class CngMetaModelStateService(project: Project, coroutineScope: CoroutineScope)
     }
 
     companion object {
-        fun state(project: Project) = getInstance(project).get()
+        fun state(project: Project, strict: Boolean = false) = getInstance(project).get(strict)
         fun getInstance(project: Project): CngMetaModelStateService = project.service()
     }
 
@@ -22,11 +22,12 @@ import com.intellij.util.xml.DomElement
 import com.intellij.util.xml.DomService
 
 open class CngMeta<DOM : DomElement>(
-    dom: DOM,
     val fileName: String,
     val custom: Boolean,
-    val domAnchor: DomAnchor<DOM> = DomService.getInstance().createAnchor(dom),
+    val domAnchor: DomAnchor<DOM>,
 ) {
+    constructor(dom: DOM, fileName: String, custom: Boolean) : this(fileName, custom, DomService.getInstance().createAnchor(dom))
+
     fun retrieveDom(): DOM? = domAnchor.retrieveDomElement()
 
     override fun toString() = "Name: $fileName | custom: $custom"
@@ -17,15 +17,23 @@
  */
 package sap.commerce.toolset.cockpitNG.meta.model
 
+import com.intellij.util.xml.DomAnchor
+import com.intellij.util.xml.DomService
 import sap.commerce.toolset.cockpitNG.model.core.ActionDefinition
 
 class CngMetaActionDefinition(
-    dom: ActionDefinition,
     fileName: String,
     val id: String,
     custom: Boolean,
-) : CngMeta<ActionDefinition>(dom, fileName, custom) {
+    val name: String?,
+    val description: String?,
+    domAnchor: DomAnchor<ActionDefinition>,
+) : CngMeta<ActionDefinition>(fileName, custom, domAnchor) {
 
-    val name: String? = dom.name.stringValue
-    val description: String? = dom.description.stringValue
+    constructor(dom: ActionDefinition, fileName: String, id: String, custom: Boolean) : this(
+        fileName, id, custom,
+        dom.name.stringValue,
+        dom.description.stringValue,
+        DomService.getInstance().createAnchor(dom)
+    )
 }
\ No newline at end of file
@@ -17,11 +17,19 @@
  */
 package sap.commerce.toolset.cockpitNG.meta.model
 
+import com.intellij.util.xml.DomAnchor
+import com.intellij.util.xml.DomService
 import sap.commerce.toolset.cockpitNG.model.config.Config
 
 class CngMetaConfig(
-    dom: Config,
     fileName: String,
     custom: Boolean,
-    val contexts: List<CngMetaContext>
-) : CngMeta<Config>(dom, fileName, custom)
+    val contexts: List<CngMetaContext>,
+    domAnchor: DomAnchor<Config>,
+) : CngMeta<Config>(fileName, custom, domAnchor) {
+
+    constructor(dom: Config, fileName: String, custom: Boolean, contexts: List<CngMetaContext>) : this(
+        fileName, custom, contexts,
+        DomService.getInstance().createAnchor(dom)
+    )
+}
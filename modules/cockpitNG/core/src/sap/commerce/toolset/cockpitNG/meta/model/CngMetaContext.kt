@@ -17,20 +17,27 @@
  */
 package sap.commerce.toolset.cockpitNG.meta.model
 
+import com.intellij.util.xml.DomAnchor
+import com.intellij.util.xml.DomService
 import sap.commerce.toolset.cockpitNG.model.config.Context
 
 class CngMetaContext(
-    dom: Context,
     fileName: String,
     val name: String,
     custom: Boolean,
-) : CngMeta<Context>(dom, fileName, custom) {
+    val attributes: Map<String, String>,
+    domAnchor: DomAnchor<Context>,
+) : CngMeta<Context>(fileName, custom, domAnchor) {
 
-    val attributes = dom.xmlTag
-        ?.attributes
-        ?.filter { it.value != null }
-        ?.associate { it.name to it.value!! }
-        ?: emptyMap()
+    constructor(dom: Context, fileName: String, name: String, custom: Boolean) : this(
+        fileName, name, custom,
+        dom.xmlTag
+            ?.attributes
+            ?.filter { it.value != null }
+            ?.associate { it.name to it.value!! }
+            ?: emptyMap(),
+        DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = name
 
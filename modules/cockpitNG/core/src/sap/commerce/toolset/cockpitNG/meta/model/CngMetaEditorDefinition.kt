@@ -17,17 +17,25 @@
  */
 package sap.commerce.toolset.cockpitNG.meta.model
 
+import com.intellij.util.xml.DomAnchor
+import com.intellij.util.xml.DomService
 import sap.commerce.toolset.cockpitNG.model.core.EditorDefinition
 
 class CngMetaEditorDefinition(
-    dom: EditorDefinition,
     fileName: String,
     val id: String,
     custom: Boolean,
-) : CngMeta<EditorDefinition>(dom, fileName, custom) {
+    val name: String?,
+    val description: String?,
+    domAnchor: DomAnchor<EditorDefinition>,
+) : CngMeta<EditorDefinition>(fileName, custom, domAnchor) {
 
-    val name: String? = dom.name.stringValue
-    val description: String? = dom.description.stringValue
+    constructor(dom: EditorDefinition, fileName: String, id: String, custom: Boolean) : this(
+        fileName, id, custom,
+        dom.name.stringValue,
+        dom.description.stringValue,
+        DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = id
 }
\ No newline at end of file
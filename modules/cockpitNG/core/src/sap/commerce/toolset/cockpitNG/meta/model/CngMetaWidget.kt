@@ -17,23 +17,36 @@
  */
 package sap.commerce.toolset.cockpitNG.meta.model
 
+import com.intellij.util.xml.DomAnchor
+import com.intellij.util.xml.DomService
 import sap.commerce.toolset.cockpitNG.model.core.Widget
 
 class CngMetaWidget(
-    dom: Widget,
     fileName: String,
     val id: String,
     custom: Boolean,
-    val widgets: Collection<CngMetaWidget> = emptyList(),
-) : CngMeta<Widget>(dom, fileName, custom) {
+    val widgets: Collection<CngMetaWidget>,
+    val name: String?,
+    val slotId: String?,
+    val widgetDefinitionId: String?,
+    val access: String?,
+    val lastFocusedChildIndex: String?,
+    val lastFocusedTemplateInstanceId: String?,
+    val template: Boolean,
+    domAnchor: DomAnchor<Widget>,
+) : CngMeta<Widget>(fileName, custom, domAnchor) {
 
-    val name: String? = dom.title.stringValue
-    val slotId: String? = dom.slotId.stringValue
-    val widgetDefinitionId: String? = dom.widgetDefinitionId.stringValue
-    val access: String? = dom.access.stringValue
-    val lastFocusedChildIndex: String? = dom.lastFocusedChildIndex.stringValue
-    val lastFocusedTemplateInstanceId: String? = dom.lastFocusedTemplateInstanceId.stringValue
-    val template = dom.template.value ?: false
+    constructor(dom: Widget, fileName: String, id: String, custom: Boolean, widgets: Collection<CngMetaWidget> = emptyList()) : this(
+        fileName, id, custom, widgets,
+        dom.title.stringValue,
+        dom.slotId.stringValue,
+        dom.widgetDefinitionId.stringValue,
+        dom.access.stringValue,
+        dom.lastFocusedChildIndex.stringValue,
+        dom.lastFocusedTemplateInstanceId.stringValue,
+        dom.template.value ?: false,
+        DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = id
 }
\ No newline at end of file
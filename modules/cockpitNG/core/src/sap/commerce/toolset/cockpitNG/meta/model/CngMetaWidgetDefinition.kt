@@ -17,18 +17,26 @@
  */
 package sap.commerce.toolset.cockpitNG.meta.model
 
+import com.intellij.util.xml.DomAnchor
+import com.intellij.util.xml.DomService
 import sap.commerce.toolset.cockpitNG.model.core.WidgetDefinition
 
 class CngMetaWidgetDefinition(
-    dom: WidgetDefinition,
     fileName: String,
     val id: String,
     custom: Boolean,
     val settings: Map<String, CngMetaWidgetSetting>,
-) : CngMeta<WidgetDefinition>(dom, fileName, custom) {
+    val name: String?,
+    val description: String?,
+    domAnchor: DomAnchor<WidgetDefinition>,
+) : CngMeta<WidgetDefinition>(fileName, custom, domAnchor) {
 
-    val name: String? = dom.name.stringValue
-    val description: String? = dom.description.stringValue
+    constructor(dom: WidgetDefinition, fileName: String, id: String, custom: Boolean, settings: Map<String, CngMetaWidgetSetting>) : this(
+        fileName, id, custom, settings,
+        dom.name.stringValue,
+        dom.description.stringValue,
+        DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = id
 }
\ No newline at end of file
@@ -17,16 +17,24 @@
  */
 package sap.commerce.toolset.cockpitNG.meta.model
 
+import com.intellij.util.xml.DomAnchor
+import com.intellij.util.xml.DomService
 import sap.commerce.toolset.cockpitNG.model.core.WidgetExtension
 
 class CngMetaWidgetExtension(
-    dom: WidgetExtension,
     fileName: String,
     custom: Boolean,
-    val widgets: Collection<CngMetaWidget> = emptyList(),
-) : CngMeta<WidgetExtension>(dom, fileName, custom) {
+    val id: String,
+    val widgets: Collection<CngMetaWidget>,
+    domAnchor: DomAnchor<WidgetExtension>,
+) : CngMeta<WidgetExtension>(fileName, custom, domAnchor) {
 
-    val id: String = dom.widgetId.stringValue!!
+    constructor(dom: WidgetExtension, fileName: String, custom: Boolean, widgets: Collection<CngMetaWidget> = emptyList()) : this(
+        fileName, custom,
+        dom.widgetId.stringValue!!,
+        widgets,
+        DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = id
 }
\ No newline at end of file
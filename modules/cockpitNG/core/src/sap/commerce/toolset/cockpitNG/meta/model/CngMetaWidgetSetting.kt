@@ -17,17 +17,26 @@
  */
 package sap.commerce.toolset.cockpitNG.meta.model
 
+import com.intellij.util.xml.DomAnchor
+import com.intellij.util.xml.DomService
 import sap.commerce.toolset.cockpitNG.model.core.Setting
 
 class CngMetaWidgetSetting(
-    dom: Setting,
     fileName: String,
     custom: Boolean,
-) : CngMeta<Setting>(dom, fileName, custom) {
+    val id: String,
+    val type: String?,
+    val defaultValue: String?,
+    domAnchor: DomAnchor<Setting>,
+) : CngMeta<Setting>(fileName, custom, domAnchor) {
 
-    val id: String = dom.key.stringValue!!
-    val type: String? = dom.type.stringValue
-    val defaultValue: String? = dom.defaultValue.stringValue
+    constructor(dom: Setting, fileName: String, custom: Boolean) : this(
+        fileName, custom,
+        dom.key.stringValue!!,
+        dom.type.stringValue,
+        dom.defaultValue.stringValue,
+        DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = id
 }
\ No newline at end of file
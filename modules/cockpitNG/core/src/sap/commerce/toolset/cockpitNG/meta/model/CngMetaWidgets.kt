@@ -17,12 +17,23 @@
  */
 package sap.commerce.toolset.cockpitNG.meta.model
 
+import com.intellij.util.xml.DomAnchor
+import com.intellij.util.xml.DomService
 import sap.commerce.toolset.cockpitNG.model.core.Widgets
 
 class CngMetaWidgets(
-    dom: Widgets,
     fileName: String,
     custom: Boolean,
-    val widgets: Collection<CngMetaWidget> = emptyList(),
-    val widgetExtensions: Collection<CngMetaWidgetExtension> = emptyList(),
-) : CngMeta<Widgets>(dom, fileName, custom)
\ No newline at end of file
+    val widgets: Collection<CngMetaWidget>,
+    val widgetExtensions: Collection<CngMetaWidgetExtension>,
+    domAnchor: DomAnchor<Widgets>,
+) : CngMeta<Widgets>(fileName, custom, domAnchor) {
+
+    constructor(
+        dom: Widgets,
+        fileName: String,
+        custom: Boolean,
+        widgets: Collection<CngMetaWidget> = emptyList(),
+        widgetExtensions: Collection<CngMetaWidgetExtension> = emptyList(),
+    ) : this(fileName, custom, widgets, widgetExtensions, DomService.getInstance().createAnchor(dom))
+}
\ No newline at end of file
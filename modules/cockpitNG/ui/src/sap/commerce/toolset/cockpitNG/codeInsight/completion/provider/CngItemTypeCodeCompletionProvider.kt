@@ -68,7 +68,7 @@ class CngItemTypeCodeCompletionProvider : ItemTypeCodeCompletionProvider() {
 
         val allItems = metaModelAccess.getAllOf(TSMetaType.META_ITEM, TSMetaType.META_ENUM)
 
-        val boostedItems = getBoostedItems(currentAttributeName, anotherAttributeValue, allItems)
+        val boostedItems = getBoostedItems(metaModelAccess, currentAttributeName, anotherAttributeValue, allItems)
             ?.takeIf { it.isNotEmpty() }
             ?.toSet()
             ?: return super.addCompletions(parameters, context, result)
@@ -130,18 +130,18 @@ class CngItemTypeCodeCompletionProvider : ItemTypeCodeCompletionProvider() {
     }
 
     private fun getBoostedItems(
+        metaModelAccess: TSMetaModelAccess,
         currentAttributeName: String,
         anotherAttributeMeta: TSGlobalMetaClassifier<out DomElement>,
         allItems: Collection<TSGlobalMetaClassifier<*>>
     ) = when (currentAttributeName) {
-        Context.TYPE -> allItems
-            .filter { meta ->
-                when (meta) {
-                    is TSGlobalMetaItem -> meta.allExtends.find { it == anotherAttributeMeta } != null
-                    is TSGlobalMetaEnum -> anotherAttributeMeta.name == HybrisConstants.TS_TYPE_ENUMERATION_VALUE
-                    else -> false
-                }
-            }
+        Context.TYPE -> when (anotherAttributeMeta) {
+            is TSGlobalMetaItem -> metaModelAccess.getAllSubtypes(anotherAttributeMeta)
+                .filterNot { it == anotherAttributeMeta } +
+                allItems.filter { meta -> meta is TSGlobalMetaEnum && anotherAttributeMeta.name == HybrisConstants.TS_TYPE_ENUMERATION_VALUE }
+
+            else -> emptyList()
+        }
 
         Context.PARENT -> when (anotherAttributeMeta) {
             is TSGlobalMetaItem -> anotherAttributeMeta.allExtends
@@ -35,6 +35,7 @@ import kotlinx.coroutines.launch
 import sap.commerce.toolset.exec.context.ConsoleAwareExecResult
 import sap.commerce.toolset.exec.context.ExecContext
 import sap.commerce.toolset.exec.context.ReplicaContext
+import sap.commerce.toolset.exec.metrics.ExecTrace
 import sap.commerce.toolset.exec.settings.state.ExecConnectionSettingsState
 import java.io.Serial
 import javax.swing.Icon
@@ -123,11 +124,11 @@ abstract class HybrisConsole<E : ExecContext>(
     }
 
     protected open fun printResult(result: ConsoleAwareExecResult) {
-        printHost(result.replicaContext)
+        printHost(result.replicaContext, result.trace)
         printPlainText(result)
     }
 
-    protected fun printHost(replicaContext: ReplicaContext?) {
+    protected fun printHost(replicaContext: ReplicaContext?, trace: ExecTrace?) {
         val activeConnectionSettings = activeConnection() ?: return
         print("[HOST] ", ConsoleViewContentType.SYSTEM_OUTPUT)
         activeConnectionSettings.name
@@ -137,6 +138,9 @@ abstract class HybrisConsole<E : ExecContext>(
             ?.let { print("($it) ", ConsoleViewContentType.LOG_VERBOSE_OUTPUT) }
 
         print("${activeConnectionSettings.generatedURL}\n", ConsoleViewContentType.NORMAL_OUTPUT)
+
+        trace
+            ?.let { print("[TIMINGS] ${it.presentableText}\n", ConsoleViewContentType.LOG_VERBOSE_OUTPUT) }
     }
 
     private fun printPlainText(result: ConsoleAwareExecResult) {
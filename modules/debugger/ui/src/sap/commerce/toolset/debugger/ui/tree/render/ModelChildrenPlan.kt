@@ -0,0 +1,179 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.debugger.ui.tree.render
+
+import com.intellij.debugger.engine.DebugProcess
+import com.intellij.debugger.ui.impl.watch.ValueDescriptorImpl
+import com.intellij.debugger.ui.tree.NodeDescriptor
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.Key
+import com.intellij.openapi.util.UserDataHolderEx
+import com.intellij.util.asSafely
+import com.sun.jdi.Method
+import com.sun.jdi.ObjectReference
+import com.sun.jdi.ReferenceType
+import sap.commerce.toolset.debugger.toTypeCode
+import sap.commerce.toolset.debugger.ui.tree.LazyMethodValueDescriptor
+import sap.commerce.toolset.debugger.ui.tree.LocalizedValueDescriptor
+import sap.commerce.toolset.debugger.ui.tree.MethodValueDescriptor
+import sap.commerce.toolset.typeSystem.meta.TSMetaModelAccess
+import sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaItem
+import java.util.concurrent.ConcurrentHashMap
+import javax.swing.Icon
+
+/**
+ * Type dependent part of the [ModelChildrenRenderer] children: getters grouped by the declaring type and matched to
+ * the attributes and relation ends of the item type.
+ *
+ * Plans are cached per debug session and [ReferenceType], expansion of the same type only creates the descriptors.
+ */
+internal class ModelChildrenPlan private constructor(
+    private val generation: Long,
+    val groups: List<Group>,
+) {
+
+    class Group(val typeName: String, val children: List<Child>)
+
+    sealed class Child(val presentationName: String) {
+        abstract fun createDescriptor(project: Project, value: ObjectReference, parentDescriptor: ValueDescriptorImpl): NodeDescriptor
+    }
+
+    private class LocalizedChild(presentationName: String, private val methodName: String) : Child(presentationName) {
+        override fun createDescriptor(project: Project, value: ObjectReference, parentDescriptor: ValueDescriptorImpl) =
+            LocalizedValueDescriptor(parentDescriptor, presentationName, project, methodName)
+    }
+
+    private class LazyMethodChild(presentationName: String, private val method: Method, private val icon: Icon?) : Child(presentationName) {
+        override fun createDescriptor(project: Project, value: ObjectReference, parentDescriptor: ValueDescriptorImpl) =
+            LazyMethodValueDescriptor(value, parentDescriptor, method, presentationName, project, icon)
+    }
+
+    private class MethodChild(presentationName: String, private val method: Method, private val icon: Icon?) : Child(presentationName) {
+        override fun createDescriptor(project: Project, value: ObjectReference, parentDescriptor: ValueDescriptorImpl) =
+            MethodValueDescriptor(value, parentDescriptor, method, presentationName, project, icon)
+    }
+
+    companion object {
+        private val KEY_PLANS = Key.create<MutableMap<ReferenceType, ModelChildrenPlan>>("sap.cx.debugger.model.children.plans")
+        private val EXCLUDED_METHODS = setOf("<init>", "writeReplace", "readResolve", "getProperty")
+
+        fun getCached(debugProcess: DebugProcess, type: ReferenceType, generation: Long) = plans(debugProcess)[type]
+            ?.takeIf { it.generation == generation }
+
+        fun build(
+            debugProcess: DebugProcess,
+            type: ReferenceType,
+            generation: Long,
+            meta: TSGlobalMetaItem,
+            metaAccess: TSMetaModelAccess,
+            allMethods: List<Method>
+        ): ModelChildrenPlan {
+            val groups = allMethods
+                .filter { method -> method.name().startsWith("get") || method.name().startsWith("is") }
+                .filter { method -> !method.isAbstract }
+                .filterNot { method -> EXCLUDED_METHODS.contains(method.name()) }
+                .filter { method -> method.declaringType().name() != "java.lang.Object" }
+                .distinctBy { method -> method.name() }
+                .groupBy { method -> method.declaringType().name() }
+                .map { (declaringType, methods) ->
+                    val children = methods
+                        .mapNotNull { method ->
+                            val methodName = method.name()
+
+                            val argumentTypes = method.argumentTypes()
+                            if (argumentTypes.size > 1) return@mapNotNull null
+                            if (argumentTypes.size == 1 && !argumentTypes.get(0).name().equals("java.util.Locale")) return@mapNotNull null
+
+                            attributeChild(meta, method, metaAccess, methodName)
+                                ?: relationChild(meta, method, methodName)
+                                ?: MethodChild(methodName, method, null)
+                        }
+                        .distinctBy { it.presentationName }
+
+                    Group(declaringType.toTypeCode(), children)
+                }
+
+            return ModelChildrenPlan(generation, groups)
+                .also { plans(debugProcess)[type] = it }
+        }
+
+        private fun plans(debugProcess: DebugProcess) = debugProcess.asSafely<UserDataHolderEx>()
+            ?.putUserDataIfAbsent(KEY_PLANS, ConcurrentHashMap())
+            ?: ConcurrentHashMap()
+
+        private fun attributeChild(
+            meta: TSGlobalMetaItem,
+            method: Method,
+            metaAccess: TSMetaModelAccess,
+            methodName: String
+        ): Child? {
+            val possibleAttributeName = getPossibleAttributeName(methodName)
+            val attribute = meta.allCustomGetters[possibleAttributeName]
+                ?: meta.allAttributes[possibleAttributeName]
+                ?: return null
+
+            val attributeName = attribute.name
+
+            return when {
+                attribute.isLocalized -> LocalizedChild(
+                    buildString {
+                        append(attributeName)
+                        append(" (")
+                        append("localized")
+                        if (attribute.isDynamic) append(" & dynamic")
+                        append(")")
+                    },
+                    methodName
+                )
+
+                attribute.isDynamic -> LazyMethodChild("$attributeName (dynamic)", method, attribute.icon)
+                metaAccess.findMetaCollectionByName(attribute.type) != null -> LazyMethodChild("$attributeName (collection)", method, attribute.icon)
+                metaAccess.findMetaMapByName(attribute.type) != null -> LazyMethodChild("$attributeName (map)", method, attribute.icon)
+                else -> MethodChild(attributeName, method, attribute.icon)
+            }
+        }
+
+        private fun relationChild(
+            meta: TSGlobalMetaItem,
+            method: Method,
+            methodName: String
+        ): Child? {
+            val possibleAttributeName = getPossibleAttributeName(methodName)
+            val relation = meta.allRelationEnds
+                .find { attribute -> attribute.customGetters.contains(possibleAttributeName) }
+                ?: meta.allRelationEnds.find { it.name?.equals(possibleAttributeName, true) ?: false }
+                ?: return null
+
+            val presentationName = buildString {
+                append(relation.name)
+                append(" (")
+                append("relation - ")
+                append(relation.end.name.lowercase())
+                append(")")
+            }
+            return LazyMethodChild(presentationName, method, relation.end.icon)
+        }
+
+        private fun getPossibleAttributeName(methodName: String) = when {
+            methodName.startsWith("get") -> methodName.removePrefix("get")
+            methodName.startsWith("is") -> methodName.removePrefix("is")
+            else -> null
+        }
+    }
+}
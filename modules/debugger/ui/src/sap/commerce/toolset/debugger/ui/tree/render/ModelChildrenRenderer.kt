@@ -32,18 +32,11 @@ import com.intellij.debugger.ui.tree.render.ChildrenBuilder
 import com.intellij.debugger.ui.tree.render.ChildrenRenderer
 import com.intellij.debugger.ui.tree.render.ReferenceRenderer
 import com.intellij.openapi.project.DumbService
-import com.intellij.openapi.project.Project
 import com.intellij.util.asSafely
-import com.sun.jdi.Method
 import com.sun.jdi.ObjectReference
 import com.sun.jdi.Value
 import sap.commerce.toolset.debugger.getMeta
-import sap.commerce.toolset.debugger.toTypeCode
-import sap.commerce.toolset.debugger.ui.tree.LazyMethodValueDescriptor
-import sap.commerce.toolset.debugger.ui.tree.LocalizedValueDescriptor
-import sap.commerce.toolset.debugger.ui.tree.MethodValueDescriptor
 import sap.commerce.toolset.typeSystem.meta.TSMetaModelAccess
-import sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaItem
 import java.util.concurrent.CompletableFuture
 
 internal class ModelChildrenRenderer : ReferenceRenderer("de.hybris.platform.servicelayer.model.AbstractItemModel"), ChildrenRenderer {
@@ -74,6 +67,16 @@ internal class ModelChildrenRenderer : ReferenceRenderer("de.hybris.platform.ser
             return
         }
 
+        val metaAccess = TSMetaModelAccess.getInstance(project)
+        val debugProcess = evaluationContext.debugProcess
+        val generation = metaAccess.getGeneration()
+
+        val cachedPlan = ModelChildrenPlan.getCached(debugProcess, type, generation)
+        if (cachedPlan != null) {
+            addChildren(cachedPlan, objectReference, parentDescriptor, builder, evaluationContext)
+            return
+        }
+
         val meta = getMeta(project, type.name())
         if (meta == null) {
             val message = "Item type is not available in the local type system."
@@ -81,152 +84,35 @@ internal class ModelChildrenRenderer : ReferenceRenderer("de.hybris.platform.ser
             DebugProcessImpl.getDefaultRenderer(value).buildChildren(value, builder, evaluationContext)
             return
         }
-        val metaAccess = TSMetaModelAccess.getInstance(project)
 
         DebuggerUtilsAsync.allMethods(type).thenApply { allMethods ->
-            val excluded = setOf("<init>", "writeReplace", "readResolve", "getProperty")
-
-            val groupedMethods = allMethods
-                .filter { method -> method.name().startsWith("get") || method.name().startsWith("is") }
-                .filter { method -> !method.isAbstract }
-                .filterNot { method -> excluded.contains(method.name()) }
-                .filter { method -> method.declaringType().name() != "java.lang.Object" }
-                .distinctBy { method -> method.name() }
-                .groupBy { method -> method.declaringType().name() }
-
-            groupedMethods.forEach { (type, methods) ->
-                val typeName = type.toTypeCode()
-                val descriptors = methods
-                    .mapNotNull { method ->
-                        val methodName = method.name()
-
-                        val argumentTypes = method.argumentTypes()
-                        if (argumentTypes.size > 1) return@mapNotNull null
-                        if (argumentTypes.size == 1 && !argumentTypes.get(0).name().equals("java.util.Locale")) return@mapNotNull null
-
-                        attributeNodeDescriptor(project, meta, value, parentDescriptor, method, metaAccess, methodName)
-                            ?: relationNodeDescriptor(project, meta, value, parentDescriptor, method, methodName)
-                            ?: MethodValueDescriptor(value, parentDescriptor, method, methodName, project)
-                    }
-                    .distinctBy { it.name }
-                val groupNode = nodeManager.createMessageNode("$typeName | ${descriptors.size} fields")
-                val nodes = descriptors
-                    .map { descriptor -> nodeManager.createNode(descriptor, evaluationContext) }
-
-                builder.addChildren(listOf(groupNode), false)
-                builder.addChildren(nodes, false)
-            }
-
-            builder.addChildren(listOf(nodeManager.createMessageNode("Fields")), false)
-            DebugProcessImpl.getDefaultRenderer(value).buildChildren(value, builder, evaluationContext)
+            val plan = ModelChildrenPlan.build(debugProcess, type, generation, meta, metaAccess, allMethods)
+
+            addChildren(plan, objectReference, parentDescriptor, builder, evaluationContext)
         }
     }
 
-    private fun attributeNodeDescriptor(
-        project: Project,
-        meta: TSGlobalMetaItem,
+    private fun addChildren(
+        plan: ModelChildrenPlan,
         value: ObjectReference,
         parentDescriptor: ValueDescriptorImpl,
-        method: Method,
-        metaAccess: TSMetaModelAccess,
-        methodName: String
-    ): NodeDescriptor? {
-        val possibleAttributeName = getPossibleAttributeName(methodName)
-        val attribute = meta.allAttributes.values
-            .find { attribute -> attribute.customGetters.contains(possibleAttributeName) }
-            ?: meta.allAttributes[possibleAttributeName]
-            ?: return null
-
-        val attributeName = attribute.name
-
-        return when {
-            attribute.isLocalized -> LocalizedValueDescriptor(
-                parentDescriptor,
-                buildString {
-                    append(attributeName)
-                    append(" (")
-                    append("localized")
-                    if (attribute.isDynamic) append(" & dynamic")
-                    append(")")
-                },
-                project,
-                methodName
-            )
-
-            attribute.isDynamic -> LazyMethodValueDescriptor(
-                value,
-                parentDescriptor,
-                method,
-                buildString {
-                    append(attributeName)
-                    append(" (")
-                    append("dynamic")
-                    append(")")
-                },
-                project,
-                attribute.icon
-            )
-
-            metaAccess.findMetaCollectionByName(attribute.type) != null -> LazyMethodValueDescriptor(
-                value,
-                parentDescriptor,
-                method,
-                buildString {
-                    append(attributeName)
-                    append(" (")
-                    append("collection")
-                    append(")")
-                },
-                project,
-                attribute.icon
-            )
-
-            metaAccess.findMetaMapByName(attribute.type) != null -> LazyMethodValueDescriptor(
-                value,
-                parentDescriptor,
-                method,
-                buildString {
-                    append(attributeName)
-                    append(" (")
-                    append("map")
-                    append(")")
-                },
-                project,
-                attribute.icon
-            )
-
-            else -> MethodValueDescriptor(value, parentDescriptor, method, attributeName, project, attribute.icon)
-        }
-    }
+        builder: ChildrenBuilder,
+        evaluationContext: EvaluationContext
+    ) {
+        val nodeManager = builder.nodeManager
+        val project = parentDescriptor.project
 
-    private fun getPossibleAttributeName(methodName: String) = when {
-        methodName.startsWith("get") -> methodName.removePrefix("get")
-        methodName.startsWith("is") -> methodName.removePrefix("is")
-        else -> null
-    }
+        plan.groups.forEach { group ->
+            val groupNode = nodeManager.createMessageNode("${group.typeName} | ${group.children.size} fields")
+            val nodes = group.children
+                .map { child -> nodeManager.createNode(child.createDescriptor(project, value, parentDescriptor), evaluationContext) }
 
-    private fun relationNodeDescriptor(
-        project: Project,
-        meta: TSGlobalMetaItem,
-        value: ObjectReference,
-        parentDescriptor: ValueDescriptorImpl,
-        method: Method,
-        methodName: String
-    ): NodeDescriptor? {
-        val possibleAttributeName = getPossibleAttributeName(methodName)
-        val relation = meta.allRelationEnds
-            .find { attribute -> attribute.customGetters.contains(possibleAttributeName) }
-            ?: meta.allRelationEnds.find { it.name?.equals(possibleAttributeName, true) ?: false }
-            ?: return null
-
-        val presentationName = buildString {
-            append(relation.name)
-            append(" (")
-            append("relation - ")
-            append(relation.end.name.lowercase())
-            append(")")
+            builder.addChildren(listOf(groupNode), false)
+            builder.addChildren(nodes, false)
         }
-        return LazyMethodValueDescriptor(value, parentDescriptor, method, presentationName, project, relation.end.icon)
+
+        builder.addChildren(listOf(nodeManager.createMessageNode("Fields")), false)
+        DebugProcessImpl.getDefaultRenderer(value).buildChildren(value, builder, evaluationContext)
     }
 
     override fun getChildValueExpression(node: DebuggerTreeNode, context: DebuggerContext) = node.descriptor
@@ -22,6 +22,7 @@ import com.intellij.openapi.project.Project
 import kotlinx.coroutines.CoroutineScope
 import sap.commerce.toolset.exec.context.DefaultExecResult
 import sap.commerce.toolset.exec.context.ExecContext
+import sap.commerce.toolset.exec.metrics.ExecTrace
 import java.io.Serial
 
 abstract class DefaultExecClient<E : ExecContext>(
@@ -34,6 +35,8 @@ abstract class DefaultExecClient<E : ExecContext>(
         errorDetailMessage = exception.stackTraceToString(),
     )
 
+    override fun withTrace(result: DefaultExecResult, trace: ExecTrace) = result.copy(trace = trace)
+
     companion object {
         @Serial
         private const val serialVersionUID: Long = -7785886660763821295L
@@ -24,8 +24,13 @@ import com.intellij.openapi.util.UserDataHolderBase
 import com.intellij.platform.ide.progress.withBackgroundProgress
 import com.intellij.platform.util.progress.reportProgressScope
 import kotlinx.coroutines.*
+import kotlinx.coroutines.sync.Semaphore
+import kotlinx.coroutines.sync.withPermit
 import sap.commerce.toolset.exec.context.ExecContext
 import sap.commerce.toolset.exec.context.ExecResult
+import sap.commerce.toolset.exec.metrics.ExecMetricsService
+import sap.commerce.toolset.exec.metrics.ExecPhase
+import sap.commerce.toolset.exec.metrics.ExecTrace
 import java.io.Serial
 import kotlin.coroutines.CoroutineContext
 
@@ -48,8 +53,12 @@ abstract class ExecClient<E : ExecContext, R : ExecResult>(
         )
     }
 
+    /**
+     * Executes all contexts concurrently, at most [parallelism] at a time, e.g. when fanning out to multiple replicas.
+     */
     fun execute(
         contexts: Collection<E>,
+        parallelism: Int = Int.MAX_VALUE,
         onError: (CoroutineContext, Throwable) -> Unit = { _, _ -> },
         beforeCallback: (CoroutineScope) -> Unit = { _ -> },
         resultCallback: (CoroutineScope, R) -> Unit = { _, _ -> },
@@ -61,10 +70,13 @@ abstract class ExecClient<E : ExecContext, R : ExecResult>(
         coroutineScope.launch(exceptionHandler) {
             beforeCallback.invoke(this)
 
+            val semaphore = Semaphore(parallelism.coerceIn(1, contexts.size.coerceAtLeast(1)))
             val results = contexts
                 .map { context ->
                     async {
-                        process(context, resultCallback)
+                        semaphore.withPermit {
+                            process(context, resultCallback)
+                        }
                     }
                 }
                 .awaitAll()
@@ -77,17 +89,41 @@ abstract class ExecClient<E : ExecContext, R : ExecResult>(
 
     abstract suspend fun onError(context: E, exception: Throwable): R
 
+    /**
+     * Attaches new [ExecTrace] to the execution, so phases recorded by the underlying HTTP client
+     * are aggregated per connection by the [ExecMetricsService] and carried by the result, see [withTrace].
+     */
+    protected suspend fun traced(context: E, execution: suspend () -> R): R {
+        val trace = ExecTrace()
+        val start = System.nanoTime()
+        val result = withContext(ExecTrace.asContextElement(trace)) { execution() }
+
+        trace.add(ExecPhase.TOTAL, System.nanoTime() - start)
+        context.connection?.let {
+            ExecMetricsService.getInstance(project).complete(it, trace, result.errorMessage != null)
+        }
+
+        return withTrace(result, trace)
+    }
+
+    /**
+     * Results able to carry the [ExecTrace] of their execution have to return a copy with the given trace.
+     */
+    protected open fun withTrace(result: R, trace: ExecTrace): R = result
+
     private suspend fun process(
         context: E,
         resultCallback: (CoroutineScope, R) -> Unit
     ) = withBackgroundProgress(project, context.executionTitle, true) {
         val result = reportProgressScope { _ ->
-            try {
-                execute(context)
-            } catch (t: Throwable) {
-                thisLogger().error(t)
+            traced(context) {
+                try {
+                    execute(context)
+                } catch (t: Throwable) {
+                    thisLogger().error(t)
 
-                onError(context, t)
+                    onError(context, t)
+                }
             }
         }
 
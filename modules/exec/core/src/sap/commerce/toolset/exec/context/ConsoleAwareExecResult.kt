@@ -18,11 +18,19 @@
 
 package sap.commerce.toolset.exec.context
 
+import sap.commerce.toolset.exec.metrics.ExecTrace
+
 interface ConsoleAwareExecResult : ExecResult {
     val result: String?
     val output: String?
     val replicaContext: ReplicaContext?
 
+    /**
+     * Phase timings of the execution which produced this result, if traced.
+     */
+    val trace: ExecTrace?
+        get() = null
+
     val hasError
         get() = errorMessage != null
 }
\ No newline at end of file
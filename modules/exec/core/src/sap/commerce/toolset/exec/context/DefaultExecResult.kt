@@ -19,6 +19,8 @@
 package sap.commerce.toolset.exec.context
 
 import org.apache.http.HttpStatus
+import sap.commerce.toolset.exec.metrics.ExecTrace
+import kotlin.time.Duration
 
 data class DefaultExecResult(
     val statusCode: Int = HttpStatus.SC_OK,
@@ -27,4 +29,6 @@ data class DefaultExecResult(
     override val replicaContext: ReplicaContext? = null,
     override val errorMessage: String? = null,
     override val errorDetailMessage: String? = null,
+    val duration: Duration? = null,
+    override val trace: ExecTrace? = null,
 ) : ConsoleAwareExecResult
\ No newline at end of file
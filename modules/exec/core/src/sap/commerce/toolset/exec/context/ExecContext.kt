@@ -18,10 +18,20 @@
 
 package sap.commerce.toolset.exec.context
 
+import sap.commerce.toolset.exec.settings.state.ConnectionSettingsState
+
 interface ExecContext {
     val executionTitle: String
         get() = "Executing HTTP Call to the remote SAP Commerce instance…"
 
+    /**
+     * Connection used for the execution, metrics are aggregated per connection.
+     */
+    val connection: ConnectionSettingsState?
+        get() = null
+    val replicaContext: ReplicaContext?
+        get() = null
+
     interface Settings {
         val timeout: Int
 
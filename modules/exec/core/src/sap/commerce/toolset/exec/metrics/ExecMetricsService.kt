@@ -0,0 +1,135 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.exec.metrics
+
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.components.service
+import com.intellij.openapi.project.Project
+import sap.commerce.toolset.exec.metrics.event.ExecMetricsListener
+import sap.commerce.toolset.exec.settings.state.ConnectionSettingsState
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.math.ceil
+import kotlin.time.Duration.Companion.nanoseconds
+
+/**
+ * Aggregates [ExecTrace]s of the completed executions per connection.
+ *
+ * Only the last [SAMPLES] executions of each connection are taken into account for percentiles.
+ */
+@Service(Service.Level.PROJECT)
+class ExecMetricsService(private val project: Project) {
+
+    private val metrics = ConcurrentHashMap<String, ConnectionMetrics>()
+
+    @Volatile
+    var lastConnection: ConnectionSettingsState? = null
+        private set
+
+    fun complete(connection: ConnectionSettingsState, trace: ExecTrace, error: Boolean) {
+        metrics.computeIfAbsent(connection.uuid) { ConnectionMetrics() }
+            .add(connection, trace, error)
+        lastConnection = connection
+
+        project.messageBus.syncPublisher(ExecMetricsListener.TOPIC).onExecuted(connection)
+    }
+
+    fun snapshot(connection: ConnectionSettingsState) = metrics[connection.uuid]?.snapshot()
+
+    fun snapshots() = metrics.values.mapNotNull { it.snapshot() }
+
+    fun reset() {
+        metrics.clear()
+        lastConnection = null
+    }
+
+    private class ConnectionMetrics {
+        @Volatile
+        private var connection: ConnectionSettingsState? = null
+        private val phases = ExecPhase.entries.associateWith { Samples() }
+        private val bytes = Samples()
+        private val executions = AtomicInteger()
+        private val errors = AtomicInteger()
+
+        fun add(connection: ConnectionSettingsState, trace: ExecTrace, error: Boolean) {
+            this.connection = connection
+
+            phases.forEach { (phase, samples) ->
+                trace.nanos(phase)
+                    .takeIf { it > 0 }
+                    ?.let { samples.add(it) }
+            }
+            trace.bytes
+                .takeIf { it >= 0 }
+                ?.let { bytes.add(it) }
+
+            executions.incrementAndGet()
+            if (error) errors.incrementAndGet()
+        }
+
+        fun snapshot(): ExecMetricsSnapshot? {
+            val connection = connection ?: return null
+            val sortedBytes = bytes.sorted()
+
+            return ExecMetricsSnapshot(
+                connection = connection,
+                executions = executions.get(),
+                errors = errors.get(),
+                phases = phases.mapNotNull { (phase, samples) ->
+                    val sorted = samples.sorted()
+                        .takeIf { it.isNotEmpty() }
+                        ?: return@mapNotNull null
+
+                    ExecMetricsSnapshot.Phase(
+                        phase = phase,
+                        samples = sorted.size,
+                        p50 = sorted.percentile(0.5).nanoseconds,
+                        p90 = sorted.percentile(0.9).nanoseconds,
+                        p99 = sorted.percentile(0.99).nanoseconds,
+                    )
+                },
+                bytesP50 = sortedBytes.takeIf { it.isNotEmpty() }?.percentile(0.5),
+                bytesMax = sortedBytes.lastOrNull(),
+            )
+        }
+
+        private fun LongArray.percentile(percentile: Double) = this[(ceil(percentile * size).toInt() - 1).coerceIn(0, size - 1)]
+    }
+
+    private class Samples {
+        private val values = LongArray(SAMPLES)
+        private var count = 0
+
+        @Synchronized
+        fun add(value: Long) {
+            values[count % SAMPLES] = value
+            count++
+        }
+
+        @Synchronized
+        fun sorted() = values.copyOf(count.coerceAtMost(SAMPLES))
+            .apply { sort() }
+    }
+
+    companion object {
+        private const val SAMPLES = 256
+
+        fun getInstance(project: Project): ExecMetricsService = project.service()
+    }
+}
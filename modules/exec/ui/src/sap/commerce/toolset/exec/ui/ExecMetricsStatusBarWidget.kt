@@ -0,0 +1,107 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.exec.ui
+
+import com.intellij.openapi.application.invokeLater
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.ui.MessageType
+import com.intellij.openapi.ui.popup.Balloon
+import com.intellij.openapi.ui.popup.JBPopupFactory
+import com.intellij.openapi.util.text.StringUtil
+import com.intellij.openapi.wm.StatusBar
+import com.intellij.openapi.wm.StatusBarWidget
+import com.intellij.ui.awt.RelativePoint
+import com.intellij.util.Consumer
+import sap.commerce.toolset.exec.metrics.ExecMetricsService
+import sap.commerce.toolset.exec.metrics.ExecMetricsSnapshot
+import sap.commerce.toolset.exec.metrics.ExecPhase
+import sap.commerce.toolset.exec.metrics.event.ExecMetricsListener
+import sap.commerce.toolset.exec.settings.state.ConnectionSettingsState
+import java.awt.Component
+import java.awt.event.MouseEvent
+
+/**
+ * Shows p90 of the total execution time for the last used connection, click shows percentiles of all phases per connection.
+ */
+class ExecMetricsStatusBarWidget(private val project: Project) : StatusBarWidget, StatusBarWidget.TextPresentation {
+
+    private var statusBar: StatusBar? = null
+
+    override fun ID() = ExecMetricsStatusBarWidgetFactory.ID
+    override fun getPresentation() = this
+    override fun getAlignment() = Component.CENTER_ALIGNMENT
+
+    override fun install(statusBar: StatusBar) {
+        this.statusBar = statusBar
+
+        with(project.messageBus.connect(this)) {
+            subscribe(ExecMetricsListener.TOPIC, object : ExecMetricsListener {
+                override fun onExecuted(connection: ConnectionSettingsState) = invokeLater {
+                    this@ExecMetricsStatusBarWidget.statusBar?.updateWidget(ID())
+                }
+            })
+        }
+    }
+
+    override fun getText() = lastSnapshot()
+        ?.phase(ExecPhase.TOTAL)
+        ?.let { "[y] p90 ${it.p90.inWholeMilliseconds} ms" }
+        ?: ""
+
+    override fun getTooltipText() = lastSnapshot()
+        ?.let { "<html>${render(it)}</html>" }
+
+    override fun getClickConsumer() = Consumer<MouseEvent> { event ->
+        val snapshots = ExecMetricsService.getInstance(project).snapshots()
+            .takeIf { it.isNotEmpty() }
+            ?: return@Consumer
+
+        JBPopupFactory.getInstance()
+            .createHtmlTextBalloonBuilder(snapshots.joinToString("<hr/>") { render(it) }, MessageType.INFO, null)
+            .setHideOnClickOutside(true)
+            .createBalloon()
+            .show(RelativePoint(event), Balloon.Position.above)
+    }
+
+    override fun dispose() {
+        statusBar = null
+    }
+
+    private fun lastSnapshot() = ExecMetricsService.getInstance(project).lastConnection
+        ?.let { ExecMetricsService.getInstance(project).snapshot(it) }
+
+    private fun render(snapshot: ExecMetricsSnapshot) = buildString {
+        append("<b>${StringUtil.escapeXmlEntities(snapshot.connection.presentationName)}</b><br/>")
+        append("Executions: ${snapshot.executions}, errors: ${snapshot.errors}")
+        val bytesP50 = snapshot.bytesP50
+        val bytesMax = snapshot.bytesMax
+        if (bytesP50 != null && bytesMax != null) {
+            append(", response p50: ${StringUtil.formatFileSize(bytesP50)}, max: ${StringUtil.formatFileSize(bytesMax)}")
+        }
+        append("<table><tr><td></td><td>p50</td><td>p90</td><td>p99</td><td>samples</td></tr>")
+        snapshot.phases.forEach {
+            append("<tr><td>${it.phase.title}</td>")
+            append("<td>${it.p50.inWholeMilliseconds} ms</td>")
+            append("<td>${it.p90.inWholeMilliseconds} ms</td>")
+            append("<td>${it.p99.inWholeMilliseconds} ms</td>")
+            append("<td>${it.samples}</td></tr>")
+        }
+        append("</table>")
+    }
+}
@@ -99,7 +99,7 @@ class FxSColumnNameReference(owner: FlexibleSearchColumnName) : PsiReferenceBase
 
             CachedValueProvider.Result.create(
                 result,
-                PsiModificationTracker.MODIFICATION_COUNT
+                ref.element.containingFile
             )
         }
 
@@ -91,7 +91,7 @@ class FxSDefinedTableReference(owner: FlexibleSearchDefinedTableName) : PsiRefer
 
             CachedValueProvider.Result.create(
                 results,
-                TSModificationTracker.getInstance(project), PsiModificationTracker.MODIFICATION_COUNT
+                TSModificationTracker.getInstance(project), ref.element.containingFile
             )
         }
     }
@@ -64,7 +64,7 @@ class FxSSelectedTableNameReference(owner: FlexibleSearchSelectedTableName) : Ps
 
             CachedValueProvider.Result.create(
                 result,
-                PsiModificationTracker.MODIFICATION_COUNT
+                ref.element.containingFile
             )
         }
 
@@ -170,7 +170,7 @@ class FxSYColumnReference(owner: FlexibleSearchYColumnName) : PsiReferenceBase.P
 
             CachedValueProvider.Result.create(
                 result,
-                TSModificationTracker.getInstance(project), PsiModificationTracker.MODIFICATION_COUNT
+                TSModificationTracker.getInstance(project), ref.element.containingFile
             )
         }
 
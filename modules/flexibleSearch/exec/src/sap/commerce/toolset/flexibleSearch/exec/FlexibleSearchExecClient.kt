@@ -18,19 +18,26 @@
 
 package sap.commerce.toolset.flexibleSearch.exec
 
-import com.google.gson.Gson
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonToken
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
+import com.intellij.openapi.diagnostic.thisLogger
 import com.intellij.openapi.project.Project
-import com.intellij.util.asSafely
-import kotlinx.coroutines.CoroutineScope
+import com.intellij.platform.ide.progress.withBackgroundProgress
+import com.intellij.platform.util.progress.reportRawProgress
+import kotlinx.coroutines.*
 import org.apache.http.HttpStatus
+import org.apache.http.client.methods.CloseableHttpResponse
 import org.apache.http.message.BasicNameValuePair
 import sap.commerce.toolset.exec.ExecClient
+import sap.commerce.toolset.exec.metrics.ExecPhase
+import sap.commerce.toolset.exec.metrics.ExecTrace
 import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchExecContext
 import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchExecResult
-import sap.commerce.toolset.flexibleSearch.exec.context.TableBuilder
+import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchResultSet
 import sap.commerce.toolset.hac.exec.http.HacHttpClient
+import java.io.InputStreamReader
 import java.io.Serial
 import java.nio.charset.StandardCharsets
 
@@ -45,7 +52,58 @@ class FlexibleSearchExecClient(
         errorDetailMessage = exception.stackTraceToString()
     )
 
-    override suspend fun execute(context: FlexibleSearchExecContext): FlexibleSearchExecResult {
+    override fun withTrace(result: FlexibleSearchExecResult, trace: ExecTrace) = result.copy(trace = trace)
+
+    override suspend fun execute(context: FlexibleSearchExecContext) = execute(context, FlexibleSearchResultSet.Builder(), null)
+
+    /**
+     * Executes the query and reports decoded rows page by page, as soon as each [FlexibleSearchExecContext.pageSize] rows are received.
+     *
+     * In case of cancellation already received rows are reported as a final result.
+     */
+    fun execute(
+        context: FlexibleSearchExecContext,
+        pageCallback: suspend (FlexibleSearchResultSet) -> Unit,
+        resultCallback: (CoroutineScope, FlexibleSearchExecResult) -> Unit,
+    ) {
+        coroutineScope.launch {
+            val resultSet = FlexibleSearchResultSet.Builder()
+
+            val result = try {
+                withBackgroundProgress(project, context.executionTitle, true) {
+                    reportRawProgress { reporter ->
+                        traced(context) {
+                            try {
+                                execute(context, resultSet) { page ->
+                                    reporter.details("Received ${page.firstRow + page.rowCount} rows")
+                                    pageCallback(page)
+                                }
+                            } catch (e: CancellationException) {
+                                throw e
+                            } catch (t: Throwable) {
+                                thisLogger().error(t)
+
+                                onError(context, t)
+                            }
+                        }
+                    }
+                }
+            } catch (e: CancellationException) {
+                // rethrow if not the execution itself but the whole scope is cancelled
+                ensureActive()
+
+                FlexibleSearchExecResult(resultSet = resultSet.build())
+            }
+
+            resultCallback.invoke(this, result)
+        }
+    }
+
+    private suspend fun execute(
+        context: FlexibleSearchExecContext,
+        resultSet: FlexibleSearchResultSet.Builder,
+        pageCallback: (suspend (FlexibleSearchResultSet) -> Unit)?
+    ): FlexibleSearchExecResult {
         val connection = context.connection
         val actionUrl = "${connection.generatedURL}/console/flexsearch/execute"
         val params = context.params()
@@ -61,42 +119,103 @@ class FlexibleSearchExecClient(
             errorMessage = "[$statusCode] ${statusLine.reasonPhrase}",
         )
 
+        val reader = JsonReader(InputStreamReader(response.entity.content, StandardCharsets.UTF_8))
         try {
-            val json = response.entity.content
-                .readAllBytes()
-                .toString(StandardCharsets.UTF_8)
-                .let { Gson().fromJson(it, HashMap::class.java) }
-
-            return json["exception"]
-                ?.asSafely<MutableMap<*, *>>()
-                ?.let { it["message"] }
-                ?.toString()
-                ?.let {
-                    FlexibleSearchExecResult(
-                        statusCode = HttpStatus.SC_BAD_REQUEST,
-                        errorMessage = it
-                    )
-                }
-                ?: FlexibleSearchExecResult(
-                    output = buildTableResult(json)
-                )
+            return ExecTrace.measure(ExecPhase.PARSE) { decode(reader, resultSet, context.pageSize, pageCallback) }
+        } catch (e: CancellationException) {
+            // abort the connection instead of reading the rest of the response
+            (response as? CloseableHttpResponse)?.close()
+            throw e
         } catch (e: Exception) {
             return FlexibleSearchExecResult(
                 statusCode = HttpStatus.SC_BAD_REQUEST,
                 errorMessage = "Cannot parse response from the server: ${e.message} $actionUrl"
             )
+        } finally {
+            reader.close()
+        }
+    }
+
+    /**
+     * Decodes the response without materializing the intermediate json tree, rows are appended column by column.
+     */
+    private suspend fun decode(
+        reader: JsonReader,
+        resultSet: FlexibleSearchResultSet.Builder,
+        pageSize: Int,
+        pageCallback: (suspend (FlexibleSearchResultSet) -> Unit)?
+    ): FlexibleSearchExecResult {
+        var exceptionMessage: String? = null
+        var pageStart = 0
+
+        reader.beginObject()
+        while (reader.hasNext()) {
+            when (reader.nextName()) {
+                "exception" -> exceptionMessage = readExceptionMessage(reader)
+                "headers" -> resultSet.headers(readValues(reader).map { it ?: "" })
+                "resultList" -> if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray()
+                    while (reader.hasNext()) {
+                        currentCoroutineContext().ensureActive()
+                        resultSet.row(readValues(reader))
+
+                        if (pageCallback != null && pageSize > 0 && resultSet.rowCount - pageStart >= pageSize) {
+                            pageCallback(resultSet.page(pageStart))
+                            pageStart = resultSet.rowCount
+                        }
+                    }
+                    reader.endArray()
+                } else reader.skipValue()
+
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+
+        return if (exceptionMessage != null) FlexibleSearchExecResult(
+            statusCode = HttpStatus.SC_BAD_REQUEST,
+            errorMessage = exceptionMessage
+        )
+        else FlexibleSearchExecResult(
+            resultSet = resultSet.build()
+        )
+    }
+
+    private fun readExceptionMessage(reader: JsonReader): String? {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue()
+            return null
         }
+
+        // any exception is an error, even without the message
+        var message = "null"
+        reader.beginObject()
+        while (reader.hasNext()) {
+            if (reader.nextName() == "message") message = readValue(reader) ?: "null"
+            else reader.skipValue()
+        }
+        reader.endObject()
+        return message
     }
 
-    private fun buildTableResult(json: HashMap<*, *>): String {
-        val tableBuilder = TableBuilder()
+    private fun readValues(reader: JsonReader): List<String?> {
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            reader.skipValue()
+            return emptyList()
+        }
 
-        json["headers"].asSafely<MutableList<String>>()
-            ?.let { headers -> tableBuilder.addHeaders(headers) }
-        json["resultList"].asSafely<List<List<String>>>()
-            ?.forEach { row -> tableBuilder.addRow(row) }
+        val values = mutableListOf<String?>()
+        reader.beginArray()
+        while (reader.hasNext()) values.add(readValue(reader))
+        reader.endArray()
+        return values
+    }
 
-        return tableBuilder.toString()
+    private fun readValue(reader: JsonReader): String? = when (reader.peek()) {
+        JsonToken.STRING, JsonToken.NUMBER -> reader.nextString().replace("&quot;", "\"")
+        JsonToken.BOOLEAN -> reader.nextBoolean().toString()
+        JsonToken.NULL -> reader.nextNull().let { null }
+        else -> reader.skipValue().let { null }
     }
 
     companion object {
@@ -26,7 +26,7 @@ import sap.commerce.toolset.hac.exec.settings.state.HacConnectionSettingsState
 import sap.commerce.toolset.settings.state.TransactionMode
 
 data class FlexibleSearchExecContext(
-    val connection: HacConnectionSettingsState,
+    override val connection: HacConnectionSettingsState,
     private val content: String = "",
     private val transactionMode: TransactionMode = TransactionMode.ROLLBACK,
     private val queryMode: QueryMode = QueryMode.FlexibleSearch,
@@ -35,6 +35,7 @@ data class FlexibleSearchExecContext(
     val dataSource: String,
     val user: String,
     val timeout: Int,
+    val pageSize: Int = DEFAULT_PAGE_SIZE,
 ) : ExecContext {
 
     constructor(
@@ -53,6 +54,7 @@ data class FlexibleSearchExecContext(
         dataSource = settings.dataSource,
         user = settings.user,
         timeout = settings.timeout,
+        pageSize = settings.pageSize,
     )
 
     override val executionTitle: String
@@ -80,7 +82,8 @@ data class FlexibleSearchExecContext(
         val locale: String,
         val dataSource: String,
         val user: String,
-        override val timeout: Int
+        override val timeout: Int,
+        val pageSize: Int = DEFAULT_PAGE_SIZE,
     ) : ExecContext.Settings {
         override fun mutable() = Mutable(
             maxCount = maxCount,
@@ -88,6 +91,7 @@ data class FlexibleSearchExecContext(
             dataSource = dataSource,
             user = user,
             timeout = timeout,
+            pageSize = pageSize,
         )
 
         data class Mutable(
@@ -95,7 +99,8 @@ data class FlexibleSearchExecContext(
             var locale: String,
             var dataSource: String,
             var user: String,
-            override var timeout: Int
+            override var timeout: Int,
+            var pageSize: Int,
         ) : ExecContext.Settings.Mutable {
             override fun immutable() = Settings(
                 maxCount = maxCount,
@@ -103,12 +108,14 @@ data class FlexibleSearchExecContext(
                 dataSource = dataSource,
                 user = user,
                 timeout = timeout,
+                pageSize = pageSize,
             )
         }
     }
 
     companion object {
         val KEY_EXECUTION_SETTINGS = Key.create<Settings>("sap.cx.fxs.execution.settings")
+        const val DEFAULT_PAGE_SIZE = 1000
 
         fun defaultSettings(connectionSettings: HacConnectionSettingsState? = null) = Settings(
             maxCount = 200,
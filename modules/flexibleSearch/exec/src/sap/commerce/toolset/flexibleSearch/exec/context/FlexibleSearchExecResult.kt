@@ -22,24 +22,38 @@ import org.apache.http.HttpStatus
 import sap.commerce.toolset.exec.context.ConsoleAwareExecResult
 import sap.commerce.toolset.exec.context.DefaultExecResult
 import sap.commerce.toolset.exec.context.ReplicaContext
+import sap.commerce.toolset.exec.metrics.ExecTrace
 
 data class FlexibleSearchExecResult(
     val statusCode: Int = HttpStatus.SC_OK,
     override val result: String? = null,
-    override val output: String? = null,
+    private val textOutput: String? = null,
+    val resultSet: FlexibleSearchResultSet? = null,
     override val replicaContext: ReplicaContext? = null,
     override val errorMessage: String? = null,
     override val errorDetailMessage: String? = null,
+    override val trace: ExecTrace? = null,
 ) : ConsoleAwareExecResult {
 
+    // text table is rendered only on demand, i.e. for the console
+    override val output: String? by lazy { textOutput ?: resultSet?.toText() }
+
     val hasDataRows: Boolean
-        get() = output?.trim()?.contains("\n") ?: false
+        get() = resultSet?.let { it.rowCount > 0 }
+            ?: textOutput?.trim()?.contains("\n")
+            ?: false
+
+    /**
+     * Returns either decoded result set or parses it from the text output.
+     */
+    fun asResultSet(): FlexibleSearchResultSet? = resultSet
+        ?: textOutput?.let { FlexibleSearchResultSet.parse(it) }
 
     companion object {
         fun from(result: DefaultExecResult) = FlexibleSearchExecResult(
             statusCode = result.statusCode,
             result = result.result,
-            output = result.output,
+            textOutput = result.output,
             replicaContext = result.replicaContext,
             errorMessage = result.errorMessage,
             errorDetailMessage = result.errorDetailMessage,
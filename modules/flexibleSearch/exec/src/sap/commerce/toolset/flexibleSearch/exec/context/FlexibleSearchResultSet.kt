@@ -0,0 +1,149 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.flexibleSearch.exec.context
+
+import sap.commerce.toolset.HybrisConstants
+
+/**
+ * Columnar representation of the FlexibleSearch result, each column is stored as a separate list of values.
+ *
+ * In case of paged execution [firstRow] is an offset of the page within the whole result.
+ */
+class FlexibleSearchResultSet(
+    val headers: List<String>,
+    private val columns: List<List<String?>>,
+    val rowCount: Int,
+    val firstRow: Int = 0,
+) {
+
+    val columnCount
+        get() = columns.size
+
+    val rows: List<Row> = object : AbstractList<Row>() {
+        override val size
+            get() = rowCount
+
+        override fun get(index: Int) = Row(index)
+    }
+
+    fun value(row: Int, column: Int): String? = columns.getOrNull(column)?.getOrNull(row)
+
+    fun column(index: Int): List<String?> = columns.getOrElse(index) { emptyList() }
+
+    fun header(column: Int) = headers.getOrElse(column) { "" }
+
+    /**
+     * Unpadded `|` separated representation, suitable for the CSV based grid.
+     */
+    fun toCsv(): String {
+        val separator = HybrisConstants.FXS_TABLE_RESULT_SEPARATOR
+
+        return buildString {
+            (0 until columnCount).joinTo(this, separator) { header(it) }
+            append('\n')
+
+            for (row in 0 until rowCount) {
+                for (column in 0 until columnCount) {
+                    if (column > 0) append(separator)
+                    value(row, column)?.let { append(it) }
+                }
+                append('\n')
+            }
+        }
+    }
+
+    /**
+     * Fixed-width representation used by the console.
+     */
+    fun toText(): String = TableBuilder()
+        .apply {
+            addHeaders((0 until columnCount).map { header(it) })
+            rows.forEach { addRow(it.values) }
+        }
+        .toString()
+
+    inner class Row(val index: Int) {
+        val number
+            get() = firstRow + index + 1
+
+        operator fun get(column: Int) = value(index, column)
+
+        val values: List<String?>
+            get() = (0 until columnCount).map { get(it) }
+    }
+
+    class Builder {
+        private val headers = mutableListOf<String>()
+        private val columns = mutableListOf<ArrayList<String?>>()
+        var rowCount = 0
+            private set
+
+        fun headers(headers: Collection<String>) = apply {
+            this.headers.clear()
+            this.headers.addAll(headers)
+            ensureColumns(headers.size)
+        }
+
+        fun row(values: List<String?>) = apply {
+            ensureColumns(values.size)
+
+            columns.forEachIndexed { index, column -> column.add(values.getOrNull(index)) }
+            rowCount++
+        }
+
+        fun build() = FlexibleSearchResultSet(
+            headers.toList(),
+            columns.map { it.apply { trimToSize() } },
+            rowCount
+        )
+
+        /**
+         * Returns a copy of the rows appended since [fromRow], builder can be used further.
+         */
+        fun page(fromRow: Int) = FlexibleSearchResultSet(
+            headers.toList(),
+            columns.map { ArrayList(it.subList(fromRow, rowCount)) },
+            rowCount - fromRow,
+            fromRow
+        )
+
+        private fun ensureColumns(size: Int) {
+            while (columns.size < size) {
+                columns.add(ArrayList<String?>(maxOf(rowCount, 16)).apply { repeat(rowCount) { add(null) } })
+            }
+        }
+    }
+
+    companion object {
+
+        /**
+         * Parses `|` separated text table, e.g. the output of the Groovy script.
+         */
+        fun parse(content: String): FlexibleSearchResultSet {
+            val lines = content.trim().lines()
+            val builder = Builder()
+                .headers(lines.first().split(HybrisConstants.FXS_TABLE_RESULT_SEPARATOR).map { it.trim() })
+
+            lines.drop(1)
+                .forEach { line -> builder.row(line.split(HybrisConstants.FXS_TABLE_RESULT_SEPARATOR).map { it.trim() }) }
+
+            return builder.build()
+        }
+    }
+}
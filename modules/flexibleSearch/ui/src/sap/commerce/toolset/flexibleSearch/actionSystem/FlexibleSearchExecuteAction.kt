@@ -63,7 +63,10 @@ class FlexibleSearchExecuteAction : ExecuteStatementAction<FlexibleSearchConsole
             fileEditor.putUserData(KEY_QUERY_EXECUTING, true)
             fileEditor.showLoader(context)
 
-            FlexibleSearchExecClient.getInstance(project).execute(context) { coroutineScope, result ->
+            FlexibleSearchExecClient.getInstance(project).execute(
+                context,
+                pageCallback = { page -> fileEditor.renderExecutionPage(page) }
+            ) { coroutineScope, result ->
                 fileEditor.renderExecutionResult(result)
                 fileEditor.putUserData(KEY_QUERY_EXECUTING, false)
 
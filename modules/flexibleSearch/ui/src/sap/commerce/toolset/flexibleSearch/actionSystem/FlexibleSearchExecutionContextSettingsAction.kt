@@ -44,6 +44,7 @@ class FlexibleSearchExecutionContextSettingsAction : ExecutionContextSettingsAct
         .let {
             """<pre>
  · rows:    ${it.maxCount}
+ · page:    ${it.pageSize}
  · user:    ${it.user}
  · locale:  ${it.locale}
  · tenant:  ${it.dataSource}
@@ -91,6 +92,18 @@ class FlexibleSearchExecutionContextSettingsAction : ExecutionContextSettingsAct
                     .bindIntText({ settings.maxCount }, { value -> settings.maxCount = value })
             }.layout(RowLayout.PARENT_GRID)
 
+            row {
+                textField()
+                    .align(AlignX.FILL)
+                    .label("Page size:")
+                    .comment("Rows are shown as soon as each page is received")
+                    .validationOnInput {
+                        if (it.text.toIntOrNull()?.takeIf { size -> size > 0 } == null) error(UIBundle.message("please.enter.a.number.from.0.to.1", 1, Int.MAX_VALUE))
+                        else null
+                    }
+                    .bindIntText({ settings.pageSize }, { value -> settings.pageSize = value })
+            }.layout(RowLayout.PARENT_GRID)
+
             row {
                 textField()
                     .align(AlignX.FILL)
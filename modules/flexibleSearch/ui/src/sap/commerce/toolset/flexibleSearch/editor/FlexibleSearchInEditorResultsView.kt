@@ -31,6 +31,7 @@ import com.intellij.ui.dsl.builder.panel
 import kotlinx.coroutines.CoroutineScope
 import sap.commerce.toolset.Plugin
 import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchExecResult
+import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchResultSet
 import sap.commerce.toolset.flexibleSearch.file.FlexibleSearchFileType
 import sap.commerce.toolset.flexibleSearch.xsvFlexibleSearchFormat
 import sap.commerce.toolset.ui.editor.InEditorResultsView
@@ -56,28 +57,28 @@ class FlexibleSearchInEditorResultsView(
                         )
                     }
 
-                    result.hasDataRows -> resultsView(fileEditor, result.output!!)
+                    result.hasDataRows -> resultsView(fileEditor, result.asResultSet()!!)
                     else -> panelView { it.noResultsView() }
                 }
             }
             ?: multiResultsNotSupportedView()
     }
 
-    suspend fun resultsView(fileEditor: FlexibleSearchSplitEditor, content: String) = if (Plugin.GRID.isActive()) csvTableView(fileEditor, content)
-    else simpleTableView(content)
+    suspend fun resultsView(fileEditor: FlexibleSearchSplitEditor, resultSet: FlexibleSearchResultSet) = if (Plugin.GRID.isActive()) csvTableView(fileEditor, resultSet)
+    else simpleTableView(resultSet)
 
-    private fun simpleTableView(content: String): JComponent = panel {
+    private fun simpleTableView(resultSet: FlexibleSearchResultSet): JComponent = panel {
         row {
-            scrollCell(FlexibleSearchSimplifiedTableView.of(content))
+            scrollCell(FlexibleSearchSimplifiedTableView.of(resultSet))
                 .align(Align.FILL)
         }.resizableRow()
     }
 
-    private suspend fun csvTableView(fileEditor: FlexibleSearchSplitEditor, content: String): JComponent {
+    private suspend fun csvTableView(fileEditor: FlexibleSearchSplitEditor, resultSet: FlexibleSearchResultSet): JComponent {
         val lvf = LightVirtualFile(
             fileEditor.file?.name + "_temp.${FlexibleSearchFileType.defaultExtension}.result.csv",
             PlainTextFileType.INSTANCE,
-            content
+            resultSet.toCsv()
         )
 
 
@@ -0,0 +1,62 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.flexibleSearch.editor
+
+import com.intellij.ui.AnimatedIcon
+import com.intellij.ui.components.JBLabel
+import com.intellij.ui.components.JBScrollPane
+import com.intellij.util.ui.JBUI
+import com.intellij.util.ui.ListTableModel
+import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchResultSet
+import java.awt.BorderLayout
+import java.io.Serial
+import javax.swing.JPanel
+
+/**
+ * Results view of the paged execution, rows are appended as soon as the next page is received.
+ */
+class FlexibleSearchPagedResultsView(firstPage: FlexibleSearchResultSet) : JPanel(BorderLayout()) {
+
+    private val counter = JBLabel(AnimatedIcon.Default.INSTANCE).apply {
+        border = JBUI.Borders.empty(4, 8)
+    }
+    private val table = FlexibleSearchSimplifiedTableView.of(firstPage, ArrayList(firstPage.rows))
+
+    init {
+        add(counter, BorderLayout.NORTH)
+        add(JBScrollPane(table), BorderLayout.CENTER)
+
+        updateCounter(firstPage)
+    }
+
+    fun append(page: FlexibleSearchResultSet) {
+        (table.model as ListTableModel<FlexibleSearchResultSet.Row>).addRows(page.rows)
+
+        updateCounter(page)
+    }
+
+    private fun updateCounter(page: FlexibleSearchResultSet) {
+        counter.text = "Received ${page.firstRow + page.rowCount} rows…"
+    }
+
+    companion object {
+        @Serial
+        private const val serialVersionUID: Long = 4376981265478236515L
+    }
+}
@@ -27,11 +27,12 @@ import com.intellij.util.asSafely
 import com.intellij.util.ui.ColumnInfo
 import com.intellij.util.ui.JBUI
 import com.intellij.util.ui.ListTableModel
+import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchResultSet
 import java.awt.Dimension
 import java.io.Serial
 import javax.swing.JTable
 
-class FlexibleSearchSimplifiedTableView(model: ListTableModel<List<String>>) : TableView<List<String>>(model) {
+class FlexibleSearchSimplifiedTableView(model: ListTableModel<FlexibleSearchResultSet.Row>) : TableView<FlexibleSearchResultSet.Row>(model) {
 
     init {
         autoResizeMode = AUTO_RESIZE_OFF
@@ -43,34 +44,30 @@ class FlexibleSearchSimplifiedTableView(model: ListTableModel<List<String>>) : T
         @Serial
         private const val serialVersionUID: Long = -5987741975360042095L
 
-        fun of(content: String ): FlexibleSearchSimplifiedTableView {
+        fun of(resultSet: FlexibleSearchResultSet) = of(resultSet, resultSet.rows)
+
+        /**
+         * Creates a table with the columns of the given result set, [rows] can be mutable to append further pages.
+         */
+        fun of(resultSet: FlexibleSearchResultSet, rows: List<FlexibleSearchResultSet.Row>): FlexibleSearchSimplifiedTableView {
             val customCellRenderer = CustomCellRenderer()
-            val rows = content.trim().split("\n")
-            val headerRows = rows.first()
-                .split("|")
-                .toMutableList()
-                .apply { addFirst("") }
-            val headers = headerRows
-                .mapIndexed { index, columnName ->
-                    object : ColumnInfo<List<String>, Any>(columnName) {
-                        override fun valueOf(item: List<String>?) = item?.getOrNull(index)
-                        override fun isCellEditable(item: List<String>?) = index != 0
-                        override fun getRenderer(item: List<String>?) = customCellRenderer
+            val rowNumberColumn = object : ColumnInfo<FlexibleSearchResultSet.Row, Any>("") {
+                override fun valueOf(item: FlexibleSearchResultSet.Row?) = item?.let { "${it.number}" }
+                override fun isCellEditable(item: FlexibleSearchResultSet.Row?) = false
+                override fun getRenderer(item: FlexibleSearchResultSet.Row?) = customCellRenderer
+            }
+            val columns = (0 until resultSet.columnCount)
+                .map { index ->
+                    object : ColumnInfo<FlexibleSearchResultSet.Row, Any>(resultSet.header(index)) {
+                        override fun valueOf(item: FlexibleSearchResultSet.Row?) = item?.get(index)
+                        override fun isCellEditable(item: FlexibleSearchResultSet.Row?) = true
+                        override fun getRenderer(item: FlexibleSearchResultSet.Row?) = customCellRenderer
                     }
                 }
-                .toTypedArray<ColumnInfo<List<String>, Any>>()
-            val listTableModel = ListTableModel<List<String>>(*headers)
-
-            val dataRows = rows
-                .drop(1)
-                .mapIndexed { index, row ->
-                    row.split("|")
-                        .map { it.trim() }
-                        .toMutableList()
-                        .apply { addFirst("${index + 1}") }
-                }
-
-            listTableModel.addRows(dataRows)
+            val headers = (listOf(rowNumberColumn) + columns)
+                .toTypedArray<ColumnInfo<FlexibleSearchResultSet.Row, Any>>()
+            // rows are lightweight views over the columns of the result set
+            val listTableModel = ListTableModel(headers, rows)
 
             return FlexibleSearchSimplifiedTableView(listTableModel).apply {
                 autoResizeMode = AUTO_RESIZE_OFF
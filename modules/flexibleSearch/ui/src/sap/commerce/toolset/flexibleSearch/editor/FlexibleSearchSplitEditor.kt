@@ -22,6 +22,7 @@ import com.intellij.openapi.Disposable
 import com.intellij.openapi.actionSystem.AnActionEvent
 import com.intellij.openapi.actionSystem.CommonDataKeys
 import com.intellij.openapi.actionSystem.PlatformDataKeys
+import com.intellij.openapi.application.EDT
 import com.intellij.openapi.application.edtWriteAction
 import com.intellij.openapi.fileEditor.FileEditorState
 import com.intellij.openapi.fileEditor.TextEditor
@@ -38,6 +39,7 @@ import com.intellij.util.asSafely
 import kotlinx.coroutines.*
 import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchExecContext
 import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchExecResult
+import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchResultSet
 import sap.commerce.toolset.typeSystem.meta.TSGlobalMetaModel
 import sap.commerce.toolset.typeSystem.meta.event.TSMetaModelChangeListener
 import java.awt.BorderLayout
@@ -120,6 +122,7 @@ class FlexibleSearchSplitEditorEx(override val textEditor: TextEditor, private v
     override var virtualParametersDisposable: Disposable? = null
     override var csvResultsDisposable: Disposable? = null
 
+    private var pagedResultsView: FlexibleSearchPagedResultsView? = null
     private var renderParametersJob: Job? = null
     private var reparseTextEditorJob: Job? = null
 
@@ -157,12 +160,21 @@ class FlexibleSearchSplitEditorEx(override val textEditor: TextEditor, private v
     fun renderExecutionResult(result: FlexibleSearchExecResult) = FlexibleSearchInEditorResultsView.getInstance(project).resultView(this, result) { coroutineScope, view ->
         coroutineScope.launch {
             edtWriteAction {
+                pagedResultsView = null
                 inEditorResultsView = view
             }
         }
     }
 
+    suspend fun renderExecutionPage(page: FlexibleSearchResultSet) = withContext(Dispatchers.EDT) {
+        val view = pagedResultsView
+        if (view != null && inEditorResultsView === view) view.append(page)
+        else pagedResultsView = FlexibleSearchPagedResultsView(page)
+            .also { inEditorResultsView = it }
+    }
+
     fun showLoader(context: FlexibleSearchExecContext) {
+        pagedResultsView = null
         inEditorResultsView = FlexibleSearchInEditorResultsView.getInstance(project).executingView(context.executionTitle)
     }
 
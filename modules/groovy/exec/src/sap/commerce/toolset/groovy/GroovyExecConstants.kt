@@ -23,6 +23,10 @@ import sap.commerce.toolset.groovy.exec.context.ReplicaSelectionMode
 import sap.commerce.toolset.i18n
 
 object GroovyExecConstants {
+
+    // replicas share the same hAC route, keep it below the pooled connections per route of the HacHttpClient
+    const val FAN_OUT_PARALLELISM = 8
+
     val auto by lazy {
         ReplicaSelectionMode(
             title = "Auto-discover",
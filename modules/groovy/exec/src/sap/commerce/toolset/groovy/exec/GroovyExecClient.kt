@@ -32,16 +32,22 @@ import org.apache.http.message.BasicNameValuePair
 import org.jsoup.Jsoup
 import sap.commerce.toolset.exec.DefaultExecClient
 import sap.commerce.toolset.exec.context.DefaultExecResult
+import sap.commerce.toolset.exec.metrics.ExecPhase
+import sap.commerce.toolset.exec.metrics.ExecTrace
 import sap.commerce.toolset.groovy.exec.context.GroovyExecContext
 import sap.commerce.toolset.hac.exec.http.HacHttpClient
 import java.io.IOException
 import java.io.Serial
 import java.nio.charset.StandardCharsets
+import kotlin.time.measureTimedValue
 
 @Service(Service.Level.PROJECT)
 class GroovyExecClient(project: Project, coroutineScope: CoroutineScope) : DefaultExecClient<GroovyExecContext>(project, coroutineScope) {
 
-    override suspend fun execute(context: GroovyExecContext): DefaultExecResult {
+    override suspend fun execute(context: GroovyExecContext): DefaultExecResult = measureTimedValue { executeScript(context) }
+        .let { (result, duration) -> result.copy(duration = duration) }
+
+    private fun executeScript(context: GroovyExecContext): DefaultExecResult {
         val settings = context.connection
         val actionUrl = "${settings.generatedURL}/console/scripting/execute"
         val params = context.params()
@@ -59,11 +65,11 @@ class GroovyExecClient(project: Project, coroutineScope: CoroutineScope) : Defau
         )
 
         try {
-            val document = Jsoup.parse(response.entity.content, StandardCharsets.UTF_8.name(), "")
-            val jsonAsString = document.getElementsByTag("body").text()
-            val json = Json.parseToJsonElement(jsonAsString)
-
-            json.jsonObject["stacktraceText"]
+            val json = ExecTrace.measure(ExecPhase.PARSE) {
+                val document = Jsoup.parse(response.entity.content, StandardCharsets.UTF_8.name(), "")
+                val jsonAsString = document.getElementsByTag("body").text()
+                Json.parseToJsonElement(jsonAsString)
+            }
 
             val errorText = json.jsonObject["stacktraceText"]
                 ?.jsonPrimitive?.content?.takeIf { it.isNotBlank() }
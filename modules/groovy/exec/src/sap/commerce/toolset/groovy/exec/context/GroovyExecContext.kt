@@ -27,12 +27,12 @@ import sap.commerce.toolset.hac.exec.settings.state.HacConnectionSettingsState
 import sap.commerce.toolset.settings.state.TransactionMode
 
 data class GroovyExecContext(
-    val connection: HacConnectionSettingsState,
+    override val connection: HacConnectionSettingsState,
     override val executionTitle: String = DEFAULT_TITLE,
     private val content: String,
     val timeout: Int,
     val transactionMode: TransactionMode,
-    val replicaContext: ReplicaContext? = null
+    override val replicaContext: ReplicaContext? = null
 ) : ExecContext {
 
     constructor(
@@ -26,6 +26,7 @@ import org.jetbrains.plugins.groovy.GroovyLanguage
 import org.jetbrains.plugins.groovy.lang.psi.GroovyFile
 import sap.commerce.toolset.HybrisIcons
 import sap.commerce.toolset.exec.context.DefaultExecResult
+import sap.commerce.toolset.groovy.GroovyExecConstants
 import sap.commerce.toolset.groovy.console.HybrisGroovyConsole
 import sap.commerce.toolset.groovy.editor.GroovySplitEditor
 import sap.commerce.toolset.groovy.editor.groovyExecContextSettings
@@ -81,6 +82,7 @@ class GroovyExecuteAction : ExecuteStatementAction<HybrisGroovyConsole, GroovySp
 
             execClient.execute(
                 contexts = contexts,
+                parallelism = GroovyExecConstants.FAN_OUT_PARALLELISM,
                 resultCallback = { _, _ ->
                     completed++
                     fileEditor.showLoader("$prefix | $completed of ${contexts.size} | ${GroovyExecContext.DEFAULT_TITLE}")
@@ -104,6 +106,7 @@ class GroovyExecuteAction : ExecuteStatementAction<HybrisGroovyConsole, GroovySp
 
             execClient.execute(
                 contexts = contexts,
+                parallelism = GroovyExecConstants.FAN_OUT_PARALLELISM,
                 resultCallback = { _, result -> console.print(result, false) },
                 afterCallback = { _, _ -> console.afterExecution() }
             )
@@ -18,6 +18,9 @@
 
 package sap.commerce.toolset.groovy.editor
 
+import com.intellij.diff.DiffContentFactory
+import com.intellij.diff.DiffManager
+import com.intellij.diff.requests.SimpleDiffRequest
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
 import com.intellij.openapi.project.Project
@@ -83,8 +86,11 @@ class GroovyInEditorResultsView(project: Project, coroutineScope: CoroutineScope
                         .customize(UnscaledGaps(16, 16, 16, 16))
                 }
 
-                results
-                    .sortedBy { result -> result.replicaContext?.replicaId }
+                val sortedResults = results.sortedBy { result -> result.replicaContext?.replicaId }
+
+                it.replicasSummary(sortedResults)
+
+                sortedResults
                     .forEach { result ->
                         it.collapsibleGroup("Replica: ${result.replicaContext?.replicaId ?: ""}") {
                             when {
@@ -105,6 +111,57 @@ class GroovyInEditorResultsView(project: Project, coroutineScope: CoroutineScope
             }
     }
 
+    /**
+     * One row per replica with its latency; replicas with identical responses share the same variant,
+     * others can be compared with the first replica via the diff viewer.
+     */
+    private fun Panel.replicasSummary(results: List<DefaultExecResult>) {
+        val reference = results.firstOrNull() ?: return
+        val variants = results.map { it.comparableText }.distinct()
+
+        group("Replicas: ${results.size}, distinct results: ${variants.size}") {
+            results.forEach { result ->
+                val comparableText = result.comparableText
+
+                row(result.replicaId) {
+                    label(if (result.hasError) "Error" else "OK")
+                    label(result.duration?.let { "${it.inWholeMilliseconds} ms" } ?: "")
+                    label("Variant #${variants.indexOf(comparableText) + 1}")
+
+                    if (comparableText != reference.comparableText) {
+                        link("Compare with ${reference.replicaId}") { showDiff(reference, result) }
+                    }
+
+                    result.trace
+                        ?.let { comment(it.presentableText) }
+                }
+            }
+        }
+    }
+
+    private fun showDiff(reference: DefaultExecResult, result: DefaultExecResult) {
+        val contentFactory = DiffContentFactory.getInstance()
+        val request = SimpleDiffRequest(
+            "Groovy Script Results",
+            contentFactory.create(project, reference.comparableText),
+            contentFactory.create(project, result.comparableText),
+            reference.replicaId,
+            result.replicaId,
+        )
+
+        DiffManager.getInstance().showDiff(project, request)
+    }
+
+    private val DefaultExecResult.replicaId
+        get() = replicaContext?.replicaId ?: "auto"
+
+    private val DefaultExecResult.comparableText
+        get() = listOfNotNull(
+            errorMessage?.let { "[ERROR]\n$it" },
+            result?.let { "[RESULT]\n$it" },
+            output?.let { "[OUTPUT]\n$it" },
+        ).joinToString("\n\n")
+
     private fun Panel.group(title: String, text: String?) {
         if (text == null) return
 
@@ -19,6 +19,7 @@
 
 package sap.commerce.toolset.hac.exec.http;
 
+import com.intellij.openapi.Disposable;
 import com.intellij.openapi.components.Service;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
@@ -27,19 +28,21 @@ import org.apache.http.Header;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
+import org.apache.http.client.config.CookieSpecs;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.config.Registry;
 import org.apache.http.config.RegistryBuilder;
-import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
-import org.apache.http.impl.conn.BasicHttpClientConnectionManager;
+import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicHttpResponse;
 import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.message.BasicStatusLine;
@@ -52,6 +55,8 @@ import org.jsoup.helper.ValidationException;
 import org.jsoup.select.Elements;
 import sap.commerce.toolset.exec.ExecConstants;
 import sap.commerce.toolset.exec.context.ReplicaContext;
+import sap.commerce.toolset.exec.metrics.ExecPhase;
+import sap.commerce.toolset.exec.metrics.ExecTrace;
 import sap.commerce.toolset.hac.exec.HacExecConnectionService;
 import sap.commerce.toolset.hac.exec.settings.state.HacConnectionSettingsState;
 
@@ -72,6 +77,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static java.net.HttpURLConnection.HTTP_MOVED_TEMP;
@@ -79,7 +85,7 @@ import static java.net.HttpURLConnection.HTTP_OK;
 import static org.apache.http.HttpVersion.HTTP_1_1;
 
 @Service(Service.Level.PROJECT)
-public final class HacHttpClient {
+public final class HacHttpClient implements Disposable {
 
     private static final Logger LOG = Logger.getInstance(HacHttpClient.class);
     private final Project project;
@@ -101,7 +107,18 @@ public final class HacHttpClient {
         }
     };
 
+    private static final int MAX_CONNECTIONS_TOTAL = 20;
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 10;
+    private static final int VALIDATE_AFTER_INACTIVITY_MS = 2_000;
+    private static final long IDLE_CONNECTIONS_TIMEOUT_SECONDS = 30;
+
     private final Map<String, Map<String, String>> cookiesPerSettings = new ConcurrentHashMap<>();
+    // CSRF token is bound to the session, it is re-fetched only after re-login
+    private final Map<String, String> csrfTokensPerSettings = new ConcurrentHashMap<>();
+    private final Map<String, SSLContext> sslContextsPerProtocol = new ConcurrentHashMap<>();
+    // concurrent requests to the same replica must wait for a single login instead of creating own sessions
+    private final Map<String, Object> loginLocks = new ConcurrentHashMap<>();
+    private volatile CloseableHttpClient client;
 
     public HacHttpClient(final Project project) {
         this.project = project;
@@ -111,6 +128,23 @@ public final class HacHttpClient {
         return project.getService(HacHttpClient.class);
     }
 
+    @Override
+    public void dispose() {
+        cookiesPerSettings.clear();
+        csrfTokensPerSettings.clear();
+        loginLocks.clear();
+
+        final var client = this.client;
+        this.client = null;
+        if (client != null) {
+            try {
+                client.close();
+            } catch (final IOException e) {
+                LOG.debug(e.getMessage(), e);
+            }
+        }
+    }
+
     @NotNull
     public String testConnection(
         final @NotNull HacConnectionSettingsState settings,
@@ -119,7 +153,7 @@ public final class HacHttpClient {
     ) {
         final var cookiesKey = HttpCookiesCache.Companion.getInstance(project).getKey(settings, null);
         final var result = login(settings, null, cookiesKey, username, password);
-        cookiesPerSettings.remove(cookiesKey);
+        invalidateSession(cookiesKey);
         return result;
     }
 
@@ -131,17 +165,35 @@ public final class HacHttpClient {
         final int timeout,
         final HacConnectionSettingsState settings,
         @Nullable final ReplicaContext replicaContext
+    ) {
+        return post(actionUrl, params, canReLoginIfNeeded, timeout, settings, replicaContext, ExecPhase.REQUEST);
+    }
+
+    @NotNull
+    private HttpResponse post(
+        @NotNull final String actionUrl,
+        @NotNull final List<BasicNameValuePair> params,
+        final boolean canReLoginIfNeeded,
+        final int timeout,
+        final HacConnectionSettingsState settings,
+        @Nullable final ReplicaContext replicaContext,
+        @NotNull final ExecPhase phase
     ) {
         final var cookiesKey = HttpCookiesCache.Companion.getInstance(project).getKey(settings, replicaContext);
         final String cookieName = getCookieName(settings);
         var cookies = cookiesPerSettings.get(cookiesKey);
         if (cookies == null || !cookies.containsKey(cookieName)) {
-            final var credentials = HacExecConnectionService.Companion.getInstance(project).getCredentials(settings);
-            final var username = credentials.getUserName() !=  null ? credentials.getUserName() : "";
-            final var password = credentials.getPasswordAsString() !=  null ? credentials.getPasswordAsString() : "";
-            final var errorMessage = login(settings, replicaContext, cookiesKey, username, password);
-            if (StringUtils.isNotBlank(errorMessage)) {
-                return createErrorResponse(errorMessage);
+            synchronized (loginLocks.computeIfAbsent(cookiesKey, key -> new Object())) {
+                cookies = cookiesPerSettings.get(cookiesKey);
+                if (cookies == null || !cookies.containsKey(cookieName)) {
+                    final var credentials = HacExecConnectionService.Companion.getInstance(project).getCredentials(settings);
+                    final var username = credentials.getUserName() !=  null ? credentials.getUserName() : "";
+                    final var password = credentials.getPasswordAsString() !=  null ? credentials.getPasswordAsString() : "";
+                    final var errorMessage = login(settings, replicaContext, cookiesKey, username, password);
+                    if (StringUtils.isNotBlank(errorMessage)) {
+                        return createErrorResponse(errorMessage);
+                    }
+                }
             }
         }
         cookies = cookiesPerSettings.get(cookiesKey);
@@ -149,20 +201,32 @@ public final class HacHttpClient {
 
         final var sessionId = cookies.get(cookieName);
         final var generatedURL = settings.getGeneratedURL();
-        final var csrfToken = getCsrfToken(generatedURL, settings, cookiesKey);
+        var csrfToken = csrfTokensPerSettings.get(cookiesKey);
         if (csrfToken == null) {
-            cookiesPerSettings.remove(cookiesKey);
+            csrfToken = getCsrfToken(generatedURL, settings, cookiesKey);
 
-            if (canReLoginIfNeeded) {
-                return post(actionUrl, params, false, timeout, settings, replicaContext);
+            if (csrfToken == null) {
+                invalidateSession(cookiesKey);
+
+                if (canReLoginIfNeeded) {
+                    return post(actionUrl, params, false, timeout, settings, replicaContext, phase);
+                }
+                return createErrorResponse("Unable to obtain csrfToken for sessionId=" + sessionId);
             }
-            return createErrorResponse("Unable to obtain csrfToken for sessionId=" + sessionId);
+            csrfTokensPerSettings.put(cookiesKey, csrfToken);
         }
-        final var client = createAllowAllClient(timeout);
+        final var client = getClient();
         if (client == null) {
             return createErrorResponse("Unable to create HttpClient");
         }
         final var post = new HttpPost(actionUrl);
+        post.setConfig(RequestConfig.custom()
+            .setSocketTimeout(timeout)
+            .setConnectTimeout(timeout)
+            // do not wait forever for a pooled connection, i.e. when all connections to the replica are in use
+            .setConnectionRequestTimeout(timeout)
+            .setCookieSpec(CookieSpecs.IGNORE_COOKIES)
+            .build());
         final var cookie = cookies.entrySet().stream()
             .map(it -> it.getKey() + '=' + it.getValue())
             .collect(Collectors.joining("; "));
@@ -176,12 +240,28 @@ public final class HacHttpClient {
         post.setHeader("Sec-Fetch-Site", "same-origin");
 
         final HttpResponse response;
+        final var start = System.nanoTime();
         try {
             post.setEntity(new UrlEncodedFormEntity(params, StandardCharsets.UTF_8));
             response = client.execute(post);
+
+            // error responses are usually not consumed by the callers, buffer them to release pooled connection
+            if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK && response.getEntity() != null) {
+                response.setEntity(new BufferedHttpEntity(response.getEntity()));
+            }
+
+            final var trace = ExecTrace.current();
+            if (trace != null && phase == ExecPhase.REQUEST && response.getEntity() != null) {
+                response.setEntity(new MeteredHttpEntity(response.getEntity(), trace));
+            }
+        } catch (final ConnectionPoolTimeoutException e) {
+            LOG.warn(e.getMessage(), e);
+            return createErrorResponse("Timeout waiting for connection to " + actionUrl + ", too many concurrent requests.");
         } catch (final IOException e) {
             LOG.warn(e.getMessage(), e);
             return createErrorResponse(e.getMessage());
+        } finally {
+            ExecTrace.record(phase, System.nanoTime() - start);
         }
 
         final var statusCode = response.getStatusLine().getStatusCode();
@@ -196,9 +276,9 @@ public final class HacHttpClient {
         };
 
         if (needsLogin) {
-            cookiesPerSettings.remove(cookiesKey);
+            invalidateSession(cookiesKey);
             if (canReLoginIfNeeded) {
-                return post(actionUrl, params, false, timeout, settings, replicaContext);
+                return post(actionUrl, params, false, timeout, settings, replicaContext, phase);
             }
         }
         return response;
@@ -213,7 +293,9 @@ public final class HacHttpClient {
     ) {
         final var hostHacURL = settings.getGeneratedURL();
 
+        final var start = System.nanoTime();
         retrieveCookies(hostHacURL, settings, replicaContext, cookiesKey);
+        ExecTrace.record(ExecPhase.LOGIN, System.nanoTime() - start);
 
         final var cookieName = getCookieName(settings);
         final var sessionId = Optional.ofNullable(cookiesPerSettings.get(cookiesKey))
@@ -226,19 +308,24 @@ public final class HacHttpClient {
         if (csrfToken == null) {
             return "Unable to obtain csrfToken for " + hostHacURL;
         }
+        // login request itself is protected by the token of the anonymous session
+        csrfTokensPerSettings.put(cookiesKey, csrfToken);
         final var params = List.of(
             new BasicNameValuePair("j_username", username),
             new BasicNameValuePair("j_password", password),
             new BasicNameValuePair("_csrf", csrfToken)
         );
         final var loginURL = hostHacURL + "/j_spring_security_check";
-        final HttpResponse response = post(loginURL, params, false, settings.getTimeout(), settings, replicaContext);
+        final HttpResponse response = post(loginURL, params, false, settings.getTimeout(), settings, replicaContext, ExecPhase.LOGIN);
         if (response.getStatusLine().getStatusCode() == HttpStatus.SC_MOVED_TEMPORARILY) {
             final Header location = response.getFirstHeader("Location");
             if (location != null && location.getValue().contains("login_error")) {
                 return "Wrong username/password. Set your credentials in [y] tool window.";
             }
         }
+        // token is rotated on successful authentication and has to be re-fetched for the new session
+        csrfTokensPerSettings.remove(cookiesKey);
+
         final var newSessionId = CookieParser.getInstance().getSpecialCookie(response.getAllHeaders());
         if (newSessionId != null) {
             Optional.ofNullable(cookiesPerSettings.get(cookiesKey))
@@ -262,7 +349,28 @@ public final class HacHttpClient {
         return new BasicHttpResponse(new BasicStatusLine(HTTP_1_1, HttpStatus.SC_SERVICE_UNAVAILABLE, reasonPhrase));
     }
 
-    private CloseableHttpClient createAllowAllClient(final int timeout) {
+    private void invalidateSession(final String cookiesKey) {
+        cookiesPerSettings.remove(cookiesKey);
+        csrfTokensPerSettings.remove(cookiesKey);
+    }
+
+    @Nullable
+    private CloseableHttpClient getClient() {
+        var client = this.client;
+        if (client != null) return client;
+
+        synchronized (this) {
+            client = this.client;
+            if (client == null) {
+                client = createAllowAllClient();
+                this.client = client;
+            }
+            return client;
+        }
+    }
+
+    @Nullable
+    private CloseableHttpClient createAllowAllClient() {
         final SSLContext sslcontext;
         try {
             sslcontext = SSLContexts.custom().loadTrustMaterial(null, (chain, authType) -> true).build();
@@ -277,14 +385,17 @@ public final class HacHttpClient {
             .register("https", sslConnectionFactory)
             .build();
 
-        final HttpClientConnectionManager ccm = new BasicHttpClientConnectionManager(registry);
-        final RequestConfig config = RequestConfig.custom()
-            .setSocketTimeout(timeout)
-            .setConnectTimeout(timeout)
-            .build();
+        final var ccm = new PoolingHttpClientConnectionManager(registry);
+        ccm.setMaxTotal(MAX_CONNECTIONS_TOTAL);
+        ccm.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+        ccm.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MS);
+
+        // cookies are managed per connection settings and passed explicitly via header
         return HttpClients.custom()
             .setConnectionManager(ccm)
-            .setDefaultRequestConfig(config)
+            .disableCookieManagement()
+            .evictExpiredConnections()
+            .evictIdleConnections(IDLE_CONNECTIONS_TIMEOUT_SECONDS, TimeUnit.SECONDS)
             .build();
     }
 
@@ -346,6 +457,7 @@ public final class HacHttpClient {
         final @NotNull HacConnectionSettingsState settings,
         final String cookiesKey
     ) {
+        final var start = System.nanoTime();
         try {
             final var doc = connect(hacURL, settings.sslProtocol)
                 .cookies(cookiesPerSettings.get(cookiesKey))
@@ -354,15 +466,21 @@ public final class HacHttpClient {
             return csrfMetaElt.attr("content");
         } catch (final IOException | NoSuchAlgorithmException | KeyManagementException e) {
             LOG.warn(e.getMessage(), e);
+        } finally {
+            ExecTrace.record(ExecPhase.CSRF, System.nanoTime() - start);
         }
         return null;
     }
 
     private Connection connect(@NotNull final String url, final String sslProtocol) throws NoSuchAlgorithmException, KeyManagementException {
-        final TrustManager[] trustAllCerts = new TrustManager[]{X_509_TRUST_MANAGER};
+        var sc = sslContextsPerProtocol.get(sslProtocol);
+        if (sc == null) {
+            final TrustManager[] trustAllCerts = new TrustManager[]{X_509_TRUST_MANAGER};
 
-        final SSLContext sc = SSLContext.getInstance(sslProtocol);
-        sc.init(null, trustAllCerts, new SecureRandom());
+            sc = SSLContext.getInstance(sslProtocol);
+            sc.init(null, trustAllCerts, new SecureRandom());
+            sslContextsPerProtocol.put(sslProtocol, sc);
+        }
         HttpsURLConnection.setDefaultSSLSocketFactory(sc.getSocketFactory());
         HttpsURLConnection.setDefaultHostnameVerifier(new NoopHostnameVerifier());
         return Jsoup.connect(url);
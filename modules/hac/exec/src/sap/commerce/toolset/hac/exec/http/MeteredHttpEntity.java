@@ -0,0 +1,86 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2014-2016 Alexander Bartash <AlexanderBartash@gmail.com>
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.hac.exec.http;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.jetbrains.annotations.NotNull;
+import sap.commerce.toolset.exec.metrics.ExecTrace;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Counts bytes actually read from the response, content length is usually unknown for chunked hAC responses.
+ */
+final class MeteredHttpEntity extends HttpEntityWrapper {
+
+    private final ExecTrace trace;
+
+    MeteredHttpEntity(@NotNull final HttpEntity entity, @NotNull final ExecTrace trace) {
+        super(entity);
+        this.trace = trace;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        return new FilterInputStream(super.getContent()) {
+            private long bytes;
+            private boolean reported;
+
+            @Override
+            public int read() throws IOException {
+                final int read = super.read();
+                if (read >= 0) bytes++;
+                else report();
+                return read;
+            }
+
+            @Override
+            public int read(final byte[] b, final int off, final int len) throws IOException {
+                final int read = super.read(b, off, len);
+                if (read > 0) bytes += read;
+                else if (read < 0) report();
+                return read;
+            }
+
+            @Override
+            public long skip(final long n) throws IOException {
+                final long skipped = super.skip(n);
+                bytes += skipped;
+                return skipped;
+            }
+
+            @Override
+            public void close() throws IOException {
+                report();
+                super.close();
+            }
+
+            private void report() {
+                if (reported) return;
+
+                reported = true;
+                trace.addBytes(bytes);
+            }
+        };
+    }
+}
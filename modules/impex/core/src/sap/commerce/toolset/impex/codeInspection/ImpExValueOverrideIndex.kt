@@ -0,0 +1,65 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.impex.codeInspection
+
+import java.util.*
+
+/**
+ * Single pass index of the values set for the same unique key more than once.
+ *
+ * Rows are grouped by their unique key tuple, each group keeps a bitmap of already touched columns together with the first value of the column.
+ * The first value of the column becomes [overridden] as soon as another row of the same group touches the same column,
+ * such value and all subsequent ones are [overriding].
+ */
+class ImpExValueOverrideIndex<T : Any>(private val columnsCount: Int) {
+
+    private val groups = HashMap<String, Group>()
+
+    val overridden = LinkedHashSet<T>()
+    val overriding = LinkedHashSet<T>()
+
+    /**
+     * @param key unique key tuple of the row
+     * @param values values of the row per column, `null` for the untouched columns
+     */
+    fun add(key: String, values: Array<T?>) {
+        val group = groups.getOrPut(key) { Group() }
+
+        values.forEachIndexed { column, value ->
+            if (value == null) return@forEachIndexed
+
+            if (group.touchedColumns[column]) {
+                group.firstValues[column]
+                    ?.takeUnless { it in overriding }
+                    ?.let { overridden.add(it) }
+                if (value !in overridden) overriding.add(value)
+            } else {
+                group.touchedColumns.set(column)
+                group.firstValues[column] = value
+            }
+        }
+    }
+
+    private inner class Group {
+        val touchedColumns = BitSet(columnsCount)
+
+        @Suppress("UNCHECKED_CAST")
+        val firstValues = arrayOfNulls<Any>(columnsCount) as Array<T?>
+    }
+}
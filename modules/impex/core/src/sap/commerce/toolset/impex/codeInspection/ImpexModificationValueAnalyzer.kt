@@ -23,10 +23,7 @@ import com.intellij.codeInspection.ProblemsHolder
 import com.intellij.psi.PsiElement
 import com.intellij.psi.util.PsiTreeUtil
 import sap.commerce.toolset.impex.constants.modifier.AttributeModifier
-import sap.commerce.toolset.impex.psi.ImpExFile
-import sap.commerce.toolset.impex.psi.ImpExFullHeaderParameter
-import sap.commerce.toolset.impex.psi.ImpExHeaderLine
-import sap.commerce.toolset.impex.psi.ImpExTypes
+import sap.commerce.toolset.impex.psi.*
 import sap.commerce.toolset.psi.PsiTreeUtilExt
 
 fun notKeyAttributesList(fullParametersList: List<ImpExFullHeaderParameter>) = fullParametersList.filterNot { keyAttrPredicate(it) }
@@ -41,8 +38,6 @@ fun keyAttrPredicate(param: ImpExFullHeaderParameter) = param.modifiersList
     .flatMap { it.attributeList }
     .find { it.anyAttributeName.text == AttributeModifier.UNIQUE.modifierName && it.anyAttributeValue?.text == "true" } != null
 
-fun intersection(a: ByteArray, b: ByteArray) = a.filterIndexed { index, i -> b[index] != 0.toByte() && b[index] == i }.isNotEmpty()
-
 fun createDataTable(dataMap: Map<String, List<PsiElement?>>, distinctCommonAttrsNames: List<String>, notKeyAttrsList: List<ImpExFullHeaderParameter>): DataTable {
     val countKeyAttrs = dataMap.entries.size
     val countRows = dataMap.values.first().size
@@ -53,13 +48,14 @@ fun createDataTable(dataMap: Map<String, List<PsiElement?>>, distinctCommonAttrs
 }
 
 fun createRows(countRows: Int, countKeyAttrs: Int, dataMap: Map<String, List<PsiElement?>>): MutableList<Key> {
-    val keyRows = mutableListOf<Key>()
+    val keyValues = dataMap.values.toList()
+    val keyRows = ArrayList<Key>(countRows)
     for (i in 0 until countRows) {
-        val k = mutableListOf<PsiElement?>()
+        val k = ArrayList<PsiElement?>(countKeyAttrs)
         for (y in 0 until countKeyAttrs) {
-            val entry = dataMap.entries.toList()[y]
-            if ((entry.value as List<*>).isNotEmpty() && entry.value.size > i) {
-                k.add(entry.value[i])
+            val values = keyValues[y]
+            if (values.size > i) {
+                k.add(values[i])
             }
         }
         keyRows.add(Key(k))
@@ -69,54 +65,37 @@ fun createRows(countRows: Int, countKeyAttrs: Int, dataMap: Map<String, List<Psi
 
 class DataTable(private val keyRows: List<Key>, private val attrs: List<String>, private val attrsValues: List<ImpExFullHeaderParameter>) {
 
-    private val rows = mutableListOf<Row>()
-    private val errorBag = mutableSetOf<PsiElement>()
-    private val warningBag = mutableSetOf<PsiElement>()
+    private val attrIndexes = HashMap<String, Int>().apply {
+        attrs.forEachIndexed { index, attr -> putIfAbsent(attr, index) }
+    }
 
     fun analyze(problemsHolder: ProblemsHolder) {
+        val valueGroupsPerLine = collectValueGroups()
+        val index = ImpExValueOverrideIndex<PsiElement>(attrs.size)
 
-        analyzeProblems()
-        collectProblems()
-        showFoundProblems(problemsHolder)
-    }
+        keyRows.forEach { keyValue ->
+            val valueGroups = arrayOfNulls<PsiElement>(attrs.size)
 
-    private fun collectProblems() {
-        val groupBy = rows.groupBy { it.key.toString() }
-        groupBy.forEach { (_, rows: List<Row>) ->
-            rows.forEach { row1 ->
-                rows.forEach { row2 ->
-                    if (row1.columns != row2.columns && intersection(row1.columns, row2.columns)) {
-                        row1.columns.forEachIndexed { idx, az ->
-                            val row1Element = row1.valueGroup[idx]
-                            val row2Element = row2.valueGroup[idx]
-
-                            if ((row1Element != null && row1Element.text.replace(";", "").isNotBlank()) &&
-                                (row2Element != null && row2Element.text.replace(";", "").isNotBlank())
-                            ) {
-                                if (az == 1.toByte()) {
-                                    if (!errorBag.contains(row2Element) && !warningBag.contains(row2Element))
-                                        warningBag.add(row2Element)
-
-                                    if (!errorBag.contains(row1Element) && !warningBag.contains(row1Element))
-                                        errorBag.add(row1Element)
-                                }
-                            }
-                        }
-                    }
-                }
-            }
+            keyValue.keys.firstOrNull()
+                ?.let { PsiTreeUtil.getParentOfType(it, ImpExValueLine::class.java, false) }
+                ?.let { valueGroupsPerLine[it] }
+                ?.forEach { (column, valueGroup) -> valueGroups[column] = valueGroup }
+
+            index.add(keyValue.toString(), valueGroups)
         }
+
+        showFoundProblems(problemsHolder, index)
     }
 
-    private fun showFoundProblems(problemsHolder: ProblemsHolder) {
+    private fun showFoundProblems(problemsHolder: ProblemsHolder, index: ImpExValueOverrideIndex<PsiElement>) {
 
-        warningBag.forEach {
+        index.overriding.forEach {
             problemsHolder.registerProblem(
                 it, "This value will override the value above",
                 ProblemHighlightType.GENERIC_ERROR_OR_WARNING
             )
         }
-        errorBag.forEach {
+        index.overridden.forEach {
             problemsHolder.registerProblem(
                 it, "This value is overridden by a value below",
                 ProblemHighlightType.GENERIC_ERROR
@@ -124,57 +103,39 @@ class DataTable(private val keyRows: List<Key>, private val attrs: List<String>,
         }
     }
 
-    private fun analyzeProblems() {
-        keyRows.forEach { keyValue ->
-            val bitSet = ByteArray(attrs.size)
-
-            val row = Row(keyValue, bitSet, arrayOfNulls(attrs.size))
-            attrs.forEach { av ->
-                val valueGroups =
-                    attrsValues
-                        .asSequence()
-                        .filter { it.text == av }
-                        .filter { hasNoAppendModeModifier(it) }
-                        .flatMap { it.valueGroups }
-                        .filter { it.value != null }
-                        .filter {
-                            PsiTreeUtilExt.getLeafsOfAnyElementType(
-                                it.value!!,
-                                ImpExTypes.COLLECTION_APPEND_PREFIX,
-                                ImpExTypes.COLLECTION_REMOVE_PREFIX,
-                                ImpExTypes.COLLECTION_MERGE_PREFIX
-                            ).isEmpty()
-                        }
-                        .filter { valueGroup ->
-                            val commonContext = keyValue.keys.first()
-                                ?.let { PsiTreeUtil.findCommonContext(it, valueGroup) }
-                            commonContext != null && commonContext !is ImpExFile
-                        }
-                        .toList()
-
-                if (valueGroups.isNotEmpty()) {
-                    valueGroups.forEach { valueGroup ->
-                        if (valueGroup == null) {
-                            val indexOf = attrs.indexOfFirst { s -> s == av }
-                            if (indexOf > -1) {
-                                bitSet[indexOf] = 0
-                                row.valueGroup[indexOf] = null
-                            }
-                        } else {
-                            valueGroup.fullHeaderParameter
-                                ?.let { headerParameter ->
-                                    val indexOf = attrs.indexOfFirst { headerParameter.text == it }
-                                    if (indexOf > -1) {
-                                        bitSet[indexOf] = 1
-                                        row.valueGroup[indexOf] = valueGroup
-                                    }
-                                }
-                        }
-                    }
-                }
+    /**
+     * Value groups of the analyzed attributes with their column index, grouped by the value line in a single pass over the attributes.
+     */
+    private fun collectValueGroups(): Map<ImpExValueLine, List<Pair<Int, ImpExValueGroup>>> {
+        val valueGroupsPerLine = HashMap<ImpExValueLine, MutableList<Pair<Int, ImpExValueGroup>>>()
+
+        attrsValues
+            .asSequence()
+            .filter { it.text in attrIndexes }
+            .filter { hasNoAppendModeModifier(it) }
+            .flatMap { it.valueGroups }
+            .filter { it.value != null }
+            .filter {
+                PsiTreeUtilExt.getLeafsOfAnyElementType(
+                    it.value!!,
+                    ImpExTypes.COLLECTION_APPEND_PREFIX,
+                    ImpExTypes.COLLECTION_REMOVE_PREFIX,
+                    ImpExTypes.COLLECTION_MERGE_PREFIX
+                ).isEmpty()
             }
-            rows.add(row)
-        }
+            .filter { it.text.replace(";", "").isNotBlank() }
+            .forEach { valueGroup ->
+                val column = valueGroup.fullHeaderParameter
+                    ?.let { attrIndexes[it.text] }
+                    ?: return@forEach
+                val valueLine = valueGroup.valueLine
+                    ?: return@forEach
+
+                valueGroupsPerLine.computeIfAbsent(valueLine) { mutableListOf() }
+                    .add(column to valueGroup)
+            }
+
+        return valueGroupsPerLine
     }
 
     private fun hasNoAppendModeModifier(headerParameter: ImpExFullHeaderParameter) = !headerParameter.modifiersList
@@ -186,8 +147,6 @@ class DataTable(private val keyRows: List<Key>, private val attrs: List<String>,
 
 }
 
-class Row(val key: Key, val columns: ByteArray, val valueGroup: Array<PsiElement?>)
-
 class Key(val keys: List<PsiElement?>) {
     override fun toString(): String = keys.joinToString { "|" + it?.text }
 }
@@ -0,0 +1,172 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.impex.psi
+
+import com.intellij.openapi.util.Key
+import com.intellij.psi.util.CachedValue
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+import com.intellij.psi.util.startOffset
+import com.intellij.util.asSafely
+import java.util.IdentityHashMap
+import java.util.concurrent.atomic.AtomicReferenceArray
+
+/**
+ * Columnar index of the header and value lines of a single ImpEx file, computed once per file modification.
+ *
+ * Value groups and value lines are stored as arrays of their start offsets in the document order,
+ * so column number, value line and header line of any cell are resolved via binary search without per-element cached values.
+ */
+class ImpExColumnIndex private constructor(
+    val blocks: List<Block>,
+    private val lineOffsets: IntArray,
+    private val lineBlocks: IntArray,
+    private val cellOffsets: IntArray,
+    private val cellColumns: IntArray,
+) {
+
+    private val blocksByHeaderLine = blocks.associateBy { it.headerLine }
+
+    val headerLines: Map<ImpExHeaderLine, Collection<ImpExValueLine>> = blocks.associateTo(LinkedHashMap()) { it.headerLine to it.valueLines }
+
+    fun getBlock(headerLine: ImpExHeaderLine): Block? = blocksByHeaderLine[headerLine]
+
+    fun getBlock(valueLine: ImpExValueLine): Block? = lineOffsets.binarySearch(valueLine.startOffset)
+        .takeIf { it >= 0 }
+        ?.let { lineBlocks[it] }
+        ?.takeIf { it >= 0 }
+        ?.let { blocks[it] }
+
+    fun getColumnNumber(valueGroup: ImpExValueGroup): Int = cellOffsets.binarySearch(valueGroup.startOffset)
+        .takeIf { it >= 0 }
+        ?.let { cellColumns[it] }
+        ?: -1
+
+    class Block internal constructor(
+        val headerLine: ImpExHeaderLine,
+        val valueLines: List<ImpExValueLine>,
+    ) {
+        val fullHeaderParameters: List<ImpExFullHeaderParameter> = headerLine.fullHeaderParameterList
+        private val valueGroups = AtomicReferenceArray<List<ImpExValueGroup>>(fullHeaderParameters.size)
+        private val columnNumbers = IdentityHashMap<ImpExFullHeaderParameter, Int>(fullHeaderParameters.size).apply {
+            fullHeaderParameters.forEachIndexed { index, parameter -> putIfAbsent(parameter, index) }
+        }
+
+        fun getColumnNumber(fullHeaderParameter: ImpExFullHeaderParameter) = columnNumbers[fullHeaderParameter] ?: -1
+
+        /**
+         * Value groups of the column, collected on the first access.
+         */
+        fun getValueGroups(columnNumber: Int): List<ImpExValueGroup> {
+            if (columnNumber < 0 || columnNumber >= valueGroups.length()) return emptyList()
+
+            return valueGroups.get(columnNumber)
+                ?: valueLines
+                    .mapNotNull { valueGroup(it, columnNumber) }
+                    .also { valueGroups.compareAndSet(columnNumber, null, it) }
+        }
+
+        private fun valueGroup(valueLine: ImpExValueLine, columnNumber: Int): ImpExValueGroup? {
+            var column = 0
+            var child = valueLine.firstChild
+            while (child != null) {
+                if (child is ImpExValueGroup) {
+                    if (column == columnNumber) return child
+                    column++
+                }
+                child = child.nextSibling
+            }
+            return null
+        }
+    }
+
+    companion object {
+        private val CACHE_KEY_COLUMN_INDEX = Key.create<CachedValue<ImpExColumnIndex>>("SAP_CX_IMPEX_COLUMN_INDEX")
+
+        fun getInstance(file: ImpExFile): ImpExColumnIndex = CachedValuesManager.getManager(file.project).getCachedValue(file, CACHE_KEY_COLUMN_INDEX, {
+            CachedValueProvider.Result.create(build(file), file)
+        }, false)
+
+        fun getInstance(element: ImpExValueLine): ImpExColumnIndex? = element.containingFile
+            .asSafely<ImpExFile>()
+            ?.let { getInstance(it) }
+
+        fun getInstance(element: ImpExHeaderLine): ImpExColumnIndex? = element.containingFile
+            .asSafely<ImpExFile>()
+            ?.let { getInstance(it) }
+
+        private fun build(file: ImpExFile): ImpExColumnIndex {
+            val blocks = mutableListOf<Block>()
+            val lineOffsets = IntArrayBuilder()
+            val lineBlocks = IntArrayBuilder()
+            val cellOffsets = IntArrayBuilder()
+            val cellColumns = IntArrayBuilder()
+
+            var headerLine: ImpExHeaderLine? = null
+            var valueLines = mutableListOf<ImpExValueLine>()
+
+            fun completeBlock() {
+                headerLine?.let { blocks.add(Block(it, valueLines)) }
+            }
+
+            var child = file.firstChild
+            while (child != null) {
+                when (child) {
+                    is ImpExHeaderLine -> {
+                        completeBlock()
+                        headerLine = child
+                        valueLines = mutableListOf()
+                    }
+
+                    is ImpExValueLine -> {
+                        lineOffsets.add(child.startOffset)
+                        lineBlocks.add(if (headerLine != null) blocks.size else -1)
+                        if (headerLine != null) valueLines.add(child)
+
+                        var column = 0
+                        var valueGroup = child.firstChild
+                        while (valueGroup != null) {
+                            if (valueGroup is ImpExValueGroup) {
+                                cellOffsets.add(valueGroup.startOffset)
+                                cellColumns.add(column++)
+                            }
+                            valueGroup = valueGroup.nextSibling
+                        }
+                    }
+                }
+                child = child.nextSibling
+            }
+            completeBlock()
+
+            return ImpExColumnIndex(blocks, lineOffsets.build(), lineBlocks.build(), cellOffsets.build(), cellColumns.build())
+        }
+    }
+
+    private class IntArrayBuilder {
+        private var values = IntArray(64)
+        private var size = 0
+
+        fun add(value: Int) {
+            if (size == values.size) values = values.copyOf(size * 2)
+            values[size++] = value
+        }
+
+        fun build(): IntArray = values.copyOf(size)
+    }
+}
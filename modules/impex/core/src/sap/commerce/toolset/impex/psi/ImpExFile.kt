@@ -38,15 +38,7 @@ class ImpExFile(viewProvider: FileViewProvider) : PsiFileBase(viewProvider, ImpE
     override fun toString() = "ImpEx File"
     override fun getIcon(flags: Int) = super.getIcon(flags)
 
-    fun getHeaderLines(): Map<ImpExHeaderLine, Collection<ImpExValueLine>> = CachedValuesManager.getManager(project).getCachedValue(this, CACHE_KEY_HEADER_LINES, {
-        val headerLines = childrenOfType<ImpExHeaderLine>()
-            .associateWith { it.valueLines }
-
-        CachedValueProvider.Result.createSingleDependency(
-            headerLines,
-            PsiModificationTracker.MODIFICATION_COUNT,
-        )
-    }, false)
+    fun getHeaderLines(): Map<ImpExHeaderLine, Collection<ImpExValueLine>> = ImpExColumnIndex.getInstance(this).headerLines
 
     fun getExternalImpExFiles(): Collection<ImpExFile> = CachedValuesManager.getManager(project).getCachedValue(this, CACHE_KEY_EXTERNAL_FILES, {
         val externalImpExFiles = mutableListOf<ImpExFile>()
@@ -94,7 +86,6 @@ class ImpExFile(viewProvider: FileViewProvider) : PsiFileBase(viewProvider, ImpE
     }
 
     companion object {
-        val CACHE_KEY_HEADER_LINES = Key.create<CachedValue<Map<ImpExHeaderLine, Collection<ImpExValueLine>>>>("SAP_CX_IMPEX_HEADER_LINES")
         val CACHE_KEY_EXTERNAL_FILES = Key.create<CachedValue<Collection<ImpExFile>>>("SAP_CX_IMPEX_EXTERNAL_FILES")
 
         @Serial
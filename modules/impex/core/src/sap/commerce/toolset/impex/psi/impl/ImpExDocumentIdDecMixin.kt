@@ -21,7 +21,6 @@ package sap.commerce.toolset.impex.psi.impl
 import com.intellij.lang.ASTNode
 import com.intellij.psi.util.CachedValueProvider
 import com.intellij.psi.util.CachedValuesManager
-import com.intellij.psi.util.PsiModificationTracker
 import com.intellij.psi.util.parentOfType
 import sap.commerce.toolset.impex.psi.*
 import java.io.Serial
@@ -36,7 +35,7 @@ abstract class ImpExDocumentIdDecMixin(node: ASTNode) : ImpExPsiNamedElementMixi
             ?: emptyMap()
 
         CachedValueProvider.Result.create(
-            foundValues, PsiModificationTracker.MODIFICATION_COUNT
+            foundValues, containingFile
         )
     }
 
@@ -20,40 +20,23 @@ package sap.commerce.toolset.impex.psi.impl
 
 import com.intellij.extapi.psi.ASTWrapperPsiElement
 import com.intellij.lang.ASTNode
-import com.intellij.openapi.util.Key
-import com.intellij.psi.util.CachedValue
-import com.intellij.psi.util.CachedValueProvider
-import com.intellij.psi.util.CachedValuesManager
-import com.intellij.psi.util.PsiModificationTracker
 import sap.commerce.toolset.impex.constants.modifier.AttributeModifier
+import sap.commerce.toolset.impex.psi.ImpExColumnIndex
 import sap.commerce.toolset.impex.psi.ImpExFullHeaderParameter
 import sap.commerce.toolset.impex.psi.ImpExValueGroup
-import sap.commerce.toolset.impex.utils.ImpExPsiUtils
 import java.io.Serial
 
 abstract class ImpExFullHeaderParameterMixin(node: ASTNode) : ASTWrapperPsiElement(node), ImpExFullHeaderParameter {
 
-    override fun getColumnNumber(): Int = CachedValuesManager.getManager(project).getCachedValue(this, CACHE_KEY_COLUMN_NUMBER, {
-        val columnNumber = ImpExPsiUtils.getColumnNumber(this)
+    override fun getColumnNumber(): Int = headerLine
+        ?.let { ImpExColumnIndex.getInstance(it)?.getBlock(it) }
+        ?.getColumnNumber(this)
+        ?: -1
 
-        CachedValueProvider.Result.createSingleDependency(
-            columnNumber,
-            PsiModificationTracker.MODIFICATION_COUNT,
-        )
-    }, false)
-
-    override fun getValueGroups(): List<ImpExValueGroup> = CachedValuesManager.getManager(project).getCachedValue(this, CACHE_KEY_VALUE_GROUPS, {
-        val valueGroups = this
-            .headerLine
-            ?.valueLines
-            ?.mapNotNull { it.getValueGroup(this.columnNumber) }
-            ?: emptyList()
-
-        CachedValueProvider.Result.createSingleDependency(
-            valueGroups,
-            PsiModificationTracker.MODIFICATION_COUNT,
-        )
-    }, false)
+    override fun getValueGroups(): List<ImpExValueGroup> = headerLine
+        ?.let { ImpExColumnIndex.getInstance(it)?.getBlock(it) }
+        ?.let { it.getValueGroups(it.getColumnNumber(this)) }
+        ?: emptyList()
 
     override fun getAttributeValue(attributeModifier: AttributeModifier, defaultValue: String): String = getAttribute(attributeModifier)
         ?.anyAttributeValue
@@ -62,9 +45,6 @@ abstract class ImpExFullHeaderParameterMixin(node: ASTNode) : ASTWrapperPsiEleme
         ?: defaultValue
 
     companion object {
-        val CACHE_KEY_COLUMN_NUMBER = Key.create<CachedValue<Int>>("SAP_CX_IMPEX_COLUMN_NUMBER")
-        val CACHE_KEY_VALUE_GROUPS = Key.create<CachedValue<List<ImpExValueGroup>>>("SAP_CX_IMPEX_VALUE_GROUPS")
-
         @Serial
         private val serialVersionUID: Long = -4491471414641409161L
     }
@@ -22,6 +22,7 @@ import com.intellij.extapi.psi.ASTWrapperPsiElement
 import com.intellij.lang.ASTNode
 import com.intellij.openapi.util.Key
 import com.intellij.psi.util.*
+import sap.commerce.toolset.impex.psi.ImpExColumnIndex
 import sap.commerce.toolset.impex.psi.ImpExFullHeaderParameter
 import sap.commerce.toolset.impex.psi.ImpExHeaderLine
 import sap.commerce.toolset.impex.psi.ImpExValueLine
@@ -37,48 +38,22 @@ abstract class ImpExHeaderLineMixin(node: ASTNode) : ASTWrapperPsiElement(node),
 
             CachedValueProvider.Result.createSingleDependency(
                 fhp,
-                PsiModificationTracker.MODIFICATION_COUNT,
+                containingFile,
             )
 
         },
         false
     )[parameterName]
 
-    override fun getFullHeaderParameter(index: Int): ImpExFullHeaderParameter? = CachedValuesManager.getManager(project).getCachedValue(
-        this, CACHE_KEY_BY_INDEX,
-        {
-            val fhp = fullHeaderParameterList
-                .associateBy { it.columnNumber }
-
-            CachedValueProvider.Result.createSingleDependency(
-                fhp,
-                PsiModificationTracker.MODIFICATION_COUNT,
-            )
-        },
-        false
-    )[index]
-
-    override fun getValueLines(): Collection<ImpExValueLine> = CachedValuesManager.getManager(project).getCachedValue(this, CACHE_KEY_VALUE_LINES, {
-        val subTypesIterator = siblings(withSelf = false).iterator()
-        var proceed = true
-        val valueLines = mutableListOf<ImpExValueLine>()
+    override fun getFullHeaderParameter(index: Int): ImpExFullHeaderParameter? = fullHeaderParameterList.getOrNull(index)
 
-        while (proceed && subTypesIterator.hasNext()) {
-            when (val psi = subTypesIterator.next()) {
-                is ImpExHeaderLine -> proceed = false
-                is ImpExValueLine -> valueLines.add(psi)
-            }
-        }
-        CachedValueProvider.Result.createSingleDependency(
-            valueLines,
-            PsiModificationTracker.MODIFICATION_COUNT,
-        )
-    }, false)
+    override fun getValueLines(): Collection<ImpExValueLine> = ImpExColumnIndex.getInstance(this)
+        ?.getBlock(this)
+        ?.valueLines
+        ?: emptyList()
 
     companion object {
-        val CACHE_KEY_BY_INDEX = Key.create<CachedValue<Map<Int, ImpExFullHeaderParameter>>>("SAP_CX_IMPEX_FHP_BY_INDEX")
         val CACHE_KEY_BY_NAME = Key.create<CachedValue<Map<String, ImpExFullHeaderParameter>>>("SAP_CX_IMPEX_FHP_BY_NAME")
-        val CACHE_KEY_VALUE_LINES = Key.create<CachedValue<Collection<ImpExValueLine>>>("SAP_CX_IMPEX_VALUE_LINES")
 
         @Serial
         private val serialVersionUID: Long = -4491471414641409161L
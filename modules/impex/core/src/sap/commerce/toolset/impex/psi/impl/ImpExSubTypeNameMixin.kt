@@ -70,7 +70,7 @@ abstract class ImpExSubTypeNameMixin(node: ASTNode) : ASTWrapperReferencePsiElem
 
         CachedValueProvider.Result.createSingleDependency(
             valueLine,
-            PsiModificationTracker.MODIFICATION_COUNT,
+            containingFile,
         )
     }, false)
 
@@ -35,7 +35,7 @@ abstract class ImpExUserRightsFirstValueGroupMixin(node: ASTNode) : ASTWrapperPs
 
             CachedValueProvider.Result.createSingleDependency(
                 valueLine,
-                PsiModificationTracker.MODIFICATION_COUNT,
+                containingFile,
             )
         }, false
     )
@@ -20,49 +20,29 @@ package sap.commerce.toolset.impex.psi.impl
 
 import com.intellij.extapi.psi.ASTWrapperPsiElement
 import com.intellij.lang.ASTNode
-import com.intellij.openapi.util.Key
 import com.intellij.openapi.util.text.StringUtil
-import com.intellij.psi.util.*
 import sap.commerce.toolset.impex.constants.modifier.AttributeModifier
+import sap.commerce.toolset.impex.psi.ImpExColumnIndex
 import sap.commerce.toolset.impex.psi.ImpExFullHeaderParameter
 import sap.commerce.toolset.impex.psi.ImpExValueGroup
 import sap.commerce.toolset.impex.psi.ImpExValueLine
-import sap.commerce.toolset.impex.utils.ImpExPsiUtils
 import java.io.Serial
 
 abstract class ImpExValueGroupMixin(node: ASTNode) : ASTWrapperPsiElement(node), ImpExValueGroup {
 
-    override fun getValueLine(): ImpExValueLine? = CachedValuesManager.getManager(project).getCachedValue(this, CACHE_KEY_VALUE_LINE, {
-        val valueLine = PsiTreeUtil
-            .getParentOfType(this, ImpExValueLine::class.java)
+    override fun getValueLine(): ImpExValueLine? = parent as? ImpExValueLine
 
-        CachedValueProvider.Result.createSingleDependency(
-            valueLine,
-            PsiModificationTracker.MODIFICATION_COUNT,
-        )
-    }, false)
+    override fun getFullHeaderParameter(): ImpExFullHeaderParameter? = valueLine
+        ?.let { ImpExColumnIndex.getInstance(it)?.getBlock(it) }
+        ?.fullHeaderParameters
+        ?.getOrNull(columnNumber)
 
-    override fun getFullHeaderParameter(): ImpExFullHeaderParameter? = CachedValuesManager.getManager(project).getCachedValue(this, CACHE_KEY_FULL_HEADER_PARAMETER, {
-        val header = this.valueLine
-            ?.headerLine
-            ?.getFullHeaderParameter(this.columnNumber)
+    override fun getColumnNumber(): Int = valueLine
+        ?.let { ImpExColumnIndex.getInstance(it) }
+        ?.getColumnNumber(this)
+        ?: -1
 
-        CachedValueProvider.Result.createSingleDependency(
-            header,
-            PsiModificationTracker.MODIFICATION_COUNT,
-        )
-    }, false)
-
-    override fun getColumnNumber(): Int = CachedValuesManager.getManager(project).getCachedValue(this, CACHE_KEY_COLUMN_NUMBER, {
-        val columnNumber = ImpExPsiUtils.getColumnNumber(this)
-
-        CachedValueProvider.Result.createSingleDependency(
-            columnNumber,
-            PsiModificationTracker.MODIFICATION_COUNT,
-        )
-    }, false)
-
-    override fun computeValue(): String? = CachedValuesManager.getManager(project).getCachedValue(this, CACHE_KEY_VALUE_OR_DEFAULT, {
+    override fun computeValue(): String? {
         val computedValue = this
             .value
             ?.text
@@ -75,22 +55,12 @@ abstract class ImpExValueGroupMixin(node: ASTNode) : ASTWrapperPsiElement(node),
                         ?: it.text
                 }
 
-        val defaultValue = computedValue
+        return computedValue
             ?.let { StringUtil.unquoteString(it) }
             ?.trim()
-
-        CachedValueProvider.Result.createSingleDependency(
-            defaultValue,
-            PsiModificationTracker.MODIFICATION_COUNT,
-        )
-    }, false)
+    }
 
     companion object {
-        val CACHE_KEY_VALUE_LINE = Key.create<CachedValue<ImpExValueLine?>>("SAP_CX_IMPEX_VALUE_LINE")
-        val CACHE_KEY_FULL_HEADER_PARAMETER = Key.create<CachedValue<ImpExFullHeaderParameter?>>("SAP_CX_IMPEX_FULL_HEADER_PARAMETER")
-        val CACHE_KEY_COLUMN_NUMBER = Key.create<CachedValue<Int>>("SAP_CX_IMPEX_COLUMN_NUMBER")
-        val CACHE_KEY_VALUE_OR_DEFAULT = Key.create<CachedValue<String>>("SAP_CX_IMPEX_VALUE_OR_DEFAULT")
-
         @Serial
         private val serialVersionUID: Long = -4491471414641409161L
     }
@@ -20,36 +20,18 @@ package sap.commerce.toolset.impex.psi.impl
 
 import com.intellij.extapi.psi.ASTWrapperPsiElement
 import com.intellij.lang.ASTNode
-import com.intellij.openapi.util.Key
-import com.intellij.psi.util.CachedValue
-import com.intellij.psi.util.CachedValueProvider
-import com.intellij.psi.util.CachedValuesManager
-import com.intellij.psi.util.PsiModificationTracker
-import com.intellij.util.asSafely
-import sap.commerce.toolset.impex.psi.ImpExFile
+import sap.commerce.toolset.impex.psi.ImpExColumnIndex
 import sap.commerce.toolset.impex.psi.ImpExHeaderLine
 import sap.commerce.toolset.impex.psi.ImpExValueLine
 import java.io.Serial
 
 abstract class ImpExValueLineMixin(node: ASTNode) : ASTWrapperPsiElement(node), ImpExValueLine {
 
-    override fun getHeaderLine(): ImpExHeaderLine? = CachedValuesManager.getManager(project).getCachedValue(this, CACHE_KEY_HEADER_LINE, {
-        val headerLine = this.containingFile
-            .asSafely<ImpExFile>()
-            ?.getHeaderLines()
-            ?.entries
-            ?.find { it.value.contains(this) }
-            ?.key
-
-        CachedValueProvider.Result.createSingleDependency(
-            headerLine,
-            PsiModificationTracker.MODIFICATION_COUNT,
-        )
-    }, false)
+    override fun getHeaderLine(): ImpExHeaderLine? = ImpExColumnIndex.getInstance(this)
+        ?.getBlock(this)
+        ?.headerLine
 
     companion object {
-        val CACHE_KEY_HEADER_LINE = Key.create<CachedValue<ImpExHeaderLine?>>("SAP_CX_IMPEX_HEADER_LINE")
-
         @Serial
         private val serialVersionUID: Long = -4491471414641409161L
     }
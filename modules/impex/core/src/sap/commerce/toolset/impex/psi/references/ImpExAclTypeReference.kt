@@ -19,6 +19,7 @@ package sap.commerce.toolset.impex.psi.references
 
 import com.intellij.codeInsight.highlighting.HighlightedReference
 import com.intellij.openapi.progress.ProgressManager
+import com.intellij.openapi.project.Project
 import com.intellij.openapi.util.Key
 import com.intellij.psi.PsiElement
 import com.intellij.psi.ResolveResult
@@ -58,7 +59,7 @@ class ImpExAclTypeReference(owner: PsiElement) : TSReferenceBase<PsiElement>(own
             val project = ref.project
 
             val results: Array<ResolveResult> = TSMetaModelAccess.getInstance(project).findMetaItemByName(lookingForName)
-                ?.takeIf { getAllowedVariants(ref.element).contains(it) }
+                ?.takeIf { isAllowedVariant(project, it) }
                 ?.declarations
                 ?.map { meta -> ItemResolveResult(meta) }
                 ?.toTypedArray()
@@ -76,7 +77,11 @@ class ImpExAclTypeReference(owner: PsiElement) : TSReferenceBase<PsiElement>(own
                 findMetaItemByName(HybrisConstants.TS_TYPE_USER_GROUP),
                 findMetaItemByName(HybrisConstants.TS_TYPE_USER)
             )
-                .flatMap { it.hierarchy }
+                .flatMap { getAllSubtypes(it) }
+        }
+
+        private fun isAllowedVariant(project: Project, meta: TSGlobalMetaItem) = with(TSMetaModelAccess.getInstance(project)) {
+            isSubtypeOf(meta.name, HybrisConstants.TS_TYPE_USER_GROUP, true) || isSubtypeOf(meta.name, HybrisConstants.TS_TYPE_USER, true)
         }
     }
 }
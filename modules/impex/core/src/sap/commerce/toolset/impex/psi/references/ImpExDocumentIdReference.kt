@@ -32,6 +32,7 @@ import sap.commerce.toolset.impex.psi.ImpExDocumentIdDec
 import sap.commerce.toolset.impex.psi.ImpExDocumentIdUsage
 import sap.commerce.toolset.psi.getValidResults
 import sap.commerce.toolset.typeSystem.meta.TSMetaModelAccess
+import sap.commerce.toolset.typeSystem.meta.TSModificationTracker
 
 class ImpExDocumentIdReference(impexDocumentId: ImpExDocumentIdUsage) : PsiReferenceBase.Poly<PsiElement>(impexDocumentId, false) {
 
@@ -64,7 +65,7 @@ class ImpExDocumentIdReference(impexDocumentId: ImpExDocumentIdUsage) : PsiRefer
 
             CachedValueProvider.Result.create(
                 result,
-                PsiModificationTracker.MODIFICATION_COUNT
+                element.containingFile
             )
         }
 
@@ -85,7 +86,7 @@ class ImpExDocumentIdReference(impexDocumentId: ImpExDocumentIdUsage) : PsiRefer
                 }
                 .toTypedArray()
 
-            CachedValueProvider.Result.create(lookupElements, PsiModificationTracker.MODIFICATION_COUNT)
+            CachedValueProvider.Result.create(lookupElements, ref.element.containingFile, TSModificationTracker.getInstance(ref.element.project))
         }
     }
 }
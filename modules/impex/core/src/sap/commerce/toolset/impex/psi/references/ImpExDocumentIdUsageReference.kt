@@ -33,6 +33,7 @@ import sap.commerce.toolset.impex.psi.ImpExDocumentIdDec
 import sap.commerce.toolset.impex.psi.ImpExDocumentIdUsage
 import sap.commerce.toolset.impex.psi.ImpExValue
 import sap.commerce.toolset.typeSystem.meta.TSMetaModelAccess
+import sap.commerce.toolset.typeSystem.meta.TSModificationTracker
 
 class ImpExDocumentIdUsageReference(
     private val impexValue: ImpExValue,
@@ -55,7 +56,7 @@ class ImpExDocumentIdUsageReference(
         private val PROVIDER_LOOKUP_ELEMENTS = ParameterizedCachedValueProvider<Array<LookupElementBuilder>, ImpExDocumentIdUsageReference> { ref ->
             val fullHeaderParameter = ref.impexValue.valueGroup
                 ?.fullHeaderParameter
-                ?: return@ParameterizedCachedValueProvider CachedValueProvider.Result.create(emptyArray(), PsiModificationTracker.MODIFICATION_COUNT)
+                ?: return@ParameterizedCachedValueProvider CachedValueProvider.Result.create(emptyArray(), ref.element.containingFile)
 
             val lookupElements = fullHeaderParameter
                 .parametersList
@@ -87,7 +88,7 @@ class ImpExDocumentIdUsageReference(
                 ?.toTypedArray()
                 ?: emptyArray()
 
-            CachedValueProvider.Result.create(lookupElements, PsiModificationTracker.MODIFICATION_COUNT)
+            CachedValueProvider.Result.create(lookupElements, ref.element.containingFile, TSModificationTracker.getInstance(ref.element.project))
         }
 
         private val PROVIDER_RESOLVED_RESULTS = ParameterizedCachedValueProvider<Array<ResolveResult>, ImpExDocumentIdUsageReference> { ref ->
@@ -112,7 +113,7 @@ class ImpExDocumentIdUsageReference(
 
             CachedValueProvider.Result.create(
                 results,
-                PsiModificationTracker.MODIFICATION_COUNT,
+                ref.element.containingFile,
             )
         }
     }
@@ -25,6 +25,7 @@ import com.intellij.psi.PsiElementResolveResult
 import com.intellij.psi.PsiReferenceBase
 import com.intellij.psi.ResolveResult
 import com.intellij.psi.util.*
+import com.intellij.util.asSafely
 import sap.commerce.toolset.impex.lang.refactoring.ImpExPsiElementManipulator
 import sap.commerce.toolset.impex.psi.ImpExFile
 import sap.commerce.toolset.impex.psi.ImpExMacroDeclaration
@@ -58,7 +59,7 @@ class ImpExMacroReference(owner: PsiElement) : PsiReferenceBase.Poly<PsiElement?
             ?: findExternalMacroDeclaration(text)
     }
 
-    private fun findExternalMacroDeclaration(text: String) = (element.containingFile as ImpExFile).getExternalImpExFiles()
+    private fun findExternalMacroDeclaration(text: String) = externalImpExFiles(element)
         .map { PsiTreeUtil.findChildrenOfType(it, ImpExMacroDeclaration::class.java) }
         .flatMap { it.reversed() }
         .find { text.startsWith(escapeName(it.macroNameDec.text)) }
@@ -70,14 +71,18 @@ class ImpExMacroReference(owner: PsiElement) : PsiReferenceBase.Poly<PsiElement?
             .replace("\\", "")
             .replace("\n", "")
 
+        private fun externalImpExFiles(element: PsiElement) = element.containingFile.asSafely<ImpExFile>()?.getExternalImpExFiles() ?: emptyList()
+
         private val provider = ParameterizedCachedValueProvider<Array<ResolveResult>, ImpExMacroReference> { ref ->
             val result = ref.findMacroDeclaration()
                 ?.let { PsiElementResolveResult.createResults(it.macroNameDec) }
                 ?: ResolveResult.EMPTY_ARRAY
 
+            // macros are declared either in the same file or in the external ImpEx files included by it
             CachedValueProvider.Result.create(
                 result,
-                PsiModificationTracker.MODIFICATION_COUNT
+                ref.element.containingFile,
+                *externalImpExFiles(ref.element).toTypedArray()
             )
         }
     }
@@ -59,7 +59,7 @@ class ImpExTSSubTypeItemReference(owner: ImpExSubTypeName) : TSReferenceBase<Imp
             val metaService = TSMetaModelAccess.getInstance(project)
 
             val result: Array<ResolveResult> = metaService.findMetaItemByName(lookingForName)
-                ?.takeIf { getAllowedVariants(ref.element).contains(it) }
+                ?.takeIf { metaService.isSubtypeOf(it.name, ref.element.headerTypeName?.text, true) }
                 ?.declarations
                 ?.map { ItemResolveResult(it) }
                 ?.toTypedArray()
@@ -75,7 +75,7 @@ class ImpExTSSubTypeItemReference(owner: ImpExSubTypeName) : TSReferenceBase<Imp
         private fun getAllowedVariants(element: ImpExSubTypeName): Collection<TSGlobalMetaItem> = element.headerTypeName
             ?.text
             ?.let { TSMetaModelAccess.getInstance(element.project).findMetaItemByName(it) }
-            ?.hierarchy
+            ?.let { TSMetaModelAccess.getInstance(element.project).getAllSubtypes(it) }
             ?: emptyList()
 
     }
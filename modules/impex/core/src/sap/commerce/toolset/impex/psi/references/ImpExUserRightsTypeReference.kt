@@ -20,6 +20,7 @@ package sap.commerce.toolset.impex.psi.references
 
 import com.intellij.codeInsight.highlighting.HighlightedReference
 import com.intellij.openapi.progress.ProgressManager
+import com.intellij.openapi.project.Project
 import com.intellij.openapi.util.Key
 import com.intellij.psi.PsiElement
 import com.intellij.psi.ResolveResult
@@ -59,7 +60,7 @@ class ImpExUserRightsTypeReference(owner: PsiElement) : TSReferenceBase<PsiEleme
             val project = ref.project
 
             val results: Array<ResolveResult> = TSMetaModelAccess.getInstance(project).findMetaItemByName(lookingForName)
-                ?.takeIf { getAllowedVariants(ref.element).contains(it) }
+                ?.takeIf { isAllowedVariant(project, it) }
                 ?.declarations
                 ?.map { meta -> ItemResolveResult(meta) }
                 ?.toTypedArray()
@@ -77,7 +78,11 @@ class ImpExUserRightsTypeReference(owner: PsiElement) : TSReferenceBase<PsiEleme
                 findMetaItemByName(HybrisConstants.TS_TYPE_USER_GROUP),
                 findMetaItemByName(HybrisConstants.TS_TYPE_USER)
             )
-                .flatMap { it.hierarchy }
+                .flatMap { getAllSubtypes(it) }
+        }
+
+        private fun isAllowedVariant(project: Project, meta: TSGlobalMetaItem) = with(TSMetaModelAccess.getInstance(project)) {
+            isSubtypeOf(meta.name, HybrisConstants.TS_TYPE_USER_GROUP, true) || isSubtypeOf(meta.name, HybrisConstants.TS_TYPE_USER, true)
         }
     }
 }
\ No newline at end of file
@@ -80,7 +80,7 @@ class ImpExValueTSClassifierReference(
 
             CachedValueProvider.Result.create(
                 results,
-                TSModificationTracker.getInstance(project), PsiModificationTracker.MODIFICATION_COUNT,
+                TSModificationTracker.getInstance(project), ref.element.containingFile,
             )
         }
     }
@@ -84,7 +84,7 @@ abstract class ImpExValueTSEnumReference(
 
             CachedValueProvider.Result.create(
                 result,
-                TSModificationTracker.getInstance(project), PsiModificationTracker.MODIFICATION_COUNT,
+                TSModificationTracker.getInstance(project), ref.element.containingFile,
             )
         }
     }
@@ -395,40 +395,6 @@ public final class ImpExPsiUtils {
         return PsiTreeUtil.getParentOfType(PsiTreeUtil.lastChild(prevSibling), ImpExValueGroup.class);
     }
 
-    @Contract(pure = true)
-    public static int getColumnNumber(@NotNull final ImpExValueGroup valueGroup) {
-        final List<ImpExValueGroup> valueGroups = PsiTreeUtil.getChildrenOfTypeAsList(valueGroup.getValueLine(), ImpExValueGroup.class);
-
-        int columnNumber = 0;
-
-        for (ImpExValueGroup group : valueGroups) {
-            if (group == valueGroup) {
-                return columnNumber;
-            }
-
-            columnNumber++;
-        }
-
-        return -1;
-    }
-
-    @Contract(pure = true)
-    public static int getColumnNumber(@NotNull final ImpExFullHeaderParameter element) {
-        final List<ImpExFullHeaderParameter> groups = PsiTreeUtil.getChildrenOfTypeAsList(element.getHeaderLine(), ImpExFullHeaderParameter.class);
-
-        int columnNumber = 0;
-
-        for (ImpExFullHeaderParameter group : groups) {
-            if (group == element) {
-                return columnNumber;
-            }
-
-            columnNumber++;
-        }
-
-        return -1;
-    }
-
     @Nullable
     @Contract(pure = true)
     public static ImpExFullHeaderParameter getImpexFullHeaderParameterFromHeaderLineByNumber(
@@ -0,0 +1,122 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.impex.exec
+
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.text.StringUtil
+import com.intellij.psi.PsiComment
+import com.intellij.psi.PsiElement
+import com.intellij.psi.PsiFileFactory
+import com.intellij.psi.PsiWhiteSpace
+import com.intellij.psi.impl.source.tree.LeafPsiElement
+import com.intellij.psi.util.PsiTreeUtil
+import sap.commerce.toolset.impex.ImpExLanguage
+import sap.commerce.toolset.impex.exec.context.ImpExChunk
+import sap.commerce.toolset.impex.psi.*
+
+/**
+ * Splits ImpEx script into header-preserving chunks, each chunk contains all macro declarations preceding it.
+ *
+ * Scripts with document ids, scripting blocks or unrecognized statements are not split,
+ * as their semantics depend on the whole script being imported at once.
+ */
+object ImpExChunkSplitter {
+
+    /**
+     * Must be invoked within the read action.
+     *
+     * @return chunks or `null` if script cannot or need not be split
+     */
+    fun split(project: Project, content: String, chunkSize: Int): List<ImpExChunk>? {
+        if (chunkSize <= 0) return null
+
+        val file = PsiFileFactory.getInstance(project).createFileFromText("chunks.impex", ImpExLanguage, content) as? ImpExFile
+            ?: return null
+
+        if (PsiTreeUtil.findChildOfAnyType(file, ImpExDocumentIdDec::class.java, ImpExScript::class.java, ImpExBeanShell::class.java) != null) return null
+
+        val chunks = mutableListOf<ImpExChunk>()
+        val prelude = StringBuilder()
+        val valueLines = mutableListOf<PsiElement>()
+        var headerLine: String? = null
+        var block = 0
+
+        fun addChunk(text: String, first: PsiElement, last: PsiElement) {
+            chunks.add(
+                ImpExChunk(
+                    index = chunks.size,
+                    block = block,
+                    content = "$prelude$text",
+                    firstLine = StringUtil.offsetToLineNumber(content, first.textRange.startOffset) + 1,
+                    lastLine = StringUtil.offsetToLineNumber(content, last.textRange.endOffset) + 1,
+                )
+            )
+        }
+
+        fun flush() {
+            val header = headerLine ?: return
+            if (valueLines.isEmpty()) return
+
+            addChunk(valueLines.joinTo(StringBuilder(header).append('\n'), "\n") { it.text }.toString(), valueLines.first(), valueLines.last())
+            valueLines.clear()
+        }
+
+        for (child in file.children) {
+            when (child) {
+                is PsiWhiteSpace, is PsiComment, is ImpExComment -> Unit
+
+                // line breaks and other tokens placed directly under the file, i.e. `;` after the root string
+                is LeafPsiElement -> Unit
+
+                // root strings are not imported outside of the header block, but would become value lines within it
+                is ImpExString -> if (headerLine != null) return null
+
+                is ImpExMacroDeclaration -> {
+                    flush()
+                    prelude.append(child.text).append('\n')
+                }
+
+                is ImpExHeaderLine -> {
+                    flush()
+                    headerLine = child.text
+                    block++
+                }
+
+                is ImpExValueLine -> {
+                    if (headerLine == null) return null
+
+                    valueLines.add(child)
+                    if (valueLines.size >= chunkSize) flush()
+                }
+
+                is ImpExUserRights -> {
+                    flush()
+                    headerLine = null
+                    block++
+                    addChunk(child.text, child, child)
+                }
+
+                else -> return null
+            }
+        }
+        flush()
+
+        return chunks.takeIf { it.size > 1 }
+    }
+}
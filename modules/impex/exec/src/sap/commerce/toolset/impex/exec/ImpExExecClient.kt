@@ -18,11 +18,16 @@
 
 package sap.commerce.toolset.impex.exec
 
+import com.intellij.openapi.application.readAction
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
 import com.intellij.openapi.diagnostic.thisLogger
 import com.intellij.openapi.project.Project
-import kotlinx.coroutines.CoroutineScope
+import com.intellij.platform.ide.progress.withBackgroundProgress
+import com.intellij.platform.util.progress.reportRawProgress
+import kotlinx.coroutines.*
+import kotlinx.coroutines.sync.Semaphore
+import kotlinx.coroutines.sync.withPermit
 import org.apache.http.HttpStatus
 import org.apache.http.message.BasicNameValuePair
 import org.jsoup.Jsoup
@@ -30,12 +35,17 @@ import org.jsoup.nodes.Document
 import org.jsoup.nodes.Element
 import sap.commerce.toolset.exec.DefaultExecClient
 import sap.commerce.toolset.exec.context.DefaultExecResult
+import sap.commerce.toolset.exec.metrics.ExecPhase
+import sap.commerce.toolset.exec.metrics.ExecTrace
 import sap.commerce.toolset.hac.exec.http.HacHttpClient
+import sap.commerce.toolset.impex.exec.context.ImpExChunk
 import sap.commerce.toolset.impex.exec.context.ImpExExecContext
 import sap.commerce.toolset.impex.exec.context.ImpExExecutionMode
 import java.io.IOException
 import java.io.Serial
 import java.nio.charset.StandardCharsets
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
 
 @Service(Service.Level.PROJECT)
 class ImpExExecClient(project: Project, coroutineScope: CoroutineScope) : DefaultExecClient<ImpExExecContext>(project, coroutineScope) {
@@ -60,7 +70,9 @@ class ImpExExecClient(project: Project, coroutineScope: CoroutineScope) : Defaul
         )
 
         try {
-            val document = Jsoup.parse(response.entity.content, StandardCharsets.UTF_8.name(), "")
+            val document = ExecTrace.measure(ExecPhase.PARSE) {
+                Jsoup.parse(response.entity.content, StandardCharsets.UTF_8.name(), "")
+            }
 
             return when (context.executionMode) {
                 ImpExExecutionMode.IMPORT -> processResponse(document, "impexResult") { element ->
@@ -95,6 +107,106 @@ class ImpExExecClient(project: Project, coroutineScope: CoroutineScope) : Defaul
         }
     }
 
+    /**
+     * Imports large script in chunks, see [ImpExChunkSplitter].
+     *
+     * Header blocks are imported one after another, chunks of the same block - with up to [ImpExExecContext.parallelChunks] requests at once.
+     * Import stops on the first failed block; chunks listed in [completedChunks] are skipped, so re-execution resumes from the failed chunk.
+     * Keys of all successfully imported chunks are passed to the [resultCallback].
+     */
+    fun executeChunked(
+        context: ImpExExecContext,
+        content: String,
+        completedChunks: Set<String>,
+        resultCallback: (CoroutineScope, DefaultExecResult, Set<String>) -> Unit,
+    ) {
+        coroutineScope.launch {
+            val chunks = readAction { ImpExChunkSplitter.split(project, content, context.chunkSize) }
+
+            if (chunks == null || context.executionMode != ImpExExecutionMode.IMPORT) {
+                execute(context) { coroutineScope, result -> resultCallback(coroutineScope, result, emptySet()) }
+                return@launch
+            }
+
+            val skipped = chunks.count { it.key in completedChunks }
+            val imported = ConcurrentHashMap.newKeySet<String>().apply {
+                chunks.filter { it.key in completedChunks }.forEach { add(it.key) }
+            }
+            val result = try {
+                withBackgroundProgress(project, context.executionTitle, true) {
+                    reportRawProgress { reporter ->
+                        val processed = AtomicInteger()
+                        val semaphore = Semaphore(context.parallelChunks.coerceAtLeast(1))
+
+                        for (blockChunks in chunks.groupBy { it.block }.values) {
+                            val failed = blockChunks
+                                .map { chunk ->
+                                    async(Dispatchers.IO) {
+                                        val chunkResult = if (chunk.key in imported) null
+                                        else semaphore.withPermit { importChunk(context, chunk) }
+
+                                        if (chunkResult == null) imported.add(chunk.key)
+
+                                        val done = processed.incrementAndGet()
+                                        reporter.fraction(done.toDouble() / chunks.size)
+                                        reporter.details("Chunk $done of ${chunks.size}")
+
+                                        chunkResult?.let { chunk to it }
+                                    }
+                                }
+                                .awaitAll()
+                                .filterNotNull()
+                                .minByOrNull { it.first.index }
+
+                            if (failed != null) return@reportRawProgress chunkFailure(failed.first, chunks.size, failed.second)
+                        }
+
+                        DefaultExecResult(
+                            output = "Imported ${chunks.size} chunks" + (skipped.takeIf { it > 0 }
+                                ?.let { ", $it of them skipped as imported during the previous execution" }
+                                ?: "")
+                        )
+                    }
+                }
+            } catch (e: CancellationException) {
+                // rethrow if not the import itself but the whole scope is cancelled
+                ensureActive()
+
+                DefaultExecResult(
+                    errorMessage = "Import was cancelled after ${imported.size} of ${chunks.size} chunks. Execute again to resume."
+                )
+            }
+
+            resultCallback(this, result, imported)
+        }
+    }
+
+    /**
+     * @return `null` if chunk was imported successfully, otherwise result with the error
+     */
+    private suspend fun importChunk(context: ImpExExecContext, chunk: ImpExChunk): DefaultExecResult? {
+        val chunkContext = context.copy(content = chunk.content)
+        val result = traced(chunkContext) {
+            try {
+                execute(chunkContext)
+            } catch (e: CancellationException) {
+                throw e
+            } catch (e: Exception) {
+                thisLogger().warn(e.message, e)
+                onError(chunkContext, e)
+            }
+        }
+
+        return result.takeIf { it.hasError || it.statusCode != HttpStatus.SC_OK }
+    }
+
+    private fun chunkFailure(chunk: ImpExChunk, chunks: Int, result: DefaultExecResult) = DefaultExecResult(
+        statusCode = result.statusCode,
+        errorMessage = "Chunk ${chunk.index + 1} of $chunks (lines ${chunk.firstLine}-${chunk.lastLine}) failed: ${result.errorMessage ?: "No data in response"}. "
+            + "Execute again to resume from the failed chunk.",
+        errorDetailMessage = result.errorDetailMessage
+    )
+
     private fun processResponse(document: Document, id: String, mapper: (Element) -> DefaultExecResult) = document.getElementById(id)
         ?.takeIf { it.hasAttr("data-level") && it.hasAttr("data-result") }
         ?.let { mapper.invoke(it) }
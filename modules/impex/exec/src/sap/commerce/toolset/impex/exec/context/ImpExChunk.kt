@@ -0,0 +1,39 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.impex.exec.context
+
+import com.intellij.util.io.DigestUtil
+
+/**
+ * Part of the ImpEx script which can be imported on its own: all preceding macro declarations, header line and a subset of its value lines.
+ *
+ * [block] identifies the header block, chunks of different blocks must be imported in order.
+ */
+data class ImpExChunk(
+    val index: Int,
+    val block: Int,
+    val content: String,
+    val firstLine: Int,
+    val lastLine: Int,
+) {
+    /**
+     * Identifies chunk by its position and content, used to skip already imported chunks on resume.
+     */
+    val key: String by lazy { "$index:${DigestUtil.sha256Hex(content.toByteArray())}" }
+}
@@ -25,7 +25,7 @@ import sap.commerce.toolset.hac.exec.settings.state.HacConnectionSettingsState
 import java.nio.charset.StandardCharsets
 
 data class ImpExExecContext(
-    val connection: HacConnectionSettingsState,
+    override val connection: HacConnectionSettingsState,
     private val content: String = "",
     val dialect: ImpExDialect = ImpExDialect.IMPEX,
     val executionMode: ImpExExecutionMode = ImpExExecutionMode.IMPORT,
@@ -37,6 +37,8 @@ data class ImpExExecContext(
     val enableCodeExecution: ImpExToggle,
     val sldEnabled: ImpExToggle,
     val distributedMode: ImpExToggle,
+    val chunkSize: Int = DEFAULT_CHUNK_SIZE,
+    val parallelChunks: Int = DEFAULT_PARALLEL_CHUNKS,
 ) : ExecContext {
 
     constructor(
@@ -57,6 +59,8 @@ data class ImpExExecContext(
         enableCodeExecution = settings.enableCodeExecution,
         sldEnabled = settings.sldEnabled,
         distributedMode = settings.distributedMode,
+        chunkSize = settings.chunkSize,
+        parallelChunks = settings.parallelChunks,
     )
 
     override val executionTitle: String
@@ -88,6 +92,8 @@ data class ImpExExecContext(
         val enableCodeExecution: ImpExToggle,
         val sldEnabled: ImpExToggle,
         val distributedMode: ImpExToggle,
+        val chunkSize: Int = DEFAULT_CHUNK_SIZE,
+        val parallelChunks: Int = DEFAULT_PARALLEL_CHUNKS,
     ) : ExecContext.Settings {
         override fun mutable() = Mutable(
             validationMode = validationMode,
@@ -98,6 +104,8 @@ data class ImpExExecContext(
             enableCodeExecution = enableCodeExecution,
             sldEnabled = sldEnabled,
             distributedMode = distributedMode,
+            chunkSize = chunkSize,
+            parallelChunks = parallelChunks,
         )
 
         data class Mutable(
@@ -109,6 +117,8 @@ data class ImpExExecContext(
             var enableCodeExecution: ImpExToggle,
             var sldEnabled: ImpExToggle,
             var distributedMode: ImpExToggle,
+            var chunkSize: Int,
+            var parallelChunks: Int,
         ) : ExecContext.Settings.Mutable {
             override fun immutable() = Settings(
                 validationMode = validationMode,
@@ -119,12 +129,16 @@ data class ImpExExecContext(
                 enableCodeExecution = enableCodeExecution,
                 sldEnabled = sldEnabled,
                 distributedMode = distributedMode,
+                chunkSize = chunkSize,
+                parallelChunks = parallelChunks,
             )
         }
     }
 
     companion object {
         val KEY_EXECUTION_SETTINGS = Key.create<Settings>("sap.cx.impex.execution.settings")
+        const val DEFAULT_CHUNK_SIZE = 5000
+        const val DEFAULT_PARALLEL_CHUNKS = 1
 
         fun defaultSettings(connectionSettings: HacConnectionSettingsState): Settings =
             Settings(
@@ -26,6 +26,10 @@ import com.intellij.openapi.util.io.FileUtil
 import com.intellij.ui.SimpleListCellRenderer
 import com.intellij.ui.dsl.builder.panel
 import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.isActive
+import kotlinx.coroutines.launch
 import sap.commerce.toolset.HybrisConstants
 import sap.commerce.toolset.HybrisIcons
 import sap.commerce.toolset.console.HybrisConsole
@@ -35,19 +39,22 @@ import sap.commerce.toolset.impex.ImpExLanguage
 import sap.commerce.toolset.impex.file.ImpExFileType
 import sap.commerce.toolset.impex.monitoring.exec.ImpExMonitorExecClient
 import sap.commerce.toolset.impex.monitoring.exec.context.ImpExMonitorExecContext
+import sap.commerce.toolset.impex.monitoring.exec.context.ImpExMonitorExecResult
 import sap.commerce.toolset.impex.monitoring.exec.context.TimeOption
 import sap.commerce.toolset.project.settings.ProjectSettings
 import java.awt.BorderLayout
 import java.io.File
 import java.io.Serial
 import java.util.concurrent.TimeUnit
+import kotlin.time.Duration.Companion.seconds
 
 class HybrisImpExMonitorConsole(
     project: Project,
-    coroutineScope: CoroutineScope
+    private val coroutineScope: CoroutineScope
 ) : HybrisConsole<ImpExMonitorExecContext>(project, "[y] Monitor Console", ImpExLanguage, coroutineScope) {
 
     private lateinit var timeComboBox: ComboBox<TimeOption>
+    private var followJob: Job? = null
 
     init {
         isConsoleEditorEnabled = false
@@ -67,6 +74,10 @@ class HybrisImpExMonitorConsole(
                     .label("Show last:")
                     .component
 
+                checkBox("Follow")
+                    .comment("Append new imported data as it is written")
+                    .onChanged { follow(it.isSelected) }
+
                 label("Data folder: ${obtainDataFolder(project)}")
             }
         }
@@ -84,9 +95,15 @@ class HybrisImpExMonitorConsole(
     }
 
     override fun printResult(result: ConsoleAwareExecResult) {
+        if (result is ImpExMonitorExecResult && result.incremental) {
+            result.output?.let { ConsoleViewUtil.printAsFileType(this, it, ImpExFileType) }
+            return
+        }
+
         clear()
         when {
-            result.output != null -> ConsoleViewUtil.printAsFileType(this, text, ImpExFileType)
+            result.hasError -> ConsoleViewUtil.printAsFileType(this, result.errorMessage!!, PlainTextFileType.INSTANCE)
+            result.output != null -> ConsoleViewUtil.printAsFileType(this, result.output!!, ImpExFileType)
             else -> {
                 val timeOption = timeComboBox.selectedItem as TimeOption
                 ConsoleViewUtil.printAsFileType(this, "No imported ImpEx files found ${timeOption.name}.", PlainTextFileType.INSTANCE)
@@ -109,9 +126,35 @@ class HybrisImpExMonitorConsole(
 
     override fun activeConnection(): ExecConnectionSettingsState? = null
 
+    override fun dispose() {
+        followJob?.cancel()
+        super.dispose()
+    }
+
+    private fun follow(enabled: Boolean) {
+        followJob?.cancel()
+        followJob = null
+
+        if (!enabled) return
+
+        val followContext = context
+        followJob = coroutineScope.launch {
+            val client = ImpExMonitorExecClient.getInstance(project)
+
+            while (isActive) {
+                // continues from the last execution, if any, otherwise reads the data folder first
+                val result = client.follow(followContext)
+                if (!result.incremental || result.output != null) print(result)
+
+                delay(FOLLOW_INTERVAL)
+            }
+        }
+    }
+
     companion object {
         @Serial
         private const val serialVersionUID: Long = -590295893051058799L
+        private val FOLLOW_INTERVAL = 2.seconds
     }
 
 }
\ No newline at end of file
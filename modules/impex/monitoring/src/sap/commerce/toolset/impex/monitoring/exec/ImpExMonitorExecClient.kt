@@ -18,49 +18,75 @@
 
 package sap.commerce.toolset.impex.monitoring.exec
 
+import com.intellij.openapi.Disposable
 import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
 import com.intellij.openapi.project.Project
+import kotlinx.coroutines.CancellationException
 import kotlinx.coroutines.CoroutineScope
-import org.apache.http.HttpStatus
-import sap.commerce.toolset.exec.DefaultExecClient
-import sap.commerce.toolset.exec.context.DefaultExecResult
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.withContext
+import sap.commerce.toolset.exec.ExecClient
 import sap.commerce.toolset.impex.monitoring.exec.context.ImpExMonitorExecContext
-import java.io.File
+import sap.commerce.toolset.impex.monitoring.exec.context.ImpExMonitorExecResult
 import java.io.Serial
 import java.time.Instant
-import java.time.LocalDateTime
-import java.time.ZoneId
+import kotlin.io.path.Path
 
 @Service(Service.Level.PROJECT)
-class ImpExMonitorExecClient(project: Project, coroutineScope: CoroutineScope) : DefaultExecClient<ImpExMonitorExecContext>(project, coroutineScope) {
+class ImpExMonitorExecClient(project: Project, coroutineScope: CoroutineScope) : ExecClient<ImpExMonitorExecContext, ImpExMonitorExecResult>(project, coroutineScope),
+    Disposable {
 
-    override suspend fun execute(context: ImpExMonitorExecContext): DefaultExecResult {
-        val unit = context.timeOption.unit
-        val duration = context.timeOption.value.toLong()
-        val minutesAgo = LocalDateTime.now().minusMinutes(unit.toMinutes(duration))
-        val out = StringBuilder()
-        File(context.workingDir).walk()
-            .filter { file -> file.extension == "bin" }
-            .filter { file -> file.lastModified().toLocalDateTime().isAfter(minutesAgo) }
-            .sortedBy { it.lastModified() }
-            .forEach {
-                val header = "# File Path:  ${it.path}\n# file modified: ${it.lastModified().toLocalDateTime()}"
-                out.append("\n#" + "-".repeat(header.length - 1) + "\n")
-                out.append(header)
-                out.append("\n#" + "-".repeat(header.length - 1) + "\n")
-                out.append("\n${it.readText()}\n")
+    private val lock = Any()
+    private var tail: ImpExMonitorTail? = null
+
+    override suspend fun onError(context: ImpExMonitorExecContext, exception: Throwable) = ImpExMonitorExecResult(
+        errorMessage = exception.message,
+        errorDetailMessage = exception.stackTraceToString(),
+    )
+
+    override suspend fun execute(context: ImpExMonitorExecContext) = withContext(Dispatchers.IO) {
+        val workingDir = Path(context.workingDir)
+
+        synchronized(lock) {
+            val currentTail = tail
+                ?.takeIf { context.incremental && it.workingDir == workingDir }
+
+            if (currentTail != null) ImpExMonitorExecResult(
+                output = currentTail.poll(),
+                incremental = true,
+            )
+            else {
+                val unit = context.timeOption.unit
+                val duration = context.timeOption.value.toLong()
+                val since = Instant.now().minusMillis(unit.toMillis(duration))
+
+                tail?.close()
+
+                ImpExMonitorExecResult(
+                    output = ImpExMonitorTail(workingDir, since)
+                        .also { tail = it }
+                        .read()
+                )
             }
+        }
+    }
 
-        return DefaultExecResult(
-            statusCode = HttpStatus.SC_OK,
-            output = out.toString().takeIf { it.isNotBlank() }
-        )
+    /**
+     * Executes the context without background progress, used to follow the data folder.
+     */
+    suspend fun follow(context: ImpExMonitorExecContext) = try {
+        execute(context.copy(incremental = true))
+    } catch (e: CancellationException) {
+        throw e
+    } catch (e: Exception) {
+        onError(context, e)
     }
 
-    private fun Long.toLocalDateTime() = Instant.ofEpochMilli(this)
-        .atZone(ZoneId.systemDefault())
-        .toLocalDateTime()
+    override fun dispose() = synchronized(lock) {
+        tail?.close()
+        tail = null
+    }
 
     companion object {
         @Serial
@@ -69,4 +95,4 @@ class ImpExMonitorExecClient(project: Project, coroutineScope: CoroutineScope) :
         fun getInstance(project: Project): ImpExMonitorExecClient = project.service()
     }
 
-}
\ No newline at end of file
+}
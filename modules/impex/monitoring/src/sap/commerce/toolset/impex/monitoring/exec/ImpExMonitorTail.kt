@@ -0,0 +1,221 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.impex.monitoring.exec
+
+import com.intellij.openapi.diagnostic.thisLogger
+import java.io.Closeable
+import java.io.IOException
+import java.io.UncheckedIOException
+import java.nio.ByteBuffer
+import java.nio.CharBuffer
+import java.nio.channels.FileChannel
+import java.nio.charset.CodingErrorAction
+import java.nio.file.*
+import java.nio.file.attribute.BasicFileAttributes
+import java.time.Instant
+import java.time.ZoneId
+import kotlin.io.path.extension
+import kotlin.io.path.isDirectory
+import kotlin.io.path.isRegularFile
+
+/**
+ * Follows `.bin` dumps written by the ImpEx import into the data folder.
+ *
+ * The first [read] walks the folder once, later [poll]s only look at files reported by the [WatchService]
+ * and read bytes appended after the last known offset. Each call returns at most [MAX_OUTPUT_BYTES] of text,
+ * files which did not fit are carried over to the next poll.
+ */
+internal class ImpExMonitorTail(val workingDir: Path, private val since: Instant) : Closeable {
+
+    private val offsets = HashMap<Path, Long>()
+    private val pending = LinkedHashSet<Path>()
+    private val watchService = workingDir.fileSystem.newWatchService()
+
+    @Synchronized
+    fun read(): String? {
+        scan(workingDir)
+        return drain()
+    }
+
+    @Synchronized
+    fun poll(): String? {
+        var overflow = false
+
+        generateSequence { watchService.poll() }.forEach { key ->
+            val dir = key.watchable() as Path
+
+            key.pollEvents().forEach { event ->
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) overflow = true
+                else {
+                    val path = dir.resolve(event.context() as Path)
+
+                    if (path.isDirectory()) scan(path)
+                    else if (path.isBin()) pending.add(path)
+                }
+            }
+
+            key.reset()
+        }
+
+        // events were lost, fall back to comparing sizes with the known offsets
+        if (overflow) scan(workingDir)
+
+        return drain()
+    }
+
+    @Synchronized
+    override fun close() = watchService.close()
+
+    private fun scan(root: Path) {
+        if (!Files.isDirectory(root)) return
+
+        try {
+            Files.walk(root).use { paths ->
+                paths.forEach { path ->
+                    when {
+                        path.isDirectory() -> register(path)
+                        path.isBin() && isChanged(path) -> pending.add(path)
+                    }
+                }
+            }
+        } catch (e: IOException) {
+            thisLogger().debug("Unable to scan $root", e)
+        } catch (e: UncheckedIOException) {
+            // files may be removed by the import while walking
+            thisLogger().debug("Unable to scan $root", e)
+        }
+    }
+
+    private fun register(dir: Path) {
+        try {
+            dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY)
+        } catch (e: IOException) {
+            thisLogger().debug("Unable to watch $dir", e)
+        }
+    }
+
+    private fun isChanged(path: Path) = try {
+        val attributes = Files.readAttributes(path, BasicFileAttributes::class.java)
+
+        attributes.lastModifiedTime().toInstant().isAfter(since)
+            && attributes.size() != (offsets[path] ?: 0L)
+    } catch (_: IOException) {
+        false
+    }
+
+    private fun drain(): String? {
+        val out = StringBuilder()
+        var budget = MAX_OUTPUT_BYTES
+
+        pending
+            .sortedBy { lastModified(it) }
+            .forEach { path ->
+                if (budget <= 0) return@forEach
+
+                budget -= append(path, out, budget)
+                pending.remove(path)
+            }
+
+        if (pending.isNotEmpty()) {
+            out.append("\n# ${pending.size} more file(s) will be shown on the next refresh\n")
+        }
+
+        return out.toString().takeIf { it.isNotBlank() }
+    }
+
+    /**
+     * Appends the not yet read part of the file and returns the number of consumed bytes.
+     *
+     * Incomplete UTF-8 sequence at the end of the file is not consumed, it will be decoded on the next read once written completely.
+     */
+    private fun append(path: Path, out: StringBuilder, budget: Long): Long = try {
+        FileChannel.open(path, StandardOpenOption.READ).use { channel ->
+            val size = channel.size()
+            val offset = (offsets[path] ?: 0L)
+                // the file was re-created or truncated, start over
+                .takeIf { it <= size }
+                ?: 0L
+            val limit = minOf(budget, MAX_FILE_CHUNK_BYTES)
+            val from = maxOf(offset, size - limit)
+            val length = size - from
+
+            if (length <= 0) {
+                offsets[path] = from
+                return 0L
+            }
+
+            val bytes = read(channel, from, length)
+            // skipped part of the file may end in the middle of the character
+            if (from > offset) {
+                while (bytes.hasRemaining() && bytes.get(bytes.position()).isContinuationByte()) bytes.get()
+            }
+            val skipped = bytes.position()
+            val chars = CharBuffer.allocate(bytes.remaining())
+            Charsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .decode(bytes, chars, false)
+            val consumed = bytes.position().toLong()
+
+            offsets[path] = from + consumed
+
+            if (consumed == skipped.toLong()) return consumed
+
+            val header = "# File Path:  $path\n# file modified: ${lastModified(path).atZone(ZoneId.systemDefault()).toLocalDateTime()}"
+            out.append("\n#" + "-".repeat(header.length - 1) + "\n")
+            out.append(header)
+            out.append("\n#" + "-".repeat(header.length - 1) + "\n")
+            if (from + skipped > offset) out.append("# ... ${from + skipped - offset} bytes skipped ...\n")
+            out.append("\n")
+            out.append(chars.flip())
+            out.append("\n")
+
+            consumed
+        }
+    } catch (e: IOException) {
+        thisLogger().debug("Unable to read $path", e)
+        0L
+    }
+
+    private fun read(channel: FileChannel, from: Long, length: Long): ByteBuffer {
+        val buffer = ByteBuffer.allocate(length.toInt())
+        var position = from
+        while (buffer.hasRemaining()) {
+            val read = channel.read(buffer, position)
+            if (read < 0) break
+            position += read
+        }
+        return buffer.flip()
+    }
+
+    private fun Byte.isContinuationByte() = toInt() and 0xC0 == 0x80
+
+    private fun lastModified(path: Path) = try {
+        Files.getLastModifiedTime(path).toInstant()
+    } catch (_: IOException) {
+        Instant.EPOCH
+    }
+
+    private fun Path.isBin() = extension == "bin" && isRegularFile()
+
+    companion object {
+        private const val MAX_OUTPUT_BYTES = 4L * 1024 * 1024
+        private const val MAX_FILE_CHUNK_BYTES = 1L * 1024 * 1024
+    }
+}
@@ -23,4 +23,8 @@ import sap.commerce.toolset.exec.context.ExecContext
 data class ImpExMonitorExecContext(
     val timeOption: TimeOption,
     val workingDir: String,
+    /**
+     * Only files changed since the previous execution are read, starting from the last read offset.
+     */
+    val incremental: Boolean = false,
 ) : ExecContext
\ No newline at end of file
@@ -22,6 +22,7 @@ import com.intellij.openapi.actionSystem.AnActionEvent
 import com.intellij.openapi.application.readAction
 import com.intellij.openapi.editor.Editor
 import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.Key
 import kotlinx.coroutines.launch
 import sap.commerce.toolset.HybrisIcons
 import sap.commerce.toolset.hac.actionSystem.ExecuteStatementAction
@@ -59,11 +60,14 @@ class ImpExExecuteAction : ExecuteStatementAction<ImpExConsole, ImpExSplitEditor
             settings = settings
         )
 
+        val completedChunks = fileEditor.getUserData(KEY_COMPLETED_CHUNKS) ?: emptySet()
+
         if (fileEditor.inEditorResults) {
             fileEditor.putUserData(KEY_QUERY_EXECUTING, true)
             fileEditor.showLoader(context)
 
-            ImpExExecClient.getInstance(project).execute(context) { coroutineScope, result ->
+            ImpExExecClient.getInstance(project).executeChunked(context, content, completedChunks) { coroutineScope, result, importedChunks ->
+                fileEditor.putUserData(KEY_COMPLETED_CHUNKS, importedChunks.takeIf { result.hasError })
                 fileEditor.renderExecutionResult(result)
                 fileEditor.putUserData(KEY_QUERY_EXECUTING, false)
 
@@ -74,9 +78,15 @@ class ImpExExecuteAction : ExecuteStatementAction<ImpExConsole, ImpExSplitEditor
         } else {
             val console = openConsole(project, content) ?: return
 
-            ImpExExecClient.getInstance(project).execute(context) { _, result ->
+            ImpExExecClient.getInstance(project).executeChunked(context, content, completedChunks) { _, result, importedChunks ->
+                fileEditor.putUserData(KEY_COMPLETED_CHUNKS, importedChunks.takeIf { result.hasError })
                 console.print(result)
             }
         }
     }
+
+    companion object {
+        // chunks imported before the failure, they will be skipped on the next execution of the same script
+        private val KEY_COMPLETED_CHUNKS = Key.create<Set<String>>("sap.cx.impex.completed.chunks")
+    }
 }
@@ -49,6 +49,8 @@ class ImpExExecutionContextSettingsAction : ExecutionContextSettingsAction<ImpEx
  · enable code execution: ${it.enableCodeExecution.value}
  · direct persistence:    ${it.sldEnabled.value}
  · distributed mode:      ${it.distributedMode.value}
+ · chunk size:            ${it.chunkSize}
+ · parallel chunks:       ${it.parallelChunks}
  · timeout:               ${it.timeout} ms</pre>
                 """.trimIndent()
         }
@@ -90,6 +92,30 @@ class ImpExExecutionContextSettingsAction : ExecutionContextSettingsAction<ImpEx
                 .bindIntText({ settings.maxThreads }, { value -> settings.maxThreads = value })
         }.layout(RowLayout.PARENT_GRID)
 
+        row {
+            textField()
+                .align(AlignX.FILL)
+                .label("Chunk size:")
+                .comment("Large scripts are imported in chunks of the given number of value lines, 0 to import at once.")
+                .validationOnInput {
+                    if (it.text.toIntOrNull()?.takeIf { size -> size >= 0 } == null) error(UIBundle.message("please.enter.a.number.from.0.to.1", 0, Int.MAX_VALUE))
+                    else null
+                }
+                .bindIntText({ settings.chunkSize }, { value -> settings.chunkSize = value })
+        }.layout(RowLayout.PARENT_GRID)
+
+        row {
+            textField()
+                .align(AlignX.FILL)
+                .label("Parallel chunks:")
+                .comment("Chunks of the same header block imported at once.")
+                .validationOnInput {
+                    if (it.text.toIntOrNull()?.takeIf { size -> size > 0 } == null) error(UIBundle.message("please.enter.a.number.from.0.to.1", 1, Int.MAX_VALUE))
+                    else null
+                }
+                .bindIntText({ settings.parallelChunks }, { value -> settings.parallelChunks = value })
+        }.layout(RowLayout.PARENT_GRID)
+
         row {
             textField()
                 .align(AlignX.FILL)
@@ -24,9 +24,12 @@ import com.intellij.openapi.module.Module
 import com.intellij.openapi.module.StdModuleTypes
 import com.intellij.openapi.roots.impl.storage.ClassPathStorageUtil
 import com.intellij.openapi.roots.impl.storage.ClasspathStorage
+import com.intellij.openapi.util.Key
 import sap.commerce.toolset.java.configurator.ex.*
 import sap.commerce.toolset.project.configurator.ModuleImportConfigurator
+import sap.commerce.toolset.project.configurator.ModuleImportPlan
 import sap.commerce.toolset.project.descriptor.HybrisProjectDescriptor
+import sap.commerce.toolset.project.descriptor.JavaLibraryDescriptor
 import sap.commerce.toolset.project.descriptor.ModuleDescriptor
 import sap.commerce.toolset.project.descriptor.impl.ExternalModuleDescriptor
 
@@ -37,9 +40,20 @@ class JavaModuleImportConfigurator : ModuleImportConfigurator {
 
     override fun isApplicable(moduleDescriptor: ModuleDescriptor) = moduleDescriptor !is ExternalModuleDescriptor
 
+    override fun prepare(
+        hybrisProjectDescriptor: HybrisProjectDescriptor,
+        moduleDescriptor: ModuleDescriptor,
+        plan: ModuleImportPlan
+    ) {
+        val libraryDescriptors = LibRootsConfiguratorEx.prepare(hybrisProjectDescriptor.yModuleDescriptorsToImport, moduleDescriptor)
+
+        plan.putUserData(KEY_LIBRARY_DESCRIPTORS, libraryDescriptors)
+    }
+
     override fun configure(
         hybrisProjectDescriptor: HybrisProjectDescriptor,
         moduleDescriptor: ModuleDescriptor,
+        plan: ModuleImportPlan,
         modifiableModelsProvider: IdeModifiableModelsProvider,
         rootProjectModifiableModel: ModifiableModuleModel
     ): Module {
@@ -56,13 +70,18 @@ class JavaModuleImportConfigurator : ModuleImportConfigurator {
 
         modifiableRootModel.inheritSdk();
 
-        val yModuleDescriptorsToImport = hybrisProjectDescriptor.yModuleDescriptorsToImport
+        val libraryDescriptors = plan.getUserData(KEY_LIBRARY_DESCRIPTORS)
+            ?: LibRootsConfiguratorEx.prepare(hybrisProjectDescriptor.yModuleDescriptorsToImport, moduleDescriptor)
 
         JavadocSettingsConfiguratorEx.configure(modifiableRootModel, moduleDescriptor)
-        LibRootsConfiguratorEx.configure(yModuleDescriptorsToImport, modifiableRootModel, moduleDescriptor, modifiableModelsProvider);
+        LibRootsConfiguratorEx.configure(libraryDescriptors, modifiableRootModel, moduleDescriptor, modifiableModelsProvider);
         ContentRootConfiguratorEx.configure(modifiableRootModel, moduleDescriptor);
         CompilerOutputPathsConfiguratorEx.configure( modifiableRootModel, moduleDescriptor);
 
         return javaModule
     }
-}
\ No newline at end of file
+
+    companion object {
+        private val KEY_LIBRARY_DESCRIPTORS = Key.create<List<JavaLibraryDescriptor>>("SAP_CX_JAVA_LIBRARY_DESCRIPTORS")
+    }
+}
@@ -24,6 +24,7 @@ import com.intellij.openapi.roots.ModifiableRootModel
 import com.intellij.openapi.roots.OrderRootType
 import com.intellij.openapi.roots.libraries.Library
 import com.intellij.openapi.vfs.JarFileSystem
+import com.intellij.openapi.vfs.LocalFileSystem
 import com.intellij.openapi.vfs.VfsUtil
 import com.intellij.openapi.vfs.VirtualFile
 import sap.commerce.toolset.HybrisConstants
@@ -40,17 +41,33 @@ import java.io.File
 
 internal object LibRootsConfiguratorEx {
 
-    fun configure(
+    /**
+     * Collects library descriptors of the module and warms up the VFS for their roots, so [configure] doesn't hit the file system.
+     * Performs only read-only I/O and can be invoked concurrently for different modules.
+     */
+    fun prepare(
         allYModules: Map<String, YModuleDescriptor>,
+        moduleDescriptor: ModuleDescriptor,
+    ): List<JavaLibraryDescriptor> {
+        val libraryDescriptors = getLibraryDescriptors(moduleDescriptor, allYModules)
+            .filter { it.libraryFile.exists() || it.scope != DependencyScope.COMPILE }
+
+        val localFileSystem = LocalFileSystem.getInstance()
+        libraryDescriptors
+            .flatMap { it.sourceFiles + it.sourceJarDirectories }
+            .forEach { localFileSystem.refreshAndFindFileByIoFile(it) }
+
+        return libraryDescriptors
+    }
+
+    fun configure(
+        libraryDescriptors: List<JavaLibraryDescriptor>,
         modifiableRootModel: ModifiableRootModel,
         moduleDescriptor: ModuleDescriptor,
         modifiableModelsProvider: IdeModifiableModelsProvider,
     ) {
         val sourceCodeRoot = getSourceCodeRoot(moduleDescriptor)
-        for (javaLibraryDescriptor in getLibraryDescriptors(moduleDescriptor, allYModules)) {
-            if (!javaLibraryDescriptor.libraryFile.exists() && javaLibraryDescriptor.scope == DependencyScope.COMPILE) {
-                continue
-            }
+        for (javaLibraryDescriptor in libraryDescriptors) {
             if (javaLibraryDescriptor.directoryWithClasses) {
                 addClassesToModuleLibs(modifiableRootModel, modifiableModelsProvider, sourceCodeRoot, javaLibraryDescriptor)
             } else {
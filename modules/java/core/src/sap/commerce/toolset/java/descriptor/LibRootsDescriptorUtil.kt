@@ -53,17 +53,26 @@ internal fun addBackofficeRootProjectLibrary(
     val libraryTableModifiableModel = modifiableModelsProvider.modifiableProjectLibrariesModel
     val library = libraryTableModifiableModel.getLibraryByName(libraryName)
         ?: libraryTableModifiableModel.createLibrary(libraryName)
+    val libraryRootUrl = VfsUtil.getUrlForLibraryRoot(libraryDirRoot)
 
+    // project library survives the differential refresh, so already registered roots must not be added again
     if (libraryTableModifiableModel is LibrariesModifiableModel) {
         val libraryEditor = libraryTableModifiableModel.getLibraryEditor(library)
-        if (addJarDirectory) libraryEditor.addJarDirectory(VfsUtil.getUrlForLibraryRoot(libraryDirRoot), true, OrderRootType.CLASSES)
-        else libraryEditor.addRoot(VfsUtil.getUrlForLibraryRoot(libraryDirRoot), OrderRootType.CLASSES)
+        if (libraryRootUrl in libraryEditor.getUrls(OrderRootType.CLASSES)) return
+
+        if (addJarDirectory) libraryEditor.addJarDirectory(libraryRootUrl, true, OrderRootType.CLASSES)
+        else libraryEditor.addRoot(libraryRootUrl, OrderRootType.CLASSES)
     } else {
         val libraryModel = modifiableModelsProvider.getModifiableLibraryModel(library)
-        if (addJarDirectory) libraryModel.addJarDirectory(VfsUtil.getUrlForLibraryRoot(libraryDirRoot), true)
-        else libraryModel.addRoot(VfsUtil.getUrlForLibraryRoot(libraryDirRoot), OrderRootType.CLASSES)
+        if (libraryRootUrl !in libraryModel.getUrls(OrderRootType.CLASSES)) {
+            if (addJarDirectory) libraryModel.addJarDirectory(libraryRootUrl, true)
+            else libraryModel.addRoot(libraryRootUrl, OrderRootType.CLASSES)
+        }
         if (sourcesDirRoot != null && ApplicationSettings.getInstance().withStandardProvidedSources) {
-            libraryModel.addJarDirectory(VfsUtil.getUrlForLibraryRoot(sourcesDirRoot), true, OrderRootType.SOURCES)
+            val sourcesRootUrl = VfsUtil.getUrlForLibraryRoot(sourcesDirRoot)
+            if (sourcesRootUrl !in libraryModel.getUrls(OrderRootType.SOURCES)) {
+                libraryModel.addJarDirectory(sourcesRootUrl, true, OrderRootType.SOURCES)
+            }
         }
     }
 }
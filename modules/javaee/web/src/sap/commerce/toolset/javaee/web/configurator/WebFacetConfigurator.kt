@@ -27,6 +27,7 @@ import com.intellij.openapi.module.Module
 import com.intellij.openapi.module.ModuleType
 import com.intellij.openapi.roots.ModifiableRootModel
 import com.intellij.openapi.util.io.FileUtil
+import com.intellij.openapi.vfs.LocalFileSystem
 import com.intellij.openapi.vfs.VfsUtil
 import sap.commerce.toolset.HybrisConstants
 import sap.commerce.toolset.project.configurator.ModuleFacetConfigurator
@@ -42,6 +43,15 @@ class WebFacetConfigurator : ModuleFacetConfigurator {
     override val name: String
         get() = "Web Facets"
 
+    override fun prepare(hybrisProjectDescriptor: HybrisProjectDescriptor, moduleDescriptor: ModuleDescriptor) {
+        when (moduleDescriptor) {
+            is YWebSubModuleDescriptor,
+            is YCommonWebSubModuleDescriptor,
+            is YAcceleratorAddonSubModuleDescriptor -> LocalFileSystem.getInstance()
+                .refreshAndFindFileByIoFile(File(moduleDescriptor.moduleRootDirectory, HybrisConstants.WEBROOT_WEBINF_WEB_XML_PATH))
+        }
+    }
+
     override fun configureModuleFacet(
         module: Module,
         hybrisProjectDescriptor: HybrisProjectDescriptor,
@@ -32,6 +32,8 @@ import org.apache.http.HttpStatus
 import org.apache.http.message.BasicNameValuePair
 import org.jsoup.Jsoup
 import sap.commerce.toolset.exec.ExecClient
+import sap.commerce.toolset.exec.metrics.ExecPhase
+import sap.commerce.toolset.exec.metrics.ExecTrace
 import sap.commerce.toolset.hac.exec.HacExecConnectionService
 import sap.commerce.toolset.hac.exec.http.HacHttpClient
 import sap.commerce.toolset.logging.CxLoggerModel
@@ -67,10 +69,13 @@ class LoggingExecClient(project: Project, coroutineScope: CoroutineScope) : Exec
         }
 
         try {
-            val loggerModels = Jsoup
-                .parse(response.entity.content, StandardCharsets.UTF_8.name(), "")
-                .getElementsByTag("body").text()
-                .let { Json.parseToJsonElement(it) }
+            val loggerModels = ExecTrace
+                .measure(ExecPhase.PARSE) {
+                    Jsoup
+                        .parse(response.entity.content, StandardCharsets.UTF_8.name(), "")
+                        .getElementsByTag("body").text()
+                        .let { Json.parseToJsonElement(it) }
+                }
                 .jsonObject["loggers"]
                 ?.jsonArray
                 ?.mapNotNull {
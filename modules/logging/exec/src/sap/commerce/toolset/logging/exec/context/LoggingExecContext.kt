@@ -23,7 +23,7 @@ import sap.commerce.toolset.hac.exec.settings.state.HacConnectionSettingsState
 import sap.commerce.toolset.logging.LogLevel
 
 data class LoggingExecContext(
-    val connection: HacConnectionSettingsState,
+    override val connection: HacConnectionSettingsState,
     override val executionTitle: String,
     private val loggerName: String,
     private val logLevel: LogLevel,
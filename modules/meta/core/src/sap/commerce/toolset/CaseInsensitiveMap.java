@@ -65,11 +65,24 @@ public final class CaseInsensitiveMap {
             );
         }
 
+        public void putValues(final @NotNull String key, final @NotNull Collection<V> values) {
+            if (values.isEmpty()) return;
+
+            myMap
+                .computeIfAbsent(key, s -> new LinkedList<>())
+                .addAll(values);
+        }
+
         @Nullable
         public Collection<V> get(final @NotNull String key) {
             return myMap.get(key);
         }
 
+        @Nullable
+        public Collection<V> remove(final @NotNull String key) {
+            return myMap.remove(key.toLowerCase());
+        }
+
         public void clear() {
             myMap.clear();
         }
@@ -21,5 +21,6 @@ package sap.commerce.toolset.meta
 data class CachedMetaState<T>(
     val value: T?,
     val computed: Boolean,
-    val computing: Boolean
+    val computing: Boolean,
+    val generation: Long = 0,
 )
\ No newline at end of file
@@ -19,11 +19,9 @@
 package sap.commerce.toolset.meta
 
 import com.intellij.openapi.application.smartReadAction
+import com.intellij.openapi.diagnostic.thisLogger
 import com.intellij.openapi.project.Project
-import com.intellij.openapi.roots.OrderRootType
 import com.intellij.openapi.roots.ProjectFileIndex
-import com.intellij.openapi.roots.libraries.LibraryTablesRegistrar
-import com.intellij.openapi.vfs.VfsUtilCore
 import com.intellij.openapi.vfs.VirtualFile
 import com.intellij.psi.PsiFile
 import com.intellij.psi.search.ProjectScope
@@ -36,6 +34,7 @@ import com.intellij.util.xml.DomManager
 import com.intellij.util.xml.stubs.index.DomElementClassIndex
 import kotlinx.collections.immutable.toImmutableSet
 import sap.commerce.toolset.project.yExtensionName
+import kotlin.time.measureTimedValue
 
 abstract class MetaCollector<T : DomElement>(
     protected val project: Project,
@@ -47,50 +46,49 @@ abstract class MetaCollector<T : DomElement>(
 
     private val myDomManager: DomManager = DomManager.getDomManager(project)
     private val projectFileIndex = ProjectFileIndex.getInstance(project)
-    private val libraryTable = LibraryTablesRegistrar.getInstance().getLibraryTable(project)
+    private val libraryRootIndex = MetaLibraryRootIndex.getInstance(project)
 
     open suspend fun collectDependencies(): Set<Meta<T>> {
         val files = HashSet<Meta<T>>()
 
-        smartReadAction(project) {
-            StubIndex.getInstance().processElements(
-                DomElementClassIndex.KEY,
-                clazz.name,
-                project,
-                ProjectScope.getAllScope(project),
-                PsiFile::class.java,
-                object : Processor<PsiFile> {
-                    override fun process(psiFile: PsiFile): Boolean {
-                        val xmlFile = psiFile.asSafely<XmlFile>() ?: return true
-                        val virtualFile = xmlFile.virtualFile ?: return true
-                        val metaContainer = projectFileIndex.getModuleForFile(virtualFile)
-                            ?.let { it.name to it.yExtensionName() }
-                        // Some files are part of the Library and, as a result, aren't associated with any Module
-                            ?: libraryTable.libraries
-                                .firstNotNullOfOrNull { library ->
-                                    library.getFiles(OrderRootType.CLASSES)
-                                        .firstOrNull { libraryVirtualFile -> VfsUtilCore.isAncestor(libraryVirtualFile, virtualFile, false) }
-                                        ?.let { library.presentableName to it.name }
-                                }
-                            ?: return true
-                        val rootElement = myDomManager.getFileElement(psiFile, clazz)
-                            ?.rootElement
-                            ?.takeIf(takeIf)
-                            ?: return true
+        val (_, duration) = measureTimedValue {
+            smartReadAction(project) {
+                StubIndex.getInstance().processElements(
+                    DomElementClassIndex.KEY,
+                    clazz.name,
+                    project,
+                    ProjectScope.getAllScope(project),
+                    PsiFile::class.java,
+                    object : Processor<PsiFile> {
+                        override fun process(psiFile: PsiFile): Boolean {
+                            val xmlFile = psiFile.asSafely<XmlFile>() ?: return true
+                            val virtualFile = xmlFile.virtualFile ?: return true
+                            val metaContainer = projectFileIndex.getModuleForFile(virtualFile)
+                                ?.let { it.name to it.yExtensionName() }
+                            // Some files are part of the Library and, as a result, aren't associated with any Module
+                                ?: libraryRootIndex.getLibraryContainer(virtualFile)
+                                ?: return true
+                            val rootElement = myDomManager.getFileElement(psiFile, clazz)
+                                ?.rootElement
+                                ?.takeIf(takeIf)
+                                ?: return true
 
-                        val meta = Meta(
-                            metaContainer.first, metaContainer.second, psiFile, virtualFile, rootElement,
-                            nameProvider.invoke(virtualFile),
-                            representationNameProvider.invoke(virtualFile, rootElement),
-                        )
-                        files.add(meta)
+                            val meta = Meta(
+                                metaContainer.first, metaContainer.second, psiFile, virtualFile, rootElement,
+                                nameProvider.invoke(virtualFile),
+                                representationNameProvider.invoke(virtualFile, rootElement),
+                            )
+                            files.add(meta)
 
-                        return true
+                            return true
+                        }
                     }
-                }
-            )
+                )
+            }
         }
 
+        thisLogger().debug("Collected ${files.size} ${clazz.simpleName} files in ${duration.inWholeMilliseconds} ms")
+
         return files.toImmutableSet()
     }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.meta
+
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.psi.PsiManager
+import com.intellij.psi.util.parentOfType
+import com.intellij.psi.xml.XmlFile
+import com.intellij.psi.xml.XmlTag
+import com.intellij.util.asSafely
+import com.intellij.util.xml.DomAnchor
+import com.intellij.util.xml.DomElement
+import com.intellij.util.xml.DomManager
+import java.util.Objects
+
+/**
+ * Anchor of the Meta Model restored from the persistent cache.
+ *
+ * Cached Meta Model is used only for the unchanged file, so the DOM element is located lazily by the offset of its xml tag.
+ */
+class MetaDomAnchor<T : DomElement>(
+    private val project: Project,
+    private val virtualFile: VirtualFile,
+    private val textOffset: Int,
+    private val domClass: Class<T>,
+) : DomAnchor<T> {
+
+    override fun retrieveDomElement(): T? {
+        if (!virtualFile.isValid) return null
+
+        val xmlTag = containingFileOrNull()
+            ?.findElementAt(textOffset)
+            ?.parentOfType<XmlTag>(true)
+            ?.takeIf { it.textOffset == textOffset }
+            ?: return null
+
+        return DomManager.getDomManager(project).getDomElement(xmlTag)
+            ?.takeIf { domClass.isInstance(it) }
+            ?.let { domClass.cast(it) }
+    }
+
+    override fun getContainingFile(): XmlFile = containingFileOrNull()
+        ?: throw IllegalStateException("Unable to find xml file: ${virtualFile.path}")
+
+    override fun equals(other: Any?): Boolean {
+        if (this === other) return true
+        if (other !is MetaDomAnchor<*>) return false
+
+        return textOffset == other.textOffset
+            && virtualFile == other.virtualFile
+            && domClass == other.domClass
+    }
+
+    override fun hashCode() = Objects.hash(virtualFile, textOffset, domClass)
+
+    private fun containingFileOrNull() = PsiManager.getInstance(project).findFile(virtualFile)
+        ?.asSafely<XmlFile>()
+}
@@ -0,0 +1,78 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.meta
+
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.components.service
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.roots.OrderRootType
+import com.intellij.openapi.roots.ProjectRootModificationTracker
+import com.intellij.openapi.roots.libraries.LibraryTablesRegistrar
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.psi.util.CachedValueProvider
+import com.intellij.psi.util.CachedValuesManager
+
+/**
+ * Maps `CLASSES` roots of the project libraries to their owners, so files which are not part of any Module
+ * can be associated with the Library by walking up their parents instead of scanning all libraries.
+ *
+ * The index is shared by all Meta Collectors and re-built only on project roots change.
+ */
+@Service(Service.Level.PROJECT)
+class MetaLibraryRootIndex(private val project: Project) {
+
+    private val libraryRoots = CachedValuesManager.getManager(project).createCachedValue {
+        CachedValueProvider.Result.create(
+            buildLibraryRoots(),
+            ProjectRootModificationTracker.getInstance(project)
+        )
+    }
+
+    /**
+     * Returns pair of the library presentable name and the name of the library root containing the file.
+     */
+    fun getLibraryContainer(virtualFile: VirtualFile): Pair<String, String>? {
+        val roots = libraryRoots.value
+        if (roots.isEmpty()) return null
+
+        var file: VirtualFile? = virtualFile
+        while (file != null) {
+            roots[file]?.let { return it }
+            file = file.parent
+        }
+        return null
+    }
+
+    private fun buildLibraryRoots(): Map<VirtualFile, Pair<String, String>> {
+        val roots = HashMap<VirtualFile, Pair<String, String>>()
+
+        LibraryTablesRegistrar.getInstance().getLibraryTable(project).libraries.forEach { library ->
+            library.getFiles(OrderRootType.CLASSES).forEach { root ->
+                // first library wins, same as the declaration order of the library table
+                roots.putIfAbsent(root, library.presentableName to root.name)
+            }
+        }
+
+        return roots
+    }
+
+    companion object {
+        fun getInstance(project: Project): MetaLibraryRootIndex = project.service()
+    }
+}
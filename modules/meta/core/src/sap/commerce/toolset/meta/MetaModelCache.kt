@@ -0,0 +1,184 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.meta
+
+import com.intellij.openapi.application.readAction
+import com.intellij.openapi.diagnostic.thisLogger
+import com.intellij.openapi.fileEditor.FileDocumentManager
+import com.intellij.openapi.progress.ProcessCanceledException
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.project.getProjectCachePath
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.util.xml.DomElement
+import java.io.*
+import java.nio.file.StandardCopyOption
+import java.util.concurrent.CancellationException
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicBoolean
+import kotlin.io.path.*
+
+/**
+ * Persistent cache of the local Meta Models, it allows to skip processing of the unchanged files after IDE restart.
+ *
+ * Entries are keyed by the [Meta.name] and are valid only as long as url, time stamp and length of the file are the same.
+ * The cache file is rewritten by [save] only when entries were changed since the previous save.
+ */
+class MetaModelCache<M>(
+    project: Project,
+    systemName: String,
+    private val externalizer: MetaModelExternalizer<M>,
+) {
+
+    private val cacheFile = project.getProjectCachePath(CACHE_DIRECTORY).resolve("$systemName.bin")
+    private val entries = ConcurrentHashMap<String, Entry>()
+    private val modified = AtomicBoolean(false)
+
+    @Volatile
+    private var loaded = false
+
+    fun read(meta: Meta<out DomElement>): M? {
+        load()
+
+        val entry = entries[meta.name]
+            ?.takeIf { it.matches(meta.virtualFile) }
+            ?: return null
+
+        return try {
+            DataInputStream(ByteArrayInputStream(entry.data)).use { externalizer.read(it, meta.virtualFile) }
+        } catch (e: ProcessCanceledException) {
+            throw e
+        } catch (e: Exception) {
+            thisLogger().debug("Unable to read cached meta model for ${meta.name}", e)
+            remove(meta.name)
+            null
+        }
+    }
+
+    suspend fun write(meta: Meta<out DomElement>, metaModel: M) {
+        // model built from the unsaved document does not correspond to the file on disk
+        if (FileDocumentManager.getInstance().isFileModified(meta.virtualFile)) {
+            remove(meta.name)
+            return
+        }
+
+        val data = try {
+            readAction {
+                ByteArrayOutputStream().also { bytes ->
+                    DataOutputStream(bytes).use { externalizer.write(it, metaModel) }
+                }.toByteArray()
+            }
+        } catch (e: ProcessCanceledException) {
+            throw e
+        } catch (e: CancellationException) {
+            throw e
+        } catch (e: Exception) {
+            thisLogger().debug("Unable to cache meta model for ${meta.name}", e)
+            remove(meta.name)
+            return
+        }
+
+        val entry = Entry(meta.virtualFile.url, meta.virtualFile.timeStamp, meta.virtualFile.length, data)
+        val previous = entries.put(meta.name, entry)
+        if (previous == null || !previous.sameAs(entry)) modified.set(true)
+    }
+
+    fun retain(names: Collection<String>) {
+        if (entries.keys.retainAll(names.toSet())) modified.set(true)
+    }
+
+    fun save() {
+        if (!modified.compareAndSet(true, false)) return
+
+        try {
+            cacheFile.parent.createDirectories()
+
+            val tempFile = cacheFile.resolveSibling("${cacheFile.fileName}.tmp")
+            DataOutputStream(BufferedOutputStream(tempFile.outputStream())).use { output ->
+                output.writeInt(FORMAT_VERSION)
+                output.writeInt(externalizer.version)
+                output.writeInt(entries.size)
+
+                entries.forEach { (name, entry) ->
+                    output.writeUTF(name)
+                    output.writeUTF(entry.url)
+                    output.writeLong(entry.timeStamp)
+                    output.writeLong(entry.length)
+                    output.writeInt(entry.data.size)
+                    output.write(entry.data)
+                }
+            }
+            tempFile.moveTo(cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+        } catch (e: IOException) {
+            thisLogger().warn("Unable to save meta model cache: $cacheFile", e)
+            modified.set(true)
+        }
+    }
+
+    private fun remove(name: String) {
+        if (entries.remove(name) != null) modified.set(true)
+    }
+
+    @Synchronized
+    private fun load() {
+        if (loaded) return
+        loaded = true
+
+        if (!cacheFile.exists()) return
+
+        try {
+            DataInputStream(BufferedInputStream(cacheFile.inputStream())).use { input ->
+                if (input.readInt() != FORMAT_VERSION || input.readInt() != externalizer.version) return
+
+                repeat(input.readInt()) {
+                    val name = input.readUTF()
+                    val url = input.readUTF()
+                    val timeStamp = input.readLong()
+                    val length = input.readLong()
+                    val data = ByteArray(input.readInt())
+                    input.readFully(data)
+
+                    entries[name] = Entry(url, timeStamp, length, data)
+                }
+            }
+        } catch (e: ProcessCanceledException) {
+            throw e
+        } catch (e: Exception) {
+            thisLogger().info("Meta model cache is corrupted and will be re-created: $cacheFile", e)
+
+            entries.clear()
+            cacheFile.deleteIfExists()
+        }
+    }
+
+    private class Entry(val url: String, val timeStamp: Long, val length: Long, val data: ByteArray) {
+        fun matches(virtualFile: VirtualFile) = url == virtualFile.url
+            && timeStamp == virtualFile.timeStamp
+            && length == virtualFile.length
+
+        fun sameAs(other: Entry) = url == other.url
+            && timeStamp == other.timeStamp
+            && length == other.length
+            && data.contentEquals(other.data)
+    }
+
+    companion object {
+        private const val CACHE_DIRECTORY = "sap-commerce-meta"
+        private const val FORMAT_VERSION = 1
+    }
+}
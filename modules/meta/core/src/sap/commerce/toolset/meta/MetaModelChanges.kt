@@ -0,0 +1,34 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.meta
+
+/**
+ * Local Meta Models which were replaced since the previous computation of the Global Meta Model.
+ *
+ * Models are compared by identity, unchanged files reuse the same cached local Meta Model instance.
+ */
+data class MetaModelChanges<M>(
+    val removed: Collection<M>,
+    val added: Collection<M>,
+) {
+    val changed: Collection<M>
+        get() = removed + added
+
+    fun isEmpty() = removed.isEmpty() && added.isEmpty()
+}
@@ -0,0 +1,74 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.meta
+
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.util.xml.DomAnchor
+import com.intellij.util.xml.DomElement
+import java.io.DataInput
+import java.io.DataOutput
+
+/**
+ * Converts local Meta Model of a single file into the compact binary form persisted between IDE restarts.
+ *
+ * DOM elements are stored as offsets of their xml tags, see [MetaDomAnchor].
+ * [version] must be incremented on every change of the binary format or of the local Meta Model.
+ */
+abstract class MetaModelExternalizer<M>(protected val project: Project) {
+
+    abstract val version: Int
+
+    /**
+     * Invoked within the read action.
+     */
+    abstract fun write(output: DataOutput, metaModel: M)
+
+    abstract fun read(input: DataInput, virtualFile: VirtualFile): M
+
+    protected fun writeAnchor(output: DataOutput, domAnchor: DomAnchor<out DomElement>) {
+        output.writeInt(domAnchor.retrieveDomElement()?.xmlTag?.textOffset ?: -1)
+    }
+
+    protected fun <T : DomElement> readAnchor(input: DataInput, virtualFile: VirtualFile, domClass: Class<T>): DomAnchor<T> =
+        MetaDomAnchor(project, virtualFile, input.readInt(), domClass)
+
+    protected fun writeNullableString(output: DataOutput, value: String?) {
+        output.writeBoolean(value != null)
+        if (value != null) output.writeUTF(value)
+    }
+
+    protected fun readNullableString(input: DataInput): String? = if (input.readBoolean()) input.readUTF()
+    else null
+
+    protected fun <T> writeNullable(output: DataOutput, value: T?, writer: (T) -> Unit) {
+        output.writeBoolean(value != null)
+        if (value != null) writer(value)
+    }
+
+    protected fun <T> readNullable(input: DataInput, reader: () -> T): T? = if (input.readBoolean()) reader()
+    else null
+
+    protected fun <T> writeCollection(output: DataOutput, values: Collection<T>, writer: (T) -> Unit) {
+        output.writeInt(values.size)
+        values.forEach(writer)
+    }
+
+    protected fun <T> readList(input: DataInput, reader: () -> T): List<T> = List(input.readInt()) { reader() }
+}
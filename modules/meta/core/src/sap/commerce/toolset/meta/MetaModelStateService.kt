@@ -18,6 +18,7 @@
 
 package sap.commerce.toolset.meta
 
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer
 import com.intellij.openapi.Disposable
 import com.intellij.openapi.progress.ProcessCanceledException
 import com.intellij.openapi.project.DumbService
@@ -26,18 +27,24 @@ import com.intellij.platform.ide.progress.withBackgroundProgress
 import com.intellij.platform.util.progress.reportProgressScope
 import com.intellij.util.xml.DomElement
 import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.async
 import kotlinx.coroutines.awaitAll
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.asStateFlow
+import kotlinx.coroutines.flow.getAndUpdate
+import kotlinx.coroutines.flow.update
 import kotlinx.coroutines.launch
+import kotlinx.coroutines.withContext
+import java.util.concurrent.atomic.AtomicBoolean
 
 abstract class MetaModelStateService<G, M, D : DomElement>(
     protected val project: Project,
     private val coroutineScope: CoroutineScope,
     private val systemName: String,
     private val metaCollector: MetaCollector<D>,
-    private val metaModelProcessor: MetaModelProcessor<D, M>
+    private val metaModelProcessor: MetaModelProcessor<D, M>,
+    private val metaModelCache: MetaModelCache<M>? = null,
 ) : Disposable {
 
     protected val _metaModelsState = MutableStateFlow<Map<String, M>>(emptyMap())
@@ -46,88 +53,145 @@ abstract class MetaModelStateService<G, M, D : DomElement>(
     protected val recomputeMetasState = _recomputeMetasState.asStateFlow()
     protected val metaModelsState = _metaModelsState.asStateFlow()
     protected val metaModelState = _metaModelState.asStateFlow()
+    private val staleStateServed = AtomicBoolean(false)
 
     protected abstract suspend fun create(metaModelsToMerge: Collection<M>): G
     protected abstract fun onCompletion(newState: G)
 
+    /**
+     * Applies changes of the local Meta Models onto the previous Global Meta Model.
+     *
+     * Implementations must not modify the previous state, it may still be in use by the readers,
+     * by default new Global Meta Model will be created from all local Meta Models.
+     */
+    protected open suspend fun merge(previousState: G, changes: MetaModelChanges<M>, metaModels: Collection<M>): G = create(metaModels)
+
     fun init() {
         processState()
     }
 
-    fun initialized() = metaModelState.value.computed
+    /**
+     * Global Meta Model is available, though it may be stale while re-computation is in progress.
+     */
+    fun initialized() = metaModelState.value.value != null
 
-    fun get(): G {
-        val modifiedMetas = recomputeMetasState.value
+    /**
+     * Returns the last completely computed Global Meta Model and schedules its re-computation, if there are pending changes.
+     *
+     * Stale Global Meta Model is served while re-computation is in progress or IDE is in the dumb mode,
+     * [strict] access will throw [ProcessCanceledException] instead, until fresh Global Meta Model becomes available.
+     */
+    fun get(strict: Boolean = false): G = snapshot(strict).value
 
-        if (modifiedMetas == null) {
-            return getCurrentState()
-        }
+    fun snapshot(strict: Boolean = false): MetaModelSnapshot<G> {
+        if (recomputeMetasState.value != null) processState()
 
-        processState(modifiedMetas)
-        throw ProcessCanceledException()
+        return getCurrentState(strict)
     }
 
+    fun generation() = metaModelState.value.generation
+
     fun getTrackedModels() = metaModelsState.value.keys
 
-    private fun processState(metaModels: Collection<String> = emptyList()) {
-        if (metaModelState.value.computing) return
+    private fun processState() {
+        val currentState = metaModelState.value
+        if (currentState.computing) return
+        if (!_metaModelState.compareAndSet(currentState, currentState.copy(computed = false, computing = true))) return
 
-        _metaModelState.value = CachedMetaState(null, computed = false, computing = true)
+        val previousState = currentState.value
+        val metaModels = _recomputeMetasState.getAndUpdate { null } ?: emptySet()
 
         coroutineScope.launch {
-            val newState = withBackgroundProgress(project, "Re-building $systemName System...", true) {
-                val collectedDependencies = metaCollector.collectDependencies()
-
-                val localMetaModels = reportProgressScope(collectedDependencies.size) { progressReporter ->
-                    collectedDependencies
-                        .map {
-                            progressReporter.sizedStep(1, "Processing: ${it.representationName}...") {
-                                async {
-                                    val cachedMetaModel = metaModelsState.value[it.name]
-                                    if (cachedMetaModel == null || metaModels.contains(it.name)) {
-                                        it.name to metaModelProcessor.process(it)
-                                    } else {
-                                        it.name to cachedMetaModel
+            try {
+                var changed = true
+                val newState = withBackgroundProgress(project, "Re-building $systemName System...", true) {
+                    val previousMetaModels = metaModelsState.value
+                    val collectedDependencies = metaCollector.collectDependencies()
+
+                    val localMetaModels = reportProgressScope(collectedDependencies.size) { progressReporter ->
+                        collectedDependencies
+                            .map {
+                                progressReporter.sizedStep(1, "Processing: ${it.representationName}...") {
+                                    async {
+                                        val cachedMetaModel = metaModelsState.value[it.name]
+                                            ?: metaModelCache?.read(it)
+                                        if (cachedMetaModel == null || metaModels.contains(it.name)) {
+                                            val metaModel = metaModelProcessor.process(it)
+                                            if (metaModel != null) metaModelCache?.write(it, metaModel)
+                                            it.name to metaModel
+                                        } else {
+                                            it.name to cachedMetaModel
+                                        }
                                     }
                                 }
                             }
-                        }
-                        .awaitAll()
-                        .filter { (_, model) -> model != null }
-                        .distinctBy { it.first }
-                        .associate { it.first to it.second!! }
+                            .awaitAll()
+                            .filter { (_, model) -> model != null }
+                            .distinctBy { it.first }
+                            .associate { it.first to it.second!! }
+                    }
+
+                    val changes = MetaModelChanges(
+                        removed = previousMetaModels.filter { (name, model) -> localMetaModels[name] !== model }.values,
+                        added = localMetaModels.filter { (name, model) -> previousMetaModels[name] !== model }.values,
+                    )
+
+                    val globalMetaModel = when {
+                        previousState == null -> create(localMetaModels.values)
+                        changes.isEmpty() -> previousState.also { changed = false }
+                        else -> merge(previousState, changes, localMetaModels.values)
+                    }
+
+                    // local models must always correspond to the latest computed global model, otherwise next changes will be lost
+                    _metaModelsState.value = localMetaModels
+
+                    if (metaModelCache != null) {
+                        metaModelCache.retain(localMetaModels.keys)
+                        withContext(Dispatchers.IO) { metaModelCache.save() }
+                    }
+
+                    globalMetaModel
                 }
 
-                _metaModelsState.value = localMetaModels
+                // unchanged Global Meta Model keeps its generation, so caches bound to it stay valid
+                val generation = if (changed) currentState.generation + 1 else currentState.generation
+                _metaModelState.value = CachedMetaState(newState, computed = true, computing = false, generation = generation)
 
-                create(metaModelsState.value.values)
-            }
-
-            _metaModelState.value = CachedMetaState(newState, computed = true, computing = false)
-            _recomputeMetasState.value = null
+                if (changed) onCompletion(newState)
 
-            onCompletion(newState)
+                // highlighting done against the stale Global Meta Model has to be re-validated
+                if (staleStateServed.getAndSet(false)) {
+                    DaemonCodeAnalyzer.getInstance(project).restart()
+                }
+            } finally {
+                // re-computation was cancelled, keep serving the previous state and retry on the next access
+                if (metaModelState.value.computing) {
+                    _metaModelState.value = currentState.copy(computed = false, computing = false)
+                    update(metaModels)
+                }
+            }
         }
     }
 
     fun update(metaModels: Collection<String>) {
-        val metas = _recomputeMetasState.value
-        if (metas == null) {
-            _recomputeMetasState.value = metaModels.toSet()
-        } else {
-            _recomputeMetasState.value = (metas + metaModels).toSet()
-        }
+        _recomputeMetasState.update { metas -> (metas ?: emptySet()) + metaModels }
     }
 
-    protected fun getCurrentState(): G {
+    protected fun getCurrentState(strict: Boolean = true): MetaModelSnapshot<G> {
         val state = metaModelState.value
+        val value = state.value ?: throw ProcessCanceledException()
+        val stale = !state.computed || DumbService.isDumb(project)
 
-        if (!state.computed || state.value == null || DumbService.isDumb(project)) {
-            throw ProcessCanceledException()
+        if (stale) {
+            if (strict) throw ProcessCanceledException()
+
+            staleStateServed.set(true)
         }
-        return state.value
+
+        return MetaModelSnapshot(value, state.generation, stale)
     }
 
     override fun dispose() {
+        metaModelCache?.save()
     }
 }
@@ -145,13 +145,14 @@ class PolyglotQueryExecuteAction : ExecuteStatementAction<HybrisPolyglotQueryCon
         }
     }
 
-    private fun getPKsFromDirectQuery(result: FlexibleSearchExecResult): String? = result.output
+    // Polyglot Query returns single PK column
+    private fun getPKsFromDirectQuery(result: FlexibleSearchExecResult): String? = result.resultSet
+        ?.column(0)
+        ?.filterNotNull()
+        ?.map { it.trim() }
+        ?.filter { it.isNotEmpty() }
         ?.takeIf { it.isNotEmpty() }
-        ?.replace("\n", ",")
-        ?.replace("PK", "")
-        ?.trim()
-        ?.removePrefix(",")
-        ?.removeSuffix(",")
+        ?.joinToString(",")
 
     private fun executeParametrizedGroovyQuery(
         e: AnActionEvent,
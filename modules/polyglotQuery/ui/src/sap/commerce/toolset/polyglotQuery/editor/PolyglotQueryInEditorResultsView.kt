@@ -32,6 +32,7 @@ import kotlinx.coroutines.CoroutineScope
 import sap.commerce.toolset.Plugin
 import sap.commerce.toolset.flexibleSearch.editor.FlexibleSearchSimplifiedTableView
 import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchExecResult
+import sap.commerce.toolset.flexibleSearch.exec.context.FlexibleSearchResultSet
 import sap.commerce.toolset.flexibleSearch.xsvFlexibleSearchFormat
 import sap.commerce.toolset.polyglotQuery.file.PolyglotQueryFileType
 import sap.commerce.toolset.ui.editor.InEditorResultsView
@@ -57,28 +58,28 @@ class PolyglotQueryInEditorResultsView(
                         )
                     }
 
-                    result.hasDataRows -> resultsView(fileEditor, result.output!!)
+                    result.hasDataRows -> resultsView(fileEditor, result.asResultSet()!!)
                     else -> panelView { it.noResultsView() }
                 }
             }
             ?: multiResultsNotSupportedView()
     }
 
-    suspend fun resultsView(fileEditor: PolyglotQuerySplitEditor, content: String) = if (Plugin.GRID.isActive()) csvTableView(fileEditor, content)
-    else simpleTableView(content)
+    suspend fun resultsView(fileEditor: PolyglotQuerySplitEditor, resultSet: FlexibleSearchResultSet) = if (Plugin.GRID.isActive()) csvTableView(fileEditor, resultSet)
+    else simpleTableView(resultSet)
 
-    private fun simpleTableView(content: String): JComponent = panel {
+    private fun simpleTableView(resultSet: FlexibleSearchResultSet): JComponent = panel {
         row {
-            scrollCell(FlexibleSearchSimplifiedTableView.of(content))
+            scrollCell(FlexibleSearchSimplifiedTableView.of(resultSet))
                 .align(Align.FILL)
         }.resizableRow()
     }
 
-    private suspend fun csvTableView(fileEditor: PolyglotQuerySplitEditor, content: String): JComponent {
+    private suspend fun csvTableView(fileEditor: PolyglotQuerySplitEditor, resultSet: FlexibleSearchResultSet): JComponent {
         val lvf = LightVirtualFile(
             fileEditor.file?.name + "_temp.${PolyglotQueryFileType.defaultExtension}.result.csv",
             PlainTextFileType.INSTANCE,
-            content
+            resultSet.toCsv()
         )
 
         return edtWriteAction {
@@ -0,0 +1,79 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package sap.commerce.toolset.project.compile
+
+import java.io.IOException
+import java.nio.file.FileSystems
+import java.nio.file.Path
+import kotlin.io.path.*
+
+/**
+ * Relative paths of the class files changed in the `modelclasses` directory, [full] in case of the complete re-compilation.
+ */
+data class ModelClassesChanges(
+    val updated: List<String>,
+    val deleted: List<String>,
+    val full: Boolean = false,
+) {
+    fun isEmpty() = updated.isEmpty() && deleted.isEmpty()
+
+    /**
+     * Applies changes of the `modelclasses` directory to the existing `models.jar` file.
+     */
+    @Throws(IOException::class)
+    fun applyTo(modelsJar: Path, modelClassesDirectory: Path) {
+        FileSystems.newFileSystem(modelsJar).use { jar ->
+            deleted.forEach { jar.getPath(it).deleteIfExists() }
+            updated.forEach {
+                val entry = jar.getPath(it)
+                entry.parent?.createDirectories()
+                modelClassesDirectory.resolve(it).copyTo(entry, true)
+            }
+        }
+    }
+
+    companion object {
+        val ALL = ModelClassesChanges(emptyList(), emptyList(), true)
+
+        /**
+         * Obsolete classes which were not produced again by the compilation, i.e. classes of the removed sources
+         * or nested classes removed from the changed sources, have to be deleted.
+         */
+        fun incremental(updated: List<String>, obsolete: Collection<String>) = ModelClassesChanges(
+            updated,
+            (obsolete - updated.toSet()).distinct()
+        )
+
+        /**
+         * Deletes compiled top-level and nested classes of the given source.
+         *
+         * @return relative paths of the deleted class files
+         */
+        fun deleteCompiledClasses(modelClassesDirectory: Path, source: String): List<String> {
+            val packageDirectory = modelClassesDirectory.resolve(source).parent
+                ?.takeIf { it.exists() }
+                ?: return emptyList()
+            val className = source.substringAfterLast('/').removeSuffix(".java")
+
+            return packageDirectory.listDirectoryEntries()
+                .filter { it.name == "$className.class" || (it.name.startsWith("$className$") && it.extension == "class") }
+                .onEach { it.deleteIfExists() }
+                .map { modelClassesDirectory.relativize(it).invariantSeparatorsPathString }
+        }
+    }
+}
@@ -24,6 +24,7 @@ import com.intellij.execution.process.ProcessAdapter
 import com.intellij.execution.process.ProcessEvent
 import com.intellij.openapi.compiler.*
 import com.intellij.openapi.module.Module
+import com.intellij.openapi.module.ModuleManager
 import com.intellij.openapi.projectRoots.JavaSdk
 import com.intellij.openapi.projectRoots.JavaSdkType
 import com.intellij.openapi.projectRoots.JavaSdkVersion
@@ -46,11 +47,10 @@ import java.io.FileOutputStream
 import java.io.IOException
 import java.nio.charset.StandardCharsets
 import java.nio.file.*
-import java.nio.file.attribute.BasicFileAttributes
 import java.util.jar.JarOutputStream
-import kotlin.io.path.exists
-import kotlin.io.path.extension
-import kotlin.io.path.name
+import kotlin.io.path.*
+import kotlin.time.Duration
+import kotlin.time.measureTimedValue
 
 class ProjectBeforeCompilerTask : CompileTask {
 
@@ -88,19 +88,56 @@ class ProjectBeforeCompilerTask : CompileTask {
             ?: return true
 
         val bootstrapDirectory = platformModuleRoot.resolve(HybrisConstants.PLATFORM_BOOTSTRAP_DIRECTORY)
-        if (!invokeCodeGeneration(context, platformModuleRoot, bootstrapDirectory, coreModuleRoot, vmExecutablePath, settings)) {
+        val modelClassesDirectory = bootstrapDirectory.resolve(HybrisConstants.PLATFORM_MODEL_CLASSES_DIRECTORY)
+        val modelsJar = modelsJar(bootstrapDirectory)
+        val state = ProjectCodeGenerationState(project)
+        val allModules = application.runReadAction<Array<Module>> { ModuleManager.getInstance(project).modules }
+        val fingerprint = state.fingerprint(allModules.asList(), bootstrapDirectory)
+
+        if (state.isUpToDate(fingerprint)
+            && bootstrapDirectory.resolve(HybrisConstants.GEN_SRC_DIRECTORY).exists()
+            && modelClassesDirectory.exists()
+            && modelsJar.exists()
+        ) {
+            context.addMessage(CompilerMessageCategory.INFORMATION, "[y] Skipped code generation, items.xml and beans.xml files are not changed.", null, -1, -1)
+            return true
+        }
+
+        val previousManifest = state.readManifest()
+            .takeIf { modelClassesDirectory.exists() }
+            ?: emptyMap()
+        state.invalidate()
+
+        val (generated, generationDuration) = measureTimedValue {
+            invokeCodeGeneration(context, platformModuleRoot, bootstrapDirectory, coreModuleRoot, vmExecutablePath, settings)
+        }
+        reportDuration(context, "Code generation", generationDuration)
+        if (!generated) {
             ProjectCompileService.getInstance(project).triggerRefreshGeneratedFiles(bootstrapDirectory)
             return false
         }
-        if (!invokeCodeCompilation(context, platformModule, bootstrapDirectory, sdkVersion)) {
+
+        val manifest = ProjectCodeGenerationState.manifest(bootstrapDirectory.resolve(HybrisConstants.GEN_SRC_DIRECTORY))
+        val (changes, compilationDuration) = measureTimedValue {
+            invokeCodeCompilation(context, platformModule, bootstrapDirectory, sdkVersion, previousManifest, manifest)
+        }
+        reportDuration(context, "Generated code compilation", compilationDuration)
+        if (changes == null) {
             ProjectCompileService.getInstance(project).triggerRefreshGeneratedFiles(bootstrapDirectory)
             return false
         }
-        if (!invokeModelsJarCreation(context, bootstrapDirectory)) {
+
+        val (packaged, packagingDuration) = measureTimedValue {
+            invokeModelsJarCreation(context, bootstrapDirectory, modelsJar, changes)
+        }
+        reportDuration(context, "Creation of the models.jar", packagingDuration)
+        if (!packaged) {
             ProjectCompileService.getInstance(project).triggerRefreshGeneratedFiles(bootstrapDirectory)
             return false
         }
 
+        state.save(fingerprint, manifest)
+
         return true
     }
 
@@ -163,26 +200,49 @@ class ProjectBeforeCompilerTask : CompileTask {
         return result
     }
 
+    /**
+     * Compiles only generated sources which were changed since the previous generation and sources depending on them,
+     * all other classes are taken from the existing `modelclasses` directory.
+     * Without the manifest of the previous generation all generated sources will be compiled.
+     *
+     * @return changes of the `modelclasses` directory or `null` in case of the compilation failure
+     */
     private fun invokeCodeCompilation(
         context: CompileContext,
         platformModule: Module,
         bootstrapDirectory: Path,
-        sdkVersion: JavaSdkVersion
-    ): Boolean {
-        val pathToBeDeleted = bootstrapDirectory.resolve(HybrisConstants.PLATFORM_MODEL_CLASSES_DIRECTORY)
-        cleanDirectory(context, pathToBeDeleted)
+        sdkVersion: JavaSdkVersion,
+        previousManifest: Map<String, String>,
+        manifest: Map<String, String>,
+    ): ModelClassesChanges? {
+        val genSrcDirectory = bootstrapDirectory.resolve(HybrisConstants.GEN_SRC_DIRECTORY)
+        val modelClassesDirectory = bootstrapDirectory.resolve(HybrisConstants.PLATFORM_MODEL_CLASSES_DIRECTORY)
+        val incremental = previousManifest.isNotEmpty()
+        var obsoleteClasses = emptyList<String>()
+
+        val sourcesToCompile = if (incremental) {
+            val changed = manifest.filter { (path, hash) -> previousManifest[path] != hash }.keys
+            val removed = previousManifest.keys - manifest.keys
+            val affected = dependentSources(genSrcDirectory, manifest.keys - changed, changed + removed)
+            obsoleteClasses = (changed + affected + removed)
+                .flatMap { ModelClassesChanges.deleteCompiledClasses(modelClassesDirectory, it) }
+
+            context.addMessage(
+                CompilerMessageCategory.STATISTICS,
+                "[y] Generated sources: ${changed.size} changed, ${removed.size} removed, ${affected.size} dependent, ${manifest.size - changed.size - affected.size} up-to-date.",
+                null, -1, -1
+            )
+
+            if (changed.isEmpty() && affected.isEmpty()) return ModelClassesChanges.incremental(emptyList(), obsoleteClasses)
+
+            (changed + affected).map { genSrcDirectory.resolve(it).toFile() }
+        } else {
+            cleanDirectory(context, modelClassesDirectory)
+            manifest.keys.map { genSrcDirectory.resolve(it).toFile() }
+        }
 
         try {
             context.addMessage(CompilerMessageCategory.INFORMATION, "[y] Started compilation of the generated code...", null, -1, -1)
-            val sourceFiles = mutableSetOf<File>()
-            Files.walkFileTree(
-                bootstrapDirectory.resolve(HybrisConstants.GEN_SRC_DIRECTORY),
-                object : SimpleFileVisitor<Path>() {
-                    override fun visitFile(file: Path, attrs: BasicFileAttributes): FileVisitResult {
-                        if (file.extension == "java" && file.name != "package-info.java") sourceFiles.add(file.toFile())
-                        return super.visitFile(file, attrs)
-                    }
-                })
 
             val profile = CompilerConfiguration.getInstance(context.project).getAnnotationProcessingConfiguration(platformModule)
             val sourceOption = sdkVersion.maxLanguageLevel.toJavaVersion().complianceOption()
@@ -197,10 +257,15 @@ class ProjectBeforeCompilerTask : CompileTask {
             addAnnotationProcessingOptions(options, profile)
 
             val rootManager = ModuleRootManager.getInstance(platformModule)
-            val classpath = rootManager.orderEntries().compileOnly().recursively().exportedOnly().withoutSdk().pathsList.pathList
+            val moduleClasspath = rootManager.orderEntries().compileOnly().recursively().exportedOnly().withoutSdk().pathsList.pathList
                 .map { File(it) }
             val platformClasspath = rootManager.orderEntries().compileOnly().sdkOnly().pathsList.pathList
                 .map { File(it) }
+            // unchanged classes must be resolved from the previous compilation output, not from the sources
+            val classpath = if (incremental) listOf(modelClassesDirectory.toFile()) + moduleClasspath
+            else moduleClasspath
+            val sourcePath = if (incremental) emptyList()
+            else listOf(genSrcDirectory.toFile())
 
             val classes = CompilerManager.getInstance(context.project).compileJavaCode(
                 options,
@@ -208,9 +273,9 @@ class ProjectBeforeCompilerTask : CompileTask {
                 classpath,
                 emptyList(),
                 emptyList(),
-                listOf(bootstrapDirectory.resolve(HybrisConstants.GEN_SRC_DIRECTORY).toFile()),
-                sourceFiles,
-                bootstrapDirectory.resolve(HybrisConstants.PLATFORM_MODEL_CLASSES_DIRECTORY).toFile()
+                sourcePath,
+                sourcesToCompile,
+                modelClassesDirectory.toFile()
             )
             context.addMessage(CompilerMessageCategory.STATISTICS, "[y] Compiled ${classes.size} generated classes.", null, -1, -1)
             val flushedClasses = classes
@@ -219,27 +284,82 @@ class ProjectBeforeCompilerTask : CompileTask {
                 .onEach { (path, bytes) -> FileUtil.writeToFile(File(path), bytes) }
             context.addMessage(CompilerMessageCategory.STATISTICS, "[y] Flushed ${flushedClasses.size} compiled classes.", null, -1, -1)
             context.addMessage(CompilerMessageCategory.INFORMATION, "[y] Completed compilation of the generated code.", null, -1, -1)
+
+            return if (incremental) ModelClassesChanges.incremental(
+                flushedClasses.map { (path, _) -> modelClassesDirectory.relativize(Paths.get(path)).invariantSeparatorsPathString },
+                obsoleteClasses
+            )
+            else ModelClassesChanges.ALL
         } catch (e: CompilationException) {
             e.messages.forEach {
                 context.addMessage(CompilerMessageCategory.WARNING, it.text, null, -1, -1)
             }
             context.addMessage(CompilerMessageCategory.ERROR, "[y] Generated code compilation failed.", null, -1, -1)
-            return false
+            return null
         }
+    }
 
-        return true
+    /**
+     * Generated sources referencing any of the changed classes by simple name, directly or transitively,
+     * e.g. all subclasses of the changed models down the hierarchy, which may inline constants of their parents.
+     */
+    private fun dependentSources(genSrcDirectory: Path, candidates: Set<String>, changedSources: Set<String>): Set<String> {
+        if (changedSources.isEmpty()) return emptySet()
+
+        val remaining = candidates.associateWithTo(LinkedHashMap()) { genSrcDirectory.resolve(it).readText() }
+        val affected = LinkedHashSet<String>()
+        var referenced: Collection<String> = changedSources
+
+        while (referenced.isNotEmpty() && remaining.isNotEmpty()) {
+            val classNames = referenced
+                .map { it.substringAfterLast('/').removeSuffix(".java") }
+            val pattern = Regex("\\b(" + classNames.joinToString("|") { Regex.escape(it) } + ")\\b")
+
+            referenced = remaining
+                .filterValues { pattern.containsMatchIn(it) }
+                .keys
+                .toList()
+            referenced.forEach { remaining.remove(it) }
+            affected.addAll(referenced)
+        }
+
+        return affected
     }
 
     private fun JavaVersion.complianceOption() = if (feature < 5) "1.$feature" else feature.toString()
 
-    private fun invokeModelsJarCreation(context: CompileContext, bootstrapDirectory: Path): Boolean {
-        context.addMessage(CompilerMessageCategory.INFORMATION, "[y] Started creation of the models.jar file...", null, -1, -1)
+    private fun modelsJar(bootstrapDirectory: Path): Path = System.getenv(HybrisConstants.ENV_HYBRIS_BOOTSTRAP_BIN_DIR)
+        ?.let { Paths.get(it) }
+        ?.resolve(HybrisConstants.JAR_MODELS)
+        ?: bootstrapDirectory.resolve(HybrisConstants.BIN_DIRECTORY).resolve(HybrisConstants.JAR_MODELS)
+
+    private fun invokeModelsJarCreation(context: CompileContext, bootstrapDirectory: Path, modelsJar: Path, changes: ModelClassesChanges): Boolean {
+        if (changes.full || !modelsJar.exists()) return createModelsJar(context, bootstrapDirectory, modelsJar)
+        if (changes.isEmpty()) return true
+
+        context.addMessage(CompilerMessageCategory.INFORMATION, "[y] Started update of the models.jar file...", null, -1, -1)
+
+        val modelClassesDirectory = bootstrapDirectory.resolve(HybrisConstants.PLATFORM_MODEL_CLASSES_DIRECTORY)
+        try {
+            changes.applyTo(modelsJar, modelClassesDirectory)
+        } catch (e: IOException) {
+            context.addMessage(CompilerMessageCategory.WARNING, "[y] Unable to update the models.jar file, it will be re-created: $e", null, -1, -1)
+            return createModelsJar(context, bootstrapDirectory, modelsJar)
+        }
+        context.addMessage(
+            CompilerMessageCategory.STATISTICS,
+            "[y] Updated ${changes.updated.size} and removed ${changes.deleted.size} entries of the models.jar file.",
+            null, -1, -1
+        )
+        context.addMessage(CompilerMessageCategory.INFORMATION, "[y] Completed update of the models.jar file.", null, -1, -1)
 
-        val bootstrapDir = System.getenv(HybrisConstants.ENV_HYBRIS_BOOTSTRAP_BIN_DIR)
-            ?.let { Paths.get(it) }
-            ?: bootstrapDirectory.resolve(HybrisConstants.BIN_DIRECTORY)
+        return true
+    }
+
+    private fun createModelsJar(context: CompileContext, bootstrapDirectory: Path, modelsJar: Path): Boolean {
+        context.addMessage(CompilerMessageCategory.INFORMATION, "[y] Started creation of the models.jar file...", null, -1, -1)
 
-        val modelsFile = bootstrapDir.resolve(HybrisConstants.JAR_MODELS).toFile()
+        val modelsFile = modelsJar.toFile()
         if (modelsFile.exists()) modelsFile.delete()
 
         try {
@@ -264,6 +384,12 @@ class ProjectBeforeCompilerTask : CompileTask {
         return true
     }
 
+    private fun reportDuration(context: CompileContext, stage: String, duration: Duration) = context.addMessage(
+        CompilerMessageCategory.STATISTICS,
+        "[y] $stage took ${duration.inWholeMilliseconds} ms.",
+        null, -1, -1
+    )
+
     private fun cleanDirectory(context: CompileContext, pathToBeDeleted: Path) {
         if (!pathToBeDeleted.exists()) return
 
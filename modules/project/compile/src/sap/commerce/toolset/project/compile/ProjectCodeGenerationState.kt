@@ -0,0 +1,144 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package sap.commerce.toolset.project.compile
+
+import com.intellij.openapi.diagnostic.thisLogger
+import com.intellij.openapi.module.Module
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.project.getProjectCachePath
+import sap.commerce.toolset.HybrisConstants
+import sap.commerce.toolset.project.root
+import java.io.IOException
+import java.nio.file.FileVisitResult
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.SimpleFileVisitor
+import java.nio.file.attribute.BasicFileAttributes
+import java.util.zip.CRC32
+import kotlin.io.path.*
+
+/**
+ * Keeps track of the inputs and outputs of the last successful code generation.
+ *
+ * The inputs fingerprint is built from the `*-items.xml` and `*-beans.xml` files of all extensions and the code generator itself,
+ * the outputs manifest holds content hashes of the generated sources, so only changed sources have to be recompiled.
+ */
+class ProjectCodeGenerationState(project: Project) {
+
+    private val stateDirectory = project.getProjectCachePath(CACHE_DIRECTORY)
+    private val fingerprintFile = stateDirectory.resolve("inputs.fingerprint")
+    private val manifestFile = stateDirectory.resolve("gensrc.manifest")
+
+    fun fingerprint(modules: Collection<Module>, bootstrapDirectory: Path): String {
+        val crc = CRC32()
+        val inputs = modules
+            .mapNotNull { it.root()?.resolve(HybrisConstants.RESOURCES_DIRECTORY) }
+            .filter { it.isDirectory() }
+            .flatMap { resources ->
+                resources.listDirectoryEntries()
+                    .filter { it.name.endsWith(HybrisConstants.HYBRIS_ITEMS_XML_FILE_ENDING) || it.name.endsWith(HybrisConstants.HYBRIS_BEANS_XML_FILE_ENDING) }
+            }
+            .plus(bootstrapDirectory.resolve(HybrisConstants.BIN_DIRECTORY).resolve("ybootstrap.jar"))
+            .filter { it.isRegularFile() }
+            .map { it.toAbsolutePath().normalize() }
+            .sorted()
+
+        inputs.forEach {
+            val attributes = it.readAttributes<BasicFileAttributes>()
+            crc.update("$it:${attributes.size()}:${attributes.lastModifiedTime().toMillis()}\n".toByteArray())
+        }
+
+        return "${inputs.size}:${crc.value}"
+    }
+
+    fun isUpToDate(fingerprint: String) = try {
+        fingerprintFile.exists() && fingerprintFile.readText() == fingerprint
+    } catch (e: IOException) {
+        thisLogger().debug("Unable to read code generation fingerprint: $fingerprintFile", e)
+        false
+    }
+
+    fun invalidate() {
+        fingerprintFile.deleteIfExists()
+    }
+
+    /**
+     * Relative path of the generated source to the hash of its content, empty if there is no manifest of the previous generation.
+     */
+    fun readManifest(): Map<String, String> = try {
+        if (manifestFile.exists()) manifestFile.readLines()
+            .mapNotNull {
+                val separator = it.lastIndexOf('=')
+                if (separator > 0) it.substring(0, separator) to it.substring(separator + 1)
+                else null
+            }
+            .toMap()
+        else emptyMap()
+    } catch (e: IOException) {
+        thisLogger().debug("Unable to read generated sources manifest: $manifestFile", e)
+        emptyMap()
+    }
+
+    fun save(fingerprint: String, manifest: Map<String, String>) {
+        try {
+            stateDirectory.createDirectories()
+            manifestFile.writeLines(manifest.entries
+                .sortedBy { it.key }
+                .map { "${it.key}=${it.value}" })
+            fingerprintFile.writeText(fingerprint)
+        } catch (e: IOException) {
+            thisLogger().warn("Unable to save code generation state: $stateDirectory", e)
+            invalidate()
+        }
+    }
+
+    companion object {
+        private const val CACHE_DIRECTORY = "sap-commerce-codegen"
+
+        private val PACKAGE_DECLARATION = Regex("^package\\s", Regex.Option.MULTILINE)
+
+        /**
+         * Builds the manifest of the Java sources located in the given directory.
+         *
+         * Generated sources start with a `Generated at <timestamp>` header comment which differs on every generation run,
+         * so only the content starting from the `package` declaration is hashed.
+         */
+        fun manifest(sourcesDirectory: Path): Map<String, String> {
+            val manifest = mutableMapOf<String, String>()
+            if (!sourcesDirectory.exists()) return manifest
+
+            Files.walkFileTree(sourcesDirectory, object : SimpleFileVisitor<Path>() {
+                override fun visitFile(file: Path, attrs: BasicFileAttributes): FileVisitResult {
+                    if (file.extension == "java" && file.name != "package-info.java") {
+                        val bytes = hashedContent(file.readText())
+                        val crc = CRC32().apply { update(bytes) }
+                        manifest[sourcesDirectory.relativize(file).invariantSeparatorsPathString] = "${bytes.size}:${crc.value}"
+                    }
+                    return super.visitFile(file, attrs)
+                }
+            })
+
+            return manifest
+        }
+
+        private fun hashedContent(source: String): ByteArray {
+            val start = PACKAGE_DECLARATION.find(source)?.range?.first ?: 0
+            return source.substring(start).toByteArray()
+        }
+    }
+}
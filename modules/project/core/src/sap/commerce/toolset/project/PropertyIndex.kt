@@ -0,0 +1,229 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.project
+
+import com.intellij.lang.properties.IProperty
+import com.intellij.lang.properties.psi.PropertiesFile
+
+/**
+ * Snapshot of the resolved project properties.
+ *
+ * Placeholders are resolved once per snapshot, the placeholder dependency graph allows to re-resolve only affected
+ * properties when the next snapshot is created from the previous one.
+ * Keys are additionally indexed with a trie, used to find the longest property key within a query,
+ * and with trigrams, used to find property keys containing a query.
+ */
+internal class PropertyIndex private constructor(
+    private val source: Collection<IProperty>,
+    private val files: List<PropertiesFile>,
+    private val filesModificationStamp: Long,
+    private val rawValues: Map<String, String>,
+    private val dependencies: Map<String, Set<String>>,
+    private val dependents: Map<String, Set<String>>,
+    val resolvedValues: Map<String, String>,
+) {
+
+    private val properties: List<IProperty> = source.filter { it.key != null }
+    private val trie by lazy { KeyTrie(properties) }
+    private val trigrams by lazy {
+        val index = HashMap<String, MutableList<Int>>()
+        properties.forEachIndexed { i, property ->
+            trigramsOf(property.key!!).forEach { index.computeIfAbsent(it) { mutableListOf() }.add(i) }
+        }
+        index
+    }
+
+    fun isUpToDate(source: Collection<IProperty>) = this.source === source
+        && this.filesModificationStamp == modificationStamp(files)
+
+    fun findContaining(query: String): List<IProperty> {
+        if (query.isBlank()) return properties
+        if (query.length < TRIGRAM_LENGTH) return properties.filter { it.key!!.contains(query) }
+
+        val candidates = trigramsOf(query)
+            .map { trigrams[it] ?: return emptyList() }
+            .minBy { it.size }
+
+        return candidates
+            .map { properties[it] }
+            .filter { it.key!!.contains(query) }
+    }
+
+    fun findLongestContainedIn(query: String): IProperty? = if (query.isBlank()) properties.maxByOrNull { it.key!!.length }
+    else trie.findLongestContainedIn(query)
+
+    /**
+     * Creates a new snapshot, reusing resolved values of the previous one which are not affected by the changed properties.
+     */
+    fun update(source: Collection<IProperty>, rawValues: Map<String, String>): PropertyIndex {
+        val changedKeys = (rawValues.keys + this.rawValues.keys)
+            .filter { rawValues[it] != this.rawValues[it] }
+        val newDependencies = dependencies(rawValues)
+        val newDependents = dependents(newDependencies)
+
+        val affectedKeys = HashSet<String>()
+        val queue = ArrayDeque(changedKeys)
+        while (queue.isNotEmpty()) {
+            val key = queue.removeFirst()
+            if (!affectedKeys.add(key)) continue
+            dependents[key]?.let { queue.addAll(it) }
+            newDependents[key]?.let { queue.addAll(it) }
+        }
+
+        val reused = resolvedValues.filterKeys { it !in affectedKeys && it in rawValues }
+        return create(source, rawValues, newDependencies, newDependents, reused)
+    }
+
+    companion object {
+        private const val NESTED_PROPERTY_PREFIX = "\${"
+        private const val NESTED_PROPERTY_SUFFIX = "}"
+        private const val TRIGRAM_LENGTH = 3
+
+        fun create(source: Collection<IProperty>, rawValues: Map<String, String>): PropertyIndex {
+            val dependencies = dependencies(rawValues)
+            return create(source, rawValues, dependencies, dependents(dependencies), emptyMap())
+        }
+
+        private fun create(
+            source: Collection<IProperty>,
+            rawValues: Map<String, String>,
+            dependencies: Map<String, Set<String>>,
+            dependents: Map<String, Set<String>>,
+            reused: Map<String, String>
+        ): PropertyIndex {
+            val resolved = HashMap(reused)
+            rawValues.keys.forEach { resolve(it, rawValues, resolved, HashSet()) }
+
+            val resolvedValues = rawValues.keys.associateWithTo(LinkedHashMap()) { resolved[it]!! }
+            val files = source.mapNotNull { it.propertiesFile }.distinct()
+
+            return PropertyIndex(source, files, modificationStamp(files), rawValues, dependencies, dependents, resolvedValues)
+        }
+
+        private fun resolve(key: String, rawValues: Map<String, String>, resolved: MutableMap<String, String>, visiting: MutableSet<String>): String? {
+            resolved[key]?.let { return it }
+            val value = rawValues[key] ?: return null
+            if (!value.contains(NESTED_PROPERTY_PREFIX)) return value.also { resolved[key] = it }
+
+            visiting.add(key)
+            val replacedValue = StringBuilder(value.length)
+            var lastIndex = 0
+            while (true) {
+                val startIndex = value.indexOf(NESTED_PROPERTY_PREFIX, lastIndex)
+                val endIndex = if (startIndex == -1) -1 else value.indexOf(NESTED_PROPERTY_SUFFIX, startIndex + NESTED_PROPERTY_PREFIX.length)
+                if (startIndex == -1 || endIndex == -1) break
+
+                val nestedKey = value.substring(startIndex + NESTED_PROPERTY_PREFIX.length, endIndex)
+                val nestedValue = nestedKey
+                    .takeUnless { it in visiting }
+                    ?.let { resolve(it, rawValues, resolved, visiting) }
+                    ?.takeUnless { it.contains(NESTED_PROPERTY_PREFIX) }
+
+                replacedValue.append(value, lastIndex, startIndex)
+                if (nestedValue != null) replacedValue.append(nestedValue)
+                else replacedValue.append(value, startIndex, endIndex + NESTED_PROPERTY_SUFFIX.length)
+                lastIndex = endIndex + NESTED_PROPERTY_SUFFIX.length
+            }
+            replacedValue.append(value, lastIndex, value.length)
+            visiting.remove(key)
+
+            return replacedValue.toString().also { resolved[key] = it }
+        }
+
+        private fun dependencies(rawValues: Map<String, String>) = rawValues
+            .filterValues { it.contains(NESTED_PROPERTY_PREFIX) }
+            .mapValues { (_, value) ->
+                val nestedKeys = HashSet<String>()
+                var lastIndex = 0
+                while (true) {
+                    val startIndex = value.indexOf(NESTED_PROPERTY_PREFIX, lastIndex)
+                    val endIndex = if (startIndex == -1) -1 else value.indexOf(NESTED_PROPERTY_SUFFIX, startIndex + NESTED_PROPERTY_PREFIX.length)
+                    if (startIndex == -1 || endIndex == -1) break
+
+                    nestedKeys.add(value.substring(startIndex + NESTED_PROPERTY_PREFIX.length, endIndex))
+                    lastIndex = endIndex + NESTED_PROPERTY_SUFFIX.length
+                }
+                nestedKeys
+            }
+
+        private fun dependents(dependencies: Map<String, Set<String>>): Map<String, Set<String>> {
+            val dependents = HashMap<String, MutableSet<String>>()
+            dependencies.forEach { (key, nestedKeys) ->
+                nestedKeys.forEach { dependents.computeIfAbsent(it) { HashSet() }.add(key) }
+            }
+            return dependents
+        }
+
+        private fun modificationStamp(files: List<PropertiesFile>) = files.sumOf { it.containingFile.modificationStamp }
+
+        private fun trigramsOf(text: String) = (0..text.length - TRIGRAM_LENGTH)
+            .mapTo(LinkedHashSet()) { text.substring(it, it + TRIGRAM_LENGTH) }
+    }
+
+    private class KeyTrie(properties: List<IProperty>) {
+
+        private val root = Node()
+
+        init {
+            properties.forEach { property ->
+                var node = root
+                property.key!!.forEach { node = node.childOrCreate(it) }
+                node.property = property
+            }
+        }
+
+        fun findLongestContainedIn(query: String): IProperty? {
+            var longest: IProperty? = null
+            var longestLength = 0
+
+            for (start in query.indices) {
+                if (query.length - start <= longestLength) break
+
+                var node: Node? = root
+                var index = start
+                while (node != null && index < query.length) {
+                    node = node.child(query[index++])
+                    val property = node?.property ?: continue
+                    if (index - start > longestLength) {
+                        longest = property
+                        longestLength = index - start
+                    }
+                }
+            }
+            return longest
+        }
+
+        private class Node {
+            var property: IProperty? = null
+            private var chars = CharArray(0)
+            private var children = emptyArray<Node>()
+
+            fun child(char: Char): Node? {
+                for (i in chars.indices) if (chars[i] == char) return children[i]
+                return null
+            }
+
+            fun childOrCreate(char: Char): Node = child(char)
+                ?: Node().also {
+                    chars += char
+                    children += it
+                }
+        }
+    }
+}
@@ -57,6 +57,9 @@ class PropertyService(private val project: Project) {
     private val nestedPropertySuffix = "}"
     private val optionalPropertiesFilePattern = Pattern.compile("([1-9]\\d)-(\\w*)\\.properties")
 
+    @Volatile
+    private var propertyIndex: PropertyIndex? = null
+
     private val cachedProperties = CachedValuesManager.getManager(project).createCachedValue(
         {
             val result = LinkedHashMap<String, IProperty>()
@@ -121,29 +124,15 @@ class PropertyService(private val project: Project) {
     fun findProperty(query: String): String? = findAllProperties()[query]
 
     fun findAutoCompleteProperties(query: String): List<IProperty> = application.runReadAction<List<IProperty>> {
-        findAllIProperties()
-            .filter { it.key != null && it.key!!.contains(query) || query.isBlank() }
+        findPropertyIndex().findContaining(query)
     }
 
     fun findMacroProperty(query: String): IProperty? = application.runReadAction<IProperty?> {
-        findAllIProperties()
-            .takeIf { it.isNotEmpty() }
-            ?.filter { it.key != null && query.contains(it.key!!) || query.isBlank() }
-            ?.takeIf { it.isNotEmpty() }
-            ?.reduce { one, two -> if (one.key!!.length > two.key!!.length) one else two }
+        findPropertyIndex().findLongestContainedIn(query)
     }
 
     fun findAllProperties(): Map<String, String> = application.runReadAction<Map<String, String>> {
-        findAllIProperties()
-            .filter { it.value != null && it.key != null }
-            .associateTo(LinkedHashMap()) { it.key!! to it.value!! }
-            .let { properties ->
-                addEnvironmentProperties(properties)
-                properties
-                    .filter { it.value.contains(nestedPropertyPrefix) }
-                    .forEach { replacePlaceholder(properties, it.key, mutableSetOf()) }
-                return@let properties
-            }
+        findPropertyIndex().resolvedValues
     }
 
     fun initCache() = ReadAction
@@ -158,6 +147,24 @@ class PropertyService(private val project: Project) {
 
     private fun findAllIProperties() = cachedProperties.value
 
+    /**
+     * Resolved properties are re-used while neither the set of properties files nor their content is changed,
+     * otherwise only properties affected by the changed values are resolved again.
+     */
+    private fun findPropertyIndex(): PropertyIndex {
+        val properties = findAllIProperties()
+        val currentIndex = propertyIndex
+        if (currentIndex != null && currentIndex.isUpToDate(properties)) return currentIndex
+
+        val rawValues = properties
+            .filter { it.value != null && it.key != null }
+            .associateTo(LinkedHashMap()) { it.key!! to it.value!! }
+            .also { addEnvironmentProperties(it) }
+
+        return (currentIndex?.update(properties, rawValues) ?: PropertyIndex.create(properties, rawValues))
+            .also { propertyIndex = it }
+    }
+
     private fun addEnvironmentProperties(properties: MutableMap<String, String>) {
         val platformHomePropertyKey = HybrisConstants.PROPERTY_PLATFORMHOME
         getPlatformHome()
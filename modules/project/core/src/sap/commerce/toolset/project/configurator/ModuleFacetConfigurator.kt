@@ -26,6 +26,15 @@ import sap.commerce.toolset.project.descriptor.ModuleDescriptor
 
 interface ModuleFacetConfigurator : Configurator {
 
+    /**
+     * Read-only part of the facet configuration, invoked concurrently for all chosen modules before the project model is modified.
+     * Can be used to warm up file system lookups required by [configureModuleFacet].
+     */
+    fun prepare(
+        hybrisProjectDescriptor: HybrisProjectDescriptor,
+        moduleDescriptor: ModuleDescriptor,
+    ) = Unit
+
     fun configureModuleFacet(
         module: Module,
         hybrisProjectDescriptor: HybrisProjectDescriptor,
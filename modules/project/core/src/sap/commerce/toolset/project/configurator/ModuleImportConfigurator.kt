@@ -29,9 +29,20 @@ interface ModuleImportConfigurator : Configurator {
 
     fun isApplicable(moduleDescriptor: ModuleDescriptor): Boolean
 
+    /**
+     * Read-only part of the module import, invoked concurrently for all chosen modules before the project model is modified.
+     * Must not access the project model, computed data has to be stored in the [plan] and will be passed to [configure].
+     */
+    fun prepare(
+        hybrisProjectDescriptor: HybrisProjectDescriptor,
+        moduleDescriptor: ModuleDescriptor,
+        plan: ModuleImportPlan,
+    ) = Unit
+
     fun configure(
         hybrisProjectDescriptor: HybrisProjectDescriptor,
         moduleDescriptor: ModuleDescriptor,
+        plan: ModuleImportPlan,
         modifiableModelsProvider: IdeModifiableModelsProvider,
         rootProjectModifiableModel: ModifiableModuleModel,
     ): Module
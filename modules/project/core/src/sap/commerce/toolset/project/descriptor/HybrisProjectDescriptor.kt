@@ -33,6 +33,12 @@ interface HybrisProjectDescriptor {
 
     var project: Project?
     var refresh: Boolean
+
+    /**
+     * Refresh reconfigures only modules changed since the previous import and their dependents, other modules are kept as-is.
+     */
+    var differentialRefresh: Boolean
+
     val foundModules: MutableList<ModuleDescriptor>
     var chosenModuleDescriptors: MutableList<ModuleDescriptor>
     val configHybrisModuleDescriptor: ConfigModuleDescriptor?
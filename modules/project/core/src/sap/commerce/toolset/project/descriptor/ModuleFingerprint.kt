@@ -0,0 +1,65 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.project.descriptor
+
+import com.intellij.util.io.DigestUtil
+import sap.commerce.toolset.HybrisConstants
+import java.io.File
+
+/**
+ * Cheap fingerprint of everything the import of a single module depends on: its type and location, dependencies
+ * and size and modification time of the extension descriptors and libraries.
+ */
+object ModuleFingerprint {
+
+    private val DESCRIPTOR_FILES = listOf(
+        HybrisConstants.EXTENSION_INFO_XML,
+        HybrisConstants.PROJECT_PROPERTIES_FILE,
+        HybrisConstants.EXTERNAL_DEPENDENCIES_XML,
+    )
+
+    fun compute(moduleDescriptor: ModuleDescriptor): String {
+        val moduleRootDirectory = moduleDescriptor.moduleRootDirectory
+        val fingerprint = buildString {
+            append(moduleDescriptor::class.java.name)
+            append('|').append(moduleRootDirectory.absolutePath)
+            append('|').append(moduleDescriptor.descriptorType)
+            append('|').append(moduleDescriptor.importStatus)
+
+            moduleDescriptor.getDirectDependencies()
+                .map { it.ideaModuleName() }
+                .sorted()
+                .joinTo(this, prefix = "|", separator = ",")
+
+            DESCRIPTOR_FILES.forEach { appendFile(File(moduleRootDirectory, it)) }
+
+            File(moduleRootDirectory, HybrisConstants.LIB_DIRECTORY)
+                .listFiles()
+                ?.sortedBy { it.name }
+                ?.forEach { appendFile(it) }
+        }
+
+        return DigestUtil.sha256Hex(fingerprint.toByteArray())
+    }
+
+    private fun StringBuilder.appendFile(file: File) = append('|')
+        .append(file.name)
+        .append(':').append(file.length())
+        .append(':').append(file.lastModified())
+}
@@ -0,0 +1,51 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.project.settings
+
+import com.intellij.openapi.components.*
+import com.intellij.openapi.project.Project
+import sap.commerce.toolset.project.descriptor.ModuleDescriptor
+import sap.commerce.toolset.project.descriptor.ModuleFingerprint
+import sap.commerce.toolset.project.settings.state.ModuleFingerprintsState
+
+/**
+ * Fingerprints of the modules as of the last import or refresh, keyed by the IDE module name.
+ */
+@State(
+    name = "HybrisModuleFingerprints",
+    storages = [Storage(StoragePathMacros.CACHE_FILE)]
+)
+@Service(Service.Level.PROJECT)
+class ModuleFingerprints : SerializablePersistentStateComponent<ModuleFingerprintsState>(ModuleFingerprintsState()) {
+
+    var fingerprints
+        get() = state.fingerprints
+        set(value) {
+            updateState { it.copy(fingerprints = value) }
+        }
+
+    fun update(moduleDescriptors: Collection<ModuleDescriptor>) {
+        fingerprints = moduleDescriptors.associate { it.ideaModuleName() to ModuleFingerprint.compute(it) }
+    }
+
+    companion object {
+        @JvmStatic
+        fun getInstance(project: Project): ModuleFingerprints = project.service()
+    }
+}
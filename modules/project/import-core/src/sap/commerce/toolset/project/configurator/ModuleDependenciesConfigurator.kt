@@ -22,6 +22,7 @@ import com.intellij.openapi.externalSystem.service.project.IdeModifiableModelsPr
 import com.intellij.openapi.module.Module
 import com.intellij.openapi.roots.DependencyScope
 import com.intellij.openapi.roots.ModifiableRootModel
+import com.intellij.openapi.roots.ModuleOrderEntry
 import sap.commerce.toolset.project.descriptor.HybrisProjectDescriptor
 import sap.commerce.toolset.project.descriptor.impl.YOotbRegularModuleDescriptor
 import sap.commerce.toolset.project.descriptor.impl.YPlatformExtModuleDescriptor
@@ -80,8 +81,12 @@ class ModuleDependenciesConfigurator : ProjectImportConfigurator {
         dependencyName: String,
         rootModel: ModifiableRootModel
     ) {
-        val moduleOrderEntry = allModules[dependencyName]
-            ?.let { rootModel.addModuleOrderEntry(it) }
+        // modules kept as-is during differential refresh already have their dependencies
+        val moduleOrderEntry = rootModel.orderEntries
+            .filterIsInstance<ModuleOrderEntry>()
+            .find { it.moduleName == dependencyName }
+            ?: allModules[dependencyName]
+                ?.let { rootModel.addModuleOrderEntry(it) }
             ?: rootModel.addInvalidModuleEntry(dependencyName)
 
         with(moduleOrderEntry) {
@@ -57,24 +57,30 @@ class PlatformModuleDescriptorImpl(
         val library = libraryTableModifiableModel.getLibraryByName(HybrisConstants.PLATFORM_LIBRARY_GROUP)
             ?: libraryTableModifiableModel.createLibrary(HybrisConstants.PLATFORM_LIBRARY_GROUP)
 
+        // project library survives the differential refresh, so it has to be re-populated from scratch
         if (libraryTableModifiableModel is LibrariesModifiableModel) {
             with(libraryTableModifiableModel.getLibraryEditor(library)) {
+                removeAllRoots()
+
                 for (libRoot in libraryDirectories) {
                     addJarDirectory(VfsUtil.getUrlForLibraryRoot(libRoot), true, OrderRootType.CLASSES)
-
-                    sourceCodeRoot
-                        ?.let {
-                            if (sourceCodeRoot.fileSystem is JarFileSystem) {
-                                addJarDirectory(sourceCodeRoot, true, OrderRootType.SOURCES)
-                            } else {
-                                addRoot(sourceCodeRoot, OrderRootType.SOURCES)
-                            }
-                        }
                 }
+                sourceCodeRoot
+                    ?.let {
+                        if (sourceCodeRoot.fileSystem is JarFileSystem) {
+                            addJarDirectory(sourceCodeRoot, true, OrderRootType.SOURCES)
+                        } else {
+                            addRoot(sourceCodeRoot, OrderRootType.SOURCES)
+                        }
+                    }
                 addRoot(VfsUtil.getUrlForLibraryRoot(bootStrapSrc), OrderRootType.SOURCES)
             }
         } else {
             with(modifiableModelsProvider.getModifiableLibraryModel(library)) {
+                OrderRootType.getAllTypes().forEach { rootType ->
+                    getUrls(rootType).forEach { removeRoot(it, rootType) }
+                }
+
                 for (libRoot in libraryDirectories) {
                     addJarDirectory(VfsUtil.getUrlForLibraryRoot(libRoot), true)
                 }
@@ -37,6 +37,7 @@ import sap.commerce.toolset.Notifications;
 import sap.commerce.toolset.project.configurator.PostImportBulkConfigurator;
 import sap.commerce.toolset.project.descriptor.*;
 import sap.commerce.toolset.project.descriptor.impl.ExternalModuleDescriptor;
+import sap.commerce.toolset.project.settings.ModuleFingerprints;
 import sap.commerce.toolset.project.settings.ProjectSettings;
 import sap.commerce.toolset.project.tasks.ImportProjectProgressModalWindow;
 import sap.commerce.toolset.project.tasks.SearchModulesRootsTaskModalWindow;
@@ -140,11 +141,27 @@ public class DefaultHybrisProjectImportBuilder extends ProjectImportBuilder<Modu
 
         if (allModules.isEmpty()) return Collections.emptyList();
 
-        this.performProjectsCleanup(allModules);
-
+        final var moduleFingerprints = ModuleFingerprints.getInstance(project);
         final var modules = new ArrayList<Module>();
-        new ImportProjectProgressModalWindow(project, hybrisProjectDescriptor, modules)
-            .queue();
+
+        if (hybrisProjectDescriptor.getDifferentialRefresh()) {
+            final var diff = ModuleRefreshDiff.compute(allModules, moduleFingerprints.getFingerprints());
+            LOG.info("Differential refresh, reconfiguring %d of %d modules, removed modules: %s".formatted(
+                diff.getAffected().size(), allModules.size(), diff.getRemovedModuleNames()
+            ));
+
+            this.performDifferentialCleanup(project, diff);
+
+            new ImportProjectProgressModalWindow(project, hybrisProjectDescriptor, modules, diff.getUnchanged(),
+                () -> moduleFingerprints.setFingerprints(diff.getFingerprints())
+            ).queue();
+        } else {
+            this.performProjectsCleanup(allModules);
+
+            new ImportProjectProgressModalWindow(project, hybrisProjectDescriptor, modules, Collections.emptyList(),
+                () -> moduleFingerprints.update(allModules)
+            ).queue();
+        }
 
         if (isUpdate()) {
             PostImportBulkConfigurator.getInstance(project).configure(hybrisProjectDescriptor);
@@ -184,6 +201,29 @@ public class DefaultHybrisProjectImportBuilder extends ProjectImportBuilder<Modu
         }
     }
 
+    private void performDifferentialCleanup(@NotNull final Project project, @NotNull final ModuleRefreshDiff diff) {
+        final var moduleNames = new HashSet<>(diff.getRemovedModuleNames());
+        diff.getAffected().forEach(moduleDescriptor -> moduleNames.add(moduleDescriptor.ideaModuleName()));
+
+        final var unchangedModuleNames = diff.getUnchanged().stream()
+            .map(ModuleDescriptor::ideaModuleName)
+            .collect(Collectors.toSet());
+
+        final var moduleFiles = new ArrayList<>(ProjectRefreshService.getInstance(project).removeModules(moduleNames, unchangedModuleNames, diff.getFull()));
+        diff.getAffected().stream()
+            .map(ModuleDescriptor::ideaModuleFile)
+            .filter(File::exists)
+            .filter(Predicate.not(moduleFiles::contains))
+            .forEach(moduleFiles::add);
+        Collections.sort(moduleFiles);
+
+        try {
+            VirtualFileSystemService.getInstance().removeAllFiles(moduleFiles);
+        } catch (IOException e) {
+            LOG.error("Can not remove old module files.", e);
+        }
+    }
+
     private List<File> getAllImlFiles(final File dir) {
         final List<File> imlFiles = Arrays.stream(dir.listFiles(
             e -> e.getName().endsWith(HybrisConstants.NEW_IDEA_MODULE_FILE_EXTENSION)
@@ -301,7 +341,8 @@ public class DefaultHybrisProjectImportBuilder extends ProjectImportBuilder<Modu
         final var hybrisProjectDescriptor = getHybrisProjectDescriptor();
 
         final var chosenForImport = new ArrayList<>(list);
-        final var alreadyOpenedModules = isUpdate()
+        // on differential refresh existing modules are kept and only the changed ones are reconfigured
+        final var alreadyOpenedModules = isUpdate() && !hybrisProjectDescriptor.getDifferentialRefresh()
             ? hybrisProjectDescriptor.getAlreadyOpenedModules() // TODO: so what's the purpose if on refresh we remove modules in the ProjectRefreshAction.removeOldProjectData(project);
             : Collections.emptySet();
         chosenForImport.removeAll(alreadyOpenedModules);
@@ -0,0 +1,75 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.project
+
+import sap.commerce.toolset.project.descriptor.ConfigModuleDescriptor
+import sap.commerce.toolset.project.descriptor.ModuleDescriptor
+import sap.commerce.toolset.project.descriptor.ModuleFingerprint
+import sap.commerce.toolset.project.descriptor.PlatformModuleDescriptor
+
+/**
+ * Difference between the modules chosen for the refresh and the fingerprints stored during the previous import.
+ *
+ * Changed and added modules are affected together with all modules depending on them, directly or transitively.
+ * Change of the platform or config module affects the whole project.
+ */
+class ModuleRefreshDiff private constructor(
+    val fingerprints: Map<String, String>,
+    val affected: Collection<ModuleDescriptor>,
+    val unchanged: Collection<ModuleDescriptor>,
+    val removedModuleNames: Collection<String>,
+    val full: Boolean,
+) {
+
+    companion object {
+        @JvmStatic
+        fun compute(moduleDescriptors: Collection<ModuleDescriptor>, previousFingerprints: Map<String, String>): ModuleRefreshDiff {
+            val fingerprints = moduleDescriptors.associate { it.ideaModuleName() to ModuleFingerprint.compute(it) }
+            val removedModuleNames = previousFingerprints.keys - fingerprints.keys
+            val dirty = moduleDescriptors
+                .filter { previousFingerprints[it.ideaModuleName()] != fingerprints[it.ideaModuleName()] }
+
+            val dependents = mutableMapOf<ModuleDescriptor, MutableSet<ModuleDescriptor>>()
+            moduleDescriptors.forEach { moduleDescriptor ->
+                moduleDescriptor.getDirectDependencies().forEach { dependents.getOrPut(it) { mutableSetOf() }.add(moduleDescriptor) }
+            }
+
+            val affected = LinkedHashSet<ModuleDescriptor>()
+            val queue = ArrayDeque(dirty)
+            while (queue.isNotEmpty()) {
+                val moduleDescriptor = queue.removeFirst()
+                if (affected.add(moduleDescriptor)) {
+                    dependents[moduleDescriptor]?.let { queue.addAll(it) }
+                }
+            }
+            val chosenAffected = moduleDescriptors.filter { it in affected }
+
+            val full = chosenAffected.any { it is PlatformModuleDescriptor || it is ConfigModuleDescriptor }
+            if (full) return ModuleRefreshDiff(fingerprints, moduleDescriptors, emptyList(), removedModuleNames, true)
+
+            return ModuleRefreshDiff(
+                fingerprints,
+                chosenAffected,
+                moduleDescriptors.filterNot { it in affected },
+                removedModuleNames,
+                false
+            )
+        }
+    }
+}
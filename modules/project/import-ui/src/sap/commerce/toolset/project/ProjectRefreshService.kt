@@ -33,20 +33,28 @@ import com.intellij.projectImport.ProjectImportProvider
 import sap.commerce.toolset.directory
 import sap.commerce.toolset.project.configurator.ProjectRefreshConfigurator
 import sap.commerce.toolset.project.facet.YFacet
+import sap.commerce.toolset.project.settings.ModuleFingerprints
 import sap.commerce.toolset.project.settings.ProjectSettings
 import sap.commerce.toolset.project.wizard.RefreshSupport
+import java.io.File
 
 @Service(Service.Level.PROJECT)
 class ProjectRefreshService(private val project: Project) {
 
+    /**
+     * Differential refresh keeps existing modules and reconfigures only the changed ones, see [ModuleRefreshDiff].
+     * Falls back to the full refresh when fingerprints of the previous import are not available.
+     */
     @Throws(ConfigurationException::class)
-    fun refresh() {
+    fun refresh(differential: Boolean = false) {
         val projectDirectory = project.directory ?: return
         val provider = getHybrisProjectImportProvider() ?: return
         val compilerProjectExtension = CompilerProjectExtension.getInstance(project) ?: return
         val projectSettings = ProjectSettings.getInstance(project)
+        val differentialRefresh = differential && ModuleFingerprints.getInstance(project).fingerprints.isNotEmpty()
 
-        removeOldProjectData()
+        if (differentialRefresh) ProjectRefreshConfigurator.EP.extensionList.forEach { it.beforeRefresh(project) }
+        else removeOldProjectData()
 
         val wizard = object : AddModuleWizard(project, projectDirectory, provider) {
             override fun init() = Unit
@@ -58,6 +66,10 @@ class ProjectRefreshService(private val project: Project) {
             it.compilerOutputDirectory = compilerProjectExtension.compilerOutputUrl
         }
 
+        (wizard.projectBuilder as? HybrisProjectImportBuilder)
+            ?.getHybrisProjectDescriptor()
+            ?.differentialRefresh = differentialRefresh
+
         wizard.sequence.getAllSteps()
             .filterIsInstance<RefreshSupport>()
             .forEach { step -> step.refresh(projectSettings) }
@@ -86,11 +98,44 @@ class ProjectRefreshService(private val project: Project) {
         ProjectRefreshConfigurator.EP.extensionList.forEach { it.beforeRefresh(project) }
     }
 
+    /**
+     * Removes given modules and returns their module files, project libraries are removed only if requested.
+     *
+     * Same as for the full refresh, modules without [YFacet] are removed only if enabled via [ProjectSettings.removeExternalModulesOnRefresh],
+     * in such a case all of them are removed, except the kept ones.
+     */
+    fun removeModules(moduleNames: Collection<String>, keptModuleNames: Collection<String>, removeLibraries: Boolean): Collection<File> {
+        val moduleModel = ModuleManager.getInstance(project).getModifiableModel()
+        val libraryModel = LibraryTablesRegistrar.getInstance().getLibraryTable(project).modifiableModel
+        val removeExternalModulesOnRefresh = ProjectSettings.getInstance(project).removeExternalModulesOnRefresh
+
+        val moduleFiles = moduleModel.modules
+            .filter { module ->
+                if (YFacet.get(module) != null) module.name in moduleNames
+                else removeExternalModulesOnRefresh && module.name !in keptModuleNames
+            }
+            .map { module ->
+                val moduleFile = module.moduleNioFile.toFile()
+                moduleModel.disposeModule(module)
+                moduleFile
+            }
+
+        if (removeLibraries) libraryModel.libraries.forEach { libraryModel.removeLibrary(it) }
+
+        ApplicationManager.getApplication().runWriteAction {
+            moduleModel.commit()
+            libraryModel.commit()
+        }
+
+        return moduleFiles
+    }
+
     private fun getHybrisProjectImportProvider() = ProjectImportProvider.PROJECT_IMPORT_PROVIDER.extensionsIfPointIsRegistered
         .filterIsInstance<HybrisProjectImportProvider>()
         .firstOrNull()
 
     companion object {
+        @JvmStatic
         fun getInstance(project: Project): ProjectRefreshService = project.service()
     }
 }
\ No newline at end of file
@@ -29,18 +29,18 @@ import sap.commerce.toolset.HybrisIcons
 import sap.commerce.toolset.project.ProjectRefreshService
 import sap.commerce.toolset.settings.WorkspaceSettings
 
-class ProjectRefreshAction : DumbAwareAction(
-    "Refresh SAP Commerce Project",
-    "Re-imports the current hybris project with default values",
-    HybrisIcons.Y.LOGO_BLUE
-) {
+open class ProjectRefreshAction(
+    text: String = "Refresh SAP Commerce Project",
+    description: String = "Re-imports the current hybris project with default values",
+    private val differential: Boolean = false
+) : DumbAwareAction(text, description, HybrisIcons.Y.LOGO_BLUE) {
     override fun getActionUpdateThread() = ActionUpdateThread.BGT
 
     override fun actionPerformed(e: AnActionEvent) {
         val project = e.project ?: return
 
         try {
-            ProjectRefreshService.getInstance(project).refresh()
+            ProjectRefreshService.getInstance(project).refresh(differential)
         } catch (ex: ConfigurationException) {
             Messages.showErrorDialog(
                 project,
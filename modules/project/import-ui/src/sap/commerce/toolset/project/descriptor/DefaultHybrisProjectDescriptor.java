@@ -20,8 +20,6 @@
 package sap.commerce.toolset.project.descriptor;
 
 import com.google.common.collect.Sets;
-import com.intellij.execution.wsl.WSLDistribution;
-import com.intellij.execution.wsl.WslDistributionManager;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.module.Module;
@@ -38,11 +36,9 @@ import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.ArrayUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import sap.commerce.toolset.HybrisConstants;
-import sap.commerce.toolset.ccv2.CCv2Constants;
 import sap.commerce.toolset.exceptions.HybrisConfigurationException;
 import sap.commerce.toolset.localextensions.jaxb.ExtensionType;
 import sap.commerce.toolset.localextensions.jaxb.Hybrisconfig;
@@ -62,9 +58,7 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -73,7 +67,6 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static org.apache.commons.io.FilenameUtils.separatorsToSystem;
 import static sap.commerce.toolset.HybrisI18NBundleUtils.message;
@@ -93,6 +86,7 @@ public class DefaultHybrisProjectDescriptor implements HybrisProjectDescriptor {
     @Nullable
     protected Project project;
     private Boolean refresh;
+    private boolean differentialRefresh;
     @Nullable
     protected File rootDirectory;
     @Nullable
@@ -409,27 +403,32 @@ public class DefaultHybrisProjectDescriptor implements HybrisProjectDescriptor {
 
         final var settings = ApplicationSettings.getInstance();
 
-        final Map<DIRECTORY_TYPE, Set<File>> moduleRootMap = newModuleRootMap();
         final var excludedFromScanning = getExcludedFromScanningDirectories();
+        final var scannerCache = ModuleRootScannerCache.load(rootDirectory);
+        final Set<File> moduleRootDirectories;
 
-        LOG.info("Scanning for modules");
-        findModuleRoots(moduleRootMap, excludedFromScanning, false, rootDirectory, progressListenerProcessor);
+        try (final var scanner = new ModuleRootScanner(rootDirectory, excludedFromScanning, followSymlink, progressListenerProcessor, scannerCache)) {
+            LOG.info("Scanning for modules");
+            scanner.scan(rootDirectory, false);
 
-        if (externalExtensionsDirectory != null && !FileUtils.isFileUnder(externalExtensionsDirectory, rootDirectory)) {
-            LOG.info("Scanning for external modules");
-            findModuleRoots(moduleRootMap, excludedFromScanning, false, externalExtensionsDirectory, progressListenerProcessor);
-        }
+            if (externalExtensionsDirectory != null && !FileUtils.isFileUnder(externalExtensionsDirectory, rootDirectory)) {
+                LOG.info("Scanning for external modules");
+                scanner.scan(externalExtensionsDirectory, false);
+            }
 
-        if (hybrisDistributionDirectory != null && !FileUtils.isFileUnder(hybrisDistributionDirectory, rootDirectory)) {
-            LOG.info("Scanning for hybris modules out of the project");
-            findModuleRoots(moduleRootMap, excludedFromScanning, false, hybrisDistributionDirectory, progressListenerProcessor);
+            if (hybrisDistributionDirectory != null && !FileUtils.isFileUnder(hybrisDistributionDirectory, rootDirectory)) {
+                LOG.info("Scanning for hybris modules out of the project");
+                scanner.scan(hybrisDistributionDirectory, false);
+            }
+
+            moduleRootDirectories = processDirectoriesByTypePriority(
+                newModuleRootMap(scanner),
+                isScanThroughExternalModule(),
+                scanner
+            );
+            vcs.addAll(scanner.getVcs());
         }
-        final var moduleRootDirectories = processDirectoriesByTypePriority(
-            moduleRootMap,
-            excludedFromScanning,
-            isScanThroughExternalModule(),
-            progressListenerProcessor
-        );
+        scannerCache.save();
 
         final var moduleDescriptors = new ArrayList<ModuleDescriptor>();
         final var pathsFailedToImport = new ArrayList<File>();
@@ -568,9 +567,8 @@ public class DefaultHybrisProjectDescriptor implements HybrisProjectDescriptor {
     // scan through eclipse module for hybris custom mudules in its subdirectories
     private Set<File> processDirectoriesByTypePriority(
         @NotNull final Map<DIRECTORY_TYPE, Set<File>> moduleRootMap,
-        final Set<File> excludedFromScanning,
         final boolean scanThroughExternalModule,
-        @Nullable final TaskProgressProcessor<File> progressListenerProcessor
+        @NotNull final ModuleRootScanner scanner
     ) throws InterruptedException, IOException {
         final Map<String, File> moduleRootDirectories = new HashMap<>();
 
@@ -579,9 +577,7 @@ public class DefaultHybrisProjectDescriptor implements HybrisProjectDescriptor {
         if (scanThroughExternalModule) {
             LOG.info("Scanning for higher priority modules");
             for (final File nonHybrisDir : moduleRootMap.get(DIRECTORY_TYPE.NON_HYBRIS)) {
-                final Map<DIRECTORY_TYPE, Set<File>> nonHybrisModuleRootMap = newModuleRootMap();
-                scanForSubdirectories(nonHybrisModuleRootMap, excludedFromScanning, true, nonHybrisDir.toPath(), progressListenerProcessor);
-                final Set<File> hybrisModuleSet = nonHybrisModuleRootMap.get(DIRECTORY_TYPE.HYBRIS);
+                final Set<File> hybrisModuleSet = scanner.scanSubdirectories(nonHybrisDir, true);
                 if (hybrisModuleSet.isEmpty()) {
                     LOG.info("Confirmed module " + nonHybrisDir);
                     addIfNotExists(moduleRootDirectories, nonHybrisDir);
@@ -630,11 +626,11 @@ public class DefaultHybrisProjectDescriptor implements HybrisProjectDescriptor {
         }
     }
 
-    private Map<DIRECTORY_TYPE, Set<File>> newModuleRootMap() {
+    private Map<DIRECTORY_TYPE, Set<File>> newModuleRootMap(final ModuleRootScanner scanner) {
         return Map.of(
-            DIRECTORY_TYPE.HYBRIS, new HashSet<>(),
-            DIRECTORY_TYPE.NON_HYBRIS, new HashSet<>(),
-            DIRECTORY_TYPE.CCV2, new HashSet<>()
+            DIRECTORY_TYPE.HYBRIS, scanner.getHybrisModuleRoots(),
+            DIRECTORY_TYPE.NON_HYBRIS, scanner.getNonHybrisModuleRoots(),
+            DIRECTORY_TYPE.CCV2, scanner.getCcv2ModuleRoots()
         );
     }
 
@@ -661,186 +657,6 @@ public class DefaultHybrisProjectDescriptor implements HybrisProjectDescriptor {
         this.project = project;
     }
 
-    private void findModuleRoots(
-        @NotNull final Map<DIRECTORY_TYPE, Set<File>> moduleRootMap,
-        final Set<File> excludedFromScanning,
-        final boolean acceptOnlyHybrisModules,
-        @NotNull final File rootProjectDirectory,
-        @Nullable final TaskProgressProcessor<File> progressListenerProcessor
-    ) throws InterruptedException, IOException {
-        if (null != progressListenerProcessor) {
-            if (!progressListenerProcessor.shouldContinue(rootProjectDirectory)) {
-                LOG.error("Modules scanning has been interrupted.");
-                throw new InterruptedException("Modules scanning has been interrupted.");
-            }
-        }
-
-        if (rootProjectDirectory.isHidden()) {
-            LOG.debug("Skipping hidden directory: ", rootProjectDirectory);
-            return;
-        }
-        if (excludedFromScanning.contains(rootProjectDirectory)) {
-            LOG.debug("Skipping excluded directory: ", rootProjectDirectory);
-            return;
-        }
-
-        final HybrisProjectService hybrisProjectService = ApplicationManager.getApplication().getService(HybrisProjectService.class);
-
-        if (hybrisProjectService.hasVCS(rootProjectDirectory)) {
-            LOG.info("Detected version control service " + rootProjectDirectory.getAbsolutePath());
-            vcs.add(rootProjectDirectory.getCanonicalFile());
-        }
-
-        if (hybrisProjectService.isHybrisModule(rootProjectDirectory)) {
-            LOG.info("Detected hybris module " + rootProjectDirectory.getAbsolutePath());
-            moduleRootMap.get(DIRECTORY_TYPE.HYBRIS).add(rootProjectDirectory);
-            return;
-        }
-        if (hybrisProjectService.isConfigModule(rootProjectDirectory)) {
-            LOG.info("Detected config module " + rootProjectDirectory.getAbsolutePath());
-            moduleRootMap.get(DIRECTORY_TYPE.HYBRIS).add(rootProjectDirectory);
-            return;
-        }
-
-        if (!acceptOnlyHybrisModules) {
-            // TODO: review this logic
-            if (!rootProjectDirectory.getAbsolutePath().endsWith(HybrisConstants.PLATFORM_MODULE)
-                && !FileUtil.filesEqual(rootProjectDirectory, rootDirectory)
-                && (hybrisProjectService.isGradleModule(rootProjectDirectory) || hybrisProjectService.isGradleKtsModule(rootProjectDirectory))
-                && !hybrisProjectService.isCCv2Module(rootProjectDirectory)) {
-
-                LOG.info("Detected gradle module " + rootProjectDirectory.getAbsolutePath());
-
-                moduleRootMap.get(DIRECTORY_TYPE.NON_HYBRIS).add(rootProjectDirectory);
-            }
-
-            if (hybrisProjectService.isMavenModule(rootProjectDirectory)
-                && !FileUtil.filesEqual(rootProjectDirectory, rootDirectory)
-                && !hybrisProjectService.isCCv2Module(rootProjectDirectory)
-            ) {
-                LOG.info("Detected maven module " + rootProjectDirectory.getAbsolutePath());
-                moduleRootMap.get(DIRECTORY_TYPE.NON_HYBRIS).add(rootProjectDirectory);
-            }
-
-            if (hybrisProjectService.isPlatformModule(rootProjectDirectory)) {
-                LOG.info("Detected platform module " + rootProjectDirectory.getAbsolutePath());
-                moduleRootMap.get(DIRECTORY_TYPE.HYBRIS).add(rootProjectDirectory);
-            } else if (hybrisProjectService.isEclipseModule(rootProjectDirectory)
-                && !FileUtil.filesEqual(rootProjectDirectory, rootDirectory)
-            ) {
-                LOG.info("Detected eclipse module " + rootProjectDirectory.getAbsolutePath());
-                moduleRootMap.get(DIRECTORY_TYPE.NON_HYBRIS).add(rootProjectDirectory);
-            }
-
-            if (hybrisProjectService.isCCv2Module(rootProjectDirectory)) {
-                LOG.info("Detected CCv2 module " + rootProjectDirectory.getAbsolutePath());
-                moduleRootMap.get(DIRECTORY_TYPE.CCV2).add(rootProjectDirectory);
-                final var name = rootProjectDirectory.getName();
-                if (name.endsWith(CCv2Constants.DATAHUB_NAME)) {
-                    // faster import: no need to process sub-folders of the CCv2 js-storefront and datahub directories
-                    return;
-                }
-            }
-
-            if (hybrisProjectService.isAngularModule(rootProjectDirectory)) {
-                LOG.info("Detected Angular module " + rootProjectDirectory.getAbsolutePath());
-                moduleRootMap.get(DIRECTORY_TYPE.NON_HYBRIS).add(rootProjectDirectory);
-                // do not go deeper
-                return;
-            }
-        }
-
-        scanForSubdirectories(moduleRootMap, excludedFromScanning, acceptOnlyHybrisModules, rootProjectDirectory.toPath(), progressListenerProcessor);
-    }
-
-    private void scanForSubdirectories(final Map<DIRECTORY_TYPE, Set<File>> moduleRootMap, final Set<File> excludedFromScanning, final boolean acceptOnlyHybrisModules, final Path rootProjectDirectory, final TaskProgressProcessor<File> progressListenerProcessor) throws IOException, InterruptedException {
-        if (isPathInWSLDistribution(rootProjectDirectory)) {
-            scanSubdirectoriesWSL(moduleRootMap, excludedFromScanning, acceptOnlyHybrisModules, rootProjectDirectory, progressListenerProcessor);
-        } else {
-            scanSubdirectories(moduleRootMap, excludedFromScanning, acceptOnlyHybrisModules, rootProjectDirectory, progressListenerProcessor);
-        }
-    }
-
-    private void scanSubdirectories(
-        @NotNull final Map<DIRECTORY_TYPE, Set<File>> moduleRootMap,
-        final Set<File> excludedFromScanning,
-        final boolean acceptOnlyHybrisModules,
-        @NotNull final Path rootProjectDirectory,
-        @Nullable final TaskProgressProcessor<File> progressListenerProcessor
-    ) throws InterruptedException, IOException {
-        if (!Files.isDirectory(rootProjectDirectory)) {
-            return;
-        }
-
-        final DirectoryStream<Path> files = Files.newDirectoryStream(rootProjectDirectory, file -> {
-            if (file == null) {
-                return false;
-            }
-            if (!Files.isDirectory(file)) {
-                return false;
-            }
-            if (isDirectoryExcluded(file)) {
-                return false;
-            }
-            return !Files.isSymbolicLink(file) || followSymlink;
-        });
-        if (files != null) {
-            for (final var file : files) {
-                findModuleRoots(moduleRootMap, excludedFromScanning, acceptOnlyHybrisModules, file.toFile(), progressListenerProcessor);
-            }
-            files.close();
-        }
-    }
-
-    private void scanSubdirectoriesWSL(@NotNull final Map<DIRECTORY_TYPE, Set<File>> moduleRootMap, final Set<File> excludedFromScanning, final boolean acceptOnlyHybrisModules, @NotNull final Path rootProjectDirectory, @Nullable final TaskProgressProcessor<File> progressListenerProcessor) throws InterruptedException, IOException {
-        if (!Files.isDirectory(rootProjectDirectory)) return;
-
-        try (final Stream<Path> stream = Files.list(rootProjectDirectory)) {
-            final var moduleRoots = stream
-                .filter(Objects::nonNull)
-                .filter(Files::isDirectory)
-                .filter(Predicate.not(this::isDirectoryExcluded))
-                .filter(file -> !Files.isSymbolicLink(file) || followSymlink)
-                .map(Path::toFile)
-                .toList();
-            for (final var moduleRoot : moduleRoots) {
-                findModuleRoots(moduleRootMap, excludedFromScanning, acceptOnlyHybrisModules, moduleRoot, progressListenerProcessor);
-            }
-        }
-    }
-
-    public static boolean isPathInWSLDistribution(@NotNull final Path rootProjectDirectory) {
-        return WslDistributionManager.getInstance().getInstalledDistributions().stream()
-            .map(WSLDistribution::getUNCRootPath)
-            .map(String::valueOf)
-            .filter(StringUtils::isNoneBlank)
-            .anyMatch(wslRoot -> rootProjectDirectory.toString().startsWith(wslRoot));
-    }
-
-    private boolean isDirectoryExcluded(final Path file) {
-        final String path = file.toString();
-        return path.endsWith(HybrisConstants.EXCLUDE_BOOTSTRAP_DIRECTORY) ||
-            path.endsWith(HybrisConstants.EXCLUDE_DATA_DIRECTORY) ||
-            path.endsWith(HybrisConstants.EXCLUDE_GRADLE_DIRECTORY) ||
-            path.endsWith(HybrisConstants.EXCLUDE_ECLIPSEBIN_DIRECTORY) ||
-            path.endsWith(HybrisConstants.EXCLUDE_GIT_DIRECTORY) ||
-            path.endsWith(HybrisConstants.EXCLUDE_GITHUB_DIRECTORY) ||
-            path.endsWith(HybrisConstants.EXCLUDE_IDEA_DIRECTORY) ||
-            path.endsWith(HybrisConstants.EXCLUDE_MACOSX_DIRECTORY) ||
-            path.endsWith(HybrisConstants.EXCLUDE_IDEA_MODULE_FILES_DIRECTORY) ||
-            path.endsWith(HybrisConstants.EXCLUDE_LIB_DIRECTORY) ||
-            path.endsWith(HybrisConstants.EXCLUDE_LOG_DIRECTORY) ||
-            path.endsWith(HybrisConstants.EXCLUDE_RESOURCES_DIRECTORY) ||
-            path.endsWith(HybrisConstants.EXCLUDE_SVN_DIRECTORY) ||
-            path.endsWith(HybrisConstants.EXCLUDE_TEMP_DIRECTORY) ||
-            path.endsWith(HybrisConstants.EXCLUDE_TOMCAT_DIRECTORY) ||
-            path.endsWith(HybrisConstants.EXCLUDE_TOMCAT_6_DIRECTORY) ||
-            path.endsWith(HybrisConstants.EXCLUDE_TCSERVER_DIRECTORY) ||
-            path.endsWith(HybrisConstants.EXCLUDE_TMP_DIRECTORY) ||
-            path.contains(HybrisConstants.EXCLUDE_ANT_DIRECTORY) ||
-            path.contains(HybrisConstants.NODE_MODULES_DIRECTORY);
-    }
-
     protected void buildDependencies(@NotNull final Collection<ModuleDescriptor> moduleDescriptors) {
         final var moduleDescriptorsMap = moduleDescriptors.stream()
             .filter(distinctByKey(ModuleDescriptor::getName))
@@ -915,6 +731,16 @@ public class DefaultHybrisProjectDescriptor implements HybrisProjectDescriptor {
         this.refresh = refresh;
     }
 
+    @Override
+    public boolean getDifferentialRefresh() {
+        return differentialRefresh;
+    }
+
+    @Override
+    public void setDifferentialRefresh(final boolean differentialRefresh) {
+        this.differentialRefresh = differentialRefresh;
+    }
+
     @NotNull
     @Override
     public List<ModuleDescriptor> getFoundModules() {
@@ -0,0 +1,69 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.project.descriptor
+
+import sap.commerce.toolset.HybrisConstants
+
+/**
+ * Compiled form of the `HybrisConstants.EXCLUDE_*` rules, directory is matched by its own and its parent name
+ * instead of the string comparison of the whole path.
+ */
+object ExcludedDirectoryMatcher {
+
+    private val byName: Map<String, Set<String?>>
+    private val byPrefix: List<Pair<String?, String>>
+
+    init {
+        val names = mutableMapOf<String, MutableSet<String?>>()
+        listOf(
+            HybrisConstants.EXCLUDE_BOOTSTRAP_DIRECTORY,
+            HybrisConstants.EXCLUDE_DATA_DIRECTORY,
+            HybrisConstants.EXCLUDE_GRADLE_DIRECTORY,
+            HybrisConstants.EXCLUDE_ECLIPSEBIN_DIRECTORY,
+            HybrisConstants.EXCLUDE_GIT_DIRECTORY,
+            HybrisConstants.EXCLUDE_GITHUB_DIRECTORY,
+            HybrisConstants.EXCLUDE_IDEA_DIRECTORY,
+            HybrisConstants.EXCLUDE_MACOSX_DIRECTORY,
+            HybrisConstants.EXCLUDE_IDEA_MODULE_FILES_DIRECTORY,
+            HybrisConstants.EXCLUDE_LIB_DIRECTORY,
+            HybrisConstants.EXCLUDE_LOG_DIRECTORY,
+            HybrisConstants.EXCLUDE_RESOURCES_DIRECTORY,
+            HybrisConstants.EXCLUDE_SVN_DIRECTORY,
+            HybrisConstants.EXCLUDE_TEMP_DIRECTORY,
+            HybrisConstants.EXCLUDE_TOMCAT_DIRECTORY,
+            HybrisConstants.EXCLUDE_TOMCAT_6_DIRECTORY,
+            HybrisConstants.EXCLUDE_TCSERVER_DIRECTORY,
+            HybrisConstants.EXCLUDE_TMP_DIRECTORY,
+        )
+            .map { parse(it) }
+            .forEach { (parent, name) -> names.getOrPut(name) { mutableSetOf() }.add(parent) }
+
+        byName = names
+        byPrefix = listOf(parse(HybrisConstants.EXCLUDE_ANT_DIRECTORY))
+    }
+
+    fun matches(parentName: String, name: String) = byName[name]?.let { null in it || parentName in it } == true
+        || byPrefix.any { (parent, prefix) -> (parent == null || parent == parentName) && name.startsWith(prefix) }
+        || name.contains(HybrisConstants.NODE_MODULES_DIRECTORY)
+
+    private fun parse(rule: String): Pair<String?, String> {
+        val segments = rule.split('/', '\\').filter { it.isNotEmpty() }
+        return segments.getOrNull(segments.size - 2) to segments.last()
+    }
+}
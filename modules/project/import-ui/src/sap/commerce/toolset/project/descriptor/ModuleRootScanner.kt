@@ -0,0 +1,207 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.project.descriptor
+
+import com.intellij.openapi.diagnostic.thisLogger
+import com.intellij.openapi.util.io.FileUtil
+import org.jetbrains.idea.maven.model.MavenConstants
+import sap.commerce.toolset.HybrisConstants
+import sap.commerce.toolset.ccv2.CCv2Constants
+import sap.commerce.toolset.project.tasks.TaskProgressProcessor
+import java.io.Closeable
+import java.io.File
+import java.io.IOException
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.RecursiveAction
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * Parallel scanner of the module roots.
+ *
+ * Each directory is listed only once and classified using that listing, excluded subtrees are pruned by the
+ * [ExcludedDirectoryMatcher]. Listings are taken from the [ModuleRootScannerCache] while modification time of the directory
+ * is the same, so unchanged subtrees are walked without being listed again.
+ *
+ * All scans of the scanner share the same pool, so the scanner has to be closed once module roots are collected.
+ */
+class ModuleRootScanner(
+    private val rootDirectory: File?,
+    private val excludedFromScanning: Set<File>,
+    private val followSymlink: Boolean,
+    private val progressListenerProcessor: TaskProgressProcessor<File>?,
+    private val cache: ModuleRootScannerCache,
+) : Closeable {
+
+    val hybrisModuleRoots: MutableSet<File> = ConcurrentHashMap.newKeySet()
+    val nonHybrisModuleRoots: MutableSet<File> = ConcurrentHashMap.newKeySet()
+    val ccv2ModuleRoots: MutableSet<File> = ConcurrentHashMap.newKeySet()
+    val vcs: MutableSet<File> = ConcurrentHashMap.newKeySet()
+
+    private val failure = AtomicReference<Exception>()
+    private val pool = ForkJoinPool(PARALLELISM)
+
+    @Throws(InterruptedException::class, IOException::class)
+    fun scan(directory: File, acceptOnlyHybrisModules: Boolean) = invoke(ScanTask(directory, null, acceptOnlyHybrisModules, hybrisModuleRoots))
+
+    /**
+     * Scans subdirectories of the given directory, detected hybris module roots are returned instead of being added to the [hybrisModuleRoots].
+     */
+    @Throws(InterruptedException::class, IOException::class)
+    fun scanSubdirectories(directory: File, acceptOnlyHybrisModules: Boolean): Set<File> {
+        val moduleRoots = ConcurrentHashMap.newKeySet<File>()
+        invoke(ScanTask(directory, null, acceptOnlyHybrisModules, moduleRoots, true))
+        return moduleRoots
+    }
+
+    override fun close() {
+        pool.shutdownNow()
+    }
+
+    private fun invoke(task: ScanTask) {
+        pool.invoke(task)
+
+        when (val exception = failure.getAndSet(null)) {
+            null -> Unit
+            is InterruptedException -> throw exception
+            is IOException -> throw exception
+            is RuntimeException -> throw exception
+            else -> throw IOException(exception)
+        }
+    }
+
+    private fun visit(
+        directory: File,
+        lastModified: Long?,
+        acceptOnlyHybrisModules: Boolean,
+        moduleRoots: MutableSet<File>,
+        subdirectoriesOnly: Boolean
+    ): List<ScanTask> {
+        if (progressListenerProcessor?.shouldContinue(directory) == false) {
+            throw InterruptedException("Modules scanning has been interrupted.")
+        }
+
+        if (!subdirectoriesOnly) {
+            if (directory.isHidden) return emptyList()
+            if (excludedFromScanning.contains(directory)) return emptyList()
+        }
+
+        val listing = cache.getListing(directory, lastModified) ?: return emptyList()
+
+        if (!subdirectoriesOnly && !classify(directory, listing, acceptOnlyHybrisModules, moduleRoots)) return emptyList()
+
+        return listing.directories
+            .filter { !it.symlink || followSymlink }
+            .filterNot { ExcludedDirectoryMatcher.matches(directory.name, it.name) }
+            .map { ScanTask(File(directory, it.name), it.lastModified, acceptOnlyHybrisModules, moduleRoots) }
+    }
+
+    /**
+     * Mirrors module detection of the [sap.commerce.toolset.project.HybrisProjectService], but uses already available listing.
+     *
+     * @param moduleRoots target for the detected hybris module roots
+     * @return `true` if subdirectories have to be scanned
+     */
+    private fun classify(directory: File, listing: DirectoryListing, acceptOnlyHybrisModules: Boolean, moduleRoots: MutableSet<File>): Boolean {
+        val files = listing.files
+        val path = directory.absolutePath
+
+        if (listing.directories.any { it.name in VCS_DIRECTORIES }) vcs.add(directory.canonicalFile)
+
+        if (HybrisConstants.EXTENSION_INFO_XML in files) return detected(moduleRoots, "hybris", directory, false)
+        if (HybrisConstants.LOCAL_EXTENSIONS_XML in files && HybrisConstants.LOCAL_PROPERTIES_FILE in files) {
+            return detected(moduleRoots, "config", directory, false)
+        }
+
+        if (acceptOnlyHybrisModules) return true
+
+        val projectRoot = rootDirectory != null && FileUtil.filesEqual(directory, rootDirectory)
+        val platformPath = path.contains(HybrisConstants.PLATFORM_MODULE_PREFIX)
+        val ccv2 = CCV2_DIRECTORIES.any { path.contains(it) } && CCv2Constants.MANIFEST_NAME in files
+
+        if (!path.endsWith(HybrisConstants.PLATFORM_MODULE) && !projectRoot && !platformPath && !ccv2
+            && GRADLE_FILES.any { it in files }
+        ) {
+            detected(nonHybrisModuleRoots, "gradle", directory, true)
+        }
+
+        if (!platformPath && MavenConstants.POM_XML in files && !projectRoot && !ccv2) {
+            detected(nonHybrisModuleRoots, "maven", directory, true)
+        }
+
+        if (directory.name == HybrisConstants.EXTENSION_NAME_PLATFORM && HybrisConstants.EXTENSIONS_XML in files) {
+            detected(moduleRoots, "platform", directory, true)
+        } else if (!platformPath && HybrisConstants.DOT_PROJECT in files && !projectRoot) {
+            detected(nonHybrisModuleRoots, "eclipse", directory, true)
+        }
+
+        if (ccv2) {
+            detected(ccv2ModuleRoots, "CCv2", directory, true)
+            // faster import: no need to process sub-folders of the CCv2 js-storefront and datahub directories
+            if (directory.name.endsWith(CCv2Constants.DATAHUB_NAME)) return false
+        }
+
+        // do not go deeper
+        if (HybrisConstants.FILE_ANGULAR_JSON in files) return detected(nonHybrisModuleRoots, "Angular", directory, false)
+
+        return true
+    }
+
+    private fun detected(moduleRoots: MutableSet<File>, type: String, directory: File, scanSubdirectories: Boolean): Boolean {
+        thisLogger().info("Detected $type module ${directory.absolutePath}")
+        moduleRoots.add(directory)
+        return scanSubdirectories
+    }
+
+    private inner class ScanTask(
+        private val directory: File,
+        private val lastModified: Long?,
+        private val acceptOnlyHybrisModules: Boolean,
+        private val moduleRoots: MutableSet<File>,
+        private val subdirectoriesOnly: Boolean = false,
+    ) : RecursiveAction() {
+
+        override fun compute() {
+            if (failure.get() != null) return
+
+            val subtasks = try {
+                visit(directory, lastModified, acceptOnlyHybrisModules, moduleRoots, subdirectoriesOnly)
+            } catch (e: Exception) {
+                failure.compareAndSet(null, e)
+                return
+            }
+
+            invokeAll(subtasks)
+        }
+    }
+
+    companion object {
+        private val PARALLELISM = (Runtime.getRuntime().availableProcessors() * 2).coerceAtMost(32)
+        private val VCS_DIRECTORIES = setOf(".git", ".svn", ".hg")
+        private val CCV2_DIRECTORIES = listOf(CCv2Constants.CORE_CUSTOMIZE_NAME, CCv2Constants.DATAHUB_NAME, CCv2Constants.JS_STOREFRONT_NAME)
+        private val GRADLE_FILES = listOf(
+            HybrisConstants.GRADLE_SETTINGS, HybrisConstants.GRADLE_BUILD,
+            HybrisConstants.GRADLE_SETTINGS_KTS, HybrisConstants.GRADLE_BUILD_KTS
+        )
+    }
+}
+
+internal class DirectoryListing(val files: Set<String>, val directories: List<DirectoryEntry>)
+
+internal class DirectoryEntry(val name: String, val symlink: Boolean, val lastModified: Long?)
@@ -0,0 +1,192 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.project.descriptor
+
+import com.intellij.openapi.application.PathManager
+import com.intellij.openapi.diagnostic.thisLogger
+import java.io.*
+import java.nio.file.Files
+import java.nio.file.LinkOption
+import java.nio.file.NoSuchFileException
+import java.nio.file.NotDirectoryException
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import java.nio.file.attribute.BasicFileAttributes
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.io.path.*
+
+/**
+ * Persistent cache of the directory listings used by the [ModuleRootScanner], one cache file per scanned root directory.
+ *
+ * Listing is valid as long as modification time of the directory is the same, it changes whenever a direct child is added,
+ * removed or renamed. Listings of directories modified right before the scan are not persisted, as subsequent changes
+ * may not be reflected by the coarse modification time.
+ */
+class ModuleRootScannerCache private constructor(private val cacheFile: Path) {
+
+    private val persisted = ConcurrentHashMap<String, Entry>()
+    private val listings = ConcurrentHashMap<String, Entry>()
+    private val scanStarted = System.currentTimeMillis()
+    private val hits = AtomicInteger()
+    private val misses = AtomicInteger()
+
+    internal fun getListing(directory: File, lastModified: Long?): DirectoryListing? {
+        val path = directory.path
+        val modified = lastModified
+            ?: readAttributes(directory)
+                ?.takeIf { it.isDirectory }
+                ?.lastModifiedTime()
+                ?.toMillis()
+            ?: return null
+
+        listings[path]
+            ?.takeIf { it.lastModified == modified }
+            ?.let { return it.listing }
+
+        val cachedListing = persisted[path]
+            ?.takeIf { it.lastModified == modified }
+            ?.listing
+        if (cachedListing != null) hits.incrementAndGet() else misses.incrementAndGet()
+
+        val listing = cachedListing
+            ?: list(directory)
+            ?: return null
+
+        listings[path] = Entry(modified, listing)
+        return listing
+    }
+
+    fun save() {
+        thisLogger().info("Listed ${misses.get()} directories, reused ${hits.get()} cached listings")
+
+        val persistBefore = scanStarted - RACY_INTERVAL
+        val entries = listings.filterValues { it.lastModified < persistBefore }
+
+        try {
+            cacheFile.parent.createDirectories()
+
+            val tempFile = cacheFile.resolveSibling("${cacheFile.fileName}.tmp")
+            DataOutputStream(BufferedOutputStream(tempFile.outputStream())).use { output ->
+                output.writeInt(FORMAT_VERSION)
+                output.writeInt(entries.size)
+
+                entries.forEach { (path, entry) ->
+                    output.writeUTF(path)
+                    output.writeLong(entry.lastModified)
+                    output.writeInt(entry.listing.files.size)
+                    entry.listing.files.forEach { output.writeUTF(it) }
+                    output.writeInt(entry.listing.directories.size)
+                    entry.listing.directories.forEach {
+                        output.writeUTF(it.name)
+                        output.writeBoolean(it.symlink)
+                    }
+                }
+            }
+            tempFile.moveTo(cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+        } catch (e: IOException) {
+            thisLogger().warn("Unable to save module roots cache: $cacheFile", e)
+        }
+    }
+
+    private fun load() {
+        if (!cacheFile.exists()) return
+
+        try {
+            DataInputStream(BufferedInputStream(cacheFile.inputStream())).use { input ->
+                if (input.readInt() != FORMAT_VERSION) return
+
+                repeat(input.readInt()) {
+                    val path = input.readUTF()
+                    val lastModified = input.readLong()
+                    val files = (0 until input.readInt())
+                        .mapTo(HashSet()) { input.readUTF() }
+                    val directories = (0 until input.readInt())
+                        .map { DirectoryEntry(input.readUTF(), input.readBoolean(), null) }
+
+                    persisted[path] = Entry(lastModified, DirectoryListing(files, directories))
+                }
+            }
+        } catch (e: Exception) {
+            thisLogger().info("Module roots cache is corrupted and will be re-created: $cacheFile", e)
+
+            persisted.clear()
+            cacheFile.deleteIfExists()
+        }
+    }
+
+    private fun list(directory: File): DirectoryListing? {
+        val files = HashSet<String>()
+        val directories = mutableListOf<DirectoryEntry>()
+
+        try {
+            Files.newDirectoryStream(directory.toPath()).use { stream ->
+                stream.forEach { child ->
+                    val name = child.fileName.toString()
+                    val attributes = try {
+                        Files.readAttributes(child, BasicFileAttributes::class.java, LinkOption.NOFOLLOW_LINKS)
+                    } catch (_: IOException) {
+                        return@forEach
+                    }
+
+                    when {
+                        attributes.isDirectory -> directories.add(DirectoryEntry(name, false, attributes.lastModifiedTime().toMillis()))
+                        attributes.isRegularFile -> files.add(name)
+                        attributes.isSymbolicLink && Files.isDirectory(child) -> directories.add(DirectoryEntry(name, true, null))
+                        attributes.isSymbolicLink && Files.isRegularFile(child) -> files.add(name)
+                    }
+                }
+            }
+        } catch (_: NotDirectoryException) {
+            return null
+        } catch (_: NoSuchFileException) {
+            return null
+        } catch (e: IOException) {
+            thisLogger().warn("Unable to list directory: $directory", e)
+            return null
+        }
+
+        return DirectoryListing(files, directories)
+    }
+
+    private fun readAttributes(directory: File) = try {
+        Files.readAttributes(directory.toPath(), BasicFileAttributes::class.java)
+    } catch (_: IOException) {
+        null
+    }
+
+    private class Entry(val lastModified: Long, val listing: DirectoryListing)
+
+    companion object {
+        private const val CACHE_DIRECTORY = "sap-commerce-module-roots"
+        private const val FORMAT_VERSION = 1
+        private const val RACY_INTERVAL = 2_000L
+
+        @JvmStatic
+        fun load(rootDirectory: File) = load(rootDirectory, Path(PathManager.getSystemPath(), CACHE_DIRECTORY))
+
+        @JvmStatic
+        fun load(rootDirectory: File, cacheDirectory: Path): ModuleRootScannerCache {
+            val cacheFileName = "${rootDirectory.name}.${Integer.toHexString(rootDirectory.absolutePath.hashCode())}.bin"
+            val cacheFile = cacheDirectory.resolve(cacheFileName)
+
+            return ModuleRootScannerCache(cacheFile).also { it.load() }
+        }
+    }
+}
@@ -19,7 +19,9 @@
 
 package sap.commerce.toolset.project.tasks;
 
+import com.intellij.concurrency.JobLauncher;
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.externalSystem.model.ExternalSystemDataKeys;
 import com.intellij.openapi.externalSystem.service.project.IdeModifiableModelsProviderImpl;
 import com.intellij.openapi.module.Module;
@@ -27,32 +29,79 @@ import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.Project;
 import org.jetbrains.annotations.NotNull;
+import sap.commerce.toolset.project.configurator.Configurator;
 import sap.commerce.toolset.project.configurator.ModuleFacetConfigurator;
 import sap.commerce.toolset.project.configurator.ModuleImportConfigurator;
+import sap.commerce.toolset.project.configurator.ModuleImportPlan;
 import sap.commerce.toolset.project.configurator.ProjectImportConfigurator;
 import sap.commerce.toolset.project.configurator.ProjectPreImportConfigurator;
 import sap.commerce.toolset.project.descriptor.HybrisProjectDescriptor;
+import sap.commerce.toolset.project.descriptor.ModuleDescriptor;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static sap.commerce.toolset.HybrisI18NBundleUtils.message;
 
 public class ImportProjectProgressModalWindow extends Task.Modal {
 
+    private static final Logger LOG = Logger.getInstance(ImportProjectProgressModalWindow.class);
+    private static final String PHASE_PRE_IMPORT = "Pre-import";
+    private static final String PHASE_PREPARE = "Prepare";
+    private static final String PHASE_CONFIGURE = "Configure";
+    private static final String PHASE_IMPORT = "Import";
+    private static final String PHASE_COMMIT = "Commit";
+
     private final Project project;
     private final HybrisProjectDescriptor hybrisProjectDescriptor;
     private final List<Module> modules;
+    private final Collection<ModuleDescriptor> unchangedModuleDescriptors;
+    private final Runnable onSuccess;
+    private final Map<String, LongAdder> timings = new ConcurrentHashMap<>();
 
     public ImportProjectProgressModalWindow(
         final Project project,
         final HybrisProjectDescriptor hybrisProjectDescriptor,
         final List<Module> modules
+    ) {
+        this(project, hybrisProjectDescriptor, modules, Collections.emptyList(), () -> {});
+    }
+
+    /**
+     * Modules of the unchanged module descriptors are expected to be already present in the project, they are kept as-is.
+     * <p>
+     * {@code onSuccess} is invoked only when the project model has been committed without errors.
+     */
+    public ImportProjectProgressModalWindow(
+        final Project project,
+        final HybrisProjectDescriptor hybrisProjectDescriptor,
+        final List<Module> modules,
+        final Collection<ModuleDescriptor> unchangedModuleDescriptors,
+        final Runnable onSuccess
     ) {
         super(project, message("hybris.project.import.commit"), false);
         this.project = project;
         this.hybrisProjectDescriptor = hybrisProjectDescriptor;
         this.modules = modules;
+        this.unchangedModuleDescriptors = unchangedModuleDescriptors;
+        this.onSuccess = onSuccess;
+    }
+
+    @Override
+    public void onSuccess() {
+        onSuccess.run();
     }
 
     @Override
@@ -65,60 +114,127 @@ public class ImportProjectProgressModalWindow extends Task.Modal {
 
         ProjectPreImportConfigurator.Companion.getEP().getExtensionList().forEach(configurator -> {
                 indicator.setText("Configuring project using '%s' Configurator...".formatted(configurator.getName()));
-                configurator.preConfigure(hybrisProjectDescriptor);
+                timed(PHASE_PRE_IMPORT, configurator, () -> configurator.preConfigure(hybrisProjectDescriptor));
             }
         );
 
-        indicator.setIndeterminate(false);
-        indicator.setFraction(0d);
-
         final var chosenModuleDescriptors = hybrisProjectDescriptor.getChosenModuleDescriptors();
         final var moduleImportConfigurators = ModuleImportConfigurator.Companion.getEP().getExtensionList();
         final var moduleFacetConfigurators = ModuleFacetConfigurator.Companion.getEP().getExtensionList();
 
-        chosenModuleDescriptors.stream()
-            .map(moduleDescriptor ->
-                moduleImportConfigurators.stream()
-                    .filter(configurator -> configurator.isApplicable(moduleDescriptor))
-                    .findFirst()
-                    .map(configurator -> {
-                            indicator.setText("Configuring project using '%s' Configurator...".formatted(configurator.getName()));
-                            indicator.setText2("Configuring module: %s".formatted(moduleDescriptor.getName()));
-
-                            final var module = configurator.configure(hybrisProjectDescriptor, moduleDescriptor, modifiableModelsProvider, rootProjectModifiableModel);
-
-                            indicator.setText2("Configuring facets for module: %s".formatted(moduleDescriptor.getName()));
-                            final var modifiableRootModel = modifiableModelsProvider.getModifiableRootModel(module);
-                            final var modifiableFacetModel = modifiableModelsProvider.getModifiableFacetModel(module);
-
-                            moduleFacetConfigurators.forEach(facetConfigurator ->
-                                facetConfigurator.configureModuleFacet(module, hybrisProjectDescriptor, modifiableFacetModel, moduleDescriptor, modifiableRootModel)
-                            );
-                            return module;
-                        }
-                    )
+        // unchanged modules are reused, unless missing in the project for whatever reason
+        final var reusedModuleDescriptors = new HashSet<ModuleDescriptor>();
+        unchangedModuleDescriptors.forEach(moduleDescriptor -> {
+            final var module = rootProjectModifiableModel.findModuleByName(moduleDescriptor.ideaModuleName());
+            if (module != null) {
+                modules.add(module);
+                reusedModuleDescriptors.add(moduleDescriptor);
+            }
+        });
+        final var unchangedModules = modules.size();
+
+        final var plans = chosenModuleDescriptors.stream()
+            .filter(Predicate.not(reusedModuleDescriptors::contains))
+            .map(moduleDescriptor -> moduleImportConfigurators.stream()
+                .filter(configurator -> configurator.isApplicable(moduleDescriptor))
+                .findFirst()
+                .map(configurator -> new ModuleImportPlan(moduleDescriptor, configurator))
             )
             .flatMap(Optional::stream)
-            .forEach(module -> {
-                modules.add(module);
-                indicator.setFraction((double) modules.size() / chosenModuleDescriptors.size());
-            });
+            .toList();
+
+        // read-only phase, all file system access required to configure modules is done concurrently
+        indicator.setIndeterminate(false);
+        indicator.setFraction(0d);
+        indicator.setText("Preparing modules...");
+
+        final var preparedModules = new AtomicInteger();
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(plans, indicator, plan -> {
+            final var moduleDescriptor = plan.getModuleDescriptor();
+            final var configurator = plan.getConfigurator();
+
+            timed(PHASE_PREPARE, configurator, () -> configurator.prepare(hybrisProjectDescriptor, moduleDescriptor, plan));
+            moduleFacetConfigurators.forEach(facetConfigurator ->
+                timed(PHASE_PREPARE, facetConfigurator, () -> facetConfigurator.prepare(hybrisProjectDescriptor, moduleDescriptor))
+            );
+
+            indicator.setFraction((double) preparedModules.incrementAndGet() / plans.size());
+            return true;
+        });
+
+        // apply phase, project model is modified sequentially using already prepared plans
+        indicator.setFraction(0d);
+
+        plans.forEach(plan -> {
+            final var moduleDescriptor = plan.getModuleDescriptor();
+            final var configurator = plan.getConfigurator();
+
+            indicator.setText("Configuring project using '%s' Configurator...".formatted(configurator.getName()));
+            indicator.setText2("Configuring module: %s".formatted(moduleDescriptor.getName()));
+
+            final var module = timed(PHASE_CONFIGURE, configurator, () ->
+                configurator.configure(hybrisProjectDescriptor, moduleDescriptor, plan, modifiableModelsProvider, rootProjectModifiableModel)
+            );
+
+            indicator.setText2("Configuring facets for module: %s".formatted(moduleDescriptor.getName()));
+            final var modifiableRootModel = modifiableModelsProvider.getModifiableRootModel(module);
+            final var modifiableFacetModel = modifiableModelsProvider.getModifiableFacetModel(module);
+
+            moduleFacetConfigurators.forEach(facetConfigurator ->
+                timed(PHASE_CONFIGURE, facetConfigurator, () ->
+                    facetConfigurator.configureModuleFacet(module, hybrisProjectDescriptor, modifiableFacetModel, moduleDescriptor, modifiableRootModel)
+                )
+            );
+
+            modules.add(module);
+            indicator.setFraction((double) (modules.size() - unchangedModules) / plans.size());
+        });
         indicator.setText2(null);
         indicator.setIndeterminate(true);
 
         ProjectImportConfigurator.Companion.getEP().getExtensionList().forEach(configurator -> {
                 indicator.setText("Configuring project using '%s' Configurator...".formatted(configurator.getName()));
-                configurator.configure(hybrisProjectDescriptor, modifiableModelsProvider);
+                timed(PHASE_IMPORT, configurator, () -> configurator.configure(hybrisProjectDescriptor, modifiableModelsProvider));
             }
         );
 
         indicator.setText(message("hybris.project.import.saving.project"));
 
+        final var commitStarted = System.nanoTime();
         ApplicationManager.getApplication()
             .invokeAndWait(() -> ApplicationManager.getApplication()
                 .runWriteAction(modifiableModelsProvider::commit)
             );
+        timings.computeIfAbsent(PHASE_COMMIT, key -> new LongAdder()).add(System.nanoTime() - commitStarted);
 
         project.putUserData(ExternalSystemDataKeys.NEWLY_CREATED_PROJECT, Boolean.TRUE);
+
+        reportTimings(plans.size());
+    }
+
+    private void timed(final String phase, final Configurator configurator, final Runnable action) {
+        timed(phase, configurator, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private <T> T timed(final String phase, final Configurator configurator, final Supplier<T> action) {
+        final var started = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            timings.computeIfAbsent("%s: %s".formatted(phase, configurator.getName()), key -> new LongAdder())
+                .add(System.nanoTime() - started);
+        }
+    }
+
+    private void reportTimings(final int modulesCount) {
+        final var report = timings.entrySet().stream()
+            .sorted(Map.Entry.<String, LongAdder>comparingByValue(Comparator.comparingLong(LongAdder::sum)).reversed())
+            .map(entry -> "  %s - %d ms".formatted(entry.getKey(), TimeUnit.NANOSECONDS.toMillis(entry.getValue().sum())))
+            .collect(Collectors.joining("\n"));
+
+        LOG.info("Imported %d modules, time spent per configurator (prepare phase is summed over all threads):\n%s".formatted(modulesCount, report));
     }
 }
@@ -0,0 +1,41 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.project.searcheverywhere
+
+import com.intellij.navigation.NavigationItem
+import com.intellij.openapi.project.Project
+import sap.commerce.toolset.beanSystem.meta.BSMetaModelAccess
+
+class BSTypeNameIndexContributor : TypeNameIndexContributor {
+
+    override fun getGeneration(project: Project) = BSMetaModelAccess.getInstance(project).getGeneration()
+
+    override fun collect(project: Project): Map<String, Collection<() -> Collection<NavigationItem>>> {
+        val access = BSMetaModelAccess.getInstance(project)
+        val beans = access.getAllBeans()
+            .filter { it.name != null }
+            .map { meta -> meta.name!! to { meta.retrieveAllDoms().mapNotNull { it.clazz.xmlAttributeValue as? NavigationItem } } }
+        val enums = access.getAllEnums()
+            .filter { it.name != null }
+            .map { meta -> meta.name!! to { meta.retrieveAllDoms().mapNotNull { it.clazz.xmlAttributeValue as? NavigationItem } } }
+
+        return (beans + enums)
+            .groupBy({ it.first }) { it.second }
+    }
+}
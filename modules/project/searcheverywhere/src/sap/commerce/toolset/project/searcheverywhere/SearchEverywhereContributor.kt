@@ -29,9 +29,7 @@ import com.intellij.psi.PsiElement
 import com.intellij.psi.util.parentOfType
 import com.intellij.psi.xml.XmlTag
 import sap.commerce.toolset.HybrisIcons
-import sap.commerce.toolset.beanSystem.meta.BSMetaModelAccess
 import sap.commerce.toolset.beanSystem.model.Beans
-import sap.commerce.toolset.typeSystem.meta.TSMetaModelAccess
 import sap.commerce.toolset.typeSystem.model.*
 import javax.swing.ListCellRenderer
 
@@ -87,47 +85,17 @@ class SearchEverywhereContributor(event: AnActionEvent) : AbstractGotoSEContribu
     }
 
     private class TypeChooseByNameContributor : ChooseByNameContributor {
-        override fun getNames(project: Project?, includeNonProjectItems: Boolean): Array<String> {
-            if (project == null) return emptyArray()
-
-            return buildList {
-                addAll(TSMetaModelAccess.getInstance(project).getAll().mapNotNull { it.name })
-                addAll(BSMetaModelAccess.getInstance(project).getAllBeans().mapNotNull { it.name })
-                addAll(BSMetaModelAccess.getInstance(project).getAllEnums().mapNotNull { it.name })
-            }
-                .toTypedArray()
-        }
+        override fun getNames(project: Project?, includeNonProjectItems: Boolean): Array<String> = project
+            ?.let { TypeNameIndex.getInstance(it).getNames() }
+            ?: emptyArray()
 
+        /**
+         * Invoked by the platform for each matched name, so only exact name lookup is performed here.
+         */
         override fun getItemsByName(name: String?, pattern: String?, project: Project?, includeNonProjectItems: Boolean): Array<NavigationItem> {
-            if (project == null || name == null || pattern == null) return emptyArray()
-
-            val types = TSMetaModelAccess.getInstance(project).getAll()
-                .filter { it.name?.lowercase()?.contains(pattern.lowercase()) == true }
-                .flatMap { it.retrieveAllDoms() }
-                .mapNotNull {
-                    when (it) {
-                        is CollectionType -> it.code.xmlAttributeValue
-                        is EnumType -> it.code.xmlAttributeValue
-                        is MapType -> it.code.xmlAttributeValue
-                        is Relation -> it.code.xmlAttributeValue
-                        is ItemType -> it.code.xmlAttributeValue
-                        else -> null
-                    }
-                }
-
-            val beans = BSMetaModelAccess.getInstance(project).getAllBeans()
-                .filter { it.name?.lowercase()?.contains(pattern.lowercase()) == true }
-                .flatMap { it.retrieveAllDoms() }
-                .mapNotNull { it.clazz.xmlAttributeValue }
-
-            val enums = BSMetaModelAccess.getInstance(project).getAllEnums()
-                .filter { it.name?.lowercase()?.contains(pattern.lowercase()) == true }
-                .flatMap { it.retrieveAllDoms() }
-                .mapNotNull { it.clazz.xmlAttributeValue }
+            if (project == null || name == null) return emptyArray()
 
-            return (types + beans + enums)
-                .mapNotNull { it as? NavigationItem }
-                .toTypedArray()
+            return TypeNameIndex.getInstance(project).getItemsByName(name)
         }
     }
 }
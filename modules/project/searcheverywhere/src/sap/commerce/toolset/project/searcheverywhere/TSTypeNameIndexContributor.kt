@@ -0,0 +1,48 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.project.searcheverywhere
+
+import com.intellij.navigation.NavigationItem
+import com.intellij.openapi.project.Project
+import sap.commerce.toolset.typeSystem.meta.TSMetaModelAccess
+import sap.commerce.toolset.typeSystem.model.*
+
+class TSTypeNameIndexContributor : TypeNameIndexContributor {
+
+    override fun getGeneration(project: Project) = TSMetaModelAccess.getInstance(project).getGeneration()
+
+    override fun collect(project: Project): Map<String, Collection<() -> Collection<NavigationItem>>> = TSMetaModelAccess.getInstance(project).getAll()
+        .filter { it.name != null }
+        .groupBy({ it.name!! }) { meta ->
+            {
+                meta.retrieveAllDoms()
+                    .mapNotNull {
+                        when (it) {
+                            is CollectionType -> it.code.xmlAttributeValue
+                            is EnumType -> it.code.xmlAttributeValue
+                            is MapType -> it.code.xmlAttributeValue
+                            is Relation -> it.code.xmlAttributeValue
+                            is ItemType -> it.code.xmlAttributeValue
+                            else -> null
+                        }
+                    }
+                    .mapNotNull { it as? NavigationItem }
+            }
+        }
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.project.searcheverywhere
+
+import com.intellij.navigation.NavigationItem
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.components.service
+import com.intellij.openapi.project.Project
+
+/**
+ * Name to navigation targets index of all [TypeNameIndexContributor]s, re-built only when generation of any contributor changes.
+ */
+@Service(Service.Level.PROJECT)
+class TypeNameIndex(private val project: Project) {
+
+    @Volatile
+    private var index: Index? = null
+
+    fun getNames(): Array<String> = index().names
+
+    fun getItemsByName(name: String): Array<NavigationItem> = index().targets[name]
+        ?.flatMap { it() }
+        ?.toTypedArray()
+        ?: emptyArray()
+
+    private fun index(): Index {
+        val contributors = TypeNameIndexContributor.EP.extensionList
+        val generations = contributors.map { it to it.getGeneration(project) }
+
+        return index
+            ?.takeIf { it.generations == generations }
+            ?: Index(generations, collect(contributors)).also { index = it }
+    }
+
+    private fun collect(contributors: Collection<TypeNameIndexContributor>) = buildMap<String, MutableList<() -> Collection<NavigationItem>>> {
+        contributors.forEach { contributor ->
+            contributor.collect(project).forEach { (name, targets) -> getOrPut(name) { mutableListOf() }.addAll(targets) }
+        }
+    }
+
+    private class Index(
+        val generations: List<Pair<TypeNameIndexContributor, Long>>,
+        val targets: Map<String, Collection<() -> Collection<NavigationItem>>>
+    ) {
+        val names = targets.keys.toTypedArray()
+    }
+
+    companion object {
+        fun getInstance(project: Project): TypeNameIndex = project.service()
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.project.searcheverywhere
+
+import com.intellij.navigation.NavigationItem
+import com.intellij.openapi.extensions.ExtensionPointName
+import com.intellij.openapi.project.Project
+
+/**
+ * Contributes names to the "[y] Types" tab of the Search Everywhere.
+ *
+ * Names are collected once per [getGeneration] of the underlying model, navigation targets are resolved lazily
+ * and only for the names matched by the user.
+ */
+interface TypeNameIndexContributor {
+
+    fun getGeneration(project: Project): Long
+    fun collect(project: Project): Map<String, Collection<() -> Collection<NavigationItem>>>
+
+    companion object {
+        val EP = ExtensionPointName.create<TypeNameIndexContributor>("sap.commerce.toolset.project.searchEverywhere.typeNameIndexContributor")
+    }
+}
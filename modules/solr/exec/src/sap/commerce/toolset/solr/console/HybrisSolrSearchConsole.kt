@@ -45,10 +45,12 @@ import sap.commerce.toolset.solr.exec.SolrExecClient
 import sap.commerce.toolset.solr.exec.SolrExecConnectionService
 import sap.commerce.toolset.solr.exec.context.SolrCoreData
 import sap.commerce.toolset.solr.exec.context.SolrQueryExecContext
+import sap.commerce.toolset.solr.exec.context.SolrQueryExecResult
 import sap.commerce.toolset.solr.exec.settings.state.SolrConnectionSettingsState
 import java.awt.BorderLayout
 import java.io.Serial
 import javax.swing.Icon
+import javax.swing.JButton
 import javax.swing.JLabel
 
 class HybrisSolrSearchConsole(
@@ -62,6 +64,11 @@ class HybrisSolrSearchConsole(
     private lateinit var docsLabel: JLabel
     private lateinit var coresComboBox: ComboBox<SolrCoreData>
     private lateinit var maxRowsSpinner: JBIntSpinner
+    private lateinit var previousPageButton: JButton
+    private lateinit var nextPageButton: JButton
+    private lateinit var pageLabel: JLabel
+
+    private var lastContext: SolrQueryExecContext? = null
 
     init {
         prompt = "q="
@@ -82,9 +89,18 @@ class HybrisSolrSearchConsole(
                     .component
 
                 maxRowsSpinner = spinner(1..500)
-                    .label("Rows (max 500):")
+                    .label("Rows per page (max 500):")
                     .component
                     .apply { value = 10 }
+
+                previousPageButton = button("Previous") { executePage(-1) }
+                    .enabled(false)
+                    .component
+                nextPageButton = button("Next") { executePage(1) }
+                    .enabled(false)
+                    .component
+                pageLabel = label("")
+                    .component
             }
         }
 
@@ -108,7 +124,9 @@ class HybrisSolrSearchConsole(
     override fun printResult(result: ConsoleAwareExecResult) {
         clear()
 
-        printHost(result.replicaContext)
+        printHost(result.replicaContext, result.trace)
+
+        if (result is SolrQueryExecResult) updatePaging(result)
 
         when {
             result.hasError -> ConsoleViewUtil.printAsFileType(this, result.errorMessage!!, PlainTextFileType.INSTANCE)
@@ -141,6 +159,20 @@ class HybrisSolrSearchConsole(
         })
     }
 
+    private fun updatePaging(result: SolrQueryExecResult) {
+        previousPageButton.isEnabled = !result.hasError && result.hasPreviousPage
+        nextPageButton.isEnabled = !result.hasError && result.hasNextPage
+        pageLabel.text = if (result.hasError || result.documents.isEmpty()) ""
+        else "${result.start + 1}-${result.start + result.documents.size} of ${result.numFound}"
+    }
+
+    private fun executePage(direction: Int) {
+        val context = lastContext ?: return
+        val start = (context.start + direction * context.rows).coerceAtLeast(0)
+
+        execute(context.copy(start = start)) { invokeLater { isEditable = false } }
+    }
+
     private fun setDocsLabelCount(data: SolrCoreData?) {
         docsLabel.text = docs + (data?.docs ?: "...")
     }
@@ -173,11 +205,17 @@ class HybrisSolrSearchConsole(
 
     override fun title() = "Solr Search"
     override fun tip() = "Solr Search Console"
-    override fun execute() = SolrExecClient.getInstance(project).execute(
-        context = context,
-        beforeCallback = { _ -> beforeExecution() },
-        resultCallback = { _, result -> print(result) }
-    )
+    override fun execute() = execute(context) { beforeExecution() }
+
+    private fun execute(context: SolrQueryExecContext, beforeCallback: () -> Unit) {
+        lastContext = context
+
+        SolrExecClient.getInstance(project).execute(
+            context = context,
+            beforeCallback = { _ -> beforeCallback() },
+            resultCallback = { _, result -> print(result) }
+        )
+    }
 
     companion object {
         @Serial
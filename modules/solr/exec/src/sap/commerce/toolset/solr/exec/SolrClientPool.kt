@@ -0,0 +1,94 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.solr.exec
+
+import com.intellij.openapi.Disposable
+import com.intellij.openapi.components.Service
+import com.intellij.openapi.components.service
+import com.intellij.openapi.diagnostic.thisLogger
+import com.intellij.openapi.project.Project
+import org.apache.solr.client.solrj.SolrClient
+import org.apache.solr.client.solrj.impl.HttpSolrClient
+import sap.commerce.toolset.solr.exec.settings.event.SolrConnectionSettingsListener
+import sap.commerce.toolset.solr.exec.settings.state.SolrConnectionSettingsState
+import java.io.IOException
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Keeps one [HttpSolrClient] per Solr connection, so the underlying pooled HTTP connections are reused between
+ * queries and closed once the connection is changed, removed or the project is closed.
+ *
+ * Clients are created against the base Solr URL, the core has to be passed with each request.
+ */
+@Service(Service.Level.PROJECT)
+class SolrClientPool(private val project: Project) : Disposable {
+
+    private val clients = ConcurrentHashMap<SolrConnectionSettingsState, HttpSolrClient>()
+
+    init {
+        with(project.messageBus.connect(this)) {
+            subscribe(SolrConnectionSettingsListener.TOPIC, object : SolrConnectionSettingsListener {
+                override fun onUpdate(settings: Collection<SolrConnectionSettingsState>) = evictStale()
+                override fun onSave(settings: Collection<SolrConnectionSettingsState>) = evictStale()
+                override fun onDelete(connection: SolrConnectionSettingsState) = evict { it.uuid == connection.uuid }
+            })
+        }
+    }
+
+    /**
+     * Runs [block] with a pooled client for persisted connections; not yet persisted settings,
+     * i.e. ones being tested from the settings dialog, get a short-living client closed right after the call.
+     */
+    fun <T> withClient(settings: SolrConnectionSettingsState, block: (SolrClient) -> T): T = if (isPersisted(settings)) {
+        block(clients.computeIfAbsent(settings) { buildClient(it) })
+    } else {
+        buildClient(settings).use(block)
+    }
+
+    override fun dispose() = evict { true }
+
+    private fun isPersisted(settings: SolrConnectionSettingsState) = SolrExecConnectionService.getInstance(project)
+        .connections
+        .contains(settings)
+
+    private fun evictStale() {
+        val connections = SolrExecConnectionService.getInstance(project).connections.toSet()
+
+        evict { it !in connections }
+    }
+
+    private fun evict(predicate: (SolrConnectionSettingsState) -> Boolean) = clients.keys
+        .filter(predicate)
+        .forEach { settings -> clients.remove(settings)?.let { close(it) } }
+
+    private fun close(client: HttpSolrClient) = try {
+        client.close()
+    } catch (e: IOException) {
+        thisLogger().warn("Unable to close Solr client for ${client.baseURL}", e)
+    }
+
+    private fun buildClient(settings: SolrConnectionSettingsState) = HttpSolrClient.Builder(settings.generatedURL)
+        .withConnectionTimeout(settings.timeout)
+        .withSocketTimeout(settings.socketTimeout)
+        .build()
+
+    companion object {
+        fun getInstance(project: Project): SolrClientPool = project.service()
+    }
+}
@@ -27,38 +27,51 @@ import kotlinx.coroutines.CoroutineScope
 import org.apache.http.HttpStatus
 import org.apache.solr.client.solrj.SolrQuery
 import org.apache.solr.client.solrj.SolrRequest
-import org.apache.solr.client.solrj.impl.HttpSolrClient
-import org.apache.solr.client.solrj.impl.NoOpResponseParser
+import org.apache.solr.client.solrj.StreamingResponseCallback
+import org.apache.solr.client.solrj.impl.StreamingBinaryResponseParser
 import org.apache.solr.client.solrj.request.CoreAdminRequest
 import org.apache.solr.client.solrj.request.QueryRequest
 import org.apache.solr.client.solrj.response.CoreAdminResponse
+import org.apache.solr.common.SolrDocument
 import org.apache.solr.common.params.CoreAdminParams
 import org.apache.solr.common.util.NamedList
-import sap.commerce.toolset.exec.DefaultExecClient
-import sap.commerce.toolset.exec.context.DefaultExecResult
+import sap.commerce.toolset.exec.ExecClient
+import sap.commerce.toolset.exec.metrics.ExecPhase
+import sap.commerce.toolset.exec.metrics.ExecTrace
 import sap.commerce.toolset.solr.exec.context.SolrCoreData
 import sap.commerce.toolset.solr.exec.context.SolrQueryExecContext
+import sap.commerce.toolset.solr.exec.context.SolrQueryExecResult
 import sap.commerce.toolset.solr.exec.settings.state.SolrConnectionSettingsState
 import java.io.Serial
 
 @Service(Service.Level.PROJECT)
-class SolrExecClient(project: Project, coroutineScope: CoroutineScope) : DefaultExecClient<SolrQueryExecContext>(project, coroutineScope) {
+class SolrExecClient(project: Project, coroutineScope: CoroutineScope) : ExecClient<SolrQueryExecContext, SolrQueryExecResult>(project, coroutineScope) {
 
-    override suspend fun execute(context: SolrQueryExecContext): DefaultExecResult {
+    override suspend fun onError(context: SolrQueryExecContext, exception: Throwable) = SolrQueryExecResult(
+        errorMessage = exception.message,
+        errorDetailMessage = exception.stackTraceToString(),
+    )
+
+    override fun withTrace(result: SolrQueryExecResult, trace: ExecTrace) = result.copy(trace = trace)
+
+    override suspend fun execute(context: SolrQueryExecContext): SolrQueryExecResult {
         val settings = context.connection
-        val solrQuery = buildSolrQuery(context)
-        val queryRequest = buildQueryRequest(solrQuery, settings)
-        val url = "${settings.generatedURL}/${context.core}"
-
-        return buildHttpSolrClient(settings, url)
-            .runCatching { request(queryRequest) }
-            .map { namedList ->
-                DefaultExecResult(
-                    output = (namedList["response"] as String).takeIf { it.isNotBlank() }
+        val page = DocumentsPage(context.rows)
+        val queryRequest = buildQueryRequest(buildSolrQuery(context), settings, page)
+
+        return SolrClientPool.getInstance(project)
+            // documents are parsed while being streamed, so parsing is a part of the request phase
+            .runCatching { ExecTrace.measure(ExecPhase.REQUEST) { withClient(settings) { it.request(queryRequest, context.core) } } }
+            .map { response ->
+                SolrQueryExecResult(
+                    documents = page.documents,
+                    numFound = page.numFound,
+                    start = page.start,
+                    response = response,
                 )
             }
             .getOrElse {
-                DefaultExecResult(
+                SolrQueryExecResult(
                     errorMessage = it.message,
                     statusCode = HttpStatus.SC_BAD_GATEWAY
                 )
@@ -78,7 +91,7 @@ class SolrExecClient(project: Project, coroutineScope: CoroutineScope) : Default
             setAction(CoreAdminParams.CoreAdminAction.STATUS)
             setBasicAuthCredentials(username, password)
         }
-        .runCatching { process(buildHttpSolrClient(settings, settings.generatedURL)) }
+        .runCatching { SolrClientPool.getInstance(project).withClient(settings) { process(it) } }
         .map { parseCoreResponse(it) }
         .getOrElse {
             throw it
@@ -98,12 +111,7 @@ class SolrExecClient(project: Project, coroutineScope: CoroutineScope) : Default
         (it["index"] as NamedList<*>)["numDocs"] as Int
     )
 
-    private fun buildHttpSolrClient(settings: SolrConnectionSettingsState, url: String) = HttpSolrClient.Builder(url)
-        .withConnectionTimeout(settings.timeout)
-        .withSocketTimeout(settings.socketTimeout)
-        .build()
-
-    private fun buildQueryRequest(solrQuery: SolrQuery, settings: SolrConnectionSettingsState) = QueryRequest(solrQuery).apply {
+    private fun buildQueryRequest(solrQuery: SolrQuery, settings: SolrConnectionSettingsState, page: DocumentsPage) = QueryRequest(solrQuery).apply {
         val credentials = SolrExecConnectionService.getInstance(project).getCredentials(settings)
         val username = credentials.userName ?: ""
         val password = credentials.getPasswordAsString() ?: ""
@@ -111,15 +119,30 @@ class SolrExecClient(project: Project, coroutineScope: CoroutineScope) : Default
         setBasicAuthCredentials(username, password)
 
         method = SolrRequest.METHOD.POST
-        // https://issues.apache.org/jira/browse/SOLR-5530
-        // https://stackoverflow.com/questions/28374428/return-solr-response-in-json-format/37212234#37212234
-        responseParser = NoOpResponseParser("json")
+        // documents are handed over one by one while the javabin response is being read,
+        // so the full document list is never materialized neither as SolrDocumentList nor as a JSON string
+        responseParser = StreamingBinaryResponseParser(page)
     }
 
     private fun buildSolrQuery(queryObject: SolrQueryExecContext) = SolrQuery().apply {
         rows = queryObject.rows
+        start = queryObject.start
         query = queryObject.content
-        setParam("wt", "json")
+    }
+
+    private class DocumentsPage(rows: Int) : StreamingResponseCallback() {
+        val documents = ArrayList<SolrDocument>(rows)
+        var numFound = 0L
+        var start = 0L
+
+        override fun streamSolrDocument(doc: SolrDocument) {
+            documents.add(doc)
+        }
+
+        override fun streamDocListInfo(numFound: Long, start: Long, maxScore: Float?) {
+            this.numFound = numFound
+            this.start = start
+        }
     }
 
     companion object {
@@ -128,4 +151,4 @@ class SolrExecClient(project: Project, coroutineScope: CoroutineScope) : Default
 
         fun getInstance(project: Project): SolrExecClient = project.service()
     }
-}
\ No newline at end of file
+}
@@ -22,9 +22,10 @@ import sap.commerce.toolset.exec.context.ExecContext
 import sap.commerce.toolset.solr.exec.settings.state.SolrConnectionSettingsState
 
 data class SolrQueryExecContext(
-    val connection: SolrConnectionSettingsState,
+    override val connection: SolrConnectionSettingsState,
     override val executionTitle: String = "Execute HTTP Call to SOLR...",
     val content: String,
     val core: String,
-    val rows: Int
+    val rows: Int,
+    val start: Int = 0,
 ) : ExecContext
\ No newline at end of file
@@ -0,0 +1,69 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.solr.exec.context
+
+import org.apache.http.HttpStatus
+import org.apache.solr.common.SolrDocument
+import org.apache.solr.common.util.NamedList
+import org.apache.solr.common.util.Utils
+import sap.commerce.toolset.exec.context.ConsoleAwareExecResult
+import sap.commerce.toolset.exec.context.ReplicaContext
+import sap.commerce.toolset.exec.metrics.ExecTrace
+
+/**
+ * Single page of Solr documents, streamed from the `javabin` response.
+ *
+ * [response] contains the remaining response sections (header, facets, highlighting, etc.) without the documents.
+ */
+data class SolrQueryExecResult(
+    val statusCode: Int = HttpStatus.SC_OK,
+    override val result: String? = null,
+    val documents: List<SolrDocument> = emptyList(),
+    val numFound: Long = 0,
+    val start: Long = 0,
+    val response: NamedList<Any?>? = null,
+    override val replicaContext: ReplicaContext? = null,
+    override val errorMessage: String? = null,
+    override val errorDetailMessage: String? = null,
+    override val trace: ExecTrace? = null,
+) : ConsoleAwareExecResult {
+
+    // JSON is rendered only on demand, i.e. for the console
+    override val output: String? by lazy { response?.let { toJson(it) } }
+
+    val hasPreviousPage: Boolean
+        get() = start > 0
+
+    val hasNextPage: Boolean
+        get() = start + documents.size < numFound
+
+    private fun toJson(response: NamedList<Any?>) = buildMap {
+        response.forEach { (name, value) ->
+            put(
+                name, if (name == "response") mapOf(
+                    "numFound" to numFound,
+                    "start" to start,
+                    "docs" to documents,
+                )
+                else value
+            )
+        }
+    }
+        .let { Utils.toJSONString(it) }
+}
@@ -22,6 +22,7 @@ import com.intellij.openapi.application.WriteAction
 import com.intellij.openapi.module.Module
 import com.intellij.openapi.module.ModuleType
 import com.intellij.openapi.roots.ModifiableRootModel
+import com.intellij.openapi.vfs.LocalFileSystem
 import com.intellij.openapi.vfs.VfsUtil
 import com.intellij.spring.contexts.model.LocalXmlModel
 import com.intellij.spring.facet.SpringFacet
@@ -41,6 +42,17 @@ class SpringFacetConfigurator : ModuleFacetConfigurator {
     override val name: String
         get() = "Spring Facet"
 
+    override fun prepare(hybrisProjectDescriptor: HybrisProjectDescriptor, moduleDescriptor: ModuleDescriptor) {
+        if (Plugin.SPRING.isDisabled()) return
+        if (moduleDescriptor is YBackofficeSubModuleDescriptor || moduleDescriptor is PlatformModuleDescriptor) return
+        if (moduleDescriptor !is YModuleDescriptor) return
+
+        val localFileSystem = LocalFileSystem.getInstance()
+        moduleDescriptor.getSpringFiles()
+            .filterNot { it.startsWith("jar://") }
+            .forEach { localFileSystem.refreshAndFindFileByIoFile(File(it)) }
+    }
+
     override fun configureModuleFacet(
         module: Module,
         hybrisProjectDescriptor: HybrisProjectDescriptor,
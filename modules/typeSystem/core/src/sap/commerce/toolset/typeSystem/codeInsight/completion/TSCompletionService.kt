@@ -18,6 +18,7 @@
 
 package sap.commerce.toolset.typeSystem.codeInsight.completion
 
+import com.intellij.codeInsight.completion.PrefixMatcher
 import com.intellij.codeInsight.completion.PrioritizedLookupElement
 import com.intellij.codeInsight.lookup.LookupElement
 import com.intellij.codeInsight.lookup.LookupElementBuilder
@@ -31,12 +32,17 @@ import sap.commerce.toolset.settings.yDeveloperSettings
 import sap.commerce.toolset.typeSystem.codeInsight.lookup.TSLookupElementFactory
 import sap.commerce.toolset.typeSystem.meta.TSMetaHelper
 import sap.commerce.toolset.typeSystem.meta.TSMetaModelAccess
+import sap.commerce.toolset.typeSystem.meta.TSMetaModelStateService
 import sap.commerce.toolset.typeSystem.meta.model.*
 import java.util.*
+import java.util.concurrent.ConcurrentHashMap
 
 @Service(Service.Level.PROJECT)
 class TSCompletionService(private val project: Project) {
 
+    @Volatile
+    private var catalogue: Catalogue? = null
+
     /**
      * This method should return lookup elements for possible type code, it can be Item/Enum or Relation
      */
@@ -45,14 +51,42 @@ class TSCompletionService(private val project: Project) {
         TSMetaType.META_ITEM, TSMetaType.META_ENUM, TSMetaType.META_RELATION, TSMetaType.META_COLLECTION, TSMetaType.META_MAP
     )
 
-    fun getCompletions(typeCode: String, vararg types: TSMetaType) = getCompletions(
-        typeCode,
-        0, *types
-    )
+    fun getCompletions(typeCode: String, vararg types: TSMetaType): List<LookupElementBuilder> = catalogue()
+        .getOrBuild("$typeCode|${types.joinToString()}") {
+            getCompletions(typeCode, 0, *types)
+        }
+
+    fun getCompletions(vararg types: TSMetaType): List<LookupElementBuilder> = types
+        .flatMap { getCompletions(it) }
+
+    /**
+     * Lookup elements of the given meta types accepted by the prefix matcher of the current completion.
+     */
+    fun getCompletions(prefixMatcher: PrefixMatcher, vararg types: TSMetaType): List<LookupElementBuilder> = types
+        .flatMap { getCompletions(it) }
+        .filter { prefixMatcher.prefixMatches(it) }
+
+    fun getCompletions(meta: TSGlobalMetaEnum): List<LookupElementBuilder> = catalogue()
+        .getOrBuild("enum|${meta.name}") {
+            meta.values.values
+                .map { TSLookupElementFactory.build(it) }
+        }
+
+    fun getItemMetaTypeCompletions() = getMetaTypeCompletions("itemMetaType") { TSMetaHelper.isItemMetaType(it) }
+    fun getItemAttributeMetaTypeCompletions() = getMetaTypeCompletions("itemAttributeMetaType") { TSMetaHelper.isItemAttributeMetaType(it) }
+    fun getRelationElementMetaTypeCompletions() = getMetaTypeCompletions("relationElementMetaType") { TSMetaHelper.isRelationElementMetaType(it) }
+
+    private fun getMetaTypeCompletions(key: String, filterByMetaType: (TSGlobalMetaItem) -> Boolean) = catalogue()
+        .getOrBuild(key) {
+            TSMetaModelAccess.getInstance(project)
+                .getAll<TSGlobalMetaItem>(TSMetaType.META_ITEM)
+                .filter(filterByMetaType)
+                .mapNotNull { TSLookupElementFactory.build(it) }
+        }
 
-    fun getCompletions(vararg types: TSMetaType) = with(TSMetaModelAccess.getInstance(project)) {
-        types
-            .map { metaType ->
+    private fun getCompletions(metaType: TSMetaType): List<LookupElementBuilder> = catalogue()
+        .getOrBuild(metaType.name) {
+            with(TSMetaModelAccess.getInstance(project)) {
                 when (metaType) {
                     TSMetaType.META_ITEM -> this
                         .getAll<TSGlobalMetaItem>(metaType)
@@ -77,20 +111,17 @@ class TSCompletionService(private val project: Project) {
                     else -> emptyList()
                 }
             }
-            .flatten()
-    }
-
-    fun getCompletions(meta: TSGlobalMetaEnum) = meta.values.values
-        .map { TSLookupElementFactory.build(it) }
-
-    fun getItemMetaTypeCompletions() = getMetaTypeCompletions { TSMetaHelper.isItemMetaType(it) }
-    fun getItemAttributeMetaTypeCompletions() = getMetaTypeCompletions { TSMetaHelper.isItemAttributeMetaType(it) }
-    fun getRelationElementMetaTypeCompletions() = getMetaTypeCompletions { TSMetaHelper.isRelationElementMetaType(it) }
+        }
 
-    private fun getMetaTypeCompletions(filterByMetaType: (TSGlobalMetaItem) -> Boolean) = TSMetaModelAccess.getInstance(project)
-        .getAll<TSGlobalMetaItem>(TSMetaType.META_ITEM)
-        .filter(filterByMetaType)
-        .mapNotNull { TSLookupElementFactory.build(it) }
+    /**
+     * Lookup elements are immutable, so they are built once per generation of the Global Meta Model and shared by all completions.
+     */
+    private fun catalogue(): Catalogue {
+        val generation = TSMetaModelStateService.getInstance(project).generation()
+        return catalogue
+            ?.takeIf { it.generation == generation }
+            ?: Catalogue(generation).also { catalogue = it }
+    }
 
     fun getSubTypeCompletions(
         project: Project,
@@ -104,8 +135,9 @@ class TSCompletionService(private val project: Project) {
         val suffix = if (inlineTypeName == null && completion.addCommaAfterInlineType) "."
         else ""
 
-        return TSMetaModelAccess.getInstance(project).findMetaItemByName(referenceItemTypeName)
-            ?.hierarchy
+        val metaModelAccess = TSMetaModelAccess.getInstance(project)
+        return metaModelAccess.findMetaItemByName(referenceItemTypeName)
+            ?.let { metaModelAccess.getAllSubtypes(it) }
             ?.mapNotNull {
                 TSLookupElementFactory.build(it, suffix)
                     ?.withTypeText(" child of $referenceItemTypeName", true)
@@ -200,6 +232,14 @@ class TSCompletionService(private val project: Project) {
     }
 
 
+    private class Catalogue(val generation: Long) {
+        private val lookupElements = ConcurrentHashMap<String, List<LookupElementBuilder>>()
+
+        // elements are built outside of the map, builders may request other elements of the catalogue
+        fun getOrBuild(key: String, builder: () -> List<LookupElementBuilder>) = lookupElements[key]
+            ?: builder().let { lookupElements.putIfAbsent(key, it) ?: it }
+    }
+
     companion object {
         fun getInstance(project: Project): TSCompletionService = project.service()
     }
@@ -36,8 +36,8 @@ class ItemCodeCompletionProvider : CompletionProvider<CompletionParameters>() {
         val resultCaseInsensitive = result.caseInsensitive()
 
         TSCompletionService.getInstance(project)
-            .getCompletions(TSMetaType.META_ITEM, TSMetaType.META_ENUM, TSMetaType.META_RELATION)
-            .forEach { resultCaseInsensitive.addElement(it) }
+            .getCompletions(resultCaseInsensitive.prefixMatcher, TSMetaType.META_ITEM, TSMetaType.META_ENUM, TSMetaType.META_RELATION)
+            .let { resultCaseInsensitive.addAllElements(it) }
     }
 
 }
\ No newline at end of file
@@ -32,6 +32,9 @@ class TSGlobalMetaModel : GlobalMetaModel {
     private val myTypecode2Getters = CaseInsensitiveMap.CaseInsensitiveConcurrentHashMap<String, Collection<String>>()
     private val myDeploymentTypeCodes = ConcurrentHashMap<Int, TSMetaDeployment>()
 
+    @Volatile
+    private var myTypeHierarchy = TSTypeHierarchy.EMPTY
+
     fun getDeploymentForTable(table: String?): TSMetaDeployment? = if (table != null) myDeploymentTables[table] else null
     fun getDeploymentForTypeCode(typeCode: Int?): TSMetaDeployment? = if (typeCode != null) myDeploymentTypeCodes[typeCode] else null
     fun getDeploymentForTypeCode(typeCode: String?): TSMetaDeployment? = getDeploymentForTypeCode(typeCode?.toIntOrNull())
@@ -55,6 +58,11 @@ class TSGlobalMetaModel : GlobalMetaModel {
     fun getDeploymentTypeCodes() = myDeploymentTypeCodes
 
     fun getTypecode2Getters() = myTypecode2Getters
+    fun getTypeHierarchy() = myTypeHierarchy
+
+    fun initTypeHierarchy() {
+        myTypeHierarchy = TSTypeHierarchy.build(getMetaType<TSGlobalMetaItem>(TSMetaType.META_ITEM).values)
+    }
 
     fun addDeployment(deployment: TSMetaDeployment) {
         myDeploymentTables[deployment.table] = deployment
@@ -64,4 +72,34 @@ class TSGlobalMetaModel : GlobalMetaModel {
         }
     }
 
+    /**
+     * Re-applies given deployments, in the merge order, only for the specified tables and type codes.
+     */
+    fun replaceDeployments(tables: Set<String>, typeCodes: Set<Int>, deployments: Collection<TSMetaDeployment>) {
+        tables.forEach { myDeploymentTables.remove(it.lowercase()) }
+        typeCodes.forEach { myDeploymentTypeCodes.remove(it) }
+
+        deployments.forEach { deployment ->
+            deployment.table
+                ?.takeIf { tables.contains(it.lowercase()) }
+                ?.let { myDeploymentTables[it] = deployment }
+            deployment.typeCode?.toIntOrNull()
+                ?.takeIf { typeCodes.contains(it) }
+                ?.let { myDeploymentTypeCodes[it] = deployment }
+        }
+    }
+
+    /**
+     * Creates a shallow copy of this Global Meta Model, global classifiers are shared with the copy.
+     *
+     * Copy can be safely updated by replacing global classifiers without affecting readers of this instance.
+     */
+    fun copy() = TSGlobalMetaModel().also { copy ->
+        myMetaCache.forEach { (metaType, metas) -> copy.getMetaType<TSGlobalMetaClassifier<*>>(metaType).putAll(metas) }
+        copy.myReferencesBySourceTypeName.putAllValues(myReferencesBySourceTypeName)
+        copy.myDeploymentTables.putAll(myDeploymentTables)
+        copy.myDeploymentTypeCodes.putAll(myDeploymentTypeCodes)
+        copy.myTypecode2Getters.putAll(myTypecode2Getters)
+    }
+
 }
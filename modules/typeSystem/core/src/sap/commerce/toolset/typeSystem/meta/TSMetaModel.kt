@@ -20,6 +20,7 @@ package sap.commerce.toolset.typeSystem.meta
 import com.intellij.openapi.Disposable
 import com.intellij.util.containers.MultiMap
 import com.intellij.util.xml.DomElement
+import org.apache.commons.lang3.StringUtils
 import sap.commerce.toolset.CaseInsensitiveMap
 import sap.commerce.toolset.typeSystem.meta.model.TSMetaClassifier
 import sap.commerce.toolset.typeSystem.meta.model.TSMetaRelation
@@ -42,6 +43,12 @@ class TSMetaModel(
         getMetaType<TSMetaClassifier<out DomElement>>(metaType).putValue(meta.name!!.lowercase(), meta)
     }
 
+    fun addRelation(meta: TSMetaRelation) {
+        addMetaModel(meta, TSMetaType.META_RELATION)
+        registerReferenceEnd(meta.source, meta.target)
+        registerReferenceEnd(meta.target, meta.source)
+    }
+
     @Suppress("UNCHECKED_CAST")
     fun <T : TSMetaClassifier<out DomElement>> getMetaType(metaType: TSMetaType): MultiMap<String, T> =
         myMetaCache.computeIfAbsent(metaType) { MultiMap.createLinked() } as MultiMap<String, T>
@@ -49,6 +56,16 @@ class TSMetaModel(
     fun getMetaTypes() = myMetaCache
     fun getRelations() = myRelationsBySourceTypeName
 
+    private fun registerReferenceEnd(ownerEnd: TSMetaRelation.TSMetaRelationElement, targetEnd: TSMetaRelation.TSMetaRelationElement) {
+        if (!targetEnd.isNavigable) return
+
+        val ownerTypeName = ownerEnd.type
+
+        if (StringUtils.isNotEmpty(ownerTypeName)) {
+            myRelationsBySourceTypeName.putValue(ownerTypeName, targetEnd)
+        }
+    }
+
     override fun dispose() {
         myMetaCache.clear()
         myRelationsBySourceTypeName.clear()
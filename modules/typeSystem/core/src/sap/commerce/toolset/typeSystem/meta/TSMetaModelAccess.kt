@@ -102,7 +102,8 @@ class TSMetaModelAccess(private val project: Project) : Disposable {
         ?: findMetaAtomicByName(name)
 
     fun getNextAvailableTypeCode(): Int? {
-        val projectTypeCodes = TSMetaModelStateService.state(project).getDeploymentTypeCodes().keys
+        // new type code must not clash with the type codes declared in the not yet merged items.xml files
+        val projectTypeCodes = TSMetaModelStateService.state(project, strict = true).getDeploymentTypeCodes().keys
         val reservedTypesCodes = getReservedTypeCodes().keys
         val keys = projectTypeCodes + reservedTypesCodes
 
@@ -117,6 +118,8 @@ class TSMetaModelAccess(private val project: Project) : Disposable {
 
     fun getReservedTypeCodes() = myReservedTypeCodes
 
+    fun getGeneration() = TSMetaModelStateService.getInstance(project).generation()
+
     fun getRelationEnds(meta: TSGlobalMetaItem, includeInherited: Boolean) = if (includeInherited) meta.allRelationEnds
     else TSMetaModelStateService.state(project).getRelations(meta.name)
 
@@ -130,15 +133,29 @@ class TSMetaModelAccess(private val project: Project) : Disposable {
         ?.let { attribute ->
             if (HybrisConstants.TS_TYPE_CATALOG_VERSION.equals(attribute.type, true)) return@let true
 
-            TSMetaModelStateService.state(project).getMetaItem(attribute.type)
-                ?.let { attributeTypeMeta ->
-                    attributeTypeMeta.allExtends
-                        .mapNotNull { extends -> extends.name }
-                        .any { HybrisConstants.TS_TYPE_CATALOG_VERSION.equals(it, true) }
-                } ?: false
+            isSubtypeOf(attribute.type, HybrisConstants.TS_TYPE_CATALOG_VERSION)
         }
         ?: false
 
+    fun isSubtypeOf(meta: TSGlobalMetaItem, superMeta: TSGlobalMetaItem, includeSelf: Boolean = false) = TSMetaModelStateService.state(project)
+        .getTypeHierarchy()
+        .isSubtypeOf(meta, superMeta, includeSelf)
+
+    fun isSubtypeOf(name: String?, superName: String?, includeSelf: Boolean = false): Boolean {
+        val metaModel = TSMetaModelStateService.state(project)
+        val meta = metaModel.getMetaItem(name) ?: return false
+        val superMeta = metaModel.getMetaItem(superName) ?: return false
+
+        return metaModel.getTypeHierarchy().isSubtypeOf(meta, superMeta, includeSelf)
+    }
+
+    /**
+     * Returns all subtypes of the given Meta Item, including itself.
+     */
+    fun getAllSubtypes(meta: TSGlobalMetaItem) = TSMetaModelStateService.state(project)
+        .getTypeHierarchy()
+        .getSubtypes(meta, true)
+
     fun getTypecode2Mapping() = TSMetaModelStateService.state(project).getTypecode2Getters()
 
     private fun <T : TSGlobalMetaClassifier<*>> findMetaByName(metaType: TSMetaType, name: String?): T? = TSMetaModelStateService.state(project)
@@ -0,0 +1,492 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.typeSystem.meta
+
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.util.xml.DomAnchor
+import com.intellij.util.xml.DomElement
+import sap.commerce.toolset.CaseInsensitiveMap.CaseInsensitiveConcurrentHashMap
+import sap.commerce.toolset.meta.MetaModelExternalizer
+import sap.commerce.toolset.typeSystem.meta.model.*
+import sap.commerce.toolset.typeSystem.meta.model.impl.*
+import sap.commerce.toolset.typeSystem.model.*
+import java.io.DataInput
+import java.io.DataOutput
+
+class TSMetaModelExternalizer(project: Project) : MetaModelExternalizer<TSMetaModel>(project) {
+
+    override val version = 1
+
+    override fun write(output: DataOutput, metaModel: TSMetaModel) {
+        output.writeUTF(metaModel.extensionName)
+        output.writeUTF(metaModel.fileName)
+        output.writeBoolean(metaModel.custom)
+
+        writeCollection(output, metaModel.getMetaType<TSMetaItem>(TSMetaType.META_ITEM).values()) { writeItem(output, it) }
+        writeCollection(output, metaModel.getMetaType<TSMetaEnum>(TSMetaType.META_ENUM).values()) { writeEnum(output, it) }
+        writeCollection(output, metaModel.getMetaType<TSMetaAtomic>(TSMetaType.META_ATOMIC).values()) { writeAtomic(output, it) }
+        writeCollection(output, metaModel.getMetaType<TSMetaCollection>(TSMetaType.META_COLLECTION).values()) { writeCollectionType(output, it) }
+        writeCollection(output, metaModel.getMetaType<TSMetaRelation>(TSMetaType.META_RELATION).values()) { writeRelation(output, it) }
+        writeCollection(output, metaModel.getMetaType<TSMetaMap>(TSMetaType.META_MAP).values()) { writeMap(output, it) }
+    }
+
+    override fun read(input: DataInput, virtualFile: VirtualFile) = TSMetaModel(input.readUTF(), input.readUTF(), input.readBoolean()).also { metaModel ->
+        readList(input) { readItem(input, virtualFile) }.forEach { metaModel.addMetaModel(it, TSMetaType.META_ITEM) }
+        readList(input) { readEnum(input, virtualFile) }.forEach { metaModel.addMetaModel(it, TSMetaType.META_ENUM) }
+        readList(input) { readAtomic(input, virtualFile) }.forEach { metaModel.addMetaModel(it, TSMetaType.META_ATOMIC) }
+        readList(input) { readCollectionType(input, virtualFile) }.forEach { metaModel.addMetaModel(it, TSMetaType.META_COLLECTION) }
+        readList(input) { readRelation(input, virtualFile) }.forEach { metaModel.addRelation(it) }
+        readList(input) { readMap(input, virtualFile) }.forEach { metaModel.addMetaModel(it, TSMetaType.META_MAP) }
+    }
+
+    private fun writeItem(output: DataOutput, meta: TSMetaItem) {
+        writeMeta(output, meta)
+        writeNullableString(output, meta.name)
+        writeCollection(output, meta.attributes.values) { writeAttribute(output, it) }
+        writeCollection(output, meta.indexes.values) { writeIndex(output, it) }
+        writeCollection(output, meta.customProperties.values) { writeCustomProperty(output, it) }
+        writeNullable(output, meta.deployment) { writeDeployment(output, it) }
+        output.writeBoolean(meta.isAbstract)
+        output.writeBoolean(meta.isAutoCreate)
+        output.writeBoolean(meta.isGenerate)
+        output.writeBoolean(meta.isSingleton)
+        output.writeBoolean(meta.isJaloOnly)
+        output.writeBoolean(meta.isCatalogAware)
+        writeNullableString(output, meta.jaloClass)
+        writeNullableString(output, meta.description)
+        writeNullableString(output, meta.extendedMetaItemName)
+    }
+
+    private fun readItem(input: DataInput, virtualFile: VirtualFile): TSMetaItem {
+        val meta = readMeta(input, virtualFile, ItemType::class.java)
+
+        return TSMetaItemImpl(
+            meta.moduleName, meta.extensionName, readNullableString(input), meta.isCustom,
+            attributes = readList(input) { readAttribute(input, virtualFile) }.toNameMap(),
+            indexes = readList(input) { readIndex(input, virtualFile) }.toNameMap(),
+            customProperties = readList(input) { readCustomProperty(input, virtualFile) }.toNameMap(),
+            deployment = readNullable(input) { readDeployment(input, virtualFile) },
+            isAbstract = input.readBoolean(),
+            isAutoCreate = input.readBoolean(),
+            isGenerate = input.readBoolean(),
+            isSingleton = input.readBoolean(),
+            isJaloOnly = input.readBoolean(),
+            isCatalogAware = input.readBoolean(),
+            jaloClass = readNullableString(input),
+            description = readNullableString(input),
+            extendedMetaItemName = readNullableString(input),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeAttribute(output: DataOutput, meta: TSMetaItem.TSMetaItemAttribute) {
+        writeMeta(output, meta)
+        output.writeUTF(meta.name)
+        writePersistence(output, meta.persistence)
+        writeModifiers(output, meta.modifiers)
+        writeCollection(output, meta.customProperties.values) { writeCustomProperty(output, it) }
+        writeCollection(output, meta.customGetters.values) { writeModelMethod(output, it) }
+        writeCollection(output, meta.customSetters.values) { writeModelMethod(output, it) }
+        writeNullableString(output, meta.description)
+        writeNullableString(output, meta.defaultValue)
+        writeNullableString(output, meta.type)
+        output.writeBoolean(meta.isDeprecated)
+        output.writeBoolean(meta.isAutoCreate)
+        output.writeBoolean(meta.isGenerate)
+        output.writeBoolean(meta.isRedeclare)
+        writeNullableString(output, meta.isSelectionOf)
+    }
+
+    private fun readAttribute(input: DataInput, virtualFile: VirtualFile): TSMetaItem.TSMetaItemAttribute {
+        val meta = readMeta(input, virtualFile, Attribute::class.java)
+
+        return TSMetaItemImpl.TSMetaItemAttributeImpl(
+            meta.moduleName, meta.extensionName, input.readUTF(), meta.isCustom,
+            persistence = readPersistence(input, virtualFile),
+            modifiers = readModifiers(input, virtualFile),
+            customProperties = readList(input) { readCustomProperty(input, virtualFile) }.toNameMap(),
+            customGetters = readList(input) { readModelMethod(input, virtualFile) }.toNameMap(),
+            customSetters = readList(input) { readModelMethod(input, virtualFile) }.toNameMap(),
+            description = readNullableString(input),
+            defaultValue = readNullableString(input),
+            type = readNullableString(input),
+            isDeprecated = input.readBoolean(),
+            isAutoCreate = input.readBoolean(),
+            isGenerate = input.readBoolean(),
+            isRedeclare = input.readBoolean(),
+            isSelectionOf = readNullableString(input),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeIndex(output: DataOutput, meta: TSMetaItem.TSMetaItemIndex) {
+        writeMeta(output, meta)
+        output.writeUTF(meta.name)
+        output.writeBoolean(meta.isRemove)
+        output.writeBoolean(meta.isReplace)
+        output.writeBoolean(meta.isUnique)
+        writeNullableString(output, meta.creationMode?.name)
+        writeCollection(output, meta.keys) { output.writeUTF(it) }
+        writeCollection(output, meta.includes) { output.writeUTF(it) }
+    }
+
+    private fun readIndex(input: DataInput, virtualFile: VirtualFile): TSMetaItem.TSMetaItemIndex {
+        val meta = readMeta(input, virtualFile, Index::class.java)
+
+        return TSMetaItemImpl.TSMetaItemIndexImpl(
+            meta.moduleName, meta.extensionName, input.readUTF(), meta.isCustom,
+            isRemove = input.readBoolean(),
+            isReplace = input.readBoolean(),
+            isUnique = input.readBoolean(),
+            creationMode = readNullableString(input)?.let { CreationMode.valueOf(it) } ?: CreationMode.ALL,
+            keys = readList(input) { input.readUTF() }.toSet(),
+            includes = readList(input) { input.readUTF() }.toSet(),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writePersistence(output: DataOutput, meta: TSMetaPersistence) {
+        writeMeta(output, meta)
+        writeNullableString(output, meta.name)
+        writeNullableString(output, meta.type?.name)
+        writeNullableString(output, meta.qualifier)
+        writeNullableString(output, meta.attributeHandler)
+    }
+
+    private fun readPersistence(input: DataInput, virtualFile: VirtualFile): TSMetaPersistence {
+        val meta = readMeta(input, virtualFile, Persistence::class.java)
+
+        return TSMetaPersistenceImpl(
+            meta.moduleName, meta.extensionName, readNullableString(input), meta.isCustom,
+            type = readNullableString(input)?.let { PersistenceType.valueOf(it) },
+            qualifier = readNullableString(input),
+            attributeHandler = readNullableString(input),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeModifiers(output: DataOutput, meta: TSMetaModifiers) {
+        writeMeta(output, meta)
+        output.writeBoolean(meta.isRead)
+        output.writeBoolean(meta.isWrite)
+        output.writeBoolean(meta.isSearch)
+        output.writeBoolean(meta.isOptional)
+        output.writeBoolean(meta.isPrivate)
+        output.writeBoolean(meta.isInitial)
+        output.writeBoolean(meta.isRemovable)
+        output.writeBoolean(meta.isPartOf)
+        output.writeBoolean(meta.isUnique)
+        output.writeBoolean(meta.isDoNotOptimize)
+        output.writeBoolean(meta.isEncrypted)
+    }
+
+    private fun readModifiers(input: DataInput, virtualFile: VirtualFile): TSMetaModifiers {
+        val meta = readMeta(input, virtualFile, Modifiers::class.java)
+
+        return TSMetaModifiersImpl(
+            meta.moduleName, meta.extensionName, meta.isCustom,
+            isRead = input.readBoolean(),
+            isWrite = input.readBoolean(),
+            isSearch = input.readBoolean(),
+            isOptional = input.readBoolean(),
+            isPrivate = input.readBoolean(),
+            isInitial = input.readBoolean(),
+            isRemovable = input.readBoolean(),
+            isPartOf = input.readBoolean(),
+            isUnique = input.readBoolean(),
+            isDoNotOptimize = input.readBoolean(),
+            isEncrypted = input.readBoolean(),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeCustomProperty(output: DataOutput, meta: TSMetaCustomProperty) {
+        writeMeta(output, meta)
+        output.writeUTF(meta.name)
+        writeNullableString(output, meta.rawValue)
+    }
+
+    private fun readCustomProperty(input: DataInput, virtualFile: VirtualFile): TSMetaCustomProperty {
+        val meta = readMeta(input, virtualFile, CustomProperty::class.java)
+
+        return TSMetaCustomPropertyImpl(
+            meta.moduleName, meta.extensionName, meta.isCustom, input.readUTF(),
+            rawValue = readNullableString(input),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeModelMethod(output: DataOutput, meta: TSMetaModelMethod) {
+        writeMeta(output, meta)
+        output.writeUTF(meta.name)
+        output.writeBoolean(meta.default)
+        output.writeBoolean(meta.deprecated)
+        writeNullableString(output, meta.deprecatedSince)
+    }
+
+    private fun readModelMethod(input: DataInput, virtualFile: VirtualFile): TSMetaModelMethod {
+        val meta = readMeta(input, virtualFile, ModelMethod::class.java)
+
+        return TSMetaModelMethodImpl(
+            meta.moduleName, meta.extensionName, input.readUTF(), meta.isCustom,
+            default = input.readBoolean(),
+            deprecated = input.readBoolean(),
+            deprecatedSince = readNullableString(input),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeDeployment(output: DataOutput, meta: TSMetaDeployment) {
+        writeMeta(output, meta)
+        writeNullableString(output, meta.name)
+        output.writeUTF(meta.propertyTable)
+        writeNullableString(output, meta.typeCode)
+        writeNullableString(output, meta.table)
+    }
+
+    private fun readDeployment(input: DataInput, virtualFile: VirtualFile): TSMetaDeployment {
+        val meta = readMeta(input, virtualFile, Deployment::class.java)
+
+        return TSMetaDeploymentImpl(
+            meta.moduleName, meta.extensionName, readNullableString(input), meta.isCustom,
+            propertyTable = input.readUTF(),
+            typeCode = readNullableString(input),
+            table = readNullableString(input),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeEnum(output: DataOutput, meta: TSMetaEnum) {
+        writeMeta(output, meta)
+        writeNullableString(output, meta.name)
+        writeCollection(output, meta.values.values) { value ->
+            writeMeta(output, value)
+            output.writeUTF(value.name)
+            writeNullableString(output, value.description)
+        }
+        output.writeBoolean(meta.isAutoCreate)
+        output.writeBoolean(meta.isGenerate)
+        output.writeBoolean(meta.isDynamic)
+        writeNullableString(output, meta.description)
+        writeNullableString(output, meta.jaloClass)
+    }
+
+    private fun readEnum(input: DataInput, virtualFile: VirtualFile): TSMetaEnum {
+        val meta = readMeta(input, virtualFile, EnumType::class.java)
+        val name = readNullableString(input)
+        val values = readList(input) {
+            val value = readMeta(input, virtualFile, EnumValue::class.java)
+
+            TSMetaEnumImpl.TSMetaEnumValueImpl(
+                value.moduleName, value.extensionName, value.isCustom, input.readUTF(),
+                description = readNullableString(input),
+                domAnchor = value.domAnchor
+            )
+        }
+
+        return TSMetaEnumImpl(
+            meta.moduleName, meta.extensionName, name, meta.isCustom,
+            values = values.toNameMap(),
+            isAutoCreate = input.readBoolean(),
+            isGenerate = input.readBoolean(),
+            isDynamic = input.readBoolean(),
+            description = readNullableString(input),
+            jaloClass = readNullableString(input),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeAtomic(output: DataOutput, meta: TSMetaAtomic) {
+        writeMeta(output, meta)
+        output.writeUTF(meta.name)
+        output.writeBoolean(meta.isAutoCreate)
+        output.writeBoolean(meta.isGenerate)
+        output.writeUTF(meta.extends)
+    }
+
+    private fun readAtomic(input: DataInput, virtualFile: VirtualFile): TSMetaAtomic {
+        val meta = readMeta(input, virtualFile, AtomicType::class.java)
+
+        return TSMetaAtomicImpl(
+            meta.moduleName, meta.extensionName, input.readUTF(), meta.isCustom,
+            isAutoCreate = input.readBoolean(),
+            isGenerate = input.readBoolean(),
+            extends = input.readUTF(),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeCollectionType(output: DataOutput, meta: TSMetaCollection) {
+        writeMeta(output, meta)
+        writeNullableString(output, meta.name)
+        output.writeBoolean(meta.isAutoCreate)
+        output.writeBoolean(meta.isGenerate)
+        output.writeUTF(meta.elementType)
+        output.writeUTF(meta.type.name)
+    }
+
+    private fun readCollectionType(input: DataInput, virtualFile: VirtualFile): TSMetaCollection {
+        val meta = readMeta(input, virtualFile, CollectionType::class.java)
+
+        return TSMetaCollectionImpl(
+            meta.moduleName, meta.extensionName, readNullableString(input), meta.isCustom,
+            isAutoCreate = input.readBoolean(),
+            isGenerate = input.readBoolean(),
+            elementType = input.readUTF(),
+            type = Type.valueOf(input.readUTF()),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeMap(output: DataOutput, meta: TSMetaMap) {
+        writeMeta(output, meta)
+        writeNullableString(output, meta.name)
+        writeNullableString(output, meta.argumentType)
+        writeNullableString(output, meta.returnType)
+        output.writeBoolean(meta.isAutoCreate)
+        output.writeBoolean(meta.isGenerate)
+        output.writeBoolean(meta.isRedeclare)
+    }
+
+    private fun readMap(input: DataInput, virtualFile: VirtualFile): TSMetaMap {
+        val meta = readMeta(input, virtualFile, MapType::class.java)
+
+        return TSMetaMapImpl(
+            meta.moduleName, meta.extensionName, readNullableString(input), meta.isCustom,
+            argumentType = readNullableString(input),
+            returnType = readNullableString(input),
+            isAutoCreate = input.readBoolean(),
+            isGenerate = input.readBoolean(),
+            isRedeclare = input.readBoolean(),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeRelation(output: DataOutput, meta: TSMetaRelation) {
+        writeMeta(output, meta)
+        writeNullableString(output, meta.name)
+        writeRelationElement(output, meta.source)
+        writeRelationElement(output, meta.target)
+        writeNullable(output, meta.orderingAttribute) { orderingAttribute ->
+            writeMeta(output, orderingAttribute)
+            output.writeUTF(orderingAttribute.owner.end.name)
+            output.writeUTF(orderingAttribute.qualifier)
+        }
+        writeNullable(output, meta.deployment) { writeDeployment(output, it) }
+        output.writeBoolean(meta.isLocalized)
+        output.writeBoolean(meta.isAutoCreate)
+        output.writeBoolean(meta.isGenerate)
+        writeNullableString(output, meta.description)
+    }
+
+    private fun readRelation(input: DataInput, virtualFile: VirtualFile): TSMetaRelation {
+        val meta = readMeta(input, virtualFile, Relation::class.java)
+        val name = readNullableString(input)
+        val source = readRelationElement(input, virtualFile)
+        val target = readRelationElement(input, virtualFile)
+        val orderingAttribute = readNullable(input) {
+            val orderingAttribute = readMeta(input, virtualFile, RelationElement::class.java)
+            val owner = if (TSMetaRelation.RelationEnd.valueOf(input.readUTF()) == source.end) source
+            else target
+
+            TSMetaRelationImpl.TSMetaOrderingAttributeImpl(
+                owner, orderingAttribute.moduleName, orderingAttribute.extensionName, orderingAttribute.isCustom,
+                qualifier = input.readUTF(),
+                domAnchor = orderingAttribute.domAnchor
+            )
+        }
+
+        return TSMetaRelationImpl(
+            meta.moduleName, meta.extensionName, name, meta.isCustom, source, target, orderingAttribute,
+            deployment = readNullable(input) { readDeployment(input, virtualFile) },
+            isLocalized = input.readBoolean(),
+            isAutoCreate = input.readBoolean(),
+            isGenerate = input.readBoolean(),
+            description = readNullableString(input),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeRelationElement(output: DataOutput, meta: TSMetaRelation.TSMetaRelationElement) {
+        writeMeta(output, meta)
+        output.writeUTF(meta.end.name)
+        writeModifiers(output, meta.modifiers)
+        writeCollection(output, meta.customProperties.values) { writeCustomProperty(output, it) }
+        writeCollection(output, meta.customGetters.values) { writeModelMethod(output, it) }
+        writeCollection(output, meta.customSetters.values) { writeModelMethod(output, it) }
+        output.writeUTF(meta.type)
+        writeNullableString(output, meta.qualifier)
+        output.writeBoolean(meta.isNavigable)
+        output.writeBoolean(meta.isOrdered)
+        output.writeBoolean(meta.isDeprecated)
+        output.writeUTF(meta.collectionType.name)
+        output.writeUTF(meta.cardinality.name)
+        writeNullableString(output, meta.description)
+        writeNullableString(output, meta.metaType)
+    }
+
+    private fun readRelationElement(input: DataInput, virtualFile: VirtualFile): TSMetaRelation.TSMetaRelationElement {
+        val meta = readMeta(input, virtualFile, RelationElement::class.java)
+
+        return TSMetaRelationImpl.TSMetaRelationElementImpl(
+            meta.moduleName, meta.extensionName, meta.isCustom,
+            end = TSMetaRelation.RelationEnd.valueOf(input.readUTF()),
+            modifiers = readModifiers(input, virtualFile),
+            customProperties = readList(input) { readCustomProperty(input, virtualFile) }.toNameMap(),
+            customGetters = readList(input) { readModelMethod(input, virtualFile) }.toNameMap(),
+            customSetters = readList(input) { readModelMethod(input, virtualFile) }.toNameMap(),
+            type = input.readUTF(),
+            qualifier = readNullableString(input),
+            isNavigable = input.readBoolean(),
+            isOrdered = input.readBoolean(),
+            isDeprecated = input.readBoolean(),
+            collectionType = Type.valueOf(input.readUTF()),
+            cardinality = Cardinality.valueOf(input.readUTF()),
+            description = readNullableString(input),
+            metaType = readNullableString(input),
+            domAnchor = meta.domAnchor
+        )
+    }
+
+    private fun writeMeta(output: DataOutput, meta: TSMetaClassifier<*>) {
+        output.writeUTF(meta.moduleName)
+        output.writeUTF(meta.extensionName)
+        output.writeBoolean(meta.isCustom)
+        writeAnchor(output, meta.domAnchor)
+    }
+
+    private fun <T : DomElement> readMeta(input: DataInput, virtualFile: VirtualFile, domClass: Class<T>) = MetaHeader(
+        input.readUTF(),
+        input.readUTF(),
+        input.readBoolean(),
+        readAnchor(input, virtualFile, domClass)
+    )
+
+    private fun <T : TSMetaClassifier<*>> List<T>.toNameMap(): Map<String, T> = associateByTo(CaseInsensitiveConcurrentHashMap()) { meta ->
+        meta.name!!.trim { it <= ' ' }
+    }
+
+    private class MetaHeader<T : DomElement>(
+        val moduleName: String,
+        val extensionName: String,
+        val isCustom: Boolean,
+        val domAnchor: DomAnchor<T>,
+    )
+}
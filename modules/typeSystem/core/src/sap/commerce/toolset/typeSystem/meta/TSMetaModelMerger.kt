@@ -18,6 +18,8 @@
 package sap.commerce.toolset.typeSystem.meta
 
 import com.intellij.util.xml.DomElement
+import sap.commerce.toolset.HybrisConstants
+import sap.commerce.toolset.meta.MetaModelChanges
 import sap.commerce.toolset.typeSystem.meta.model.*
 import sap.commerce.toolset.typeSystem.meta.model.impl.*
 
@@ -79,21 +81,200 @@ object TSMetaModelMerger {
             .forEach { metaItems.remove(it) }
 
         // init hierarchy for Meta Items
-        metaItems.values.forEach { meta ->
-            val itemHierarchy = metaItems.values.filter { otherMeta ->
-                otherMeta.allExtends.find { it.name == meta.name } != null
-                    // or itself, it will be highlighted as unnecessary via Inspection
-                    || otherMeta.name == meta.name
-            }
-
-            meta.addMetasToHierarchy(itemHierarchy)
-        }
+        initTypeHierarchy()
 
         // init typecode 2 getters mapping
         getTypecode2Getters().clear()
         getTypecode2Getters().putAll(mapGetters(this))
     }
 
+    /**
+     * Incrementally applies changed local Meta Models onto the copy of the previous Global Meta Model.
+     *
+     * Contributions of the changed local Meta Models are retracted by re-merging only affected classifiers from all declarations,
+     * Meta Items which depend on the affected classifiers via `extends`, relation ends or attribute types are re-created as well.
+     * Unaffected global classifiers are shared between both Global Meta Models, previous Global Meta Model is not modified.
+     *
+     * @return `null` if incremental merge is not reasonable and full merge has to be performed instead
+     */
+    fun merge(
+        previousMetaModel: TSGlobalMetaModel,
+        localMetaModels: Collection<TSMetaModel>,
+        changes: MetaModelChanges<TSMetaModel>
+    ): TSGlobalMetaModel? {
+        // ideally, we have to get the same dependency order as SAP Commerce
+        val sortedMetaModels = localMetaModels.sortedBy { !it.custom }
+        val changedMetaModels = changes.changed
+        val changedKeys = TSMetaType.entries.associateWith { metaType ->
+            changedMetaModels
+                .flatMap { it.getMetaType<TSMetaClassifier<DomElement>>(metaType).keySet() }
+                .toSet()
+        }
+        val changedRelationKeys = changedMetaModels
+            .flatMap { it.getRelations().entrySet() }
+            .map { it.key.lowercase() }
+            .toSet()
+
+        val globalMetaModel = previousMetaModel.copy()
+
+        changedKeys.forEach { (metaType, keys) -> keys.forEach { merge(globalMetaModel, sortedMetaModels, metaType, it) } }
+        changedRelationKeys.forEach { key ->
+            globalMetaModel.getAllRelations().remove(key)
+            sortedMetaModels.forEach { localMetaModel ->
+                localMetaModel.getRelations().get(key)
+                    ?.let { globalMetaModel.getAllRelations().putValues(key, it) }
+            }
+        }
+        mergeDeployments(globalMetaModel, sortedMetaModels, changedMetaModels)
+
+        val metaItems = globalMetaModel.getMetaType<TSGlobalMetaItem>(TSMetaType.META_ITEM)
+        val affectedItemKeys = getAffectedItemKeys(globalMetaModel, changedKeys, changedRelationKeys)
+
+        if (affectedItemKeys.size > metaItems.size / 2) return null
+
+        // Meta Items, which depend on the changed classifiers, have to be re-created, because of the post-merge state
+        affectedItemKeys
+            .filterNot { changedKeys[TSMetaType.META_ITEM]!!.contains(it) }
+            .forEach { merge(globalMetaModel, sortedMetaModels, TSMetaType.META_ITEM, it) }
+
+        val affectedItems = affectedItemKeys.mapNotNull { metaItems[it] }.toSet()
+
+        val allTypes = globalMetaModel.getMetaTypes().values
+            .flatMap { it.values }
+            .filter { it.name != null }
+            .filter { it is TSTypedClassifier }
+            .associate { it.name!! to (it as TSTypedClassifier) }
+
+        affectedItems
+            .forEach { (it as? TSGlobalMetaItemSelfMerge<*, *>)?.postMerge(globalMetaModel) }
+
+        // inherited attributes are shared with not affected super types and already flattened
+        affectedItems
+            .flatMap { it.attributes.values }
+            .filter { it.type != null }
+            .forEach { it.flattenType = TSMetaHelper.flattenType(it.type!!, allTypes) }
+
+        affectedItems
+            .filterNot { it.isCustom }
+            .filter { it.allRelationEnds.any { relationEnd -> relationEnd.isCustom } }
+            .forEach { it.isCustom = true }
+
+        globalMetaModel.getMetaType<TSGlobalMetaRelation>(TSMetaType.META_RELATION).values
+            .forEach {
+                val relationKey = it.name?.lowercase()
+                if (changedKeys[TSMetaType.META_RELATION]!!.contains(relationKey)) {
+                    it.source.flattenType = TSMetaHelper.flattenType(TSMetaHelper.flattenType(it.source), allTypes)
+                    it.target.flattenType = TSMetaHelper.flattenType(TSMetaHelper.flattenType(it.target), allTypes)
+                }
+
+                it.orderingAttribute
+                    ?.let { orderingAttribute ->
+                        val type = orderingAttribute.owner.type
+                        globalMetaModel.getMetaItem(type)
+                            ?.takeIf { metaItem -> metaItem in affectedItems }
+                            ?.let { metaItem -> metaItem as? TSGlobalMetaItemImpl }
+                            ?.let { metaItem ->
+                                metaItem.allOrderingAttributes[orderingAttribute.qualifier] = orderingAttribute
+                            }
+                    }
+            }
+
+        // it is possible to declare many-to-many Relation as Item to declare custom indexes
+        // in such a case we have to remove such Item types
+        affectedItemKeys
+            .filter {
+                globalMetaModel.getMetaRelation(it)
+                    ?.let { relation -> relation.deployment != null }
+                    ?: false
+            }
+            .forEach { metaItems.remove(it) }
+
+        globalMetaModel.initTypeHierarchy()
+
+        val typecode2Getters = globalMetaModel.getTypecode2Getters()
+        affectedItemKeys.forEach { typecode2Getters.remove(it) }
+        typecode2Getters.putAll(mapGetters(affectedItemKeys.mapNotNull { metaItems[it] }))
+
+        return globalMetaModel
+    }
+
+    private fun merge(globalMetaModel: TSGlobalMetaModel, sortedMetaModels: Collection<TSMetaModel>, metaType: TSMetaType, key: String) {
+        val globalCache = globalMetaModel.getMetaType<TSMetaSelfMerge<out DomElement, out TSMetaClassifier<out DomElement>>>(metaType)
+
+        globalCache.remove(key)
+
+        sortedMetaModels.forEach { localMetaModel ->
+            localMetaModel.getMetaType<TSMetaClassifier<DomElement>>(metaType)[key]
+                .forEach { localMetaClassifier -> merge(globalCache, key, localMetaClassifier) }
+        }
+    }
+
+    private fun mergeDeployments(globalMetaModel: TSGlobalMetaModel, sortedMetaModels: Collection<TSMetaModel>, changedMetaModels: Collection<TSMetaModel>) {
+        val changedDeployments = changedMetaModels.flatMap { getDeployments(it) }
+        if (changedDeployments.isEmpty()) return
+
+        val tables = changedDeployments.mapNotNull { it.table?.lowercase() }.toSet()
+        val typeCodes = changedDeployments.mapNotNull { it.typeCode?.toIntOrNull() }.toSet()
+        val deployments = sortedMetaModels
+            .flatMap { getDeployments(it) }
+            .filter { (it.table?.lowercase() in tables) || (it.typeCode?.toIntOrNull() in typeCodes) }
+
+        globalMetaModel.replaceDeployments(tables, typeCodes, deployments)
+    }
+
+    /**
+     * Collects keys of the Meta Items, which post-merge state depends on the changed classifiers, including all their subtypes.
+     */
+    private fun getAffectedItemKeys(
+        globalMetaModel: TSGlobalMetaModel,
+        changedKeys: Map<TSMetaType, Set<String>>,
+        changedRelationKeys: Set<String>
+    ): Set<String> {
+        val metaItems = globalMetaModel.getMetaType<TSGlobalMetaItem>(TSMetaType.META_ITEM)
+        val changedTypeKeys = changedKeys
+            .filterKeys { it != TSMetaType.META_ITEM }
+            .values
+            .flatten()
+            .toSet()
+
+        val affectedItemKeys = LinkedHashSet<String>()
+        affectedItemKeys.addAll(changedKeys[TSMetaType.META_ITEM]!!)
+        affectedItemKeys.addAll(changedKeys[TSMetaType.META_RELATION]!!)
+        affectedItemKeys.addAll(changedRelationKeys)
+
+        // flatten type of the attribute depends on the declaration of its type
+        if (changedTypeKeys.isNotEmpty()) {
+            metaItems.entries
+                .filter { (_, metaItem) ->
+                    metaItem.attributes.values.any { attribute ->
+                        attribute.type
+                            ?.lowercase()
+                            ?.removePrefix(HybrisConstants.TS_ATTRIBUTE_LOCALIZED_PREFIX)
+                            ?.let { changedTypeKeys.contains(it) }
+                            ?: false
+                    }
+                }
+                .forEach { affectedItemKeys.add(it.key) }
+        }
+
+        val children = HashMap<String, MutableList<String>>()
+        metaItems.forEach { (key, metaItem) ->
+            metaItem.declarations
+                .map { (it.extendedMetaItemName ?: HybrisConstants.TS_TYPE_GENERIC_ITEM).lowercase() }
+                .toSet()
+                .forEach { children.computeIfAbsent(it) { mutableListOf() }.add(key) }
+        }
+
+        val queue = ArrayDeque(affectedItemKeys)
+        while (queue.isNotEmpty()) {
+            children[queue.removeFirst()]
+                ?.filter { affectedItemKeys.add(it) }
+                ?.forEach { queue.addLast(it) }
+        }
+
+        return affectedItemKeys
+    }
+
     @Suppress("UNCHECKED_CAST")
     private fun merge(globalMetaModel: TSGlobalMetaModel, localMetaModel: TSMetaModel) {
         localMetaModel.getMetaTypes().forEach { (metaType, localMetas) ->
@@ -102,19 +283,7 @@ object TSMetaModelMerger {
 
                 localMetas.entrySet().forEach { (key, localMetaClassifiers) ->
                     localMetaClassifiers.forEach { localMetaClassifier ->
-                        val globalMetaClassifier = globalCache.computeIfAbsent(key) {
-                            when (localMetaClassifier) {
-                                is TSMetaAtomic -> TSGlobalMetaAtomicImpl(localMetaClassifier)
-                                is TSMetaEnum -> TSGlobalMetaEnumImpl(localMetaClassifier)
-                                is TSMetaCollection -> TSGlobalMetaCollectionImpl(localMetaClassifier)
-                                is TSMetaMap -> TSGlobalMetaMapImpl(localMetaClassifier)
-                                is TSMetaRelation -> TSGlobalMetaRelationImpl(localMetaClassifier)
-                                is TSMetaItem -> TSGlobalMetaItemImpl(localMetaClassifier)
-                                else -> null
-                            }
-                        }
-
-                        (globalMetaClassifier as TSMetaSelfMerge<DomElement, TSMetaClassifier<DomElement>>).merge(localMetaClassifier)
+                        merge(globalCache, key, localMetaClassifier)
                     }
                 }
             }
@@ -122,16 +291,43 @@ object TSMetaModelMerger {
 
         globalMetaModel.getAllRelations().putAllValues(localMetaModel.getRelations())
 
+        getDeployments(localMetaModel)
+            .forEach { globalMetaModel.addDeployment(it) }
+    }
+
+    private fun getDeployments(localMetaModel: TSMetaModel): List<TSMetaDeployment> {
         val itemTypeDeployments = localMetaModel.getMetaType<TSMetaItem>(TSMetaType.META_ITEM).values()
             .mapNotNull { it.deployment }
         val relationDeployments = localMetaModel.getMetaType<TSMetaRelation>(TSMetaType.META_RELATION).values()
             .mapNotNull { it.deployment }
-        (itemTypeDeployments + relationDeployments)
+        return (itemTypeDeployments + relationDeployments)
             .filter { it.table != null && it.typeCode != null }
-            .forEach { globalMetaModel.addDeployment(it) }
     }
 
-    private fun mapGetters(globalMetaModel: TSGlobalMetaModel) = globalMetaModel.getMetaType<TSGlobalMetaItem>(TSMetaType.META_ITEM).values
+    @Suppress("UNCHECKED_CAST")
+    private fun merge(
+        globalCache: MutableMap<String, TSMetaSelfMerge<out DomElement, out TSMetaClassifier<out DomElement>>>,
+        key: String,
+        localMetaClassifier: TSMetaClassifier<out DomElement>
+    ) {
+        val globalMetaClassifier = globalCache.computeIfAbsent(key) {
+            when (localMetaClassifier) {
+                is TSMetaAtomic -> TSGlobalMetaAtomicImpl(localMetaClassifier)
+                is TSMetaEnum -> TSGlobalMetaEnumImpl(localMetaClassifier)
+                is TSMetaCollection -> TSGlobalMetaCollectionImpl(localMetaClassifier)
+                is TSMetaMap -> TSGlobalMetaMapImpl(localMetaClassifier)
+                is TSMetaRelation -> TSGlobalMetaRelationImpl(localMetaClassifier)
+                is TSMetaItem -> TSGlobalMetaItemImpl(localMetaClassifier)
+                else -> null
+            }
+        }
+
+        (globalMetaClassifier as TSMetaSelfMerge<DomElement, TSMetaClassifier<DomElement>>).merge(localMetaClassifier as TSMetaClassifier<DomElement>)
+    }
+
+    private fun mapGetters(globalMetaModel: TSGlobalMetaModel) = mapGetters(globalMetaModel.getMetaType<TSGlobalMetaItem>(TSMetaType.META_ITEM).values)
+
+    private fun mapGetters(metaItems: Collection<TSGlobalMetaItem>) = metaItems
         .filter { it.name != null }
         .associate {
             it.name!! to it.allAttributes.values
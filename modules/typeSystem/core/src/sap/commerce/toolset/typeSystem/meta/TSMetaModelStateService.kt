@@ -23,6 +23,8 @@ import com.intellij.openapi.components.Service
 import com.intellij.openapi.components.service
 import com.intellij.openapi.project.Project
 import kotlinx.coroutines.CoroutineScope
+import sap.commerce.toolset.meta.MetaModelCache
+import sap.commerce.toolset.meta.MetaModelChanges
 import sap.commerce.toolset.meta.MetaModelStateService
 import sap.commerce.toolset.typeSystem.meta.event.TSMetaModelChangeListener
 import sap.commerce.toolset.typeSystem.model.Items
@@ -31,10 +33,13 @@ import sap.commerce.toolset.typeSystem.model.Items
 class TSMetaModelStateService(project: Project, coroutineScope: CoroutineScope) : MetaModelStateService<TSGlobalMetaModel, TSMetaModel, Items>(
     project, coroutineScope, "Type",
     TSMetaCollector.getInstance(project),
-    TSMetaModelProcessor.getInstance(project)
+    TSMetaModelProcessor.getInstance(project),
+    MetaModelCache(project, "typeSystem", TSMetaModelExternalizer(project))
 ) {
 
     override fun onCompletion(newState: TSGlobalMetaModel) {
+        // cached references resolved against the stale state have to be re-resolved
+        TSModificationTracker.getInstance(project).incModificationCount()
         project.messageBus.syncPublisher(TSMetaModelChangeListener.TOPIC).onChanged(newState)
     }
 
@@ -42,8 +47,15 @@ class TSMetaModelStateService(project: Project, coroutineScope: CoroutineScope)
         readAction { TSMetaModelMerger.merge(it, metaModelsToMerge.sortedBy { meta -> !meta.custom }) }
     }
 
+    override suspend fun merge(
+        previousState: TSGlobalMetaModel,
+        changes: MetaModelChanges<TSMetaModel>,
+        metaModels: Collection<TSMetaModel>
+    ): TSGlobalMetaModel = readAction { TSMetaModelMerger.merge(previousState, metaModels, changes) }
+        ?: create(metaModels)
+
     companion object {
-        fun state(project: Project) = getInstance(project).get()
+        fun state(project: Project, strict: Boolean = false) = getInstance(project).get(strict)
         fun getInstance(project: Project): TSMetaModelStateService = project.service()
     }
 
@@ -0,0 +1,95 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package sap.commerce.toolset.typeSystem.meta
+
+import sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaItem
+
+/**
+ * Type hierarchy of the Meta Items built in a single pass over the merged Meta Items.
+ *
+ * Each Meta Item is labeled with the interval of the depth-first traversal of the `extends` tree,
+ * all subtypes of the Meta Item are located in the contiguous range of that traversal.
+ * As a result, both [isSubtypeOf] and [getSubtypes] do not require walking through the `allExtends` of every Meta Item.
+ */
+class TSTypeHierarchy private constructor(
+    private val metaItems: Array<TSGlobalMetaItem>,
+    private val enter: Map<TSGlobalMetaItem, Int>,
+    private val exit: Map<TSGlobalMetaItem, Int>,
+) {
+
+    fun isSubtypeOf(meta: TSGlobalMetaItem, superMeta: TSGlobalMetaItem, includeSelf: Boolean = false): Boolean {
+        if (meta === superMeta) return includeSelf
+
+        val metaEnter = enter[meta] ?: return false
+        val superEnter = enter[superMeta] ?: return false
+        val superExit = exit[superMeta] ?: return false
+
+        return metaEnter in superEnter..superExit
+    }
+
+    fun getSubtypes(meta: TSGlobalMetaItem, includeSelf: Boolean = false): List<TSGlobalMetaItem> {
+        val metaEnter = enter[meta] ?: return emptyList()
+        val metaExit = exit[meta] ?: return emptyList()
+        val from = if (includeSelf) metaEnter else metaEnter + 1
+
+        return metaItems.asList().subList(from, metaExit + 1)
+    }
+
+    companion object {
+        val EMPTY = TSTypeHierarchy(emptyArray(), emptyMap(), emptyMap())
+
+        fun build(metaItems: Collection<TSGlobalMetaItem>): TSTypeHierarchy {
+            // `allExtends` starts with the direct super type, it is empty in case of the root or invalid `extends`
+            val knownMetaItems = metaItems.toHashSet()
+            val children = HashMap<TSGlobalMetaItem, MutableList<TSGlobalMetaItem>>()
+            val roots = mutableListOf<TSGlobalMetaItem>()
+            metaItems.forEach { meta ->
+                val parent = meta.allExtends.firstOrNull()
+                    ?.takeIf { it in knownMetaItems }
+
+                if (parent == null) roots.add(meta)
+                else children.computeIfAbsent(parent) { mutableListOf() }.add(meta)
+            }
+
+            val order = ArrayList<TSGlobalMetaItem>(metaItems.size)
+            val enter = HashMap<TSGlobalMetaItem, Int>(metaItems.size)
+            val exit = HashMap<TSGlobalMetaItem, Int>(metaItems.size)
+            val stack = ArrayDeque<Pair<TSGlobalMetaItem, Boolean>>()
+
+            roots.forEach { stack.addLast(it to false) }
+
+            while (stack.isNotEmpty()) {
+                val (meta, visited) = stack.removeLast()
+
+                if (visited) {
+                    exit[meta] = order.size - 1
+                    continue
+                }
+                if (enter.containsKey(meta)) continue
+
+                enter[meta] = order.size
+                order.add(meta)
+
+                stack.addLast(meta to true)
+                children[meta]?.forEach { stack.addLast(it to false) }
+            }
+
+            return TSTypeHierarchy(order.toTypedArray(), enter, exit)
+        }
+    }
+}
@@ -17,7 +17,6 @@
  */
 package sap.commerce.toolset.typeSystem.meta.impl
 
-import org.apache.commons.lang3.StringUtils
 import sap.commerce.toolset.CaseInsensitiveMap
 import sap.commerce.toolset.HybrisConstants
 import sap.commerce.toolset.typeSystem.meta.TSMetaModel
@@ -71,11 +70,7 @@ class TSMetaModelBuilder(
     fun withRelationTypes(types: List<Relation>): TSMetaModelBuilder {
         types
             .mapNotNull { create(it) }
-            .forEach {
-                myMetaModel.addMetaModel(it, TSMetaType.META_RELATION)
-                registerReferenceEnd(it.source, it.target)
-                registerReferenceEnd(it.target, it.source)
-            }
+            .forEach { myMetaModel.addRelation(it) }
 
         return this
     }
@@ -134,10 +129,10 @@ class TSMetaModelBuilder(
 
     private fun create(source: TSMetaRelation.TSMetaRelationElement, target: TSMetaRelation.TSMetaRelationElement): TSMetaRelation.TSMetaOrderingAttribute? {
         if (target.isOrdered && source.cardinality == Cardinality.ONE && target.cardinality == Cardinality.MANY && source.qualifier != null) {
-            return create(target, target.retrieveDom()!!, source.qualifier!!)
+            return create(target, source.qualifier!!)
         }
         if (source.isOrdered && source.cardinality == Cardinality.MANY && target.cardinality == Cardinality.ONE && target.qualifier != null) {
-            return create(source, source.retrieveDom()!!, target.qualifier!!)
+            return create(source, target.qualifier!!)
         }
 
         return null
@@ -145,15 +140,14 @@ class TSMetaModelBuilder(
 
     private fun create(
         owner: TSMetaRelation.TSMetaRelationElement,
-        dom: RelationElement,
         qualifierPrefix: String
     ) = TSMetaRelationImpl.TSMetaOrderingAttributeImpl(
-        dom = dom,
         owner = owner,
         moduleName = moduleName,
         extensionName = extensionName,
         isCustom = custom,
-        qualifier = qualifierPrefix + HybrisConstants.TS_RELATION_ORDERING_POSTFIX
+        qualifier = qualifierPrefix + HybrisConstants.TS_RELATION_ORDERING_POSTFIX,
+        domAnchor = owner.domAnchor
     )
 
     private fun create(dom: RelationElement, end: TSMetaRelation.RelationEnd): TSMetaRelation.TSMetaRelationElement {
@@ -242,14 +236,4 @@ class TSMetaModelBuilder(
         .mapNotNull { create(it) }
         .associateByTo(CaseInsensitiveMap.CaseInsensitiveConcurrentHashMap()) { attr -> attr.name.trim { it <= ' ' } }
 
-    private fun registerReferenceEnd(ownerEnd: TSMetaRelation.TSMetaRelationElement, targetEnd: TSMetaRelation.TSMetaRelationElement) {
-        if (!targetEnd.isNavigable) return
-
-        val ownerTypeName = ownerEnd.type
-
-        if (StringUtils.isNotEmpty(ownerTypeName)) {
-            myMetaModel.getRelations().putValue(ownerTypeName, targetEnd)
-        }
-    }
-
 }
\ No newline at end of file
@@ -81,14 +81,16 @@ interface TSGlobalMetaItem : TSMetaItem, TSGlobalMetaClassifier<ItemType>, TSTyp
     override val indexes: Map<String, TSGlobalMetaItemIndex>
     val relationEnds: List<TSMetaRelation.TSMetaRelationElement>
     val allAttributes: Map<String, TSGlobalMetaItemAttribute>
+
+    /**
+     * Attributes, including inherited ones, by the case-insensitive name of their custom getter.
+     */
+    val allCustomGetters: Map<String, TSGlobalMetaItemAttribute>
     val allOrderingAttributes: Map<String, TSMetaRelation.TSMetaOrderingAttribute>
     val allIndexes: List<TSGlobalMetaItemIndex>
     val allCustomProperties: List<TSMetaCustomProperty>
     val allRelationEnds: List<TSMetaRelation.TSMetaRelationElement>
     val allExtends: Set<TSGlobalMetaItem>
-    val hierarchy: Set<TSGlobalMetaItem>
-
-    fun addMetasToHierarchy(metas: Collection<TSGlobalMetaItem>)
 
     override fun documentation() = hybrisDoc {
         title("Item type", name ?: "?")
@@ -29,17 +29,23 @@ import sap.commerce.toolset.typeSystem.model.AtomicType
 import sap.commerce.toolset.xml.toBoolean
 
 internal class TSMetaAtomicImpl(
-    dom: AtomicType,
     override val moduleName: String,
     override val extensionName: String,
     override val name: String,
-    override var isCustom: Boolean
+    override var isCustom: Boolean,
+    override val isAutoCreate: Boolean,
+    override val isGenerate: Boolean,
+    override val extends: String,
+    override val domAnchor: DomAnchor<AtomicType>,
 ) : TSMetaAtomic {
 
-    override val domAnchor: DomAnchor<AtomicType> = DomService.getInstance().createAnchor(dom)
-    override val isAutoCreate = dom.autoCreate.toBoolean()
-    override val isGenerate = dom.generate.toBoolean()
-    override val extends = dom.extends.stringValue ?: HybrisConstants.TS_TYPE_OBJECT
+    constructor(dom: AtomicType, moduleName: String, extensionName: String, name: String, isCustom: Boolean) : this(
+        moduleName, extensionName, name, isCustom,
+        isAutoCreate = dom.autoCreate.toBoolean(),
+        isGenerate = dom.generate.toBoolean(),
+        extends = dom.extends.stringValue ?: HybrisConstants.TS_TYPE_OBJECT,
+        domAnchor = DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = "Atomic(module=$extensionName, name=$name, isCustom=$isCustom)"
 }
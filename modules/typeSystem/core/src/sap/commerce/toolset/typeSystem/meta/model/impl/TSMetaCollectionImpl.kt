@@ -24,21 +24,29 @@ import sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaCollection
 import sap.commerce.toolset.typeSystem.meta.model.TSMetaCollection
 import sap.commerce.toolset.typeSystem.meta.model.TSMetaSelfMerge
 import sap.commerce.toolset.typeSystem.model.CollectionType
+import sap.commerce.toolset.typeSystem.model.Type
 import sap.commerce.toolset.xml.toBoolean
 
 internal class TSMetaCollectionImpl(
-    dom: CollectionType,
     override val moduleName: String,
     override val extensionName: String,
     override val name: String?,
-    override var isCustom: Boolean
+    override var isCustom: Boolean,
+    override val isAutoCreate: Boolean,
+    override val isGenerate: Boolean,
+    override val elementType: String,
+    override val type: Type,
+    override val domAnchor: DomAnchor<CollectionType>,
 ) : TSMetaCollection {
 
-    override val domAnchor: DomAnchor<CollectionType> = DomService.getInstance().createAnchor(dom)
-    override val isAutoCreate = dom.autoCreate.toBoolean()
-    override val isGenerate = dom.generate.toBoolean()
-    override val elementType = dom.elementType.stringValue!!
-    override val type = dom.type.value
+    constructor(dom: CollectionType, moduleName: String, extensionName: String, name: String?, isCustom: Boolean) : this(
+        moduleName, extensionName, name, isCustom,
+        isAutoCreate = dom.autoCreate.toBoolean(),
+        isGenerate = dom.generate.toBoolean(),
+        elementType = dom.elementType.stringValue!!,
+        type = dom.type.value,
+        domAnchor = DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = "Collection(module=$extensionName, name=$name, isCustom=$isCustom)"
 }
@@ -23,15 +23,19 @@ import sap.commerce.toolset.typeSystem.meta.model.TSMetaCustomProperty
 import sap.commerce.toolset.typeSystem.model.CustomProperty
 
 internal class TSMetaCustomPropertyImpl(
-    dom: CustomProperty,
     override val moduleName: String,
     override val extensionName: String,
     override var isCustom: Boolean,
-    override val name: String
+    override val name: String,
+    override val rawValue: String?,
+    override val domAnchor: DomAnchor<CustomProperty>,
 ) : TSMetaCustomProperty {
 
-    override val domAnchor: DomAnchor<CustomProperty> = DomService.getInstance().createAnchor(dom)
-    override val rawValue = dom.value.rawText
+    constructor(dom: CustomProperty, moduleName: String, extensionName: String, isCustom: Boolean, name: String) : this(
+        moduleName, extensionName, isCustom, name,
+        rawValue = dom.value.rawText,
+        domAnchor = DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = "CustomProperty(module=$extensionName, name=$name, isCustom=$isCustom)"
 }
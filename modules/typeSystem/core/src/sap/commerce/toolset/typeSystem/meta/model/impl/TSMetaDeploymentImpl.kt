@@ -23,17 +23,23 @@ import sap.commerce.toolset.typeSystem.meta.model.TSMetaDeployment
 import sap.commerce.toolset.typeSystem.model.Deployment
 
 internal class TSMetaDeploymentImpl(
-    dom: Deployment,
     override val moduleName: String,
     override val extensionName: String,
     override val name: String?,
-    override var isCustom: Boolean
+    override var isCustom: Boolean,
+    override val propertyTable: String,
+    override val typeCode: String?,
+    override val table: String?,
+    override val domAnchor: DomAnchor<Deployment>,
 ) : TSMetaDeployment {
 
-    override val domAnchor: DomAnchor<Deployment> = DomService.getInstance().createAnchor(dom)
-    override val propertyTable = dom.propertyTable.stringValue ?: "props"
-    override val typeCode = dom.typeCode.stringValue
-    override val table = dom.table.stringValue
+    constructor(dom: Deployment, moduleName: String, extensionName: String, name: String?, isCustom: Boolean) : this(
+        moduleName, extensionName, name, isCustom,
+        propertyTable = dom.propertyTable.stringValue ?: "props",
+        typeCode = dom.typeCode.stringValue,
+        table = dom.table.stringValue,
+        domAnchor = DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = "Deployment(module=$extensionName, name=$name, isCustom=$isCustom)"
 }
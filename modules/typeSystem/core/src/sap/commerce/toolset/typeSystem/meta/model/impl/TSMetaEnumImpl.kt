@@ -29,33 +29,52 @@ import sap.commerce.toolset.typeSystem.model.EnumValue
 import sap.commerce.toolset.xml.toBoolean
 
 internal class TSMetaEnumImpl(
-    dom: EnumType,
     override val moduleName: String,
     override val extensionName: String,
     override val name: String?,
     override var isCustom: Boolean,
-    override val values: Map<String, TSMetaEnum.TSMetaEnumValue>
+    override val values: Map<String, TSMetaEnum.TSMetaEnumValue>,
+    override val isAutoCreate: Boolean,
+    override val isGenerate: Boolean,
+    override val isDynamic: Boolean,
+    override val description: String?,
+    override val jaloClass: String?,
+    override val domAnchor: DomAnchor<EnumType>,
 ) : TSMetaEnum {
 
-    override val domAnchor: DomAnchor<EnumType> = DomService.getInstance().createAnchor(dom)
-    override val isAutoCreate = dom.autoCreate.toBoolean()
-    override val isGenerate = dom.generate.toBoolean()
-    override val isDynamic = dom.dynamic.toBoolean()
-    override val description = dom.description.stringValue
-    override val jaloClass = dom.jaloClass.stringValue
+    constructor(
+        dom: EnumType,
+        moduleName: String,
+        extensionName: String,
+        name: String?,
+        isCustom: Boolean,
+        values: Map<String, TSMetaEnum.TSMetaEnumValue>
+    ) : this(
+        moduleName, extensionName, name, isCustom, values,
+        isAutoCreate = dom.autoCreate.toBoolean(),
+        isGenerate = dom.generate.toBoolean(),
+        isDynamic = dom.dynamic.toBoolean(),
+        description = dom.description.stringValue,
+        jaloClass = dom.jaloClass.stringValue,
+        domAnchor = DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = "Enum(module=$extensionName, name=$name, isDynamic=$isDynamic, isCustom=$isCustom)"
 
     internal class TSMetaEnumValueImpl(
-        dom: EnumValue,
         override val moduleName: String,
         override val extensionName: String,
         override var isCustom: Boolean,
-        override val name: String
+        override val name: String,
+        override val description: String?,
+        override val domAnchor: DomAnchor<EnumValue>,
     ) : TSMetaEnum.TSMetaEnumValue {
 
-        override val domAnchor: DomAnchor<EnumValue> = DomService.getInstance().createAnchor(dom)
-        override val description = dom.description.stringValue
+        constructor(dom: EnumValue, moduleName: String, extensionName: String, isCustom: Boolean, name: String) : this(
+            moduleName, extensionName, isCustom, name,
+            description = dom.description.stringValue,
+            domAnchor = DomService.getInstance().createAnchor(dom)
+        )
 
         override fun toString() = "EnumValue(module=$extensionName, name=$name, isCustom=$isCustom)"
     }
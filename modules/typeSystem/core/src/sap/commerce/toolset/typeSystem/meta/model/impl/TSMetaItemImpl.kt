@@ -34,7 +34,6 @@ import sap.commerce.toolset.xml.toBoolean
 import java.util.*
 
 internal class TSMetaItemImpl(
-    dom: ItemType,
     override val moduleName: String,
     override val extensionName: String,
     override val name: String?,
@@ -42,47 +41,78 @@ internal class TSMetaItemImpl(
     override val attributes: Map<String, TSMetaItemAttribute>,
     override val indexes: Map<String, TSMetaItemIndex>,
     override val customProperties: Map<String, TSMetaCustomProperty>,
-    override val deployment: TSMetaDeployment?
+    override val deployment: TSMetaDeployment?,
+    override val isAbstract: Boolean,
+    override val isAutoCreate: Boolean,
+    override val isGenerate: Boolean,
+    override val isSingleton: Boolean,
+    override val isJaloOnly: Boolean,
+    override val isCatalogAware: Boolean,
+    override val jaloClass: String?,
+    override val description: String?,
+    override var extendedMetaItemName: String?,
+    override val domAnchor: DomAnchor<ItemType>,
 ) : TSMetaItem {
 
-    override val domAnchor: DomAnchor<ItemType> = DomService.getInstance().createAnchor(dom)
-    override val isAbstract = dom.abstract.toBoolean()
-    override val isAutoCreate = dom.autoCreate.toBoolean()
-    override val isGenerate = dom.generate.toBoolean()
-    override val isSingleton = dom.singleton.toBoolean()
-    override val isJaloOnly = dom.jaloOnly.toBoolean()
-    override val isCatalogAware = TSMetaHelper.isCatalogAware(dom.customProperties)
-    override val jaloClass = dom.jaloClass.stringValue
-    override val description = dom.description.xmlTag?.value?.text
-    override var extendedMetaItemName = dom.extends.stringValue
+    constructor(
+        dom: ItemType,
+        moduleName: String,
+        extensionName: String,
+        name: String?,
+        isCustom: Boolean,
+        attributes: Map<String, TSMetaItemAttribute>,
+        indexes: Map<String, TSMetaItemIndex>,
+        customProperties: Map<String, TSMetaCustomProperty>,
+        deployment: TSMetaDeployment?
+    ) : this(
+        moduleName, extensionName, name, isCustom, attributes, indexes, customProperties, deployment,
+        isAbstract = dom.abstract.toBoolean(),
+        isAutoCreate = dom.autoCreate.toBoolean(),
+        isGenerate = dom.generate.toBoolean(),
+        isSingleton = dom.singleton.toBoolean(),
+        isJaloOnly = dom.jaloOnly.toBoolean(),
+        isCatalogAware = TSMetaHelper.isCatalogAware(dom.customProperties),
+        jaloClass = dom.jaloClass.stringValue,
+        description = dom.description.xmlTag?.value?.text,
+        extendedMetaItemName = dom.extends.stringValue,
+        domAnchor = DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = "Item(module=$extensionName, name=$name, isCustom=$isCustom)"
 
     internal class TSMetaItemIndexImpl(
-        dom: Index,
         override val moduleName: String,
         override val extensionName: String,
         override val name: String,
-        override var isCustom: Boolean
+        override var isCustom: Boolean,
+        override val isRemove: Boolean,
+        override val isReplace: Boolean,
+        override val isUnique: Boolean,
+        override val creationMode: CreationMode,
+        override val keys: Set<String>,
+        override val includes: Set<String>,
+        override val domAnchor: DomAnchor<Index>,
     ) : TSMetaItemIndex {
 
-        override val domAnchor: DomAnchor<Index> = DomService.getInstance().createAnchor(dom)
-        override val isRemove = dom.remove.toBoolean()
-        override val isReplace = dom.replace.toBoolean()
-        override val isUnique = dom.unique.toBoolean()
-        override val creationMode = dom.creationMode.value ?: CreationMode.ALL
-        override val keys = dom.keys
-            .mapNotNull { it.attribute.stringValue }
-            .toSet()
-        override val includes = dom.includes
-            .mapNotNull { it.attribute.stringValue }
-            .toSet()
+        constructor(dom: Index, moduleName: String, extensionName: String, name: String, isCustom: Boolean) : this(
+            moduleName, extensionName, name, isCustom,
+            isRemove = dom.remove.toBoolean(),
+            isReplace = dom.replace.toBoolean(),
+            isUnique = dom.unique.toBoolean(),
+            creationMode = dom.creationMode.value ?: CreationMode.ALL,
+            keys = dom.keys
+                .mapNotNull { it.attribute.stringValue }
+                .toSet(),
+            includes = dom.includes
+                .mapNotNull { it.attribute.stringValue }
+                .toSet(),
+            domAnchor = DomService.getInstance().createAnchor(dom)
+        )
 
         override fun toString() = "Index(module=$extensionName, name=$name, isCustom=$isCustom)"
     }
 
     internal class TSMetaItemAttributeImpl(
-        dom: Attribute,
         override val moduleName: String,
         override val extensionName: String,
         override val name: String,
@@ -92,18 +122,41 @@ internal class TSMetaItemImpl(
         override val customProperties: Map<String, TSMetaCustomProperty>,
         override val customGetters: Map<String, TSMetaModelMethod>,
         override val customSetters: Map<String, TSMetaModelMethod>,
+        override val description: String?,
+        override val defaultValue: String?,
+        override val type: String?,
+        override val isDeprecated: Boolean,
+        override val isAutoCreate: Boolean,
+        override val isGenerate: Boolean,
+        override val isRedeclare: Boolean,
+        override val isSelectionOf: String?,
+        override val domAnchor: DomAnchor<Attribute>,
     ) : TSMetaItemAttribute {
 
-        override val domAnchor: DomAnchor<Attribute> = DomService.getInstance().createAnchor(dom)
+        constructor(
+            dom: Attribute,
+            moduleName: String,
+            extensionName: String,
+            name: String,
+            isCustom: Boolean,
+            persistence: TSMetaPersistence,
+            modifiers: TSMetaModifiers,
+            customProperties: Map<String, TSMetaCustomProperty>,
+            customGetters: Map<String, TSMetaModelMethod>,
+            customSetters: Map<String, TSMetaModelMethod>,
+        ) : this(
+            moduleName, extensionName, name, isCustom, persistence, modifiers, customProperties, customGetters, customSetters,
+            description = dom.description.xmlTag?.value?.text,
+            defaultValue = dom.defaultValue.stringValue,
+            type = dom.type.stringValue,
+            isDeprecated = TSMetaHelper.isDeprecated(dom.model, name),
+            isAutoCreate = dom.autoCreate.toBoolean(),
+            isGenerate = dom.generate.toBoolean(),
+            isRedeclare = dom.redeclare.toBoolean(),
+            isSelectionOf = dom.isSelectionOf.stringValue,
+            domAnchor = DomService.getInstance().createAnchor(dom)
+        )
 
-        override val description = dom.description.xmlTag?.value?.text
-        override val defaultValue = dom.defaultValue.stringValue
-        override val type = dom.type.stringValue
-        override val isDeprecated = TSMetaHelper.isDeprecated(dom.model, name)
-        override val isAutoCreate = dom.autoCreate.toBoolean()
-        override val isGenerate = dom.generate.toBoolean()
-        override val isRedeclare = dom.redeclare.toBoolean()
-        override val isSelectionOf = dom.isSelectionOf.stringValue
         override val isLocalized = TSMetaHelper.isLocalized(type)
         override val isDynamic = TSMetaHelper.isDynamic(persistence)
 
@@ -119,12 +172,12 @@ internal class TSGlobalMetaItemImpl(localMeta: TSMetaItem) : TSGlobalMetaItemSel
     override val relationEnds = LinkedList<TSMetaRelation.TSMetaRelationElement>()
 
     override val allAttributes = CaseInsensitiveConcurrentHashMap<String, TSGlobalMetaItem.TSGlobalMetaItemAttribute>()
+    override val allCustomGetters = CaseInsensitiveConcurrentHashMap<String, TSGlobalMetaItem.TSGlobalMetaItemAttribute>()
     override val allOrderingAttributes = CaseInsensitiveConcurrentHashMap<String, TSMetaRelation.TSMetaOrderingAttribute>()
     override val allIndexes = LinkedList<TSGlobalMetaItem.TSGlobalMetaItemIndex>()
     override val allCustomProperties = LinkedList<TSMetaCustomProperty>()
     override val allRelationEnds = LinkedList<TSMetaRelation.TSMetaRelationElement>()
     override val allExtends = linkedSetOf<TSGlobalMetaItem>()
-    override val hierarchy = linkedSetOf<TSGlobalMetaItem>()
 
     override var domAnchor = localMeta.domAnchor
     override var moduleName = localMeta.moduleName
@@ -147,10 +200,6 @@ internal class TSGlobalMetaItemImpl(localMeta: TSMetaItem) : TSGlobalMetaItemSel
         mergeCustomProperties(localMeta)
     }
 
-    override fun addMetasToHierarchy(metas: Collection<TSGlobalMetaItem>) {
-        this.hierarchy.addAll(metas)
-    }
-
     override fun toString() = "Item(module=$extensionName, name=$name, isCustom=$isCustom)"
 
     @Suppress("UNCHECKED_CAST")
@@ -187,6 +236,7 @@ internal class TSGlobalMetaItemImpl(localMeta: TSMetaItem) : TSGlobalMetaItemSel
         allExtends.addAll(extends)
         allAttributes.putAll(attributes)
         extends.forEach { allAttributes.putAll(it.attributes) }
+        allAttributes.values.forEach { attribute -> attribute.customGetters.keys.forEach { allCustomGetters.putIfAbsent(it, attribute) } }
         allCustomProperties.addAll(customProperties.values + extends.flatMap { it.customProperties.values })
         allIndexes.addAll(indexes.values + extends.flatMap { it.indexes.values })
         allRelationEnds.addAll(combinedRelationEnds)
@@ -27,19 +27,27 @@ import sap.commerce.toolset.typeSystem.model.MapType
 import sap.commerce.toolset.xml.toBoolean
 
 internal class TSMetaMapImpl(
-    dom: MapType,
     override val moduleName: String,
     override val extensionName: String,
     override val name: String?,
-    override var isCustom: Boolean
+    override var isCustom: Boolean,
+    override val argumentType: String?,
+    override val returnType: String?,
+    override val isAutoCreate: Boolean,
+    override val isGenerate: Boolean,
+    override val isRedeclare: Boolean,
+    override val domAnchor: DomAnchor<MapType>,
 ) : TSMetaMap {
 
-    override val domAnchor: DomAnchor<MapType> = DomService.getInstance().createAnchor(dom)
-    override val argumentType = dom.argumentType.stringValue
-    override val returnType = dom.returnType.stringValue
-    override val isAutoCreate = dom.autoCreate.toBoolean()
-    override val isGenerate = dom.generate.toBoolean()
-    override val isRedeclare = dom.redeclare.toBoolean()
+    constructor(dom: MapType, moduleName: String, extensionName: String, name: String?, isCustom: Boolean) : this(
+        moduleName, extensionName, name, isCustom,
+        argumentType = dom.argumentType.stringValue,
+        returnType = dom.returnType.stringValue,
+        isAutoCreate = dom.autoCreate.toBoolean(),
+        isGenerate = dom.generate.toBoolean(),
+        isRedeclare = dom.redeclare.toBoolean(),
+        domAnchor = DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = "Map(module=$extensionName, name=$name, isCustom=$isCustom)"
 }
@@ -25,18 +25,23 @@ import sap.commerce.toolset.typeSystem.model.ModelMethod
 import sap.commerce.toolset.xml.toBoolean
 
 internal class TSMetaModelMethodImpl(
-    dom: ModelMethod,
     override val moduleName: String,
     override val extensionName: String,
     override val name: String,
     override var isCustom: Boolean,
+    override val default: Boolean,
+    override val deprecated: Boolean,
+    override val deprecatedSince: String?,
+    override val domAnchor: DomAnchor<ModelMethod>,
 ) : TSMetaModelMethod {
 
-    override val domAnchor: DomAnchor<ModelMethod> = DomService.getInstance().createAnchor(dom)
-
-    override val default: Boolean = dom.default.toBoolean()
-    override val deprecated: Boolean = dom.deprecated.toBoolean()
-    override val deprecatedSince: String? = dom.deprecatedSince.stringValue
+    constructor(dom: ModelMethod, moduleName: String, extensionName: String, name: String, isCustom: Boolean) : this(
+        moduleName, extensionName, name, isCustom,
+        default = dom.default.toBoolean(),
+        deprecated = dom.deprecated.toBoolean(),
+        deprecatedSince = dom.deprecatedSince.stringValue,
+        domAnchor = DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = "AttributeModelMethod(module=$extensionName, name=$name, isCustom=$isCustom)"
 
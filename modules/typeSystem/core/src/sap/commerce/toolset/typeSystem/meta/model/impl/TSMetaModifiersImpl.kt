@@ -24,24 +24,38 @@ import sap.commerce.toolset.typeSystem.model.Modifiers
 import sap.commerce.toolset.xml.toBoolean
 
 internal class TSMetaModifiersImpl(
-    dom: Modifiers,
     override val moduleName: String,
     override val extensionName: String,
-    override var isCustom: Boolean
+    override var isCustom: Boolean,
+    override val isRead: Boolean,
+    override val isWrite: Boolean,
+    override val isSearch: Boolean,
+    override val isOptional: Boolean,
+    override val isPrivate: Boolean,
+    override val isInitial: Boolean,
+    override val isRemovable: Boolean,
+    override val isPartOf: Boolean,
+    override val isUnique: Boolean,
+    override val isDoNotOptimize: Boolean,
+    override val isEncrypted: Boolean,
+    override val domAnchor: DomAnchor<Modifiers>,
 ) : TSMetaModifiers {
 
-    override val domAnchor: DomAnchor<Modifiers> = DomService.getInstance().createAnchor(dom)
-    override val isRead = dom.read.toBoolean()
-    override val isWrite = dom.write.toBoolean()
-    override val isSearch = dom.search.toBoolean()
-    override val isOptional = dom.optional.toBoolean()
-    override val isPrivate = dom.private.toBoolean()
-    override val isInitial = dom.initial.toBoolean()
-    override val isRemovable = dom.removable.toBoolean()
-    override val isPartOf = dom.partOf.toBoolean()
-    override val isUnique = dom.unique.toBoolean()
-    override val isDoNotOptimize = dom.doNotOptimize.toBoolean()
-    override val isEncrypted = dom.encrypted.toBoolean()
+    constructor(dom: Modifiers, moduleName: String, extensionName: String, isCustom: Boolean) : this(
+        moduleName, extensionName, isCustom,
+        isRead = dom.read.toBoolean(),
+        isWrite = dom.write.toBoolean(),
+        isSearch = dom.search.toBoolean(),
+        isOptional = dom.optional.toBoolean(),
+        isPrivate = dom.private.toBoolean(),
+        isInitial = dom.initial.toBoolean(),
+        isRemovable = dom.removable.toBoolean(),
+        isPartOf = dom.partOf.toBoolean(),
+        isUnique = dom.unique.toBoolean(),
+        isDoNotOptimize = dom.doNotOptimize.toBoolean(),
+        isEncrypted = dom.encrypted.toBoolean(),
+        domAnchor = DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = "Modifiers(module=$extensionName, isCustom=$isCustom)"
 }
@@ -27,19 +27,31 @@ import sap.commerce.toolset.typeSystem.model.Persistence
 import sap.commerce.toolset.typeSystem.model.PersistenceType
 
 internal class TSMetaPersistenceImpl(
-    itemTypeDom: ItemType,
-    attributeDom: Attribute,
-    dom: Persistence,
     override val moduleName: String,
     override val extensionName: String,
     override val name: String?,
-    override var isCustom: Boolean
+    override var isCustom: Boolean,
+    override val type: PersistenceType?,
+    override val qualifier: String?,
+    override val attributeHandler: String?,
+    override val domAnchor: DomAnchor<Persistence>,
 ) : TSMetaPersistence {
 
-    override val domAnchor: DomAnchor<Persistence> = DomService.getInstance().createAnchor(dom)
-    override val type: PersistenceType? = dom.type.value
-    override val qualifier: String? = dom.qualifier.stringValue
-    override val attributeHandler: String? = TSMetaHelper.getAttributeHandler(itemTypeDom, attributeDom, dom)
+    constructor(
+        itemTypeDom: ItemType,
+        attributeDom: Attribute,
+        dom: Persistence,
+        moduleName: String,
+        extensionName: String,
+        name: String?,
+        isCustom: Boolean
+    ) : this(
+        moduleName, extensionName, name, isCustom,
+        type = dom.type.value,
+        qualifier = dom.qualifier.stringValue,
+        attributeHandler = TSMetaHelper.getAttributeHandler(itemTypeDom, attributeDom, dom),
+        domAnchor = DomService.getInstance().createAnchor(dom)
+    )
 
     override fun toString() = "Persistence(module=$extensionName, name=$name, isCustom=$isCustom)"
 }
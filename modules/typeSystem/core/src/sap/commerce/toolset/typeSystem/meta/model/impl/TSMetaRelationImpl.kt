@@ -21,12 +21,13 @@ import com.intellij.util.xml.DomAnchor
 import com.intellij.util.xml.DomService
 import sap.commerce.toolset.typeSystem.meta.TSMetaHelper
 import sap.commerce.toolset.typeSystem.meta.model.*
+import sap.commerce.toolset.typeSystem.model.Cardinality
 import sap.commerce.toolset.typeSystem.model.Relation
 import sap.commerce.toolset.typeSystem.model.RelationElement
+import sap.commerce.toolset.typeSystem.model.Type
 import sap.commerce.toolset.xml.toBoolean
 
 internal class TSMetaRelationImpl(
-    dom: Relation,
     override val moduleName: String,
     override val extensionName: String,
     override val name: String?,
@@ -34,14 +35,32 @@ internal class TSMetaRelationImpl(
     override val source: TSMetaRelation.TSMetaRelationElement,
     override val target: TSMetaRelation.TSMetaRelationElement,
     override val orderingAttribute: TSMetaRelation.TSMetaOrderingAttribute?,
-    override val deployment: TSMetaDeployment?
+    override val deployment: TSMetaDeployment?,
+    override val isLocalized: Boolean,
+    override val isAutoCreate: Boolean,
+    override val isGenerate: Boolean,
+    override val description: String?,
+    override val domAnchor: DomAnchor<Relation>,
 ) : TSMetaRelation {
 
-    override val domAnchor: DomAnchor<Relation> = DomService.getInstance().createAnchor(dom)
-    override val isLocalized = java.lang.Boolean.TRUE == dom.localized.value
-    override val isAutoCreate = dom.autoCreate.toBoolean()
-    override val isGenerate = dom.generate.toBoolean()
-    override val description = dom.description.stringValue
+    constructor(
+        dom: Relation,
+        moduleName: String,
+        extensionName: String,
+        name: String?,
+        isCustom: Boolean,
+        source: TSMetaRelation.TSMetaRelationElement,
+        target: TSMetaRelation.TSMetaRelationElement,
+        orderingAttribute: TSMetaRelation.TSMetaOrderingAttribute?,
+        deployment: TSMetaDeployment?
+    ) : this(
+        moduleName, extensionName, name, isCustom, source, target, orderingAttribute, deployment,
+        isLocalized = java.lang.Boolean.TRUE == dom.localized.value,
+        isAutoCreate = dom.autoCreate.toBoolean(),
+        isGenerate = dom.generate.toBoolean(),
+        description = dom.description.stringValue,
+        domAnchor = DomService.getInstance().createAnchor(dom)
+    )
 
     init {
         source.owner = this
@@ -51,7 +70,6 @@ internal class TSMetaRelationImpl(
     override fun toString() = "Relation(module=$extensionName, name=$name, isCustom=$isCustom)"
 
     internal class TSMetaRelationElementImpl(
-        dom: RelationElement,
         override val moduleName: String,
         override val extensionName: String,
         override var isCustom: Boolean,
@@ -60,22 +78,45 @@ internal class TSMetaRelationImpl(
         override val customProperties: Map<String, TSMetaCustomProperty>,
         override val customGetters: Map<String, TSMetaModelMethod>,
         override val customSetters: Map<String, TSMetaModelMethod>,
+        override val type: String,
+        override val qualifier: String?,
+        override val isNavigable: Boolean,
+        override val isOrdered: Boolean,
+        override val isDeprecated: Boolean,
+        override val collectionType: Type,
+        override val cardinality: Cardinality,
+        override val description: String?,
+        override val metaType: String?,
+        override val domAnchor: DomAnchor<RelationElement>,
     ) : TSMetaRelation.TSMetaRelationElement {
 
-        override lateinit var owner: TSMetaRelation
+        constructor(
+            dom: RelationElement,
+            moduleName: String,
+            extensionName: String,
+            isCustom: Boolean,
+            end: TSMetaRelation.RelationEnd,
+            modifiers: TSMetaModifiers,
+            customProperties: Map<String, TSMetaCustomProperty>,
+            customGetters: Map<String, TSMetaModelMethod>,
+            customSetters: Map<String, TSMetaModelMethod>,
+        ) : this(
+            moduleName, extensionName, isCustom, end, modifiers, customProperties, customGetters, customSetters,
+            type = dom.type.stringValue ?: "",
+            qualifier = dom.qualifier.stringValue,
+            isNavigable = dom.navigable.toBoolean(),
+            isOrdered = dom.ordered.toBoolean(),
+            isDeprecated = TSMetaHelper.isDeprecated(dom.model, dom.qualifier.stringValue),
+            collectionType = dom.collectionType.value,
+            cardinality = dom.cardinality.value,
+            description = dom.description.stringValue,
+            metaType = dom.metaType.stringValue,
+            domAnchor = DomService.getInstance().createAnchor(dom)
+        )
 
-        override val domAnchor: DomAnchor<RelationElement> = DomService.getInstance().createAnchor(dom)
+        override lateinit var owner: TSMetaRelation
 
-        override val type = dom.type.stringValue ?: ""
-        override val qualifier = dom.qualifier.stringValue
         override val name = qualifier
-        override val isNavigable = dom.navigable.toBoolean()
-        override val isOrdered = dom.ordered.toBoolean()
-        override val isDeprecated = TSMetaHelper.isDeprecated(dom.model, name)
-        override val collectionType = dom.collectionType.value
-        override val cardinality = dom.cardinality.value
-        override val description = dom.description.stringValue
-        override val metaType = dom.metaType.stringValue
         // type will be flattened after merge, we need to know exact type to expand it
         override var flattenType: String? = null
 
@@ -83,16 +124,14 @@ internal class TSMetaRelationImpl(
     }
 
     internal class TSMetaOrderingAttributeImpl(
-        dom: RelationElement,
         override var owner: TSMetaRelation.TSMetaRelationElement,
         override val moduleName: String,
         override val extensionName: String,
         override var isCustom: Boolean,
-        override var qualifier: String
+        override var qualifier: String,
+        override val domAnchor: DomAnchor<RelationElement>,
     ) : TSMetaRelation.TSMetaOrderingAttribute {
 
-        override val domAnchor: DomAnchor<RelationElement> = DomService.getInstance().createAnchor(dom)
-
         override val name = qualifier
         override var type: String = "java.lang.Integer"
         override var flattenType: String? = "java.lang.Integer"
@@ -0,0 +1,84 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.impex.codeInspection
+
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+import sap.commerce.toolset.settings.WorkspaceSettings
+
+class ImpExNoUniqueValueInspectionTest : BasePlatformTestCase() {
+
+    override fun setUp() {
+        super.setUp()
+        WorkspaceSettings.getInstance(project).hybrisProject = true
+        myFixture.enableInspections(ImpExNoUniqueValueInspection::class.java)
+    }
+
+    fun test_inspection_laterValuesOverrideFirstValueOfTheSameKey() {
+        myFixture.configureByText(
+            "products.impex", """
+            INSERT_UPDATE Product;code[unique=true];name;description
+            ;p1;name 1;description 1
+            ;p2;name 2;
+            ;p1;name 1b;
+            ;p1;name 1c;
+            ;p2;;description 2
+            """.trimIndent()
+        )
+
+        assertEquals(listOf("name 1"), highlightedValues(OVERRIDDEN))
+        assertEquals(listOf("name 1b", "name 1c"), highlightedValues(OVERRIDING))
+    }
+
+    fun test_inspection_compositeKey() {
+        myFixture.configureByText(
+            "products.impex", """
+            INSERT_UPDATE Product;code[unique=true];catalogVersion[unique=true];name
+            ;p1;Staged;staged name
+            ;p1;Online;online name
+            ;p1;Staged;staged name 2
+            """.trimIndent()
+        )
+
+        assertEquals(listOf("staged name"), highlightedValues(OVERRIDDEN))
+        assertEquals(listOf("staged name 2"), highlightedValues(OVERRIDING))
+    }
+
+    fun test_inspection_appendModeAndLocalizedValuesIgnored() {
+        myFixture.configureByText(
+            "products.impex", """
+            INSERT_UPDATE Product;code[unique=true];supercategories[mode=append];name[lang=en]
+            ;p1;c1;name 1
+            ;p1;c2;name 2
+            """.trimIndent()
+        )
+
+        assertEquals(emptyList(), highlightedValues(OVERRIDDEN))
+        assertEquals(emptyList(), highlightedValues(OVERRIDING))
+    }
+
+    private fun highlightedValues(description: String) = myFixture.doHighlighting()
+        .filter { it.description == description }
+        .sortedBy { it.startOffset }
+        .map { it.text.trim(';', ' ') }
+
+    companion object {
+        private const val OVERRIDDEN = "This value is overridden by a value below"
+        private const val OVERRIDING = "This value will override the value above"
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.impex.codeInspection
+
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+class ImpExValueOverrideIndexTest {
+
+    @Test
+    fun test_add_firstValueOverridden_subsequentValuesOverriding() {
+        val index = ImpExValueOverrideIndex<String>(2)
+
+        index.add("|A", arrayOf("A.name.1", "A.description.1"))
+        index.add("|B", arrayOf("B.name.1", null))
+        index.add("|A", arrayOf("A.name.2", null))
+        index.add("|A", arrayOf("A.name.3", null))
+        index.add("|B", arrayOf(null, "B.description.1"))
+
+        assertEquals(setOf("A.name.1"), index.overridden)
+        assertEquals(setOf("A.name.2", "A.name.3"), index.overriding)
+    }
+
+    @Test
+    fun test_add_generatedImpEx_eachKeyOverriddenOnce() {
+        val index = analyze(generateImpEx(80_000))
+
+        assertEquals(KEYS, index.overridden.size)
+        assertEquals(80_000 - KEYS, index.overriding.size)
+        assertEquals((0 until KEYS).map { "$it:2:name $it" }.toSet(), index.overridden)
+    }
+
+    private fun analyze(lines: List<String>): ImpExValueOverrideIndex<String> {
+        val header = lines.first().split(';')
+        val index = ImpExValueOverrideIndex<String>(header.size - 2)
+
+        lines.asSequence()
+            .drop(1)
+            .forEachIndexed { line, text ->
+                val values = text.split(';')
+                val columns = arrayOfNulls<String>(header.size - 2)
+                for (column in 2 until values.size) {
+                    if (values[column].isNotBlank()) columns[column - 2] = "$line:$column:${values[column]}"
+                }
+                index.add("|" + values[1], columns)
+            }
+
+        return index
+    }
+
+    private fun generateImpEx(lines: Int) = buildList {
+        add("INSERT_UPDATE Product;code[unique=true];name[lang=en];description[lang=en]")
+        for (line in 0 until lines) {
+            add(";product${line % KEYS};name $line;")
+        }
+    }
+
+    companion object {
+        private const val KEYS = 10
+    }
+}
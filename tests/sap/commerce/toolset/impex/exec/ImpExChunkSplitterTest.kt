@@ -0,0 +1,97 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package sap.commerce.toolset.impex.exec
+
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+
+class ImpExChunkSplitterTest : BasePlatformTestCase() {
+
+    fun test_split_multipleBlocks_repeatsHeaderAndMacroPrelude() {
+        val chunks = ImpExChunkSplitter.split(
+            project, """
+            ${'$'}catalog=Default
+            INSERT_UPDATE Product;code[unique=true];catalog
+            ;p1;${'$'}catalog
+            ;p2;${'$'}catalog
+            ;p3;${'$'}catalog
+
+            # categories
+            ${'$'}lang=en
+            INSERT_UPDATE Category;code[unique=true];name[lang=${'$'}lang]
+            ;c1;Category 1
+            ;c2;Category 2
+            """.trimIndent(), 2
+        )
+
+        assertNotNull(chunks)
+        assertEquals(3, chunks!!.size)
+        assertEquals(listOf(0, 1, 2), chunks.map { it.index })
+        assertEquals(listOf(1, 1, 2), chunks.map { it.block })
+        assertEquals(listOf(3 to 4, 5 to 5, 10 to 11), chunks.map { it.firstLine to it.lastLine })
+
+        assertEquals(
+            """
+            ${'$'}catalog=Default
+            INSERT_UPDATE Product;code[unique=true];catalog
+            ;p1;${'$'}catalog
+            ;p2;${'$'}catalog
+            """.trimIndent(), chunks[0].content
+        )
+        assertEquals(
+            """
+            ${'$'}catalog=Default
+            INSERT_UPDATE Product;code[unique=true];catalog
+            ;p3;${'$'}catalog
+            """.trimIndent(), chunks[1].content
+        )
+        assertEquals(
+            """
+            ${'$'}catalog=Default
+            ${'$'}lang=en
+            INSERT_UPDATE Category;code[unique=true];name[lang=${'$'}lang]
+            ;c1;Category 1
+            ;c2;Category 2
+            """.trimIndent(), chunks[2].content
+        )
+    }
+
+    fun test_split_singleChunk_notSplit() {
+        val chunks = ImpExChunkSplitter.split(
+            project, """
+            INSERT_UPDATE Product;code[unique=true]
+            ;p1
+            ;p2
+            """.trimIndent(), 10
+        )
+
+        assertNull(chunks)
+    }
+
+    fun test_split_scriptingBlock_notSplit() {
+        val chunks = ImpExChunkSplitter.split(
+            project, """
+            INSERT_UPDATE Product;code[unique=true]
+            ;p1
+            #%groovy% println 'imported'
+            ;p2
+            """.trimIndent(), 1
+        )
+
+        assertNull(chunks)
+    }
+}
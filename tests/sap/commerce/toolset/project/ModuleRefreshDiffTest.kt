@@ -0,0 +1,157 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.project
+
+import sap.commerce.toolset.HybrisConstants
+import sap.commerce.toolset.project.descriptor.*
+import java.io.File
+import kotlin.io.path.createTempDirectory
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+
+class ModuleRefreshDiffTest {
+
+    private lateinit var rootDirectory: File
+    private lateinit var core: TestModuleDescriptor
+    private lateinit var facades: TestModuleDescriptor
+    private lateinit var storefront: TestModuleDescriptor
+    private lateinit var payment: TestModuleDescriptor
+
+    @BeforeTest
+    fun setUp() {
+        rootDirectory = createTempDirectory("module-refresh-diff").toFile()
+        core = module("core")
+        facades = module("facades", core)
+        storefront = module("storefront", facades)
+        payment = module("payment")
+    }
+
+    @AfterTest
+    fun tearDown() {
+        rootDirectory.deleteRecursively()
+    }
+
+    @Test
+    fun test_compute_nothingChanged() {
+        val modules = listOf(core, facades, storefront, payment)
+
+        val diff = ModuleRefreshDiff.compute(modules, fingerprints(modules))
+
+        assertEquals(emptyList(), diff.affected.names())
+        assertEquals(modules.names(), diff.unchanged.names())
+        assertEquals(emptyList(), diff.removedModuleNames.toList())
+        assertFalse(diff.full)
+    }
+
+    @Test
+    fun test_compute_addedModule() {
+        val previousFingerprints = fingerprints(listOf(core, facades, storefront))
+        val modules = listOf(core, facades, storefront, payment)
+
+        val diff = ModuleRefreshDiff.compute(modules, previousFingerprints)
+
+        assertEquals(listOf("payment"), diff.affected.names())
+        assertEquals(listOf("core", "facades", "storefront"), diff.unchanged.names())
+        assertEquals(emptyList(), diff.removedModuleNames.toList())
+    }
+
+    @Test
+    fun test_compute_removedModule() {
+        val previousFingerprints = fingerprints(listOf(core, facades, storefront, payment))
+        val modules = listOf(core, facades, storefront)
+
+        val diff = ModuleRefreshDiff.compute(modules, previousFingerprints)
+
+        assertEquals(emptyList(), diff.affected.names())
+        assertEquals(listOf("core", "facades", "storefront"), diff.unchanged.names())
+        assertEquals(listOf("payment"), diff.removedModuleNames.toList())
+    }
+
+    @Test
+    fun test_compute_changedModule_affectsTransitiveDependents() {
+        val modules = listOf(core, facades, storefront, payment)
+        val previousFingerprints = fingerprints(modules)
+
+        File(core.moduleRootDirectory, HybrisConstants.EXTENSION_INFO_XML).writeText("<extensioninfo><extension name=\"core\" jaloclass=\"changed\"/></extensioninfo>")
+
+        val diff = ModuleRefreshDiff.compute(modules, previousFingerprints)
+
+        assertEquals(listOf("core", "facades", "storefront"), diff.affected.names())
+        assertEquals(listOf("payment"), diff.unchanged.names())
+        assertFalse(diff.full)
+    }
+
+    @Test
+    fun test_compute_changedDependencies() {
+        val modules = listOf(core, facades, storefront, payment)
+        val previousFingerprints = fingerprints(modules)
+
+        facades.addDirectDependencies(listOf(payment))
+
+        val diff = ModuleRefreshDiff.compute(modules, previousFingerprints)
+
+        assertEquals(listOf("facades", "storefront"), diff.affected.names())
+        assertEquals(listOf("core", "payment"), diff.unchanged.names())
+    }
+
+    private fun module(name: String, vararg dependencies: ModuleDescriptor) = TestModuleDescriptor(
+        name,
+        File(rootDirectory, name).also {
+            it.mkdirs()
+            File(it, HybrisConstants.EXTENSION_INFO_XML).writeText("<extensioninfo><extension name=\"$name\"/></extensioninfo>")
+        }
+    ).also { it.addDirectDependencies(dependencies.toList()) }
+
+    private fun fingerprints(modules: Collection<ModuleDescriptor>) = modules.associate { it.ideaModuleName() to ModuleFingerprint.compute(it) }
+
+    private fun Collection<ModuleDescriptor>.names() = map { it.name }
+
+    class TestModuleDescriptor(
+        override val name: String,
+        override val moduleRootDirectory: File,
+    ) : ModuleDescriptor {
+
+        private val dependencies = linkedSetOf<ModuleDescriptor>()
+
+        override var groupNames = emptyArray<String>()
+        override var importStatus = ModuleDescriptorImportStatus.MANDATORY
+        override val descriptorType = ModuleDescriptorType.CUSTOM
+        override var readonly = false
+        override val rootProjectDescriptor: HybrisProjectDescriptor
+            get() = throw UnsupportedOperationException()
+
+        override fun getDirectDependencies() = dependencies
+        override fun getAllDependencies() = dependencies
+        override fun addDirectDependencies(dependencies: Collection<ModuleDescriptor>) = this.dependencies.addAll(dependencies)
+        override fun compareTo(other: ModuleDescriptor) = name.compareTo(other.name)
+
+        override fun extensionDescriptor() = throw UnsupportedOperationException()
+        override fun isPreselected() = false
+        override fun ideaModuleFile() = File(moduleRootDirectory, "$name.iml")
+        override fun getRelativePath() = name
+        override fun getRequiredExtensionNames() = emptySet<String>()
+        override fun addRequiredExtensionNames(extensions: Set<YModuleDescriptor>) = false
+        override fun computeRequiredExtensionNames(moduleDescriptors: Map<String, ModuleDescriptor>) = Unit
+        override fun getSpringFiles() = emptySet<String>()
+        override fun addSpringFile(file: String) = false
+    }
+}
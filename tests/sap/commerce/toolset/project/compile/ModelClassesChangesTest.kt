@@ -0,0 +1,97 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package sap.commerce.toolset.project.compile
+
+import java.net.URI
+import java.nio.file.FileSystems
+import java.nio.file.Path
+import kotlin.io.path.*
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+class ModelClassesChangesTest {
+
+    private lateinit var bootstrapDirectory: Path
+    private lateinit var modelClassesDirectory: Path
+    private lateinit var modelsJar: Path
+
+    @BeforeTest
+    fun setUp() {
+        bootstrapDirectory = createTempDirectory("bootstrap")
+        modelClassesDirectory = bootstrapDirectory.resolve("modelclasses")
+        modelsJar = bootstrapDirectory.resolve("models.jar")
+    }
+
+    @OptIn(ExperimentalPathApi::class)
+    @AfterTest
+    fun tearDown() {
+        bootstrapDirectory.deleteRecursively()
+    }
+
+    @Test
+    fun test_incremental_removedSource_deletedFromModelsJar() {
+        val classes = listOf(PRODUCT, PRODUCT_INNER, CATEGORY, REMOVED, REMOVED_INNER)
+        classes.forEach { modelClass(it) }
+        modelsJar(classes)
+
+        val obsolete = listOf(CHANGED_SOURCE, REMOVED_SOURCE)
+            .flatMap { ModelClassesChanges.deleteCompiledClasses(modelClassesDirectory, it) }
+        // recompiled changed source, its nested class is not produced anymore
+        modelClass(PRODUCT)
+
+        val changes = ModelClassesChanges.incremental(listOf(PRODUCT), obsolete)
+
+        assertEquals(listOf(PRODUCT), changes.updated)
+        assertEquals(setOf(PRODUCT_INNER, REMOVED, REMOVED_INNER), changes.deleted.toSet())
+
+        changes.applyTo(modelsJar, modelClassesDirectory)
+
+        assertEquals(setOf(PRODUCT, CATEGORY), modelsJarEntries())
+    }
+
+    private fun modelClass(path: String) = modelClassesDirectory.resolve(path)
+        .apply { parent.createDirectories() }
+        .writeText(path)
+
+    private fun modelsJar(entries: Collection<String>) = FileSystems.newFileSystem(URI.create("jar:${modelsJar.toUri()}"), mapOf("create" to "true")).use { jar ->
+        entries.forEach {
+            val entry = jar.getPath(it)
+            entry.parent?.createDirectories()
+            entry.writeText(it)
+        }
+    }
+
+    @OptIn(ExperimentalPathApi::class)
+    private fun modelsJarEntries() = FileSystems.newFileSystem(modelsJar).use { jar ->
+        jar.getPath("/").walk()
+            .map { it.toString().removePrefix("/") }
+            .toSet()
+    }
+
+    companion object {
+        private const val CHANGED_SOURCE = "de/hybris/platform/core/model/ProductModel.java"
+        private const val REMOVED_SOURCE = "de/hybris/platform/core/model/RemovedModel.java"
+        private const val PRODUCT = "de/hybris/platform/core/model/ProductModel.class"
+        private const val PRODUCT_INNER = "de/hybris/platform/core/model/ProductModel\$Inner.class"
+        private const val CATEGORY = "de/hybris/platform/core/model/CategoryModel.class"
+        private const val REMOVED = "de/hybris/platform/core/model/RemovedModel.class"
+        private const val REMOVED_INNER = "de/hybris/platform/core/model/RemovedModel\$Inner.class"
+    }
+}
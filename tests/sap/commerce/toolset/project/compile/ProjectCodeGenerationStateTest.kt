@@ -0,0 +1,81 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package sap.commerce.toolset.project.compile
+
+import java.io.File
+import kotlin.io.path.createTempDirectory
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertNotEquals
+
+class ProjectCodeGenerationStateTest {
+
+    private lateinit var genSrcDirectory: File
+
+    @BeforeTest
+    fun setUp() {
+        genSrcDirectory = createTempDirectory("gensrc").toFile()
+    }
+
+    @AfterTest
+    fun tearDown() {
+        genSrcDirectory.deleteRecursively()
+    }
+
+    @Test
+    fun test_manifest_differentGenerationTimestamp_sameManifest() {
+        model("Mon Oct 12 10:15:30 CEST 2026", "String code")
+        val previous = ProjectCodeGenerationState.manifest(genSrcDirectory.toPath())
+
+        model("Sun Oct 18 16:42:05 CEST 2026", "String code")
+        val current = ProjectCodeGenerationState.manifest(genSrcDirectory.toPath())
+
+        assertEquals(previous, current)
+    }
+
+    @Test
+    fun test_manifest_changedModel_differentManifest() {
+        model("Mon Oct 12 10:15:30 CEST 2026", "String code")
+        val previous = ProjectCodeGenerationState.manifest(genSrcDirectory.toPath())
+
+        model("Mon Oct 12 10:15:30 CEST 2026", "Integer code")
+        val current = ProjectCodeGenerationState.manifest(genSrcDirectory.toPath())
+
+        assertNotEquals(previous, current)
+    }
+
+    private fun model(generatedAt: String, field: String) = genSrcDirectory.resolve("de/hybris/platform/core/model/ProductModel.java")
+        .apply { parentFile.mkdirs() }
+        .writeText(
+            """
+            /*
+             * ----------------------------------------------------------------
+             * --- WARNING: THIS FILE IS GENERATED AND WILL BE OVERWRITTEN! ---
+             * --- Generated at $generatedAt                    ---
+             * ----------------------------------------------------------------
+             */
+            package de.hybris.platform.core.model;
+
+            public class ProductModel {
+                private $field;
+            }
+            """.trimIndent()
+        )
+}
@@ -0,0 +1,115 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.project.descriptor
+
+import sap.commerce.toolset.HybrisConstants
+import java.io.File
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+class ExcludedDirectoryMatcherTest {
+
+    @Test
+    fun test_matches_sameAsPathRules() {
+        val samples = listOf(
+            "platform" to "bootstrap",
+            "platform" to "lib",
+            "platform" to "resources",
+            "platform" to "tomcat",
+            "platform" to "tomcat-6",
+            "platform" to "tcServer",
+            "platform" to "tmp",
+            "platform" to "eclipsebin",
+            "platform" to "apache-ant",
+            "platform" to "apache-ant-1.10.14",
+            "platform" to "ext",
+            "custom" to "bootstrap",
+            "custom" to "lib",
+            "custom" to "resources",
+            "custom" to "tomcat",
+            "custom" to "apache-ant-1.10.14",
+            "myplatform" to "lib",
+            "platform2" to "tmp",
+            "custom" to "data",
+            "custom" to "log",
+            "custom" to "temp",
+            "custom" to "logs",
+            "custom" to "database",
+            "custom" to ".git",
+            "custom" to ".github",
+            "custom" to ".gradle",
+            "custom" to ".idea",
+            "custom" to ".svn",
+            "custom" to "__MACOSX",
+            "custom" to "idea-module-files",
+            "storefront" to "node_modules",
+            "storefront" to "old_node_modules_backup",
+            "storefront" to "node",
+            "bin" to "custom",
+        )
+
+        samples.forEach { (parent, name) ->
+            val path = File(File(ROOT, parent), name).path
+
+            assertEquals(isExcludedByPathRules(path), ExcludedDirectoryMatcher.matches(parent, name), path)
+        }
+    }
+
+    @Test
+    fun test_matches_antPrefix() {
+        assertEquals(true, ExcludedDirectoryMatcher.matches("platform", "apache-ant-1.10.14"))
+        assertEquals(false, ExcludedDirectoryMatcher.matches("custom", "apache-ant-1.10.14"))
+        assertEquals(false, ExcludedDirectoryMatcher.matches("platform", "apache-ant"))
+    }
+
+    @Test
+    fun test_matches_nodeModules() {
+        assertEquals(true, ExcludedDirectoryMatcher.matches("storefront", "node_modules"))
+        assertEquals(true, ExcludedDirectoryMatcher.matches("platform", "node_modules"))
+        assertEquals(false, ExcludedDirectoryMatcher.matches("storefront", "node"))
+    }
+
+    // path based rules as they were applied before the matcher
+    private fun isExcludedByPathRules(path: String) = listOf(
+        HybrisConstants.EXCLUDE_BOOTSTRAP_DIRECTORY,
+        HybrisConstants.EXCLUDE_DATA_DIRECTORY,
+        HybrisConstants.EXCLUDE_GRADLE_DIRECTORY,
+        HybrisConstants.EXCLUDE_ECLIPSEBIN_DIRECTORY,
+        HybrisConstants.EXCLUDE_GIT_DIRECTORY,
+        HybrisConstants.EXCLUDE_GITHUB_DIRECTORY,
+        HybrisConstants.EXCLUDE_IDEA_DIRECTORY,
+        HybrisConstants.EXCLUDE_MACOSX_DIRECTORY,
+        HybrisConstants.EXCLUDE_IDEA_MODULE_FILES_DIRECTORY,
+        HybrisConstants.EXCLUDE_LIB_DIRECTORY,
+        HybrisConstants.EXCLUDE_LOG_DIRECTORY,
+        HybrisConstants.EXCLUDE_RESOURCES_DIRECTORY,
+        HybrisConstants.EXCLUDE_SVN_DIRECTORY,
+        HybrisConstants.EXCLUDE_TEMP_DIRECTORY,
+        HybrisConstants.EXCLUDE_TOMCAT_DIRECTORY,
+        HybrisConstants.EXCLUDE_TOMCAT_6_DIRECTORY,
+        HybrisConstants.EXCLUDE_TCSERVER_DIRECTORY,
+        HybrisConstants.EXCLUDE_TMP_DIRECTORY,
+    ).any { path.endsWith(it) }
+        || path.contains(HybrisConstants.EXCLUDE_ANT_DIRECTORY)
+        || path.contains(HybrisConstants.NODE_MODULES_DIRECTORY)
+
+    companion object {
+        private val ROOT = File(File.separator + "work", "hybris" + File.separator + "bin")
+    }
+}
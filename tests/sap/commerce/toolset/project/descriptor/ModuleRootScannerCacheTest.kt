@@ -0,0 +1,93 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.project.descriptor
+
+import sap.commerce.toolset.HybrisConstants
+import java.io.File
+import kotlin.io.path.createTempDirectory
+import kotlin.test.AfterTest
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+
+class ModuleRootScannerCacheTest {
+
+    private lateinit var rootDirectory: File
+    private lateinit var cacheDirectory: File
+
+    @BeforeTest
+    fun setUp() {
+        rootDirectory = createTempDirectory("module-root-scanner").toFile()
+        cacheDirectory = createTempDirectory("module-root-scanner-cache").toFile()
+    }
+
+    @AfterTest
+    fun tearDown() {
+        rootDirectory.deleteRecursively()
+        cacheDirectory.deleteRecursively()
+    }
+
+    @Test
+    fun test_scan_unchangedModificationTime_reusesCachedListing() {
+        extension("core")
+        rootDirectory.setLastModified(OLD_MODIFICATION_TIME)
+
+        assertEquals(setOf("core"), scan())
+
+        extension("facades")
+        rootDirectory.setLastModified(OLD_MODIFICATION_TIME)
+
+        assertEquals(setOf("core"), scan())
+    }
+
+    @Test
+    fun test_scan_changedModificationTime_invalidatesCachedListing() {
+        extension("core")
+        rootDirectory.setLastModified(OLD_MODIFICATION_TIME)
+
+        assertEquals(setOf("core"), scan())
+
+        extension("facades")
+        rootDirectory.setLastModified(OLD_MODIFICATION_TIME + 1_000)
+
+        assertEquals(setOf("core", "facades"), scan())
+    }
+
+    private fun scan(): Set<String> {
+        val cache = ModuleRootScannerCache.load(rootDirectory, cacheDirectory.toPath())
+
+        val moduleRoots = ModuleRootScanner(rootDirectory, emptySet(), false, null, cache).use {
+            it.scan(rootDirectory, false)
+            it.hybrisModuleRoots.map { root -> root.name }.toSet()
+        }
+        cache.save()
+
+        return moduleRoots
+    }
+
+    private fun extension(name: String) = File(rootDirectory, name).also {
+        it.mkdirs()
+        File(it, HybrisConstants.EXTENSION_INFO_XML).writeText("<extensioninfo/>")
+        it.setLastModified(OLD_MODIFICATION_TIME)
+    }
+
+    companion object {
+        private val OLD_MODIFICATION_TIME = System.currentTimeMillis() - 60_000
+    }
+}
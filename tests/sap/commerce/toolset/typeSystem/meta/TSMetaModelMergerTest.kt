@@ -0,0 +1,232 @@
+/*
+ * This file is part of "SAP Commerce Developers Toolset" plugin for IntelliJ IDEA.
+ * Copyright (C) 2019-2025 EPAM Systems <hybrisideaplugin@epam.com> and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sap.commerce.toolset.typeSystem.meta
+
+import com.intellij.psi.xml.XmlFile
+import com.intellij.testFramework.fixtures.BasePlatformTestCase
+import com.intellij.util.xml.DomManager
+import sap.commerce.toolset.meta.MetaModelChanges
+import sap.commerce.toolset.settings.WorkspaceSettings
+import sap.commerce.toolset.typeSystem.meta.model.TSGlobalMetaItem
+import sap.commerce.toolset.typeSystem.meta.model.TSMetaType
+import sap.commerce.toolset.typeSystem.model.Items
+
+class TSMetaModelMergerTest : BasePlatformTestCase() {
+
+    override fun setUp() {
+        super.setUp()
+        WorkspaceSettings.getInstance(project).hybrisProject = true
+    }
+
+    fun test_merge_changedSuperType_equalsFullMerge() {
+        val platform = process("platform", false, PLATFORM_ITEMS)
+        val custom = process("custom", true, CUSTOM_ITEMS)
+        val editedCustom = process(
+            "custom-edited", true, CUSTOM_ITEMS.replace(
+                CUSTOM_PRODUCT_ATTRIBUTES,
+                CUSTOM_PRODUCT_ATTRIBUTES + attribute("name", "localized:java.lang.String")
+            )
+        )
+
+        val incremental = assertIncrementalMerge(listOf(platform, custom), custom, editedCustom)
+
+        val styleVariant = incremental.getMetaItem("ApparelStyleVariantProduct")!!
+        assertTrue(styleVariant.allAttributes.containsKey("name"))
+        assertEquals("Product", styleVariant.allAttributes["name"]!!.owner.name)
+        assertTrue(incremental.getTypeHierarchy().isSubtypeOf(styleVariant, incremental.getMetaItem("Product")!!))
+    }
+
+    fun test_merge_changedSubType_equalsFullMerge() {
+        val platform = process("platform", false, PLATFORM_ITEMS)
+        val custom = process("custom", true, CUSTOM_ITEMS)
+        val editedCustom = process(
+            "custom-edited", true, CUSTOM_ITEMS.replace(
+                """<itemtype code="ApparelStyleVariantProduct" extends="ApparelProduct"""",
+                """<itemtype code="ApparelStyleVariantProduct" extends="Product""""
+            )
+        )
+
+        val incremental = assertIncrementalMerge(listOf(platform, custom), custom, editedCustom)
+
+        val styleVariant = incremental.getMetaItem("ApparelStyleVariantProduct")!!
+        assertFalse(styleVariant.allAttributes.containsKey("genders"))
+        assertEquals(listOf("Product", "GenericItem", "Item"), styleVariant.allExtends.map { it.name })
+    }
+
+    fun test_merge_changedRelationEnd_equalsFullMerge() {
+        val platform = process("platform", false, PLATFORM_ITEMS)
+        val custom = process("custom", true, CUSTOM_ITEMS)
+        val editedCustom = process(
+            "custom-edited", true, CUSTOM_ITEMS.replace(
+                """qualifier="products"""",
+                """qualifier="categoryProducts""""
+            )
+        )
+
+        val incremental = assertIncrementalMerge(listOf(platform, custom), custom, editedCustom)
+
+        val relationEnds = listOf("Category", "Product", "ApparelStyleVariantProduct")
+            .flatMap { incremental.getMetaItem(it)!!.allRelationEnds }
+            .mapNotNull { it.qualifier }
+        assertTrue(relationEnds.contains("categoryProducts"))
+        assertFalse(relationEnds.contains("products"))
+    }
+
+    fun test_merge_mostItemsAffected_fallsBackToFullMerge() {
+        val platform = process("platform", false, PLATFORM_ITEMS)
+        val custom = process("custom", true, CUSTOM_ITEMS)
+        // every Meta Item extends GenericItem, so all of them have to be re-created
+        val editedCustom = process(
+            "custom-edited", true, CUSTOM_ITEMS.replace(
+                CUSTOM_PRODUCT,
+                CUSTOM_PRODUCT + """
+                <itemtype code="GenericItem" autocreate="false" generate="false">
+                    <attributes>${attribute("owner", "Item")}</attributes>
+                </itemtype>
+                """
+            )
+        )
+        val previous = fullMerge(listOf(platform, custom))
+
+        val result = TSMetaModelMerger.merge(
+            previous,
+            listOf(platform, editedCustom),
+            MetaModelChanges(listOf(custom), listOf(editedCustom))
+        )
+
+        assertNull(result)
+    }
+
+    /**
+     * Asserts that incremental merge of the single changed local Meta Model produces the same Global Meta Model as the full merge,
+     * previous Global Meta Model must stay untouched.
+     */
+    private fun assertIncrementalMerge(
+        localMetaModels: List<TSMetaModel>,
+        removed: TSMetaModel,
+        added: TSMetaModel
+    ): TSGlobalMetaModel {
+        val previous = fullMerge(localMetaModels)
+        val previousSnapshot = snapshot(previous)
+        val changedMetaModels = localMetaModels.map { if (it === removed) added else it }
+
+        val incremental = TSMetaModelMerger.merge(previous, changedMetaModels, MetaModelChanges(listOf(removed), listOf(added)))
+
+        assertNotNull("Incremental merge must not fall back to the full merge", incremental)
+        assertEquals(snapshot(fullMerge(changedMetaModels)), snapshot(incremental!!))
+        assertEquals(previousSnapshot, snapshot(previous))
+        return incremental
+    }
+
+    private fun fullMerge(localMetaModels: Collection<TSMetaModel>) = TSGlobalMetaModel()
+        .also { TSMetaModelMerger.merge(it, localMetaModels) }
+
+    private fun process(directory: String, custom: Boolean, text: String): TSMetaModel {
+        val file = myFixture.addFileToProject("$directory/resources/$directory-items.xml", text) as XmlFile
+        val items = DomManager.getDomManager(project).getFileElement(file, Items::class.java)!!.rootElement
+
+        return TSMetaModelProcessor.getInstance(project).process(directory, directory, file.name, custom, items)
+    }
+
+    /**
+     * Renders everything the merge computes in a stable order, so two Global Meta Models can be compared.
+     */
+    private fun snapshot(globalMetaModel: TSGlobalMetaModel) = buildList {
+        globalMetaModel.getMetaTypes().forEach { (metaType, metas) ->
+            metas.values.forEach { add("$metaType:${it.name}:custom=${it.isCustom}:declarations=${it.declarations.size}") }
+        }
+
+        val typeHierarchy = globalMetaModel.getTypeHierarchy()
+        globalMetaModel.getMetaType<TSGlobalMetaItem>(TSMetaType.META_ITEM).values.forEach { item ->
+            add("item:${item.name}:extends=${item.allExtends.map { it.name }}")
+            add("item:${item.name}:subtypes=${typeHierarchy.getSubtypes(item).map { it.name }.sorted()}")
+            item.allAttributes.values.forEach { add("item:${item.name}:attribute:${it.name}:${it.owner.name}:${it.flattenType}") }
+            item.allRelationEnds.forEach { add("item:${item.name}:relationEnd:${it.owner.name}:${it.end}:${it.qualifier}:${it.flattenType}") }
+            item.allOrderingAttributes.keys.forEach { add("item:${item.name}:orderingAttribute:$it") }
+        }
+        globalMetaModel.getAllRelations().entrySet().forEach { (key, relationEnds) ->
+            relationEnds.forEach { add("relation:${key.lowercase()}:${it.owner.name}:${it.end}:${it.qualifier}") }
+        }
+        globalMetaModel.getDeploymentTypeCodes().forEach { (typeCode, deployment) -> add("deployment:$typeCode:${deployment.table}") }
+        globalMetaModel.getTypecode2Getters().forEach { (name, getters) -> add("getters:${name.lowercase()}:${getters.sorted()}") }
+    }
+        .sorted()
+        .joinToString("\n")
+
+    companion object {
+        private val CUSTOM_PRODUCT_ATTRIBUTES = attribute("brand", "java.lang.String")
+        private val CUSTOM_PRODUCT = """
+            <itemtype code="Product" autocreate="false" generate="false">
+                <attributes>$CUSTOM_PRODUCT_ATTRIBUTES</attributes>
+            </itemtype>
+            """
+
+        private val PLATFORM_ITEMS = items(
+            itemType("Item", "", 0),
+            itemType("GenericItem", "Item", 99),
+            itemType("Product", "GenericItem", 1, attribute("code", "java.lang.String", unique = true)),
+            itemType("Category", "GenericItem", 2, attribute("code", "java.lang.String", unique = true)),
+            itemType("Media", "GenericItem", 3, attribute("code", "java.lang.String", unique = true)),
+            itemType("Unit", "GenericItem", 4, attribute("code", "java.lang.String", unique = true)),
+            itemType("Currency", "GenericItem", 5, attribute("isocode", "java.lang.String", unique = true)),
+            itemType("Language", "GenericItem", 6, attribute("isocode", "java.lang.String", unique = true)),
+            itemType("Country", "GenericItem", 7, attribute("isocode", "java.lang.String", unique = true)),
+            itemType("Region", "GenericItem", 8, attribute("isocode", "java.lang.String", unique = true)),
+            itemType("Title", "GenericItem", 9, attribute("code", "java.lang.String", unique = true)),
+            itemType("User", "GenericItem", 10, attribute("uid", "java.lang.String", unique = true)),
+        )
+
+        private val CUSTOM_ITEMS = items(
+            """
+            <relations>
+                <relation code="Category2Products" localized="false">
+                    <sourceElement type="Category" qualifier="category" cardinality="one"/>
+                    <targetElement type="Product" qualifier="products" cardinality="many" ordered="true"/>
+                </relation>
+            </relations>
+            """,
+            CUSTOM_PRODUCT,
+            itemType("ApparelProduct", "Product", 11000, attribute("genders", "java.lang.String")),
+            itemType("ApparelStyleVariantProduct", "ApparelProduct", 11001, attribute("style", "java.lang.String")),
+        )
+
+        private fun items(vararg fragments: String) = """
+            <items xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance" xsi:noNamespaceSchemaLocation="items.xsd">
+                ${fragments.filter { it.contains("<relations>") }.joinToString("")}
+                <itemtypes>
+                    ${fragments.filterNot { it.contains("<relations>") }.joinToString("")}
+                </itemtypes>
+            </items>
+        """.trimIndent()
+
+        private fun itemType(code: String, extends: String, typeCode: Int, attributes: String = "") = """
+            <itemtype code="$code" extends="$extends" autocreate="true" generate="true">
+                <deployment table="${code}s" typecode="$typeCode"/>
+                <attributes>$attributes</attributes>
+            </itemtype>
+        """
+
+        private fun attribute(qualifier: String, type: String, unique: Boolean = false) = """
+            <attribute qualifier="$qualifier" type="$type">
+                <persistence type="property"/>
+                <modifiers unique="$unique"/>
+            </attribute>
+        """
+    }
+}